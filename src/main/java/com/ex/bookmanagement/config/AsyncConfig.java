@@ -0,0 +1,16 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Async / @Scheduled 활성화
+ * - spring.threads.virtual.enabled=true 이면 Spring Boot 가 기본 실행기(applicationTaskExecutor)와
+ *   스케줄러(taskScheduler)를 가상 스레드 기반으로 구성한다.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 대여 가능 여부 인덱스 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(AvailabilityIndexProperties.class)
+public class AvailabilityIndexConfig {
+}
@@ -0,0 +1,19 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대여 가능 여부 인덱스 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.availability-index")
+public class AvailabilityIndexProperties {
+    /** 커밋 이후 반영되므로 롤백되는 테스트에서는 끈다 (끄면 DB 조회) */
+    private boolean enabled = true;
+
+    /** 여러 도서 조회 한 번에 받을 최대 도서 id 수 */
+    private int maxIds = 500;
+}
@@ -0,0 +1,30 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 대여 가능 현황 SSE 스트림 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.availability-stream")
+public class AvailabilityStreamProperties {
+    /** 도서별 변경을 모아 한 번에 내보내는 주기 (같은 도서는 변경 버전이 가장 큰 값만 전송) */
+    private Duration coalesceWindow = Duration.ofMillis(250);
+
+    /** 구독자별 전송 대기열 크기 (가득 차면 대기열을 비우고 resync 이벤트 전송 후 연결 종료) */
+    private int subscriberBuffer = 64;
+
+    /** 노드당 최대 구독자 수 (초과 시 503 SERVER_BUSY) */
+    private int maxSubscribers = 10_000;
+
+    /** 변경이 없을 때 연결 확인용 heartbeat 주기 */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /** 연결 최대 유지 시간 (지나면 클라이언트가 재연결) */
+    private Duration timeout = Duration.ofMinutes(30);
+}
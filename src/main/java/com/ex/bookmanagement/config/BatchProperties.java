@@ -0,0 +1,19 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 일괄 요청(/api/batch) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.batch")
+public class BatchProperties {
+    /** 한 번에 받을 수 있는 최대 작업 수 */
+    private int maxOperations = 50;
+
+    /** 연속된 조회 작업을 동시에 실행할 최대 수 (1 이면 순서대로 실행) */
+    private int readParallelism = 4;
+}
@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도서 상태 일괄 변경 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(BulkStatusProperties.class)
+public class BulkStatusConfig {
+}
@@ -0,0 +1,16 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 도서 상태 일괄 변경 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.bulk-status")
+public class BulkStatusProperties {
+    /** 한 번에 받을 최대 도서 id 수 (IN 목록 상한) */
+    private int maxIds = 1000;
+}
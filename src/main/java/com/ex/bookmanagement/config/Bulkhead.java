@@ -0,0 +1,15 @@
+package com.ex.bookmanagement.config;
+
+import java.lang.annotation.*;
+
+/**
+ * 서비스 클래스/메서드의 작업 부류 지정
+ * - 우선순위: 메서드 @Bulkhead > readOnly 트랜잭션(CATALOG_READ) > 클래스 @Bulkhead > ADMIN
+ * - 부류를 정하지 않으려면 @NoBulkhead
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+    WorkloadClass value();
+}
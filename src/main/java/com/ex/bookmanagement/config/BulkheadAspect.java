@@ -0,0 +1,67 @@
+package com.ex.bookmanagement.config;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 호출을 작업 부류별 bulkhead 로 격리
+ * - 트랜잭션보다 먼저(바깥에서) 실행되어, 트랜잭션이 사용할 커넥션 풀을 결정한다.
+ * - 서비스 안에서 다른 서비스를 호출하면 바깥 부류를 그대로 사용한다. (@NoBulkhead 메서드는 건너뛴다)
+ * - 한도는 호출이 끝날 때 돌려주며, 그 전에 WorkloadContext.releasePermit 으로 먼저 돌려줄 수 있다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class BulkheadAspect {
+    private final BulkheadRegistry registry;
+    private final AnnotationTransactionAttributeSource txAttributes = new AnnotationTransactionAttributeSource();
+    private final Map<Method, WorkloadClass> cache = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))"
+            + " && !@annotation(com.ex.bookmanagement.config.NoBulkhead)")
+    public Object isolate(ProceedingJoinPoint pjp) throws Throwable {
+        if (WorkloadContext.current() != null) {
+            return pjp.proceed();
+        }
+
+        Class<?> targetClass = AopUtils.getTargetClass(pjp.getTarget());
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        WorkloadClass workload = cache.computeIfAbsent(method, m -> resolve(m, targetClass));
+
+        registry.acquire(workload);
+        WorkloadContext.set(workload, () -> registry.release(workload));
+        try {
+            return pjp.proceed();
+        } finally {
+            if (WorkloadContext.clear()) {
+                registry.release(workload);
+            }
+        }
+    }
+
+    private WorkloadClass resolve(Method method, Class<?> targetClass) {
+        Bulkhead onMethod = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+        if (onMethod != null) {
+            return onMethod.value();
+        }
+        TransactionAttribute tx = txAttributes.getTransactionAttribute(method, targetClass);
+        if (tx != null && tx.isReadOnly()) {
+            return WorkloadClass.CATALOG_READ;
+        }
+        Bulkhead onClass = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+        return onClass != null ? onClass.value() : WorkloadClass.ADMIN;
+    }
+}
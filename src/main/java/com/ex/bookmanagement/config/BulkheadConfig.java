@@ -0,0 +1,59 @@
+package com.ex.bookmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 작업 부류별 커넥션 풀 분리
+ * - 대여 쓰기 / 카탈로그 조회 / 관리 작업이 각자의 Hikari 풀을 사용한다.
+ * - LazyConnectionDataSourceProxy 로 감싸 실제 커넥션은 첫 SQL 실행 시점에 부류에 맞는 풀에서 가져온다.
+ *   (readOnly 등 트랜잭션 속성이 정해진 뒤에 풀을 고르기 위함)
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(prefix = "bookmanagement.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(DataSourceProperties dataSourceProperties, BulkheadProperties props) {
+        Map<WorkloadClass, HikariDataSource> pools = new EnumMap<>(WorkloadClass.class);
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            BulkheadProperties.Pool cfg = props.pool(workload);
+            HikariDataSource ds = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            ds.setPoolName("pool-" + workload.name().toLowerCase().replace('_', '-'));
+            ds.setMaximumPoolSize(cfg.getMaxPoolSize());
+            ds.setConnectionTimeout(cfg.getConnectionTimeout().toMillis());
+            pools.put(workload, ds);
+        }
+        return new BulkheadRegistry(pools, props);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(BulkheadRegistry registry) {
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        Map<Object, Object> targets = new HashMap<>(registry.pools());
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(registry.pools().get(WorkloadClass.ADMIN));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(BulkheadRegistry registry) {
+        return new BulkheadAspect(registry);
+    }
+}
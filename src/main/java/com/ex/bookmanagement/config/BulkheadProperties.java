@@ -0,0 +1,53 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 작업 부류별 커넥션 풀 / 동시 실행 한도 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.bulkhead")
+public class BulkheadProperties {
+    private boolean enabled = true;
+
+    private Pool rentalWrite = new Pool(6, 24);
+    private Pool catalogRead = new Pool(6, 24);
+    private Pool admin = new Pool(3, 6);
+
+    public Pool pool(WorkloadClass workload) {
+        return switch (workload) {
+            case RENTAL_WRITE -> rentalWrite;
+            case CATALOG_READ -> catalogRead;
+            case ADMIN -> admin;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /** 커넥션 풀 최대 크기 */
+        private int maxPoolSize;
+
+        /** 동시 실행 한도 (초과 시 maxWait 후 503 BULKHEAD_FULL) */
+        private int maxConcurrent;
+
+        /** 한도 초과 시 대기 시간 */
+        private Duration maxWait = Duration.ofMillis(50);
+
+        /** 커넥션 획득 대기 시간 */
+        private Duration connectionTimeout = Duration.ofSeconds(3);
+
+        public Pool() {
+        }
+
+        Pool(int maxPoolSize, int maxConcurrent) {
+            this.maxPoolSize = maxPoolSize;
+            this.maxConcurrent = maxConcurrent;
+        }
+    }
+}
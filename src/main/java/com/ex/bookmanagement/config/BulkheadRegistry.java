@@ -0,0 +1,85 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.dto.BulkheadStatusResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 부류별 커넥션 풀과 동시 실행 한도(세마포어) 보관
+ */
+public class BulkheadRegistry implements AutoCloseable {
+    private final Map<WorkloadClass, HikariDataSource> pools;
+    private final Map<WorkloadClass, Semaphore> permits = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, LongAdder> rejected = new EnumMap<>(WorkloadClass.class);
+    private final BulkheadProperties props;
+
+    public BulkheadRegistry(Map<WorkloadClass, HikariDataSource> pools, BulkheadProperties props) {
+        this.pools = pools;
+        this.props = props;
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            permits.put(workload, new Semaphore(props.pool(workload).getMaxConcurrent()));
+            rejected.put(workload, new LongAdder());
+        }
+    }
+
+    /** 동시 실행 한도 획득. maxWait 안에 못 얻으면 503 BULKHEAD_FULL */
+    public void acquire(WorkloadClass workload) {
+        boolean acquired;
+        try {
+            acquired = permits.get(workload)
+                    .tryAcquire(props.pool(workload).getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.get(workload).increment();
+            throw new BusinessException(ErrorCode.BULKHEAD_FULL, Map.of("workload", workload.name()));
+        }
+    }
+
+    public void release(WorkloadClass workload) {
+        permits.get(workload).release();
+    }
+
+    public Map<WorkloadClass, HikariDataSource> pools() {
+        return pools;
+    }
+
+    public int totalPoolSize() {
+        return pools.values().stream().mapToInt(HikariDataSource::getMaximumPoolSize).sum();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    /** 부류별 포화 지표 */
+    public List<BulkheadStatusResponse> statuses() {
+        List<BulkheadStatusResponse> result = new ArrayList<>();
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            BulkheadProperties.Pool cfg = props.pool(workload);
+            HikariDataSource ds = pools.get(workload);
+            HikariPoolMXBean mx = ds.getHikariPoolMXBean();
+            result.add(BulkheadStatusResponse.builder()
+                    .workload(workload)
+                    .maxConcurrent(cfg.getMaxConcurrent())
+                    .inFlight(cfg.getMaxConcurrent() - permits.get(workload).availablePermits())
+                    .rejected(rejected.get(workload).sum())
+                    .poolMax(ds.getMaximumPoolSize())
+                    .poolActive(mx == null ? 0 : mx.getActiveConnections())
+                    .poolIdle(mx == null ? 0 : mx.getIdleConnections())
+                    .threadsAwaitingConnection(mx == null ? 0 : mx.getThreadsAwaitingConnection())
+                    .build());
+        }
+        return result;
+    }
+}
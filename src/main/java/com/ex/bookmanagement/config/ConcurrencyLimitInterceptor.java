@@ -0,0 +1,59 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 크기 기반 동시 요청 제한
+ * - 허용치를 넘는 요청은 acquireTimeout 동안 대기 후 503 으로 빠르게 실패한다.
+ * - 커넥션 풀 대기(기본 30초)까지 밀려 스레드가 쌓이는 것을 막는다.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String ACQUIRED = ConcurrencyLimitInterceptor.class.getName() + ".ACQUIRED";
+
+    private final Semaphore permits;
+    private final int limit;
+    private final long timeoutNanos;
+
+    public ConcurrencyLimitInterceptor(int limit, long timeoutNanos) {
+        this.permits = new Semaphore(limit, true);
+        this.limit = limit;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (request.getAttribute(ACQUIRED) != null) {
+            return true; // forward/async 재진입
+        }
+        if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            throw new BusinessException(ErrorCode.SERVER_BUSY, Map.of("limit", limit));
+        }
+        request.setAttribute(ACQUIRED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ACQUIRED) != null) {
+            request.removeAttribute(ACQUIRED);
+            permits.release();
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return limit - permits.availablePermits();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 동시 처리 요청 수 제한 설정
+ * - 가상 스레드에서는 요청 스레드 수가 사실상 무제한이므로, 커넥션 풀 크기를 기준으로 동시 처리 수를 제한한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.concurrency")
+public class ConcurrencyLimitProperties {
+    /** 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 커넥션 1개당 허용할 동시 요청 수 */
+    private int permitsPerConnection = 2;
+
+    /** 직접 지정한 최대 동시 요청 수 (0 이면 커넥션 풀 크기 기준) */
+    private int maxConcurrent = 0;
+
+    /** 허용치 초과 시 대기 시간. 초과하면 503 SERVER_BUSY */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
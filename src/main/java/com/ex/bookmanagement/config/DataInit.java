@@ -18,7 +18,7 @@ import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
-@Profile("!test")
+@Profile("!test & !synthetic")
 public class DataInit {
 
     @Bean
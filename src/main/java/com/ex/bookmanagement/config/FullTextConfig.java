@@ -0,0 +1,31 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.fulltext.FullTextIndex;
+import com.ex.bookmanagement.fulltext.FullTextIndexer;
+import com.ex.bookmanagement.fulltext.FullTextProperties;
+import com.ex.bookmanagement.service.BookService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * 전문 검색 색인 등록 (bookmanagement.fulltext.enabled=true 일 때만)
+ */
+@Configuration
+@EnableConfigurationProperties(FullTextProperties.class)
+@ConditionalOnProperty(prefix = "bookmanagement.fulltext", name = "enabled", havingValue = "true")
+public class FullTextConfig {
+
+    @Bean
+    public FullTextIndex fullTextIndex(FullTextProperties props) throws IOException {
+        return FullTextIndex.open(props);
+    }
+
+    @Bean
+    public FullTextIndexer fullTextIndexer(FullTextIndex fullTextIndex, BookService bookService, FullTextProperties props) {
+        return new FullTextIndexer(fullTextIndex, bookService, props);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 오타 허용 검색 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(FuzzyProperties.class)
+public class FuzzyConfig {
+}
@@ -0,0 +1,25 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 오타 허용 검색 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.fuzzy")
+public class FuzzyProperties {
+    /** 단어당 허용하는 최대 자모 편집 거리 (요청 값도 이 값을 넘을 수 없다) */
+    private int maxDistance = 2;
+
+    /** 자모 수가 이 값 이하인 단어는 거리 1까지만 허용 (예: "자바" = 4자모) */
+    private int shortWordLength = 6;
+
+    /** 도서가 모두 삭제된 단어가 이 수를 넘고 살아 있는 단어보다 많으면 트라이를 다시 만든다 */
+    private int compactThreshold = 1024;
+
+    /** 최대 조회 건수 */
+    private int maxLimit = 50;
+}
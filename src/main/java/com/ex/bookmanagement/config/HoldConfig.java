@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도서 예약 대기 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(HoldProperties.class)
+public class HoldConfig {
+}
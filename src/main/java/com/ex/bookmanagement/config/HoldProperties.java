@@ -0,0 +1,24 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 도서 예약 대기 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.hold")
+public class HoldProperties {
+    /** 배정(READY) 후 대여하지 않으면 만료되는 수령 기한 */
+    private Duration pickupWindow = Duration.ofHours(48);
+
+    /** 만료 검사 주기 (@Scheduled 에서 사용) */
+    private Duration expiryCheckInterval = Duration.ofMinutes(1);
+
+    /** 만료 검사 1회에 처리할 최대 예약 수 */
+    private int expiryBatchSize = 100;
+}
@@ -0,0 +1,13 @@
+package com.ex.bookmanagement.config;
+
+import java.lang.annotation.*;
+
+/**
+ * 작업 부류를 정하지 않는 서비스 메서드
+ * - 한도를 잡지 않고, 안에서 호출하는 서비스가 각자 부류를 정한다. (일괄 요청의 독립 모드 등)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface NoBulkhead {
+}
@@ -0,0 +1,46 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.outbox.*;
+import com.ex.bookmanagement.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 아웃박스 기록/릴레이 등록 (bookmanagement.outbox.enabled=true 일 때만)
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "bookmanagement.outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        return new OutboxWriter(outboxEventRepository, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bookmanagement.outbox.file-sink", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FileOutboxSink fileOutboxSink(OutboxProperties props, ObjectMapper objectMapper) throws IOException {
+        return new FileOutboxSink(Path.of(props.getFileSink().getPath()), objectMapper);
+    }
+
+    @Bean
+    public InProcessOutboxSink inProcessOutboxSink(ApplicationEventPublisher eventPublisher) {
+        return new InProcessOutboxSink(eventPublisher);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, OutboxWriter outboxWriter,
+                                   TransactionTemplate transactionTemplate, List<OutboxSink> sinks, OutboxProperties props) {
+        return new OutboxRelay(outboxEventRepository, outboxWriter, transactionTemplate, sinks, props);
+    }
+}
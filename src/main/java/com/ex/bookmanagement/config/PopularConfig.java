@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인기 도서 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(PopularProperties.class)
+public class PopularConfig {
+}
@@ -0,0 +1,40 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인기 도서(슬라이딩 구간 상위 k) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.popular")
+public class PopularProperties {
+    /** 전체 집계용 Count-Min Sketch 폭/깊이 */
+    private int sketchWidth = 2048;
+    private int sketchDepth = 4;
+
+    /** 카테고리별 Count-Min Sketch 폭 (카테고리 수만큼 생기므로 작게) */
+    private int categorySketchWidth = 64;
+
+    /** 시간 조각별 Space-Saving 추적 항목 수 */
+    private int capacity = 64;
+
+    /** 추적할 최대 카테고리 수 (초과한 카테고리는 집계하지 않음) */
+    private int maxTrackedCategories = 128;
+
+    /** 정확한 대여 수와 비교하는 주기 (@Scheduled 에서 사용) */
+    private Duration reconcileInterval = Duration.ofMinutes(15);
+
+    /** 보정 시 비교할 상위 후보 수 */
+    private int reconcileCandidates = 50;
+
+    /** 허용하는 과대 추정 비율, 넘거나 과소 추정이 보이면 DB 에서 다시 구축 */
+    private double tolerance = 0.1;
+
+    /** 한 번에 조회할 수 있는 최대 도서 수 */
+    private int maxLimit = 50;
+}
@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 함께 대여된 도서 추천 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(RecommendProperties.class)
+public class RecommendConfig {
+}
@@ -0,0 +1,25 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 함께 대여된 도서 추천 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.recommend")
+public class RecommendProperties {
+    /** 도서별로 유지하는 함께 대여된 도서 수 (행이 두 배를 넘으면 이 수만큼 남김) */
+    private int rowLimit = 50;
+
+    /** 대여자당 반영하는 최대 도서 수 */
+    private int maxHistoryPerRenter = 200;
+
+    /** 기동 시 병렬 구축의 작업 단위 (대여자 수) */
+    private int bootstrapChunkSize = 512;
+
+    /** 한 번에 조회할 수 있는 최대 도서 수 */
+    private int maxLimit = 20;
+}
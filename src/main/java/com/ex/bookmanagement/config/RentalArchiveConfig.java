@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 종료된 대여 보관 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(RentalArchiveProperties.class)
+public class RentalArchiveConfig {
+}
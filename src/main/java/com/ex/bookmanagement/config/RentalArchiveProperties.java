@@ -0,0 +1,33 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 종료된 대여 보관(rental → rental_archive) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.rental-archive")
+public class RentalArchiveProperties {
+    /** 주기적 보관 작업 사용 여부 (도서 삭제 시의 보관은 항상 동작) */
+    private boolean enabled = true;
+
+    /** 대여 시작 후 이 기간이 지난 종료 대여를 보관 */
+    private Duration retention = Duration.ofDays(90);
+
+    /** 보관 작업 주기 (@Scheduled 에서 사용) */
+    private Duration interval = Duration.ofMinutes(10);
+
+    /** 한 트랜잭션에서 옮길 최대 행 수 (행 잠금 시간을 짧게 유지) */
+    private int batchSize = 500;
+
+    /** 배치 사이 쉬는 시간 (대여 트래픽에 커넥션/잠금 양보) */
+    private Duration pauseBetweenBatches = Duration.ofMillis(50);
+
+    /** 1회 실행에서 처리할 최대 배치 수 */
+    private int maxBatchesPerRun = 200;
+}
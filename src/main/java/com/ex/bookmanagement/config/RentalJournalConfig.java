@@ -0,0 +1,24 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.journal.JournalProperties;
+import com.ex.bookmanagement.journal.RentalJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * 대여 저널 등록 (bookmanagement.journal.enabled=true 일 때만)
+ */
+@Configuration
+@EnableConfigurationProperties(JournalProperties.class)
+@ConditionalOnProperty(prefix = "bookmanagement.journal", name = "enabled", havingValue = "true")
+public class RentalJournalConfig {
+
+    @Bean
+    public RentalJournal rentalJournal(JournalProperties props) throws IOException {
+        return RentalJournal.open(props);
+    }
+}
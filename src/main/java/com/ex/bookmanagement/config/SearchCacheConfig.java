@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 검색 결과 캐시 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(SearchCacheProperties.class)
+public class SearchCacheConfig {
+}
@@ -0,0 +1,23 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 저자/제목 검색 결과 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.search-cache")
+public class SearchCacheProperties {
+    private boolean enabled = true;
+
+    /** 최대 보관 건수 (질의 + 페이지 단위) */
+    private int maximumSize = 10_000;
+
+    /** 이벤트 없이 바뀐 데이터(직접 SQL 적재 등)에 대비한 최대 보관 시간 */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,19 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.service.search.SearchPlanner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도서 통합 검색 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+
+    @Bean
+    SearchPlanner searchPlanner(SearchProperties props) {
+        return new SearchPlanner(props.getMaxCandidates());
+    }
+}
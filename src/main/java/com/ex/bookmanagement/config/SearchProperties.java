@@ -0,0 +1,24 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 도서 통합 검색 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.search")
+public class SearchProperties {
+    /** 후보 id 를 먼저 가져올 수 있는 경로의 최대 추정 행 수 (마지막 조회의 IN 목록 크기 상한) */
+    private int maxCandidates = 2000;
+
+    /** 검색 계획 통계 캐시 유지 시간 */
+    private Duration statsTtl = Duration.ofSeconds(30);
+
+    /** 최대 페이지 크기 */
+    private int maxPageSize = 100;
+}
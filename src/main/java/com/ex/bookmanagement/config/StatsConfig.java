@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 대여 통계 집계 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(StatsProperties.class)
+public class StatsConfig {
+}
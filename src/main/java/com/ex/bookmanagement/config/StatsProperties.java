@@ -0,0 +1,27 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 대여 통계 집계 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.stats")
+public class StatsProperties {
+    /** 메모리 증분을 rental_stat_rollup 에 반영하는 주기 (@Scheduled 에서 사용) */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /** 분 단위 링 버퍼 크기 (최근 N분은 메모리에서 응답) */
+    private int ringMinutes = 1440;
+
+    /** 분 단위 집계 보관 기간 (일 단위는 계속 보관) */
+    private Duration minuteRetention = Duration.ofDays(7);
+
+    /** 한 번의 조회에서 허용하는 최대 버킷 수 */
+    private int maxBuckets = 1500;
+}
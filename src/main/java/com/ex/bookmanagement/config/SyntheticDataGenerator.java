@@ -0,0 +1,295 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.RentalStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 대용량 합성 데이터 생성기
+ * - synthetic 프로파일에서 DataInit 대신 동작한다.
+ * - 카테고리 N개, 도서 M권(카테고리별 Zipf 분포), 대여 이력 R건(상태 비율 설정 가능)
+ * - 엔티티를 거치지 않고 JDBC 배치 insert 로 적재하며, 같은 seed 면 같은 데이터가 만들어진다.
+ * - 적재 후 각 테이블의 id 시퀀스를 최대 id 이후로 재시작해 JPA 저장과 충돌하지 않게 한다.
+ */
+@Slf4j
+@Configuration
+@Profile("synthetic")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SyntheticDataProperties.class)
+public class SyntheticDataGenerator {
+    private static final String[] KO_SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"};
+    private static final String[] KO_GIVEN = {"민준", "서연", "지호", "하은", "도윤", "서윤", "예준", "지우", "시우", "수아", "태영", "영서", "동혁", "지민", "승열", "성원", "지명", "현우", "유진", "다은"};
+    private static final String[] EN_FIRST = {"James", "Mary", "Robert", "Linda", "Michael", "Susan", "David", "Karen", "Daniel", "Emily", "Martin", "Grace", "Kent", "Joshua", "Eric"};
+    private static final String[] EN_LAST = {"Smith", "Johnson", "Brown", "Martin", "Fowler", "Evans", "Beck", "Bloch", "Knuth", "Hopper", "Miller", "Wilson", "Taylor", "Clark", "Lewis"};
+    private static final String[] KO_ADJ = {"게으른", "단순한", "조용한", "뜨거운", "차가운", "작은", "위대한", "오래된", "새로운", "보이지 않는", "느린", "푸른", "마지막", "잃어버린", "이상한"};
+    private static final String[] KO_NOUN = {"사랑", "여행", "투자", "밥", "리더십", "프로그래밍", "우주", "바다", "도시", "정원", "철학", "경제", "시간", "기억", "고양이", "실패", "자연"};
+    private static final String[] KO_SUFFIX = {"", "", "", " 이야기", "에 대하여", "의 기술", " 입문", "의 발견", " 수업"};
+    private static final String[] EN_ADJ = {"Clean", "Effective", "Modern", "Practical", "Silent", "Hidden", "Lost", "Quiet", "Deep", "Pragmatic", "Brief", "Refactoring"};
+    private static final String[] EN_NOUN = {"Code", "Architecture", "Garden", "River", "Java", "Systems", "Patterns", "Economics", "History", "Mind", "Universe", "Design"};
+    /** 대여 중으로 뽑힌 도서에 남은 권수가 없을 때 다시 뽑는 횟수 (넘으면 남은 권수가 있는 도서를 순서대로 찾음) */
+    private static final int MAX_REDRAWS = 16;
+    private static final String[] CATEGORY_BASE = {"문학", "경제경영", "인문학", "IT", "과학", "예술", "여행", "철학", "역사", "사회", "건강", "요리", "어린이", "만화", "외국어"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SyntheticDataProperties props;
+
+    @Bean
+    CommandLineRunner generateSyntheticData() {
+        return args -> generate();
+    }
+
+    public void generate() {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(props.getSeed());
+        log.info("[datagen] start categories={}, books={}, rentals={}, seed={}",
+                props.getCategories(), props.getBooks(), props.getRentals(), props.getSeed());
+
+        insertCategories();
+        int[] copies = insertBooks(random);
+        int[] active = insertRentals(random, copies);
+        updateStock(copies, active);
+        restartSequences();
+
+        log.info("[datagen] done in {} ms", System.currentTimeMillis() - started);
+    }
+
+    /** 1) 카테고리: id = 1..N */
+    private void insertCategories() {
+        List<Object[]> rows = new ArrayList<>(props.getCategories());
+        for (int i = 0; i < props.getCategories(); i++) {
+            String base = CATEGORY_BASE[i % CATEGORY_BASE.length];
+            String name = i < CATEGORY_BASE.length ? base : base + "-" + (i / CATEGORY_BASE.length);
+            rows.add(new Object[]{i + 1L, name});
+        }
+        // 클로저 행과 하위 트리 도서 수는 기동 시 CategoryTree 가 보완한다
+        batchInsert("insert into category (category_id, name, book_count) values (?, ?, 0)", rows);
+    }
+
+    /** 2) 도서 + 도서-카테고리 매핑. 반환값: 도서별 보유 권수 */
+    private int[] insertBooks(SplittableRandom random) {
+        ZipfSampler categorySampler = new ZipfSampler(props.getCategories(), props.getZipfExponent());
+        int[] copies = new int[props.getBooks()];
+        List<Object[]> books = new ArrayList<>(props.getBatchSize());
+        List<Object[]> links = new ArrayList<>(props.getBatchSize());
+        long linkId = 1;
+
+        for (int i = 0; i < props.getBooks(); i++) {
+            long bookId = i + 1L;
+            boolean latin = random.nextInt(10) < 3;
+            copies[i] = 1 + random.nextInt(5);
+            BookStatus status = random.nextInt(100) == 0
+                    ? (random.nextBoolean() ? BookStatus.SUSPENDED_DAMAGED : BookStatus.SUSPENDED_LOST)
+                    : BookStatus.AVAILABLE;
+            books.add(new Object[]{bookId, author(random, latin), title(random, latin, i), status.name(), copies[i]});
+
+            long primary = categorySampler.sample(random) + 1L;
+            links.add(new Object[]{linkId++, bookId, primary});
+            if (random.nextInt(5) == 0) {
+                long secondary = random.nextInt(props.getCategories()) + 1L;
+                if (secondary != primary) {
+                    links.add(new Object[]{linkId++, bookId, secondary});
+                }
+            }
+
+            if (books.size() >= props.getBatchSize()) {
+                flushBooks(books, links);
+            }
+        }
+        flushBooks(books, links);
+        log.info("[datagen] books={}, book_category={}", props.getBooks(), linkId - 1);
+        return copies;
+    }
+
+    private void flushBooks(List<Object[]> books, List<Object[]> links) {
+        batchInsert("insert into book (id, author, title, book_status, stock) values (?, ?, ?, ?, ?)", books);
+        batchInsert("insert into book_category (book_category_id, book_id, category_id) values (?, ?, ?)", links);
+        books.clear();
+        links.clear();
+    }
+
+    /**
+     * 3) 대여 이력. 반환값: 도서별 대여 중 권수
+     * - 상태를 먼저 정하고, 대여 중인데 뽑힌 도서의 권수가 모두 대여 중이면 도서를 다시 뽑는다. (상태 비율 유지)
+     * - 전체 권수가 모두 대여 중이면 해당 대여 중 건은 만들지 않는다.
+     */
+    private int[] insertRentals(SplittableRandom random, int[] copies) {
+        ZipfSampler bookSampler = new ZipfSampler(props.getBooks(), props.getZipfExponent());
+        int[] active = new int[props.getBooks()];
+        long free = Arrays.stream(copies).asLongStream().sum();
+        int skipped = 0;
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        long historySeconds = props.getHistoryDays() * 86_400L;
+        List<Object[]> rows = new ArrayList<>(props.getBatchSize());
+
+        for (int i = 0; i < props.getRentals(); i++) {
+            int book = bookSampler.sample(random);
+            String renter = "대여자" + random.nextInt(props.getRenters());
+            double p = random.nextDouble();
+
+            RentalStatus status;
+            if (p < props.getActiveRatio()) {
+                status = RentalStatus.RENTED;
+            } else if (p < props.getActiveRatio() + props.getUnavailableRatio()) {
+                status = RentalStatus.UNAVAILABLE;
+            } else {
+                status = RentalStatus.RETURNED;
+            }
+            if (status == RentalStatus.RENTED) {
+                book = free == 0 ? -1 : bookWithFreeCopy(random, bookSampler, book, copies, active);
+                if (book < 0) {
+                    skipped++;
+                    continue;
+                }
+                active[book]++;
+                free--;
+            }
+
+            // 대여 중인 건은 최근 2주 이내, 나머지는 이력 기간 전체에 분포
+            LocalDateTime rented = status == RentalStatus.RENTED
+                    ? now.minusSeconds(random.nextLong(14 * 86_400L))
+                    : now.minusSeconds(random.nextLong(historySeconds));
+            LocalDateTime returned = null;
+            if (status == RentalStatus.RETURNED) {
+                returned = rented.plusSeconds(3_600L + random.nextLong(21 * 86_400L));
+                if (returned.isAfter(now)) {
+                    returned = now;
+                }
+            }
+            rows.add(new Object[]{i + 1L, book + 1L, renter, status.name(), rented, rented.plusWeeks(2), returned});
+
+            if (rows.size() >= props.getBatchSize()) {
+                flushRentals(rows);
+                if ((i + 1) % (props.getBatchSize() * 100) == 0) {
+                    log.info("[datagen] rentals {}/{}", i + 1, props.getRentals());
+                }
+            }
+        }
+        flushRentals(rows);
+        if (skipped > 0) {
+            log.warn("[datagen] 남은 권수가 없어 대여 중 {}건을 만들지 않음", skipped);
+        }
+        return active;
+    }
+
+    /** 남은 권수가 있는 도서: 인기도 분포로 다시 뽑고, 그래도 없으면 임의 위치부터 순서대로 찾음 (없으면 -1) */
+    private static int bookWithFreeCopy(SplittableRandom random, ZipfSampler sampler, int book, int[] copies, int[] active) {
+        for (int attempt = 0; attempt < MAX_REDRAWS && active[book] >= copies[book]; attempt++) {
+            book = sampler.sample(random);
+        }
+        if (active[book] < copies[book]) {
+            return book;
+        }
+        int start = random.nextInt(copies.length);
+        for (int k = 0; k < copies.length; k++) {
+            int candidate = (start + k) % copies.length;
+            if (active[candidate] < copies[candidate]) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private void flushRentals(List<Object[]> rows) {
+        batchInsert("""
+                insert into rental (id, book_id, renter_name, rental_status, rented_date, due_date, returned_date)
+                values (?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        rows.clear();
+    }
+
+    /** 4) 대여 중 권수만큼 재고 차감 */
+    private void updateStock(int[] copies, int[] active) {
+        List<Object[]> rows = new ArrayList<>(props.getBatchSize());
+        for (int i = 0; i < active.length; i++) {
+            if (active[i] == 0) {
+                continue;
+            }
+            rows.add(new Object[]{copies[i] - active[i], i + 1L});
+            if (rows.size() >= props.getBatchSize()) {
+                batchInsert("update book set stock = ? where id = ?", rows);
+                rows.clear();
+            }
+        }
+        batchInsert("update book set stock = ? where id = ?", rows);
+    }
+
+    /** 5) JPA 시퀀스를 적재된 id 이후로 재시작 (pooled optimizer 여유분 포함) */
+    private void restartSequences() {
+        restart("category_seq", props.getCategories());
+        restart("book_seq", props.getBooks());
+        restart("rental_seq", props.getRentals());
+        Long maxLink = jdbcTemplate.queryForObject("select coalesce(max(book_category_id), 0) from book_category", Long.class);
+        restart("book_category_seq", maxLink == null ? 0 : maxLink);
+    }
+
+    private void restart(String sequence, long maxId) {
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (maxId + 100));
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+    }
+
+    private static String author(SplittableRandom random, boolean latin) {
+        if (latin) {
+            return pick(random, EN_FIRST) + " " + pick(random, EN_LAST);
+        }
+        return pick(random, KO_SURNAMES) + pick(random, KO_GIVEN);
+    }
+
+    private static String title(SplittableRandom random, boolean latin, int index) {
+        String title = latin
+                ? pick(random, EN_ADJ) + " " + pick(random, EN_NOUN)
+                : pick(random, KO_ADJ) + " " + pick(random, KO_NOUN) + pick(random, KO_SUFFIX);
+        // 같은 제목이 너무 많지 않도록 일부는 권/판 번호를 붙임
+        if (index % 3 == 0) {
+            title += latin ? " Vol. " + (index % 97 + 1) : " " + (index % 97 + 1) + "권";
+        }
+        return title;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /** Zipf(n, s) 표본 추출기: 누적분포 + 이분 탐색, 반환값 0..n-1 (0이 가장 빈번) */
+    static final class ZipfSampler {
+        private final double[] cdf;
+
+        ZipfSampler(int n, double exponent) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                sum += 1.0 / Math.pow(k + 1, exponent);
+                cdf[k] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cdf[k] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int idx = Arrays.binarySearch(cdf, random.nextDouble());
+            int rank = idx >= 0 ? idx : -idx - 1;
+            return Math.min(rank, cdf.length - 1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ex.bookmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 합성 데이터 생성 설정 (synthetic 프로파일)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.datagen")
+public class SyntheticDataProperties {
+    /** 카테고리 수 */
+    private int categories = 50;
+
+    /** 도서 수 */
+    private int books = 100_000;
+
+    /** 과거 대여 이력 수 */
+    private int rentals = 1_000_000;
+
+    /** 난수 시드 (같은 시드 = 같은 데이터) */
+    private long seed = 42L;
+
+    /** JDBC 배치 크기 */
+    private int batchSize = 5_000;
+
+    /** 카테고리/도서 인기도 Zipf 지수 */
+    private double zipfExponent = 1.1;
+
+    /** 대여 중(RENTED) 비율 */
+    private double activeRatio = 0.08;
+
+    /** 대여 불가(UNAVAILABLE) 비율 */
+    private double unavailableRatio = 0.02;
+
+    /** 대여 이력 기간(일) */
+    private int historyDays = 365;
+
+    /** 대여자 수 */
+    private int renters = 50_000;
+}
@@ -0,0 +1,58 @@
+package com.ex.bookmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({ConcurrencyLimitProperties.class, AvailabilityStreamProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final ConcurrencyLimitProperties concurrencyProps;
+    private final DataSource dataSource;
+    private final ObjectProvider<BulkheadRegistry> bulkheadRegistry;
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor() {
+        int limit = concurrencyProps.getMaxConcurrent() > 0
+                ? concurrencyProps.getMaxConcurrent()
+                : poolSize() * concurrencyProps.getPermitsPerConnection();
+        return new ConcurrencyLimitInterceptor(limit, concurrencyProps.getAcquireTimeout().toNanos());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (concurrencyProps.isEnabled()) {
+            // SSE 스트림은 요청 스레드/커넥션을 점유하지 않으므로 동시 처리 제한에서 제외
+            registry.addInterceptor(concurrencyLimitInterceptor())
+                    .addPathPatterns("/api/**")
+                    .excludePathPatterns("/api/books/availability/stream");
+        }
+    }
+
+    /** 풀이 분리된 경우 전체 합, 아니면 (p6spy 등으로 감싸진) Hikari 최대 풀 크기 */
+    private int poolSize() {
+        BulkheadRegistry registry = bulkheadRegistry.getIfAvailable();
+        if (registry != null) {
+            return registry.totalPoolSize();
+        }
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ignored) {
+            // 알 수 없으면 기본값 사용
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.workload.WorkloadCaptureFilter;
+import com.ex.bookmanagement.workload.WorkloadCaptureProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청 캡처 필터 등록 (bookmanagement.capture.enabled=true 일 때만)
+ */
+@Configuration
+@EnableConfigurationProperties(WorkloadCaptureProperties.class)
+@ConditionalOnProperty(prefix = "bookmanagement.capture", name = "enabled", havingValue = "true")
+public class WorkloadCaptureConfig {
+
+    @Bean
+    public FilterRegistrationBean<WorkloadCaptureFilter> workloadCaptureFilter(WorkloadCaptureProperties props,
+                                                                               ObjectMapper objectMapper) {
+        FilterRegistrationBean<WorkloadCaptureFilter> registration =
+                new FilterRegistrationBean<>(new WorkloadCaptureFilter(props, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
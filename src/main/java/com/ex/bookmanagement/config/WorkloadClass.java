@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.config;
+
+/**
+ * 작업 부류 (bulkhead 단위)
+ * - 부류마다 별도 커넥션 풀과 동시 실행 한도를 가진다.
+ */
+public enum WorkloadClass {
+    RENTAL_WRITE,   // 대여/반납/중단
+    CATALOG_READ,   // 도서/카테고리/대여 내역 조회 (readOnly 트랜잭션)
+    ADMIN,          // 도서/카테고리 등록·변경·삭제, 대량 작업
+    ;
+}
@@ -0,0 +1,42 @@
+package com.ex.bookmanagement.config;
+
+/**
+ * 현재 스레드가 실행 중인 작업 부류
+ * - BulkheadAspect 가 설정하고, WorkloadRoutingDataSource 가 커넥션 풀 선택에 사용한다.
+ */
+public final class WorkloadContext {
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Runnable> PERMIT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    static void set(WorkloadClass workload, Runnable releasePermit) {
+        CURRENT.set(workload);
+        PERMIT.set(releasePermit);
+    }
+
+    /** @return 동시 실행 한도를 아직 돌려주지 않았으면 true */
+    static boolean clear() {
+        CURRENT.remove();
+        boolean held = PERMIT.get() != null;
+        PERMIT.remove();
+        return held;
+    }
+
+    /**
+     * 남은 처리에 DB 작업이 없을 때(다른 요청의 조회 결과를 기다리는 동안 등) 동시 실행 한도를 먼저 돌려준다.
+     * - 작업 부류는 그대로 유지되고, 두 번째 호출부터는 무시된다.
+     */
+    public static void releasePermit() {
+        Runnable release = PERMIT.get();
+        if (release != null) {
+            PERMIT.remove();
+            release.run();
+        }
+    }
+}
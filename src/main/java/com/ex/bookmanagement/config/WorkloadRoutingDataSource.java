@@ -0,0 +1,22 @@
+package com.ex.bookmanagement.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 작업 부류에 따라 커넥션 풀을 선택하는 DataSource
+ * - 부류가 지정되지 않은 호출(기동 시 스키마 생성 등)은 readOnly 여부로 판단한다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        WorkloadClass workload = WorkloadContext.current();
+        if (workload != null) {
+            return workload;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? WorkloadClass.CATALOG_READ
+                : WorkloadClass.ADMIN;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.dto.BatchRequest;
+import com.ex.bookmanagement.dto.BatchResponse;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.exception.ErrorExamples;
+import com.ex.bookmanagement.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/batch")
+public class BatchController {
+    private final BatchService batchService;
+    private final BatchRoutes batchRoutes;
+
+    @PostMapping
+    @Operation(summary = "일괄 요청 API",
+            description = "도서/카테고리/대여 API 여러 개를 한 번의 요청으로 실행하고 결과를 요청 순서대로 응답합니다. "
+                    + "각 결과의 status/body 는 개별 API 를 호출했을 때와 같습니다. "
+                    + "transactional=false 이면 작업마다 따로 반영되고 연속된 조회는 동시에 실행됩니다. "
+                    + "transactional=true 이면 한 트랜잭션에서 순서대로 실행하고, 하나라도 실패하면 모두 되돌립니다.")
+    @ApiResponse(responseCode = "200", description = "실행 완료 (개별 실패는 결과의 status 로 확인)",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BatchResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT, ErrorCode.BATCH_TOO_LARGE})
+    public ResponseEntity<BatchResponse> execute(@Valid @RequestBody BatchRequest req) {
+        List<BatchService.Step> steps = new ArrayList<>();
+        for (int i = 0; i < req.getOperations().size(); i++) {
+            BatchRequest.Operation op = req.getOperations().get(i);
+            String id = op.getId() != null ? op.getId() : String.valueOf(i);
+            steps.add(new BatchService.Step(id, op.getMethod(), op.getPath(),
+                    () -> batchRoutes.dispatch(op.getMethod(), op.getPath(), op.getBody())));
+        }
+        return ResponseEntity.ok(req.isTransactional()
+                ? batchService.executeInTransaction(steps)
+                : batchService.executeIndependently(steps));
+    }
+}
@@ -0,0 +1,183 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.dto.BulkAvailabilityRequest;
+import com.ex.bookmanagement.dto.BulkStatusChangeRequest;
+import com.ex.bookmanagement.dto.ChangeBookStatusRequest;
+import com.ex.bookmanagement.dto.CreateBookRequest;
+import com.ex.bookmanagement.dto.CreateCategoryRequest;
+import com.ex.bookmanagement.dto.MoveCategoryRequest;
+import com.ex.bookmanagement.dto.RentRequest;
+import com.ex.bookmanagement.dto.UpdateCategoriesRequest;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 일괄 요청에서 실행할 수 있는 API 목록
+ * - 경로/메서드를 기존 컨트롤러 핸들러에 연결한다. 핸들러를 그대로 호출하므로 응답 상태와 본문은 개별 API 와 같다.
+ * - 경로 변수/쿼리 파라미터/본문 변환과 @Valid 검증은 MVC 대신 여기서 처리한다.
+ */
+@Component
+public class BatchRoutes {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final List<Route> routes = new ArrayList<>();
+
+    private record Route(HttpMethod method, PathPattern pattern, Function<Call, ResponseEntity<?>> handler) {
+    }
+
+    public BatchRoutes(BookController books, CategoryController categories, RentalController rentals,
+                       ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+
+        // 도서
+        route(HttpMethod.GET, "/api/books", call -> books.findBooks(call.param("fields")));
+        route(HttpMethod.GET, "/api/books/search", call -> books.searchByAuthorAndTitle(
+                call.param("author"), call.param("title"),
+                call.intParam("page", 0), call.intParam("size", 10), call.param("fields")));
+        route(HttpMethod.GET, "/api/books/search-by-category", call -> books.searchByCategory(
+                call.longParam("categoryId"), call.param("categoryName"),
+                call.intParam("page", 0), call.intParam("size", 10), call.param("fields")));
+        route(HttpMethod.GET, "/api/books/{bookId}/availability",
+                call -> books.availability(call.longVar("bookId")));
+        route(HttpMethod.POST, "/api/books/availability",
+                call -> books.availabilities(call.validBody(BulkAvailabilityRequest.class)));
+        route(HttpMethod.POST, "/api/books", call -> books.create(call.validBody(CreateBookRequest.class)));
+        route(HttpMethod.PUT, "/api/books/{id}/categories",
+                call -> books.changeCategories(call.longVar("id"), call.body(UpdateCategoriesRequest.class)));
+        route(HttpMethod.PUT, "/api/books/{bookId}/status",
+                call -> books.changeStatus(call.longVar("bookId"), call.validBody(ChangeBookStatusRequest.class)));
+        route(HttpMethod.PUT, "/api/books/status",
+                call -> books.changeStatuses(call.validBody(BulkStatusChangeRequest.class)));
+        route(HttpMethod.DELETE, "/api/books/{bookId}", call -> books.delete(call.longVar("bookId")));
+
+        // 카테고리
+        route(HttpMethod.GET, "/api/categories", call -> categories.findCategories());
+        route(HttpMethod.POST, "/api/categories",
+                call -> categories.createCategory(call.validBody(CreateCategoryRequest.class)));
+        route(HttpMethod.PATCH, "/api/categories/{categoryId}/parent",
+                call -> categories.move(call.longVar("categoryId"), call.body(MoveCategoryRequest.class)));
+        route(HttpMethod.DELETE, "/api/categories/{categoryId}",
+                call -> categories.delete(call.longVar("categoryId")));
+
+        // 대여
+        route(HttpMethod.GET, "/api/rentals", call -> rentals.findAll(call.param("fields")));
+        route(HttpMethod.POST, "/api/rentals", call -> rentals.rent(call.validBody(RentRequest.class)));
+        route(HttpMethod.PUT, "/api/rentals/{rentalId}/return",
+                call -> rentals.returnBook(call.longVar("rentalId")));
+        route(HttpMethod.PUT, "/api/rentals/{rentalId}/suspend",
+                call -> rentals.suspend(call.longVar("rentalId")));
+    }
+
+    private void route(HttpMethod method, String pattern, Function<Call, ResponseEntity<?>> handler) {
+        routes.add(new Route(method, PathPatternParser.defaultInstance.parse(pattern), handler));
+    }
+
+    /** path 는 쿼리 문자열을 포함할 수 있다 */
+    public ResponseEntity<?> dispatch(String method, String path, JsonNode body) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(path).build();
+        PathContainer container = PathContainer.parsePath(uri.getPath() == null ? "" : uri.getPath());
+        for (Route route : routes) {
+            if (!route.method().name().equalsIgnoreCase(method)) {
+                continue;
+            }
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(container);
+            if (match != null) {
+                return route.handler().apply(new Call(match.getUriVariables(), uri.getQueryParams(), body));
+            }
+        }
+        throw new BusinessException(ErrorCode.BATCH_ROUTE_NOT_FOUND, Map.of("method", method, "path", path));
+    }
+
+    /** 한 작업의 경로 변수 / 쿼리 파라미터 / 본문 */
+    private final class Call {
+        private final Map<String, String> vars;
+        private final MultiValueMap<String, String> params;
+        private final JsonNode body;
+
+        private Call(Map<String, String> vars, MultiValueMap<String, String> params, JsonNode body) {
+            this.vars = vars;
+            this.params = params;
+            this.body = body;
+        }
+
+        String param(String name) {
+            String raw = params.getFirst(name);
+            return raw == null ? null : UriUtils.decode(raw, StandardCharsets.UTF_8);
+        }
+
+        int intParam(String name, int defaultValue) {
+            String value = param(name);
+            long parsed = value == null ? defaultValue : parse(name, value);
+            if (parsed != (int) parsed) {
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of(name, value));
+            }
+            return (int) parsed;
+        }
+
+        Long longParam(String name) {
+            String value = param(name);
+            return value == null ? null : parse(name, value);
+        }
+
+        Long longVar(String name) {
+            return parse(name, vars.get(name));
+        }
+
+        private long parse(String name, String value) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of(name, value));
+            }
+        }
+
+        <T> T body(Class<T> type) {
+            if (body == null || body.isNull()) {
+                throw new BusinessException(ErrorCode.REQUIRED_FIELD, Map.of("field", "body"));
+            }
+            try {
+                return objectMapper.treeToValue(body, type);
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("body", e.getOriginalMessage()));
+            }
+        }
+
+        /** @Valid @RequestBody 와 같은 검증 (GlobalExceptionHandler 와 같은 errors 형태) */
+        <T> T validBody(Class<T> type) {
+            T value = body(type);
+            Set<ConstraintViolation<T>> violations = validator.validate(value);
+            if (!violations.isEmpty()) {
+                List<Map<String, Object>> errors = new ArrayList<>();
+                for (ConstraintViolation<T> v : violations) {
+                    Map<String, Object> m = new LinkedHashMap<>();
+                    m.put("field", v.getPropertyPath().toString());
+                    m.put("code", v.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName());
+                    m.put("msg", v.getMessage());
+                    errors.add(m);
+                }
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("errors", errors));
+            }
+            return value;
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.ex.bookmanagement.controller;
 
+import com.ex.bookmanagement.domain.BookSort;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.FuzzyField;
+import com.ex.bookmanagement.domain.PopularWindow;
 import com.ex.bookmanagement.dto.*;
 import com.ex.bookmanagement.exception.ErrorCode;
 import com.ex.bookmanagement.exception.ErrorExamples;
+import com.ex.bookmanagement.service.BookSearchService;
 import com.ex.bookmanagement.service.BookService;
+import com.ex.bookmanagement.service.FullTextSearchService;
+import com.ex.bookmanagement.service.FuzzySearchService;
+import com.ex.bookmanagement.service.PopularBookService;
+import com.ex.bookmanagement.service.RecommendationService;
+import com.ex.bookmanagement.service.search.SearchCondition;
+import com.ex.bookmanagement.service.stream.AvailabilityBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,9 +22,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.HashSet;
 import java.util.List;
 
 @RestController
@@ -21,14 +35,24 @@ import java.util.List;
 @RequestMapping("/api/books")
 public class BookController {
     private final BookService bookService;
+    private final BookSearchService bookSearchService;
+    private final FullTextSearchService fullTextSearchService;
+    private final FuzzySearchService fuzzySearchService;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+    private final PopularBookService popularBookService;
+    private final RecommendationService recommendationService;
 
     @GetMapping
-    @Operation(summary = "전체 도서 조회 API", description = "전체 도서 목록을 조회합니다.")
+    @Operation(summary = "전체 도서 조회 API",
+            description = "전체 도서 목록을 조회합니다. fields 를 주면 해당 필드만 조회/응답합니다. (id 는 항상 포함)")
     @ApiResponse(responseCode = "200", description = "조회 성공",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = BookResponse.class)))
-    public ResponseEntity<List<BookResponse>> findBooks() {
-        return ResponseEntity.ok(bookService.findAllBooks());
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<List<BookResponse>> findBooks(
+            @Parameter(description = "응답 필드 (쉼표 구분: id, title, author, bookStatus, stock, categories). 생략 시 전체")
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(bookService.findAllBooks(fields));
     }
 
     @PostMapping
@@ -71,30 +95,179 @@ public class BookController {
         return ResponseEntity.noContent().build();
     }
 
+    @PutMapping("/status")
+    @Operation(summary = "도서 상태 일괄 변경 API",
+            description = "여러 도서의 상태를 한 번에 변경합니다. 대여 불가 상태로 바꾸면 해당 도서의 진행 중 대여도 대여 불가로 바뀝니다. "
+                    + "없는 도서가 있으면 아무것도 바꾸지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "변경 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkStatusChangeResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT, ErrorCode.BOOK_NOT_FOUND})
+    public ResponseEntity<BulkStatusChangeResponse> changeStatuses(@Valid @RequestBody BulkStatusChangeRequest req) {
+        return ResponseEntity.ok(bookService.changeStatus(req.getBookIds(), req.getStatus()));
+    }
+
     @GetMapping("/search")
-    @Operation(summary = "저자 또는 제목별 도서 검색 API", description = "저자 또는 제목으로 도서를 검색합니다.")
+    @Operation(summary = "저자 또는 제목별 도서 검색 API",
+            description = "저자 또는 제목으로 도서를 검색합니다. fields 를 주면 해당 필드만 조회/응답합니다. (id 는 항상 포함)")
     @ApiResponse(responseCode = "200", description = "조회 성공",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = BookResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
     public ResponseEntity<List<BookResponse>> searchByAuthorAndTitle(
             @RequestParam(required = false) String author,
             @RequestParam(required = false) String title,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(bookService.searchByAuthorAndTitle(author, title, page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "응답 필드 (쉼표 구분: id, title, author, bookStatus, stock, categories). 생략 시 전체")
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(bookService.searchByAuthorAndTitle(author, title, page, size, fields));
     }
 
     @GetMapping("/search-by-category")
-    @Operation(summary = "카테고리별 도서 검색 API", description = "카테고리ID 또는 카테고리명으로 도서를 검색합니다.")
+    @Operation(summary = "카테고리별 도서 검색 API",
+            description = "카테고리ID 또는 카테고리명으로 도서를 검색합니다. fields 를 주면 해당 필드만 조회/응답합니다. (id 는 항상 포함)")
     @ApiResponse(responseCode = "200", description = "조회 성공",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = BookResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
     public ResponseEntity<List<BookResponse>> searchByCategory(
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) String categoryName,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "응답 필드 (쉼표 구분: id, title, author, bookStatus, stock, categories). 생략 시 전체")
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(bookService.searchByCategory(categoryId, categoryName, page, size, fields));
+    }
+
+    @GetMapping("/query")
+    @Operation(summary = "도서 통합 검색 API",
+            description = "제목/저자 부분 일치, 카테고리(하위 포함, 여러 개 중 하나), 상태, 재고 유무를 함께 걸고 정렬합니다. "
+                    + "응답의 plan 은 선택된 검색 계획입니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BookSearchResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<BookSearchResponse> query(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) List<BookStatus> status,
+            @Parameter(description = "true 면 재고가 있는 도서만") @RequestParam(defaultValue = "false") boolean inStock,
+            @Parameter(description = "NEWEST, TITLE, AUTHOR, STOCK") @RequestParam(defaultValue = "NEWEST") BookSort sort,
+            @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(bookService.searchByCategory(categoryId, categoryName, page, size));
+        SearchCondition condition = new SearchCondition(title, author,
+                categoryIds == null ? null : new HashSet<>(categoryIds),
+                status == null ? null : new HashSet<>(status),
+                inStock, sort);
+        return ResponseEntity.ok(bookSearchService.search(condition, page, size));
+    }
+
+    @GetMapping("/fulltext")
+    @Operation(summary = "도서 전문 검색 API",
+            description = "제목, 저자, 카테고리 이름을 대상으로 BM25 점수 순으로 검색합니다. "
+                    + "한글은 두 글자 단위로 나누어 띄어쓰기 없이 붙여 쓴 단어도 찾습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = FullTextSearchResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT, ErrorCode.FULLTEXT_DISABLED})
+    public ResponseEntity<FullTextSearchResponse> fullText(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(fullTextSearchService.search(q, limit));
+    }
+
+    @GetMapping("/fuzzy")
+    @Operation(summary = "도서 오타 허용 검색 API",
+            description = "제목 또는 저자를 오타를 허용해 검색합니다. 한글은 자모 단위로 비교하므로 받침 하나가 틀리면 거리 1입니다. "
+                    + "질의의 모든 단어가 같은 필드에서 찾아져야 하며, 편집 거리 합이 작은 순으로 응답합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = FuzzySearchResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<FuzzySearchResponse> fuzzy(
+            @RequestParam String q,
+            @Parameter(description = "TITLE, AUTHOR (생략 시 모두)") @RequestParam(required = false) FuzzyField field,
+            @Parameter(description = "단어당 허용 거리 (생략 시 단어 길이에 따라 자동)")
+            @RequestParam(required = false) Integer maxDistance,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(fuzzySearchService.search(q, field, maxDistance, limit));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "도서 변경분 조회 API",
+            description = "since 버전 이후 등록/변경/삭제된 도서를 버전 순으로 조회합니다. 응답의 nextSince 로 이어서 요청합니다. (최초 동기화는 since=0)")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BookChangesResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<BookChangesResponse> changes(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(bookService.findChanges(since, limit));
+    }
+
+    @GetMapping("/popular")
+    @Operation(summary = "인기 도서 조회 API",
+            description = "최근 1시간(HOUR) 또는 7일(WEEK) 동안 가장 많이 대여된 도서를 조회합니다. categoryId 로 카테고리 내 순위를 조회할 수 있습니다. "
+                    + "대여 수는 근사값이며 주기적으로 정확한 값과 대조됩니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = PopularBooksResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<PopularBooksResponse> popular(
+            @Parameter(description = "HOUR 또는 WEEK") @RequestParam(defaultValue = "WEEK") PopularWindow window,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(popularBookService.popular(window, categoryId, limit));
+    }
+
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "대여 가능 현황 스트림 API (SSE)",
+            description = "재고/상태 변경을 도서별로 모아 availability 이벤트로 전송합니다. resync 이벤트를 받으면 연결이 끊기므로 다시 구독하고 전체 현황을 다시 조회해야 합니다.")
+    @ApiResponse(responseCode = "200", description = "구독 성공",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = AvailabilityEventResponse.class)))
+    @ErrorExamples({ErrorCode.SERVER_BUSY})
+    public SseEmitter availabilityStream() {
+        return availabilityBroadcaster.subscribe();
+    }
+
+    @GetMapping("/{bookId}/availability")
+    @Operation(summary = "도서 대여 가능 여부 조회 API", description = "도서의 상태와 재고로 대여 가능 여부를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BookAvailabilityResponse.class)))
+    @ErrorExamples({ErrorCode.BOOK_NOT_FOUND})
+    public ResponseEntity<BookAvailabilityResponse> availability(@PathVariable Long bookId) {
+        return ResponseEntity.ok(bookService.availability(bookId));
+    }
+
+    @PostMapping("/availability")
+    @Operation(summary = "여러 도서 대여 가능 여부 조회 API",
+            description = "도서 ID 목록의 대여 가능 여부/상태/재고를 요청 순서대로 조회합니다. "
+                    + "재고/상태 변경 커밋으로 갱신되는 메모리 인덱스에서 응답하며, 없는 도서는 notFound 로 응답합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkAvailabilityResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<BulkAvailabilityResponse> availabilities(@Valid @RequestBody BulkAvailabilityRequest req) {
+        return ResponseEntity.ok(bookService.availability(req.getBookIds()));
+    }
+
+    @GetMapping("/{bookId}/also-rented")
+    @Operation(summary = "함께 대여된 도서 조회 API",
+            description = "이 도서를 대여한 대여자들이 함께 대여한 도서를 함께 대여한 대여자 수 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AlsoRentedResponse.class)))
+    @ErrorExamples({ErrorCode.BOOK_NOT_FOUND, ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<AlsoRentedResponse> alsoRented(
+            @PathVariable Long bookId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(recommendationService.alsoRented(bookId, limit));
     }
 
     @DeleteMapping("/{bookId}")
@@ -0,0 +1,33 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.config.BulkheadRegistry;
+import com.ex.bookmanagement.dto.BulkheadStatusResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/bulkheads")
+public class BulkheadController {
+    private final ObjectProvider<BulkheadRegistry> bulkheadRegistry;
+
+    @GetMapping
+    @Operation(summary = "작업 부류별 포화 지표 조회 API", description = "커넥션 풀 사용량과 동시 실행 한도, 거절 건수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkheadStatusResponse.class)))
+    public ResponseEntity<List<BulkheadStatusResponse>> statuses() {
+        BulkheadRegistry registry = bulkheadRegistry.getIfAvailable();
+        return ResponseEntity.ok(registry == null ? List.of() : registry.statuses());
+    }
+}
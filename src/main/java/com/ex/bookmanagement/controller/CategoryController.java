@@ -2,6 +2,7 @@ package com.ex.bookmanagement.controller;
 
 import com.ex.bookmanagement.dto.CategoryResponse;
 import com.ex.bookmanagement.dto.CreateCategoryRequest;
+import com.ex.bookmanagement.dto.MoveCategoryRequest;
 import com.ex.bookmanagement.exception.ErrorCode;
 import com.ex.bookmanagement.exception.ErrorExamples;
 import com.ex.bookmanagement.service.CategoryService;
@@ -23,7 +24,7 @@ public class CategoryController {
     private final CategoryService categoryService;
 
     @GetMapping
-    @Operation(summary = "전체 카테고리 조회 API", description = "전체 카테고리를 조회합니다.")
+    @Operation(summary = "전체 카테고리 조회 API", description = "전체 카테고리를 조회합니다. bookCount 는 하위 카테고리의 도서를 포함합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = CategoryResponse.class)))
@@ -32,23 +33,35 @@ public class CategoryController {
     }
 
     @PostMapping
-    @Operation(summary = "신규 카테고리 추가", description = "새 카테고리를 생성합니다.")
+    @Operation(summary = "신규 카테고리 추가", description = "새 카테고리를 생성합니다. parentId 를 지정하면 하위 카테고리로 생성합니다.")
     @ApiResponse(responseCode = "200", description = "생성 성공",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = CategoryResponse.class)))
     @ErrorExamples({
             ErrorCode.REQUIRED_FIELD,
             ErrorCode.CATEGORY_ALREADY_EXISTS,
+            ErrorCode.CATEGORY_NOT_FOUND,
             ErrorCode.INVALID_ARGUMENT
     })
     public ResponseEntity<CategoryResponse> createCategory(@Valid @RequestBody CreateCategoryRequest req) {
         return ResponseEntity.ok(categoryService.create(req));
     }
 
+    @PatchMapping("/{categoryId}/parent")
+    @Operation(summary = "상위 카테고리 변경 API",
+            description = "카테고리를 다른 카테고리 아래(또는 최상위)로 옮깁니다. 하위 카테고리와 도서 수도 함께 옮겨집니다.")
+    @ApiResponse(responseCode = "200", description = "변경 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = CategoryResponse.class)))
+    @ErrorExamples({ErrorCode.CATEGORY_NOT_FOUND, ErrorCode.CATEGORY_CYCLE})
+    public ResponseEntity<CategoryResponse> move(@PathVariable Long categoryId, @RequestBody MoveCategoryRequest req) {
+        return ResponseEntity.ok(categoryService.move(categoryId, req.getParentId()));
+    }
+
     @DeleteMapping("/{categoryId}")
-    @Operation(summary = "카테고리 삭제 API", description = "카테고리를 삭제합니다.")
+    @Operation(summary = "카테고리 삭제 API", description = "카테고리를 삭제합니다. (하위 카테고리가 없어야 합니다)")
     @ApiResponse(responseCode = "204", description = "삭제 성공")
-    @ErrorExamples({ErrorCode.CATEGORY_NOT_FOUND})
+    @ErrorExamples({ErrorCode.CATEGORY_NOT_FOUND, ErrorCode.CATEGORY_HAS_CHILDREN})
     public ResponseEntity<Void> delete(@PathVariable Long categoryId) {
         categoryService.delete(categoryId);
         return ResponseEntity.noContent().build();
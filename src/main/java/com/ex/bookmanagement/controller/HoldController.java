@@ -0,0 +1,67 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.dto.HoldRequest;
+import com.ex.bookmanagement.dto.HoldResponse;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.exception.ErrorExamples;
+import com.ex.bookmanagement.service.hold.HoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/holds")
+public class HoldController {
+    private final HoldService holdService;
+
+    @PostMapping
+    @Operation(summary = "도서 예약 대기 API",
+            description = "재고가 없는 도서에 예약을 걸어 대기열에 등록합니다. 반납되면 순서대로 배정되고 수령 기한 안에 대여해야 합니다.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "예약 등록 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = HoldResponse.class))
+    )
+    @ErrorExamples({
+            ErrorCode.BOOK_NOT_FOUND,
+            ErrorCode.BOOK_NOT_AVAILABLE,
+            ErrorCode.HOLD_NOT_NEEDED,
+            ErrorCode.HOLD_ALREADY_EXISTS
+    })
+    public ResponseEntity<HoldResponse> place(@Valid @RequestBody HoldRequest req) {
+        return ResponseEntity.ok(holdService.place(req.getBookId(), req.getRenterName()));
+    }
+
+    @GetMapping("/{holdId}")
+    @Operation(summary = "예약 조회 API", description = "예약 상태와 대기 순번, 수령 기한을 조회합니다.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = HoldResponse.class))
+    )
+    @ErrorExamples({ErrorCode.HOLD_NOT_FOUND})
+    public ResponseEntity<HoldResponse> find(@Parameter(description = "예약 ID") @PathVariable Long holdId) {
+        return ResponseEntity.ok(holdService.find(holdId));
+    }
+
+    @DeleteMapping("/{holdId}")
+    @Operation(summary = "예약 취소 API", description = "대기 중이거나 배정된 예약을 취소합니다. 배정된 도서는 다음 대기자에게 넘어갑니다.")
+    @ApiResponse(responseCode = "204", description = "예약 취소 완료")
+    @ErrorExamples({
+            ErrorCode.HOLD_NOT_FOUND,
+            ErrorCode.HOLD_NOT_ACTIVE
+    })
+    public ResponseEntity<Void> cancel(@Parameter(description = "예약 ID") @PathVariable Long holdId) {
+        holdService.cancel(holdId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.dto.JournalInventoryResponse;
+import com.ex.bookmanagement.dto.JournalStatusResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.exception.ErrorExamples;
+import com.ex.bookmanagement.journal.RentalJournal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/journal")
+public class JournalController {
+    private final ObjectProvider<RentalJournal> rentalJournal;
+
+    @GetMapping
+    @Operation(summary = "대여 저널 상태 조회 API", description = "저널 순번, 세그먼트/스냅샷, 그룹 커밋 현황을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = JournalStatusResponse.class)))
+    @ErrorExamples({ErrorCode.JOURNAL_DISABLED})
+    public ResponseEntity<JournalStatusResponse> status() {
+        return ResponseEntity.ok(journal().status());
+    }
+
+    @GetMapping("/inventory")
+    @Operation(summary = "시점별 도서 재고 조회 API", description = "저널을 재생해 특정 시점의 도서 재고와 진행 중 대여 수를 조회합니다. "
+            + "대여/반납/대여 중단과 재고 변경(신규 등록, 재입고, 예약 배정/해제/만료)이 기록 대상입니다. "
+            + "기록은 DB 커밋 이후 메모리 큐를 거쳐 fsync 되므로, 그 사이에 프로세스가 비정상 종료되면 해당 변경은 저널에 없습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = JournalInventoryResponse.class)))
+    @ErrorExamples({ErrorCode.JOURNAL_DISABLED, ErrorCode.JOURNAL_HISTORY_UNAVAILABLE})
+    public ResponseEntity<JournalInventoryResponse> inventoryAt(
+            @RequestParam Long bookId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(journal().inventoryAt(bookId, at));
+    }
+
+    private RentalJournal journal() {
+        RentalJournal journal = rentalJournal.getIfAvailable();
+        if (journal == null) {
+            throw new BusinessException(ErrorCode.JOURNAL_DISABLED);
+        }
+        return journal;
+    }
+}
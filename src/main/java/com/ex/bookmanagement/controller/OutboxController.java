@@ -0,0 +1,35 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.dto.OutboxStatusResponse;
+import com.ex.bookmanagement.outbox.OutboxRelay;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/outbox")
+public class OutboxController {
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+
+    @GetMapping
+    @Operation(summary = "아웃박스 발행 현황 조회 API", description = "미발행 건수, 발행 지연, 싱크 실패 현황을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = OutboxStatusResponse.class)))
+    public ResponseEntity<OutboxStatusResponse> status() {
+        OutboxRelay relay = outboxRelay.getIfAvailable();
+        return ResponseEntity.ok(relay == null
+                ? OutboxStatusResponse.builder().enabled(false).sinks(List.of()).build()
+                : relay.status());
+    }
+}
@@ -24,7 +24,7 @@ public class RentalController {
     private final RentalService rentalService;
 
     @PostMapping
-    @Operation(summary = "도서 대여 API", description = "bookId와 이름으로 대여를 생성합니다.")
+    @Operation(summary = "도서 대여 API", description = "bookId와 이름으로 대여를 생성합니다. 재고가 없으면 /api/holds 로 예약 대기를 걸 수 있습니다.")
     @ApiResponse(
             responseCode = "200",
             description = "대여 성공",
@@ -66,14 +66,17 @@ public class RentalController {
     }
 
     @GetMapping
-    @Operation(summary = "전체 대여 내역 조회", description = "전체 대여 내역 목록을 조회합니다.")
+    @Operation(summary = "전체 대여 내역 조회", description = "전체 대여 내역 목록을 조회합니다. fields 를 주면 해당 필드만 조회/응답합니다.")
     @ApiResponse(
             responseCode = "200",
             description = "조회 성공",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = RentResponse.class))
     )
-    public ResponseEntity<List<RentResponse>> findAll() {
-        return ResponseEntity.ok(rentalService.findAll());
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<List<RentResponse>> findAll(
+            @Parameter(description = "응답 필드 (쉼표 구분: rentalId, bookId, renterName, status, rentedAt, returnedAt). 생략 시 전체")
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(rentalService.findAll(fields));
     }
 }
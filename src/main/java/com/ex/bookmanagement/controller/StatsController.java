@@ -0,0 +1,45 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.domain.StatGranularity;
+import com.ex.bookmanagement.dto.RentalStatsResponse;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.exception.ErrorExamples;
+import com.ex.bookmanagement.service.StatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stats")
+public class StatsController {
+    private final StatsService statsService;
+
+    @GetMapping("/rentals")
+    @Operation(summary = "대여 통계 조회 API",
+            description = "구간 [from, to) 의 분/일 단위 대여·반납 수와 평균 대여 기간을 조회합니다. "
+                    + "bookId(일 단위만) 또는 categoryId 로 범위를 좁힐 수 있으며, 지정하지 않으면 전체 통계입니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = RentalStatsResponse.class)))
+    @ErrorExamples({ErrorCode.INVALID_ARGUMENT})
+    public ResponseEntity<RentalStatsResponse> rentalStats(
+            @Parameter(description = "MINUTE 또는 DAY") @RequestParam(defaultValue = "DAY") StatGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long bookId,
+            @RequestParam(required = false) Long categoryId) {
+        return ResponseEntity.ok(statsService.rentalStats(granularity, from, to, bookId, categoryId));
+    }
+}
@@ -7,6 +7,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -14,6 +16,11 @@ import java.util.stream.Collectors;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_book_change_version", columnList = "change_version"),
+        @Index(name = "idx_book_status", columnList = "book_status"),
+        @Index(name = "idx_book_stock", columnList = "stock")
+})
 public class Book {
     @Id
     @GeneratedValue
@@ -32,7 +39,14 @@ public class Book {
     @Column(nullable = false)
     private int stock;
 
+    /** 증분 동기화용 변경 버전 (0 = 버전 부여 이전에 적재된 도서) */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long changeVersion;
+
+    /** 진행 중(RENTED) 대여만 로딩 (종료된 대여는 이력 조회/보관 대상) */
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @SQLRestriction("rental_status = 'RENTED'")
     private List<Rental> rentals = new ArrayList<>();
 
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -111,6 +125,11 @@ public class Book {
         this.bookStatus = newStatus;
     }
 
+    /** 변경 버전 갱신 */
+    public void markChanged(long version) {
+        this.changeVersion = version;
+    }
+
     // 신규 카테고리 추가
     public void addCategory(Category category) {
         boolean exists = bookCategories.stream()
@@ -143,7 +162,7 @@ public class Book {
         toRemove.removeAll(targetIds);
 
         // 추가 카테고리
-        Set<Long> toAdd = new HashSet<>(targetIds);
+        Set<Long> toAdd = new LinkedHashSet<>(targetIds);
         toAdd.removeAll(currentIds);
 
         // 3) 제거 — 스냅샷 + detach만 호출
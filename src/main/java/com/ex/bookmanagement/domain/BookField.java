@@ -0,0 +1,37 @@
+package com.ex.bookmanagement.domain;
+
+import java.util.EnumSet;
+
+/**
+ * 도서 응답 필드 (fields= 파라미터 이름)
+ * - attribute 는 Book 엔티티의 컬럼 속성, 연관(카테고리)은 null
+ */
+public enum BookField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    AUTHOR("author", "author"),
+    BOOK_STATUS("bookStatus", "bookStatus"),
+    STOCK("stock", "stock"),
+    CATEGORIES("categories", null);
+
+    private final String fieldName;
+    private final String attribute;
+
+    BookField(String fieldName, String attribute) {
+        this.fieldName = fieldName;
+        this.attribute = attribute;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    /** "id,title,stock" → 필드 집합 (생략 시 null = 전체, id 는 항상 포함) */
+    public static EnumSet<BookField> parse(String fields) {
+        return FieldSets.parse(fields, BookField.class, BookField::fieldName, ID);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ex.bookmanagement.domain;
+
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 도서 예약 대기 (재고 소진 시 도서별 FIFO 대기열)
+ * - 같은 도서의 WAITING 예약은 id 순서대로 배정된다.
+ * - READY 는 반납된 한 권을 이 예약자 몫으로 재고에서 빼 둔 상태이며, expiresAt 까지 대여하지 않으면 만료된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "book_hold",
+        indexes = {
+                @Index(name = "idx_book_hold_queue", columnList = "book_id, hold_status, id"),
+                @Index(name = "idx_book_hold_expires", columnList = "hold_status, expires_at")
+        }
+)
+public class BookHold {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false, length = 50)
+    private String renterName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private HoldStatus holdStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime readyAt;
+
+    private LocalDateTime expiresAt;
+
+    public static BookHold place(Long bookId, String renterName) {
+        BookHold hold = new BookHold();
+        hold.bookId = bookId;
+        hold.renterName = renterName;
+        hold.holdStatus = HoldStatus.WAITING;
+        hold.requestedAt = LocalDateTime.now();
+        return hold;
+    }
+
+    /** 반납된 도서 배정 */
+    public void markReady(Duration pickupWindow) {
+        requireStatus(HoldStatus.WAITING);
+        this.holdStatus = HoldStatus.READY;
+        this.readyAt = LocalDateTime.now();
+        this.expiresAt = readyAt.plus(pickupWindow);
+    }
+
+    /** 배정된 도서를 대여로 전환 */
+    public void fulfill() {
+        requireStatus(HoldStatus.READY);
+        this.holdStatus = HoldStatus.FULFILLED;
+    }
+
+    /** 수령 기한 만료 */
+    public void expire() {
+        requireStatus(HoldStatus.READY);
+        this.holdStatus = HoldStatus.EXPIRED;
+    }
+
+    /** 예약 취소 (대기 중 또는 배정 상태에서만) */
+    public void cancel() {
+        if (!holdStatus.isActive()) {
+            throw new BusinessException(ErrorCode.HOLD_NOT_ACTIVE, Map.of("status", holdStatus));
+        }
+        this.holdStatus = HoldStatus.CANCELLED;
+    }
+
+    private void requireStatus(HoldStatus expected) {
+        if (holdStatus != expected) {
+            throw new BusinessException(ErrorCode.HOLD_NOT_ACTIVE, Map.of("status", holdStatus));
+        }
+    }
+}
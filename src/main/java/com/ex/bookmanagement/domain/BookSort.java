@@ -0,0 +1,21 @@
+package com.ex.bookmanagement.domain;
+
+import org.springframework.data.domain.Sort;
+
+public enum BookSort {
+    NEWEST(Sort.by(Sort.Direction.DESC, "id")),                       // 최근 등록 순 (기존 검색과 동일)
+    TITLE(Sort.by("title").and(Sort.by(Sort.Direction.DESC, "id"))),
+    AUTHOR(Sort.by("author").and(Sort.by(Sort.Direction.DESC, "id"))),
+    STOCK(Sort.by(Sort.Direction.DESC, "stock").and(Sort.by(Sort.Direction.DESC, "id"))),
+    ;
+
+    private final Sort sort;
+
+    BookSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort sort() {
+        return sort;
+    }
+}
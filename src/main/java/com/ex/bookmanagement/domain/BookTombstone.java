@@ -0,0 +1,39 @@
+package com.ex.bookmanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 도서 기록 (증분 동기화에서 삭제를 전달하기 위함)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "book_tombstone",
+        indexes = @Index(name = "idx_book_tombstone_change_version", columnList = "change_version")
+)
+public class BookTombstone {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false)
+    private long changeVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public BookTombstone(Long bookId, long changeVersion) {
+        this.bookId = bookId;
+        this.changeVersion = changeVersion;
+        this.deletedAt = LocalDateTime.now();
+    }
+}
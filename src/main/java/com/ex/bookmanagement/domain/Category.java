@@ -6,8 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Entity
 @Getter
@@ -22,10 +21,73 @@ public class Category {
     @Column(nullable = false, unique = true, length = 80)
     private String name;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Category parent;
+
+    /**
+     * 하위 카테고리를 포함한 도서 수 (여러 하위 카테고리에 걸친 도서는 한 번만 센다)
+     * - 증감 쿼리로만 바꾸므로, 이동 등으로 엔티티가 갱신될 때 메모리의 이전 값으로 덮어쓰지 않게 한다.
+     */
+    @Column(nullable = false, updatable = false)
+    private long bookCount;
+
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<BookCategory> bookCategories = new ArrayList<>();
 
+    /** 클로저 테이블 중 이 카테고리가 descendant 인 행 (자기 자신 depth=0 포함) */
+    @OneToMany(mappedBy = "descendant", cascade = CascadeType.ALL, orphanRemoval = true)
+    private final List<CategoryClosure> ancestors = new ArrayList<>();
+
     public Category(String name) {
+        this(name, null);
+    }
+
+    public Category(String name, Category parent) {
         this.name = name;
+        this.parent = parent;
+        ancestors.add(new CategoryClosure(this, this, 0));
+        if (parent != null) {
+            for (CategoryClosure row : parent.getAncestors()) {
+                ancestors.add(new CategoryClosure(row.getAncestor(), this, row.getDepth() + 1));
+            }
+        }
+    }
+
+    /** 클로저 행이 없는 최상위 카테고리 (JDBC 적재분) 에 자기 자신 행 추가 */
+    public void attachAsRoot() {
+        if (ancestors.isEmpty()) {
+            ancestors.add(new CategoryClosure(this, this, 0));
+        }
+    }
+
+    /**
+     * 이 카테고리의 조상을 newAncestorDepths 로 교체 (하위 카테고리 이동 시 각 하위 카테고리에 호출)
+     * - 새 조상에도 있는 행은 depth 만 고치고, 없어진 조상 행은 지우고, 새 조상 행은 추가한다.
+     * @param subtreeAncestors 이동하는 하위 트리 안의 카테고리 id (이 행들은 유지)
+     * @param newAncestorDepths 새 조상 -> 이 카테고리까지의 depth
+     */
+    public void replaceAncestors(Set<Long> subtreeAncestors, Map<Category, Integer> newAncestorDepths) {
+        Map<Long, Category> pending = new HashMap<>();
+        newAncestorDepths.keySet().forEach(a -> pending.put(a.getId(), a));
+        Iterator<CategoryClosure> it = ancestors.iterator();
+        while (it.hasNext()) {
+            CategoryClosure row = it.next();
+            Long ancestorId = row.getAncestor().getId();
+            if (subtreeAncestors.contains(ancestorId)) {
+                continue;
+            }
+            Category newAncestor = pending.remove(ancestorId);
+            if (newAncestor == null) {
+                it.remove();
+            } else {
+                row.changeDepth(newAncestorDepths.get(newAncestor));
+            }
+        }
+        pending.values().forEach(a -> ancestors.add(new CategoryClosure(a, this, newAncestorDepths.get(a))));
+    }
+
+    public void changeParent(Category newParent) {
+        this.parent = newParent;
     }
 }
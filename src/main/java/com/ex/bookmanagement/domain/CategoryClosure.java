@@ -0,0 +1,47 @@
+package com.ex.bookmanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 클로저 테이블: (조상, 자손, 거리) 를 모든 조상-자손 쌍마다 한 행씩 저장
+ * - 자기 자신 행(depth=0)을 포함하므로 "ancestor = X" 한 번의 조건으로 X 의 하위 트리 전체를 얻는다.
+ * - uk_category_closure (ancestor_id, descendant_id) 가 하위 트리 조회 인덱스를 겸한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "category_closure",
+        uniqueConstraints = @UniqueConstraint(name = "uk_category_closure", columnNames = {"ancestor_id", "descendant_id"}),
+        indexes = @Index(name = "idx_category_closure_descendant", columnList = "descendant_id, ancestor_id")
+)
+public class CategoryClosure {
+    @Id
+    @GeneratedValue
+    @Column(name = "category_closure_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ancestor_id", nullable = false)
+    private Category ancestor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "descendant_id", nullable = false)
+    private Category descendant;
+
+    @Column(nullable = false)
+    private int depth;
+
+    CategoryClosure(Category ancestor, Category descendant, int depth) {
+        this.ancestor = ancestor;
+        this.descendant = descendant;
+        this.depth = depth;
+    }
+
+    void changeDepth(int depth) {
+        this.depth = depth;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ex.bookmanagement.domain;
+
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 응답 필드 선택(fields=) 파싱
+ */
+final class FieldSets {
+    private FieldSets() {
+    }
+
+    /** 쉼표로 구분한 필드 이름 → 필드 집합 (required 는 항상 포함). 생략/빈 값이거나 모든 필드면 null(전체) */
+    static <E extends Enum<E>> EnumSet<E> parse(String fields, Class<E> type, Function<E, String> name, E required) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        EnumSet<E> parsed = EnumSet.of(required);
+        for (String token : fields.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            E match = Arrays.stream(type.getEnumConstants())
+                    .filter(e -> name.apply(e).equals(field))
+                    .findFirst()
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("fields", field)));
+            parsed.add(match);
+        }
+        return parsed.size() == type.getEnumConstants().length ? null : parsed;
+    }
+}
@@ -0,0 +1,6 @@
+package com.ex.bookmanagement.domain;
+
+public enum FuzzyField {
+    TITLE,
+    AUTHOR,
+}
@@ -0,0 +1,14 @@
+package com.ex.bookmanagement.domain;
+
+public enum HoldStatus {
+    WAITING,    // 대기 중
+    READY,      // 반납된 도서가 배정됨 (수령 대기)
+    FULFILLED,  // 대여로 전환
+    CANCELLED,  // 취소
+    EXPIRED,    // 수령 기한 만료
+    ;
+
+    public boolean isActive() {
+        return this == WAITING || this == READY;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ex.bookmanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트
+ * - 도메인 변경과 같은 트랜잭션에서 저장되고, 릴레이가 발행 후 publishedAt 을 채운다.
+ * - 발행 순서는 id 순서다. id 는 커밋 직전에 부여되지만 커밋 순서와 어긋날 수 있으므로, 릴레이는 아직 끝나지 않은
+ *   트랜잭션의 가장 작은 id 직전까지만 발행한다. (OutboxWriter.publishableUpTo)
+ * - 같은 도서의 이벤트는 도서 행 잠금을 잡은 뒤에 id 가 부여되므로 도서 안에서는 id 순서가 커밋 순서와 같다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_unpublished", columnList = "published_at, id")
+)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    public OutboxEvent(OutboxEventType eventType, Long bookId, String payload) {
+        this.eventType = eventType;
+        this.bookId = bookId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
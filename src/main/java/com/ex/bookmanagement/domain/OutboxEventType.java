@@ -0,0 +1,48 @@
+package com.ex.bookmanagement.domain;
+
+import com.ex.bookmanagement.domain.event.BookChangeType;
+
+public enum OutboxEventType {
+    BOOK_CREATED,             // 신규 도서 등록
+    BOOK_STATUS_CHANGED,      // 도서 상태 변경
+    BOOK_CATEGORIES_CHANGED,  // 도서 카테고리 변경
+    BOOK_DELETED,             // 도서 삭제
+    RENTAL_RENTED,            // 대여
+    RENTAL_RETURNED,          // 반납
+    RENTAL_UNAVAILABLE,       // 대여 중단
+    HOLD_PLACED,              // 예약 대기 등록
+    HOLD_READY,               // 예약 도서 배정 (수령 안내)
+    HOLD_FULFILLED,           // 예약 대여 전환
+    HOLD_CANCELLED,           // 예약 취소
+    HOLD_EXPIRED,             // 예약 수령 기한 만료
+    ;
+
+    /** 도서 변경 유형 → 아웃박스 이벤트 유형 (재고 변경은 대여 이벤트로 대신하므로 null) */
+    public static OutboxEventType of(BookChangeType type) {
+        return switch (type) {
+            case CREATED -> BOOK_CREATED;
+            case STATUS_CHANGED -> BOOK_STATUS_CHANGED;
+            case CATEGORIES_CHANGED -> BOOK_CATEGORIES_CHANGED;
+            case DELETED -> BOOK_DELETED;
+            case STOCK_CHANGED -> null;
+        };
+    }
+
+    public static OutboxEventType of(RentalStatus status) {
+        return switch (status) {
+            case RENTED -> RENTAL_RENTED;
+            case RETURNED -> RENTAL_RETURNED;
+            case UNAVAILABLE -> RENTAL_UNAVAILABLE;
+        };
+    }
+
+    public static OutboxEventType of(HoldStatus status) {
+        return switch (status) {
+            case WAITING -> HOLD_PLACED;
+            case READY -> HOLD_READY;
+            case FULFILLED -> HOLD_FULFILLED;
+            case CANCELLED -> HOLD_CANCELLED;
+            case EXPIRED -> HOLD_EXPIRED;
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.ex.bookmanagement.domain;
+
+import java.time.Duration;
+
+public enum PopularWindow {
+    HOUR(Duration.ofMinutes(5), 12),   // 최근 1시간 (5분 조각 x 12)
+    WEEK(Duration.ofHours(6), 28),     // 최근 7일 (6시간 조각 x 28)
+    ;
+
+    private final Duration slice;
+    private final int slices;
+
+    PopularWindow(Duration slice, int slices) {
+        this.slice = slice;
+        this.slices = slices;
+    }
+
+    /** 구간을 이루는 시간 조각 길이 (구간은 조각 단위로 밀려난다) */
+    public Duration slice() {
+        return slice;
+    }
+
+    public int slices() {
+        return slices;
+    }
+
+    public Duration length() {
+        return slice.multipliedBy(slices);
+    }
+}
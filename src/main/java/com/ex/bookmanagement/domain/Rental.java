@@ -9,6 +9,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_rental_status_rented_date", columnList = "rental_status, rented_date"),
+        @Index(name = "idx_rental_rented_date", columnList = "rented_date")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -0,0 +1,49 @@
+package com.ex.bookmanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료된 대여 보관 (cold tier)
+ * - 반납/대여 중단 후 보관 기간이 지난 rental 행이 id 그대로 옮겨진다. (RentalArchiver)
+ * - 도서 삭제 후에도 이력이 남도록 book 연관 대신 bookId 만 보관한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "rental_archive",
+        indexes = {
+                @Index(name = "idx_rental_archive_book", columnList = "book_id"),
+                @Index(name = "idx_rental_archive_rented_date", columnList = "rented_date")
+        }
+)
+public class RentalArchive {
+    @Id
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false, length = 50)
+    private String renterName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private RentalStatus rentalStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime rentedDate;
+
+    @Column(nullable = false)
+    private LocalDateTime dueDate;
+
+    private LocalDateTime returnedDate;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,38 @@
+package com.ex.bookmanagement.domain;
+
+import java.util.EnumSet;
+
+/**
+ * 대여 응답 필드 (fields= 파라미터 이름)
+ * - attribute 는 RentalArchive 의 컬럼 속성 (Rental 의 bookId 는 book.id 로 외래 키 컬럼만 읽는다)
+ * - returnedAt 은 기존 응답과 같이 반납 기한(dueDate)을 담는다
+ */
+public enum RentalField {
+    RENTAL_ID("rentalId", "id"),
+    BOOK_ID("bookId", "bookId"),
+    RENTER_NAME("renterName", "renterName"),
+    STATUS("status", "rentalStatus"),
+    RENTED_AT("rentedAt", "rentedDate"),
+    RETURNED_AT("returnedAt", "dueDate");
+
+    private final String fieldName;
+    private final String attribute;
+
+    RentalField(String fieldName, String attribute) {
+        this.fieldName = fieldName;
+        this.attribute = attribute;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    /** "rentalId,status" → 필드 집합 (생략 시 null = 전체, rentalId 는 항상 포함) */
+    public static EnumSet<RentalField> parse(String fields) {
+        return FieldSets.parse(fields, RentalField.class, RentalField::fieldName, RENTAL_ID);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ex.bookmanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 통계 집계 (분/일 단위 버킷)
+ * - 원본 rental 을 다시 읽지 않도록 대여/반납 커밋 시점에 증분으로 더해 둔 값이다.
+ * - 평균 대여 기간 = durationSecondsSum / returns
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "rental_stat_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_rental_stat_rollup",
+                columnNames = {"granularity", "dimension", "dimension_id", "bucket_start"})
+)
+public class RentalStatRollup {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private StatGranularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private StatDimension dimension;
+
+    @Column(name = "dimension_id", nullable = false)
+    private long dimensionId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long rentals;
+
+    @Column(nullable = false)
+    private long returns;
+
+    @Column(nullable = false)
+    private long durationSecondsSum;
+
+    public RentalStatRollup(StatGranularity granularity, StatDimension dimension, long dimensionId, LocalDateTime bucketStart) {
+        this.granularity = granularity;
+        this.dimension = dimension;
+        this.dimensionId = dimensionId;
+        this.bucketStart = bucketStart;
+    }
+
+    public void add(long rentals, long returns, long durationSecondsSum) {
+        this.rentals += rentals;
+        this.returns += returns;
+        this.durationSecondsSum += durationSecondsSum;
+    }
+}
@@ -0,0 +1,8 @@
+package com.ex.bookmanagement.domain;
+
+public enum StatDimension {
+    TOTAL,     // 전체 (dimensionId = 0)
+    CATEGORY,  // 카테고리별 (dimensionId = categoryId)
+    BOOK,      // 도서별 (dimensionId = bookId, 일 단위만)
+    ;
+}
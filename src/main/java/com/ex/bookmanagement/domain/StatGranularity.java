@@ -0,0 +1,25 @@
+package com.ex.bookmanagement.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum StatGranularity {
+    MINUTE(ChronoUnit.MINUTES),  // 분 단위 (전체/카테고리)
+    DAY(ChronoUnit.DAYS),        // 일 단위 (전체/카테고리/도서)
+    ;
+
+    private final ChronoUnit unit;
+
+    StatGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public Duration step() {
+        return unit.getDuration();
+    }
+}
@@ -0,0 +1,10 @@
+package com.ex.bookmanagement.domain.event;
+
+public enum BookChangeType {
+    CREATED,             // 신규 등록
+    STOCK_CHANGED,       // 재고 변경 (대여/반납/동일 도서 재등록)
+    STATUS_CHANGED,      // 도서 상태 변경
+    CATEGORIES_CHANGED,  // 카테고리 연결 변경
+    DELETED,             // 삭제
+    ;
+}
@@ -0,0 +1,50 @@
+package com.ex.bookmanagement.domain.event;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookStatus;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 도서 변경 이벤트
+ * - 서비스가 트랜잭션 안에서 발행하고, 인메모리 구조는 커밋 이후(AFTER_COMMIT)에 반영한다.
+ * - 발행 시점의 상태/재고 값을 함께 싣는다.
+ * - changeVersion 은 도서 행 잠금 아래에서 부여되므로 같은 도서 안에서는 커밋 순서와 같다.
+ *   커밋 이후 반영 쪽은 이미 반영한 버전보다 오래된 이벤트를 버려 도착 순서가 뒤바뀌어도 되돌아가지 않는다.
+ */
+@Getter
+@ToString
+public class BookChangedEvent {
+    private final Long bookId;
+    private final BookChangeType type;
+    private final BookStatus status;
+    private final int stock;
+    /** 부여된 변경 버전 (0 이면 아직 없음) */
+    private long changeVersion;
+
+    public BookChangedEvent(Long bookId, BookChangeType type, BookStatus status, int stock) {
+        this(bookId, type, status, stock, 0);
+    }
+
+    /** 일괄 변경 문장에서 변경 버전까지 함께 부여한 경우 (BookChangeTracker 가 건너뜀) */
+    public BookChangedEvent(Long bookId, BookChangeType type, BookStatus status, int stock, long changeVersion) {
+        this.bookId = bookId;
+        this.type = type;
+        this.status = status;
+        this.stock = stock;
+        this.changeVersion = changeVersion;
+    }
+
+    public static BookChangedEvent of(Book book, BookChangeType type) {
+        return new BookChangedEvent(book.getId(), type, book.getBookStatus(), book.getStock());
+    }
+
+    public boolean isVersionAssigned() {
+        return changeVersion > 0;
+    }
+
+    /** BookChangeTracker 가 발행 트랜잭션 안에서 부여 */
+    public void assignVersion(long version) {
+        this.changeVersion = version;
+    }
+}
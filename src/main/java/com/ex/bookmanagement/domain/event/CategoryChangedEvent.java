@@ -0,0 +1,16 @@
+package com.ex.bookmanagement.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 카테고리 트리 변경 이벤트 (생성/이동/삭제, 기동 시 클로저 보완)
+ * - 트랜잭션 안에서 발행한다. 커밋 후 조회용 카테고리 트리를 다시 읽는 기준이 된다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+    private final Long categoryId;
+}
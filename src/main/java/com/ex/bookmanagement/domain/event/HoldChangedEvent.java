@@ -0,0 +1,36 @@
+package com.ex.bookmanagement.domain.event;
+
+import com.ex.bookmanagement.domain.BookHold;
+import com.ex.bookmanagement.domain.HoldStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 상태 변경 이벤트 (대기 등록/배정/대여 전환/취소/만료)
+ * - HoldService 가 트랜잭션 안에서 발행한다. READY 는 예약자에게 수령 안내를 보내는 기준이 된다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class HoldChangedEvent {
+    private final Long holdId;
+    private final Long bookId;
+    private final String renterName;
+    private final HoldStatus status;
+    private final LocalDateTime expiresAt;
+    private final LocalDateTime occurredAt;
+
+    public static HoldChangedEvent of(BookHold hold) {
+        return new HoldChangedEvent(
+                hold.getId(),
+                hold.getBookId(),
+                hold.getRenterName(),
+                hold.getHoldStatus(),
+                hold.getExpiresAt(),
+                LocalDateTime.now()
+        );
+    }
+}
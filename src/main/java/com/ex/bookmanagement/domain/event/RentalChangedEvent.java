@@ -0,0 +1,39 @@
+package com.ex.bookmanagement.domain.event;
+
+import com.ex.bookmanagement.domain.Rental;
+import com.ex.bookmanagement.domain.RentalStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 상태 변경 이벤트 (대여/반납/대여 중단)
+ * - RentalService 가 트랜잭션 안에서 발행한다.
+ * - stockAfter 는 변경 직후 도서 재고, rentedAt 은 대여 시작 시각 (반납 시 대여 기간 계산용)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RentalChangedEvent {
+    private final Long rentalId;
+    private final Long bookId;
+    private final String renterName;
+    private final RentalStatus status;
+    private final int stockAfter;
+    private final LocalDateTime rentedAt;
+    private final LocalDateTime occurredAt;
+
+    public static RentalChangedEvent of(Rental rental) {
+        return new RentalChangedEvent(
+                rental.getId(),
+                rental.getBook().getId(),
+                rental.getRenterName(),
+                rental.getRentalStatus(),
+                rental.getBook().getStock(),
+                rental.getRentedDate(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.ex.bookmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AlsoRentedResponse {
+    private Long bookId;
+    private List<Item> books;           // 함께 대여한 대여자 수 내림차순
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private Long bookId;
+        private String title;
+        private String author;
+
+        @Schema(description = "두 도서를 모두 대여한 대여자 수")
+        private int sharedRenters;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AvailabilityEventResponse {
+    private Long bookId;
+    private BookStatus bookStatus;
+    private int stock;
+    private boolean available;  // 대여 가능 상태 && 재고 > 0
+
+    public static AvailabilityEventResponse fromEvent(BookChangedEvent event) {
+        return new AvailabilityEventResponse(
+                event.getBookId(),
+                event.getStatus(),
+                event.getStock(),
+                event.getStatus().isRentable() && event.getStock() > 0
+        );
+    }
+}
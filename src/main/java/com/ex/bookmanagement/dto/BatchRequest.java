@@ -0,0 +1,48 @@
+package com.ex.bookmanagement.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+    @Schema(description = "true 면 모든 작업을 한 트랜잭션에서 순서대로 실행하고, 하나라도 실패하면 모두 되돌립니다.",
+            example = "false")
+    private boolean transactional;
+
+    @NotEmpty(message = "operations 는 최소 1개 이상이어야 합니다.")
+    @Valid
+    private List<Operation> operations;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+        @Schema(description = "결과를 찾기 위한 식별자 (생략 시 0부터 시작하는 순번)", example = "book-1")
+        private String id;
+
+        @NotBlank(message = "method 는 필수입니다.")
+        @Schema(example = "GET", allowableValues = {"GET", "POST", "PUT", "PATCH", "DELETE"},
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        private String method;
+
+        @NotBlank(message = "path 는 필수입니다.")
+        @Schema(description = "쿼리 문자열을 포함한 경로", example = "/api/books/1/availability",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        private String path;
+
+        @Schema(description = "요청 본문 (개별 API 의 요청 본문과 같음)")
+        private JsonNode body;
+    }
+}
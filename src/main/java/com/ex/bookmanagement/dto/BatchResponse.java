@@ -0,0 +1,29 @@
+package com.ex.bookmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BatchResponse {
+    private boolean transactional;
+    @Schema(description = "트랜잭션 모드에서 실패한 작업이 있어 모두 되돌렸는지 여부")
+    private boolean rolledBack;
+    private List<Result> results;       // 요청 순서
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private String id;
+        @Schema(description = "개별 API 를 호출했을 때의 HTTP 상태 코드", example = "200")
+        private int status;
+        @Schema(description = "개별 API 의 응답 본문 (실패 시 ErrorResponse)")
+        private Object body;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookAvailabilityResponse {
+    private Long bookId;
+    private boolean available;  // 대여 가능 상태 && 재고 > 0
+    private BookStatus bookStatus;
+    private int stock;
+
+    public static BookAvailabilityResponse fromEntity(Book book) {
+        return new BookAvailabilityResponse(
+                book.getId(),
+                book.getBookStatus().isRentable() && book.getStock() > 0,
+                book.getBookStatus(),
+                book.getStock()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.ex.bookmanagement.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BookChangesResponse {
+    private long since;                 // 요청한 시작 버전 (포함)
+    private long nextSince;             // 다음 요청에 사용할 since
+    private boolean hasMore;            // 같은 시점에 더 받을 변경분이 있는지
+    private List<BookResponse> changed; // 등록/변경된 도서 (버전 순)
+    private List<Long> deleted;         // 삭제된 도서 id
+}
@@ -2,20 +2,24 @@ package com.ex.bookmanagement.dto;
 
 import com.ex.bookmanagement.domain.Book;
 import com.ex.bookmanagement.domain.BookCategory;
+import com.ex.bookmanagement.domain.BookField;
 import com.ex.bookmanagement.domain.BookStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)  // fields= 로 고르지 않은 필드는 null 로 두고 응답에서 뺀다
 public class BookResponse {
     private Long id;
     private String title;
     private String author;
     private BookStatus bookStatus;
-    private int stock;
+    private Integer stock;
     private List<String> categories;  // 카테고리 이름 목록
 
     public static BookResponse fromEntity(Book book) {
@@ -33,4 +37,19 @@ public class BookResponse {
                 )
                 .build();
     }
+
+    /** 선택한 필드만 남긴 사본 (fields 가 null 이면 그대로) */
+    public BookResponse only(Set<BookField> fields) {
+        if (fields == null) {
+            return this;
+        }
+        return BookResponse.builder()
+                .id(id)
+                .title(fields.contains(BookField.TITLE) ? title : null)
+                .author(fields.contains(BookField.AUTHOR) ? author : null)
+                .bookStatus(fields.contains(BookField.BOOK_STATUS) ? bookStatus : null)
+                .stock(fields.contains(BookField.STOCK) ? stock : null)
+                .categories(fields.contains(BookField.CATEGORIES) ? categories : null)
+                .build();
+    }
 }
@@ -0,0 +1,19 @@
+package com.ex.bookmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BookSearchResponse {
+    private List<BookResponse> books;
+    private int page;
+    private int size;
+    private long totalElements;
+
+    @Schema(description = "선택된 검색 계획 (접근 경로와 추정 행 수)", example = "CATEGORY(~120) ∩ STATUS(~900) → filter[title] ~5")
+    private String plan;
+}
@@ -0,0 +1,22 @@
+package com.ex.bookmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAvailabilityRequest {
+    @NotEmpty(message = "도서 ID 리스트는 최소 1개 이상이어야 합니다.")
+    @Schema(
+            description = "대여 가능 여부를 조회할 도서 ID 리스트 (중복은 한 번만 응답)",
+            example = "[1, 2, 5]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<Long> bookIds;
+}
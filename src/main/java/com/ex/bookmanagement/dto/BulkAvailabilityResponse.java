@@ -0,0 +1,15 @@
+package com.ex.bookmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkAvailabilityResponse {
+    private List<BookAvailabilityResponse> books;   // 요청 순서
+    @Schema(description = "존재하지 않는 도서 ID", example = "[999]")
+    private List<Long> notFound;
+}
@@ -0,0 +1,32 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeRequest {
+    @NotEmpty(message = "도서 ID 리스트는 최소 1개 이상이어야 합니다.")
+    @Schema(
+            description = "상태를 바꿀 도서 ID 리스트",
+            example = "[1, 2, 5]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<Long> bookIds;
+
+    @NotNull
+    @Schema(
+            description = "변경할 도서 상태 (대여 불가 상태면 진행 중 대여도 대여 불가 처리)",
+            example = "SUSPENDED_LOST",
+            allowableValues = {"AVAILABLE", "SUSPENDED_DAMAGED", "SUSPENDED_LOST"}
+    )
+    private BookStatus status;
+}
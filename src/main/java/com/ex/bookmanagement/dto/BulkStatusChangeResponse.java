@@ -0,0 +1,18 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkStatusChangeResponse {
+    private BookStatus status;
+    @Schema(description = "상태가 바뀐 도서 수")
+    private int updatedBooks;
+    @Schema(description = "이미 같은 상태라 바뀌지 않은 도서 수")
+    private int unchangedBooks;
+    @Schema(description = "대여 불가(UNAVAILABLE)로 바뀐 진행 중 대여 수")
+    private int suspendedRentals;
+}
@@ -0,0 +1,18 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.config.WorkloadClass;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BulkheadStatusResponse {
+    private WorkloadClass workload;
+    private int maxConcurrent;              // 동시 실행 한도
+    private int inFlight;                   // 실행 중
+    private long rejected;                  // 한도 초과로 거절된 누적 건수
+    private int poolMax;                    // 커넥션 풀 최대 크기
+    private int poolActive;                 // 사용 중 커넥션
+    private int poolIdle;                   // 유휴 커넥션
+    private int threadsAwaitingConnection;  // 커넥션 대기 스레드
+}
@@ -9,13 +9,15 @@ import lombok.Getter;
 public class CategoryResponse {
     private Long id;
     private String name;
-    private long bookCount; // 해당 카테고리에 속한 책 개수
+    private Long parentId;  // 최상위 = null
+    private long bookCount; // 하위 카테고리를 포함해 속한 책 개수 (중복 제외)
 
     public static CategoryResponse fromEntity(Category category) {
         return CategoryResponse.builder()
                 .id(category.getId())
                 .name(category.getName())
-                .bookCount(category.getBookCategories() == null ? 0 : category.getBookCategories().size())
+                .parentId(category.getParent() == null ? null : category.getParent().getId())
+                .bookCount(category.getBookCount())
                 .build();
     }
 }
@@ -15,4 +15,11 @@ public class CreateCategoryRequest {
     @NotBlank(message = "카테고리 이름은 필수입니다.")
     @Schema(example = "문학")
     private String name;
+
+    @Schema(description = "상위 카테고리 id (없으면 최상위)", example = "1")
+    private Long parentId;
+
+    public CreateCategoryRequest(String name) {
+        this(name, null);
+    }
 }
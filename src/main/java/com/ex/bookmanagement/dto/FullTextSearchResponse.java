@@ -0,0 +1,23 @@
+package com.ex.bookmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FullTextSearchResponse {
+    private String query;
+    private List<Item> books;           // 점수 내림차순
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        @Schema(description = "BM25 점수 (제목/저자/카테고리 필드 가중 합)")
+        private double score;
+        private BookResponse book;
+    }
+}
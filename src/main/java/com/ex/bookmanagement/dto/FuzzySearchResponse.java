@@ -0,0 +1,28 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.FuzzyField;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FuzzySearchResponse {
+    private String query;
+    private List<Item> books;           // 거리 오름차순
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        @Schema(description = "질의 단어별 자모 편집 거리의 합 (0 = 정확히 일치)")
+        private int distance;
+        @Schema(description = "일치한 필드")
+        private FuzzyField field;
+        @Schema(description = "질의 단어에 대응한 도서의 단어", example = "김영하")
+        private String matched;
+        private BookResponse book;
+    }
+}
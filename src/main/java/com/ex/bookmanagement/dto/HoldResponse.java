@@ -0,0 +1,41 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.BookHold;
+import com.ex.bookmanagement.domain.HoldStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class HoldResponse {
+    private Long holdId;
+
+    private Long bookId;
+
+    private String renterName;
+
+    private HoldStatus status;
+
+    @Schema(description = "대기 순번 (0 = 다음 배정 대상, WAITING 일 때만)")
+    private Long position;
+
+    private LocalDateTime requestedAt;
+
+    @Schema(description = "수령 기한 (READY 일 때만)")
+    private LocalDateTime expiresAt;
+
+    public static HoldResponse fromEntity(BookHold hold, Long position) {
+        return new HoldResponse(
+                hold.getId(),
+                hold.getBookId(),
+                hold.getRenterName(),
+                hold.getHoldStatus(),
+                position,
+                hold.getRequestedAt(),
+                hold.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.ex.bookmanagement.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class JournalInventoryResponse {
+    private Long bookId;
+    private LocalDateTime at;
+    private boolean journaled;   // 해당 시점까지 대여 이벤트가 한 번이라도 있었는지
+    private int stock;           // 해당 시점 재고 (마지막 대여 이벤트 기준)
+    private int activeRentals;   // 해당 시점 진행 중 대여 수
+    private long snapshotSeq;    // 재생 시작 스냅샷 순번
+}
@@ -0,0 +1,18 @@
+package com.ex.bookmanagement.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JournalStatusResponse {
+    private String directory;
+    private long durableSeq;       // fsync 완료된 마지막 순번
+    private long lastSnapshotSeq;  // 마지막 스냅샷 순번
+    private int segments;          // 보관 중인 세그먼트 수
+    private int pending;           // 기록 대기 건수
+    private long appended;         // 기동 이후 기록 건수
+    private long groupCommits;     // 기동 이후 fsync 횟수
+    private int trackedBooks;      // 저널에 나타난 도서 수
+    private int activeRentals;     // 진행 중 대여 수
+}
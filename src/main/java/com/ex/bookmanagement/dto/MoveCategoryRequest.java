@@ -0,0 +1,14 @@
+package com.ex.bookmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveCategoryRequest {
+    @Schema(description = "새 상위 카테고리 id (null 이면 최상위로 이동)", example = "1")
+    private Long parentId;
+}
@@ -0,0 +1,20 @@
+package com.ex.bookmanagement.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class OutboxStatusResponse {
+    private boolean enabled;
+    private long pending;                 // 미발행 건수
+    private long oldestPendingAgeMillis;  // 가장 오래된 미발행 이벤트의 경과 시간
+    private long published;               // 기동 이후 발행 건수
+    private long failures;                // 기동 이후 싱크 실패 횟수
+    private long lastLagMillis;           // 마지막 배치의 생성 → 발행 지연
+    private long maxLagMillis;            // 기동 이후 최대 지연
+    private List<String> sinks;
+    private String lastError;
+}
@@ -0,0 +1,35 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.PopularWindow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class PopularBooksResponse {
+    private PopularWindow window;
+    private Long categoryId;            // 전체 = null
+    private LocalDateTime from;         // 구간 시작 (조각 경계)
+    private LocalDateTime to;
+
+    @Schema(description = "마지막으로 정확한 대여 수와 대조한 시각, 기동 후 아직 없으면 null")
+    private LocalDateTime reconciledAt;
+
+    private List<Item> books;           // 추정 대여 수 내림차순
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private Long bookId;
+        private String title;
+        private String author;
+
+        @Schema(description = "구간 내 대여 수 추정값 (Count-Min Sketch, 과대 추정만 발생)")
+        private long estimatedRentals;
+    }
+}
@@ -1,7 +1,9 @@
 package com.ex.bookmanagement.dto;
 
 import com.ex.bookmanagement.domain.Rental;
+import com.ex.bookmanagement.domain.RentalArchive;
 import com.ex.bookmanagement.domain.RentalStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,6 +12,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)  // fields= 로 고르지 않은 필드는 null 로 두고 응답에서 뺀다
 public class RentResponse {
     private Long rentalId;
 
@@ -33,4 +36,16 @@ public class RentResponse {
                 rental.getDueDate()
         );
     }
+
+    /** 보관된 대여 (hot 대여와 같은 형태로 응답) */
+    public static RentResponse fromArchive(RentalArchive archived) {
+        return new RentResponse(
+                archived.getId(),
+                archived.getBookId(),
+                archived.getRenterName(),
+                archived.getRentalStatus(),
+                archived.getRentedDate(),
+                archived.getDueDate()
+        );
+    }
 }
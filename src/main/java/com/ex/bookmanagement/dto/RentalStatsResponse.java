@@ -0,0 +1,37 @@
+package com.ex.bookmanagement.dto;
+
+import com.ex.bookmanagement.domain.StatDimension;
+import com.ex.bookmanagement.domain.StatGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class RentalStatsResponse {
+    private StatGranularity granularity;
+    private StatDimension dimension;
+    private long dimensionId;           // 전체 = 0
+    private LocalDateTime from;         // 포함
+    private LocalDateTime to;           // 미포함
+    private long totalRentals;
+    private long totalReturns;
+
+    @Schema(description = "구간 내 반납 건의 평균 대여 기간(분), 반납이 없으면 null")
+    private Double averageRentalMinutes;
+
+    private List<Bucket> buckets;       // 빈 버킷 포함, 시간순
+
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime bucketStart;
+        private long rentals;
+        private long returns;
+        private Double averageRentalMinutes;
+    }
+}
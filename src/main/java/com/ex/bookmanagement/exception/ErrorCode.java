@@ -6,6 +6,8 @@ public enum ErrorCode {
     INVALID_ARGUMENT(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     REQUIRED_FIELD(HttpStatus.BAD_REQUEST, "{field}은(는) 필수입니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "리소스를 찾을 수 없습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "{workload} 작업이 포화 상태입니다. 잠시 후 다시 시도해주세요."),
 
     BOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "도서를 찾을 수 없습니다. (id={id})"),
     BOOK_STATUS_NULL(HttpStatus.BAD_REQUEST, "도서 상태는 null로 변경할 수 없습니다."),
@@ -19,6 +21,8 @@ public enum ErrorCode {
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "카테고리를 찾을 수 없습니다. (id={id})"),
     CATEGORY_NULL(HttpStatus.BAD_REQUEST, "카테고리가 null일 수 없습니다."),
     CATEGORY_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 카테고리입니다: {name}"),
+    CATEGORY_HAS_CHILDREN(HttpStatus.CONFLICT, "하위 카테고리가 있는 카테고리는 삭제할 수 없습니다. (id={id})"),
+    CATEGORY_CYCLE(HttpStatus.BAD_REQUEST, "카테고리를 자신의 하위 카테고리 아래로 옮길 수 없습니다. (id={id}, parentId={parentId})"),
     CATEGORY_REQUIRED(HttpStatus.BAD_REQUEST, "신규 도서는 최소 한 개 이상의 카테고리가 필요합니다."),
     BOOK_CATEGORY_NOT_LINKED(HttpStatus.BAD_REQUEST, "도서에 기존 카테고리가 연결되어 있지 않습니다."),
 
@@ -26,6 +30,20 @@ public enum ErrorCode {
     INVALID_RENTAL_SUSPEND_REASON(HttpStatus.BAD_REQUEST, "유효하지 않은 대여 중단 사유입니다."),
     ALREADY_RETURNED_OR_UNAVAILABLE(HttpStatus.BAD_REQUEST, "이미 반납되었거나 대여 중단된 도서입니다."),
 
+    HOLD_NOT_FOUND(HttpStatus.NOT_FOUND, "예약 정보를 찾을 수 없습니다. (id={id})"),
+    HOLD_NOT_NEEDED(HttpStatus.BAD_REQUEST, "재고가 있어 바로 대여할 수 있습니다. (id={id})"),
+    HOLD_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 진행 중인 예약이 있습니다. (bookId={bookId})"),
+    HOLD_NOT_ACTIVE(HttpStatus.BAD_REQUEST, "이미 처리된 예약입니다. (status={status})"),
+
+    JOURNAL_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "대여 저널이 비활성화되어 있습니다."),
+    JOURNAL_HISTORY_UNAVAILABLE(HttpStatus.NOT_FOUND, "요청한 시점의 저널 이력이 보관 범위를 벗어났습니다. (at={at})"),
+
+    FULLTEXT_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "전문 검색 색인이 비활성화되어 있습니다."),
+
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 실행할 수 있는 작업은 {max}개까지입니다. (size={size})"),
+    BATCH_ROUTE_NOT_FOUND(HttpStatus.NOT_FOUND, "일괄 요청으로 실행할 수 없는 API 입니다. ({method} {path})"),
+    BATCH_ABORTED(HttpStatus.FAILED_DEPENDENCY, "다른 작업이 실패해 트랜잭션이 되돌려졌습니다. (failedId={failedId})"),
+
     ;
 
     private final HttpStatus status;
@@ -0,0 +1,64 @@
+package com.ex.bookmanagement.fulltext;
+
+import com.ex.bookmanagement.dto.BookResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 색인 대상 도서 (제목, 저자, 카테고리 이름)
+ */
+public record BookDocument(long bookId, String title, String author, List<String> categories) {
+
+    public static BookDocument from(BookResponse book) {
+        return new BookDocument(book.getId(), book.getTitle(), book.getAuthor(),
+                book.getCategories() == null ? List.of() : book.getCategories());
+    }
+
+    /** 필드별 토큰 빈도와 길이로 분석 */
+    Analyzed analyze() {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        int[] lengths = new int[IndexField.ALL.length];
+        lengths[IndexField.TITLE.ordinal()] = add(termFreqs, IndexField.TITLE, title);
+        lengths[IndexField.AUTHOR.ordinal()] = add(termFreqs, IndexField.AUTHOR, author);
+        int categoryLength = 0;
+        for (String category : categories) {
+            categoryLength += add(termFreqs, IndexField.CATEGORY, category);
+        }
+        lengths[IndexField.CATEGORY.ordinal()] = categoryLength;
+        return new Analyzed(bookId, fingerprint(), lengths, termFreqs);
+    }
+
+    private static int add(Map<String, Integer> termFreqs, IndexField field, String text) {
+        List<String> tokens = TextAnalyzer.analyze(text);
+        for (String token : tokens) {
+            termFreqs.merge(field.key(token), 1, Integer::sum);
+        }
+        return tokens.size();
+    }
+
+    /** 내용 지문 (FNV-1a 64). 같은 내용의 재색인을 건너뛰는 데 쓴다 */
+    long fingerprint() {
+        List<String> sorted = new ArrayList<>(categories);
+        Collections.sort(sorted);
+        long hash = 0xcbf29ce484222325L;
+        for (String part : concat(title, author, sorted)) {
+            for (byte b : part.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+            }
+            hash = (hash ^ 0x1f) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static List<String> concat(String title, String author, List<String> categories) {
+        List<String> parts = new ArrayList<>(categories.size() + 2);
+        parts.add(title == null ? "" : title);
+        parts.add(author == null ? "" : author);
+        parts.addAll(categories);
+        return parts;
+    }
+
+    record Analyzed(long bookId, long fingerprint, int[] lengths, Map<String, Integer> termFreqs) {
+    }
+}
@@ -0,0 +1,517 @@
+package com.ex.bookmanagement.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * BM25 전문 검색 색인 (제목, 저자, 카테고리 이름)
+ * - 새로 반영된 도서는 메모리 버퍼에 쌓여 바로 검색되고(near-real-time), flush 시 불변 세그먼트 파일로 내려간다.
+ * - 세그먼트는 읽기 전용으로 메모리 매핑하며, 수정/삭제는 기존 문서에 삭제 표시를 하고 새 문서를 버퍼에 추가한다.
+ * - 세그먼트가 merge-factor 를 넘거나 삭제 비율이 높으면 색인 스레드가 백그라운드에서 병합한다.
+ * - 매니페스트에 반영이 끝난 도서 변경 버전(since)을 함께 기록해, 재기동 시 book 테이블 전체가 아니라
+ *   그 이후 변경분만 다시 받는다.
+ * - 모든 변경(반영/flush/병합)은 전용 색인 스레드 한 곳에서만 하고, 검색과는 읽기/쓰기 잠금으로 나눈다.
+ */
+@Slf4j
+public class FullTextIndex implements AutoCloseable {
+    private final FullTextProperties props;
+    private final Path directory;
+    private final ExecutorService indexer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 잠금으로 보호 (변경은 색인 스레드에서만)
+    private List<LiveSegment> segments = List.of();
+    private MemoryBuffer buffer = new MemoryBuffer();
+    private BitSet bufferDeleted = new BitSet();
+    private final Map<Long, Location> locations = new HashMap<>();
+
+    // 색인 스레드 전용
+    private long nextGeneration;
+    private boolean deletesDirty;
+
+    private volatile long since;
+    private volatile long committedSince;
+    private volatile long flushes;
+    private volatile long merges;
+    private volatile long unchangedSkips;
+
+    /** 세그먼트 + 삭제 표시 (삭제 표시는 잠금 안에서만 바꾼다) */
+    private static final class LiveSegment {
+        private final IndexSegment segment;
+        private final BitSet deleted;
+
+        private LiveSegment(IndexSegment segment, BitSet deleted) {
+            this.segment = segment;
+            this.deleted = deleted;
+        }
+
+        int liveDocs() {
+            return segment.docCount() - deleted.cardinality();
+        }
+    }
+
+    /** 도서의 현재 색인 위치 (segment 가 null 이면 메모리 버퍼) */
+    private record Location(LiveSegment segment, int ord, long fingerprint) {
+    }
+
+    public record Hit(long bookId, double score) {
+    }
+
+    private FullTextIndex(FullTextProperties props) {
+        this.props = props;
+        this.directory = Path.of(props.getDirectory());
+        this.indexer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "fulltext-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** 매니페스트의 세그먼트를 매핑해 색인을 연다. 매니페스트에 없는 파일(중단된 flush/병합)은 지운다 */
+    public static FullTextIndex open(FullTextProperties props) throws IOException {
+        long started = System.currentTimeMillis();
+        FullTextIndex index = new FullTextIndex(props);
+        Path directory = index.directory;
+        Files.createDirectories(directory);
+
+        IndexManifest manifest;
+        List<LiveSegment> opened = new ArrayList<>();
+        try {
+            manifest = IndexManifest.read(directory);
+            if (manifest != null) {
+                for (Map.Entry<Long, BitSet> e : manifest.segments.entrySet()) {
+                    opened.add(new LiveSegment(IndexSegment.open(directory, e.getKey()), e.getValue()));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[fulltext] 색인을 읽을 수 없어 비우고 처음부터 다시 만듭니다: {}", directory, e);
+            for (LiveSegment live : opened) {
+                live.segment.close();
+            }
+            opened.clear();
+            manifest = null;
+        }
+        if (manifest == null) {
+            manifest = IndexManifest.empty();
+        }
+
+        long maxGeneration = 0;
+        for (Path file : list(directory)) {
+            long generation = IndexSegment.parseGeneration(file);
+            boolean listed = generation >= 0 && manifest.segments.containsKey(generation);
+            if (!listed && (generation >= 0 || file.getFileName().toString().endsWith(".tmp"))) {
+                Files.deleteIfExists(file);
+            }
+            maxGeneration = Math.max(maxGeneration, generation);
+        }
+
+        for (LiveSegment live : opened) {
+            for (int ord = 0; ord < live.segment.docCount(); ord++) {
+                if (!live.deleted.get(ord)) {
+                    index.locations.put(live.segment.bookId(ord), new Location(live, ord, live.segment.fingerprint(ord)));
+                }
+            }
+        }
+        index.segments = List.copyOf(opened);
+        index.nextGeneration = Math.max(manifest.nextGeneration, maxGeneration + 1);
+        index.since = manifest.since;
+        index.committedSince = manifest.since;
+
+        log.info("[fulltext] opened {} (segments={}, docs={}, since={}) in {}ms",
+                directory, opened.size(), index.locations.size(), manifest.since, System.currentTimeMillis() - started);
+        return index;
+    }
+
+    // ===== 반영 =====
+
+    /**
+     * 변경분 반영 (색인 스레드에서 순서대로 처리)
+     * @param nextSince 이 변경분까지 반영한 뒤 다음에 받을 도서 변경 버전
+     */
+    public CompletableFuture<Void> apply(Collection<BookDocument> upserts, Collection<Long> deletes, long nextSince) {
+        return submit(() -> {
+            List<BookDocument.Analyzed> analyzed = new ArrayList<>(upserts.size());
+            for (BookDocument doc : upserts) {
+                // 재고/상태만 바뀐 변경은 내용 지문이 같으므로 분석도, 다시 색인도 하지 않는다
+                Location current = locations.get(doc.bookId());
+                if (current != null && current.fingerprint() == doc.fingerprint()) {
+                    unchangedSkips++;
+                    continue;
+                }
+                analyzed.add(doc.analyze());
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (BookDocument.Analyzed a : analyzed) {
+                    markDeleted(locations.get(a.bookId()));
+                    int ord = buffer.add(a);
+                    locations.put(a.bookId(), new Location(null, ord, a.fingerprint()));
+                }
+                for (Long bookId : deletes) {
+                    markDeleted(locations.remove(bookId));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            since = Math.max(since, nextSince);
+
+            if (buffer.docCount() - bufferDeleted.cardinality() >= props.getMaxBufferedDocs()) {
+                flush();
+                mergeIfNeeded();
+            }
+        });
+    }
+
+    private void markDeleted(Location location) {
+        if (location == null) {
+            return;
+        }
+        if (location.segment() == null) {
+            bufferDeleted.set(location.ord());
+        } else {
+            location.segment().deleted.set(location.ord());
+            deletesDirty = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bookmanagement.fulltext.flush-interval:PT30S}",
+            initialDelayString = "${bookmanagement.fulltext.flush-interval:PT30S}")
+    public void scheduledCommit() {
+        commit();
+    }
+
+    /** 버퍼를 세그먼트로 내리고 매니페스트를 기록한 뒤, 필요하면 병합 */
+    public CompletableFuture<Void> commit() {
+        return submit(() -> {
+            flush();
+            mergeIfNeeded();
+        });
+    }
+
+    private void flush() throws IOException {
+        boolean hasDocs = buffer.docCount() > bufferDeleted.cardinality();
+        if (!hasDocs && !deletesDirty && since == committedSince) {
+            return;
+        }
+
+        LiveSegment added = null;
+        SegmentWriter.Written written = null;
+        if (hasDocs) {
+            written = SegmentWriter.write(directory, nextGeneration++, List.of(buffer), Collections.singletonList(bufferDeleted));
+            added = new LiveSegment(IndexSegment.open(directory, written.generation()), new BitSet());
+        }
+        List<LiveSegment> next = new ArrayList<>(segments);
+        if (added != null) {
+            next.add(added);
+        }
+        long flushedSince = since;
+        try {
+            writeManifest(next, flushedSince);
+        } catch (IOException e) {
+            discard(added);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            segments = List.copyOf(next);
+            if (added != null) {
+                int[] ordMap = written.ordMaps()[0];
+                for (int ord = 0; ord < ordMap.length; ord++) {
+                    if (ordMap[ord] >= 0) {
+                        locations.put(buffer.bookId(ord), new Location(added, ordMap[ord], buffer.fingerprint(ord)));
+                    }
+                }
+            }
+            buffer = new MemoryBuffer();
+            bufferDeleted = new BitSet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        deletesDirty = false;
+        committedSince = flushedSince;
+        if (added != null) {
+            flushes++;
+            log.debug("[fulltext] flushed {} docs to {}", written.docCount(), added.segment.path().getFileName());
+        }
+    }
+
+    /** 세그먼트 수가 merge-factor 를 넘으면 작은 세그먼트부터, 삭제 비율이 높은 세그먼트는 단독으로 다시 쓴다 */
+    private void mergeIfNeeded() throws IOException {
+        List<LiveSegment> candidates;
+        while (!(candidates = pickMerge()).isEmpty()) {
+            merge(candidates);
+        }
+    }
+
+    private List<LiveSegment> pickMerge() {
+        int mergeFactor = Math.max(2, props.getMergeFactor());
+        if (segments.size() > mergeFactor) {
+            return segments.stream()
+                    .sorted(Comparator.comparingInt(LiveSegment::liveDocs))
+                    .limit(mergeFactor)
+                    .toList();
+        }
+        return segments.stream()
+                .filter(s -> s.deleted.cardinality() >= s.segment.docCount() * props.getExpungeDeletesRatio())
+                .filter(s -> s.deleted.cardinality() > 0)
+                .toList();
+    }
+
+    private void merge(List<LiveSegment> candidates) throws IOException {
+        long started = System.currentTimeMillis();
+        List<IndexSegment> sources = candidates.stream().map(s -> s.segment).toList();
+        List<BitSet> deleted = candidates.stream().map(s -> (BitSet) s.deleted.clone()).toList();
+        int liveDocs = candidates.stream().mapToInt(LiveSegment::liveDocs).sum();
+
+        LiveSegment merged = null;
+        SegmentWriter.Written written = null;
+        if (liveDocs > 0) {
+            written = SegmentWriter.write(directory, nextGeneration++, sources, deleted);
+            merged = new LiveSegment(IndexSegment.open(directory, written.generation()), new BitSet());
+        }
+        List<LiveSegment> next = new ArrayList<>(segments);
+        next.removeAll(candidates);
+        if (merged != null) {
+            next.add(merged);
+        }
+        try {
+            writeManifest(next, committedSince);
+        } catch (IOException e) {
+            discard(merged);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            segments = List.copyOf(next);
+            if (merged != null) {
+                for (int s = 0; s < sources.size(); s++) {
+                    int[] ordMap = written.ordMaps()[s];
+                    for (int ord = 0; ord < ordMap.length; ord++) {
+                        if (ordMap[ord] >= 0) {
+                            locations.put(sources.get(s).bookId(ord),
+                                    new Location(merged, ordMap[ord], sources.get(s).fingerprint(ord)));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (IndexSegment source : sources) {
+            source.close();
+            Files.deleteIfExists(source.path());
+        }
+        merges++;
+        log.info("[fulltext] merged {} segments ({} live docs) in {}ms",
+                candidates.size(), liveDocs, System.currentTimeMillis() - started);
+    }
+
+    /** 매니페스트 기록 (세그먼트별 삭제 표시는 색인 스레드만 바꾸므로 그대로 읽어도 된다) */
+    private void writeManifest(List<LiveSegment> next, long manifestSince) throws IOException {
+        LinkedHashMap<Long, BitSet> entries = new LinkedHashMap<>();
+        for (LiveSegment live : next) {
+            entries.put(live.segment.generation(), live.deleted);
+        }
+        new IndexManifest(manifestSince, nextGeneration, entries).write(directory);
+    }
+
+    private static void discard(LiveSegment created) throws IOException {
+        if (created != null) {
+            created.segment.close();
+            Files.deleteIfExists(created.segment.path());
+        }
+    }
+
+    // ===== 검색 =====
+
+    /**
+     * BM25 점수 상위 limit 건
+     * - 필드별로 BM25 를 계산해 필드 가중치를 곱해 더한다. (질의 토큰은 OR)
+     * - 문서 수/문서 빈도/평균 길이는 Lucene 과 같이 삭제 표시된 문서를 포함한 값을 쓴다.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> tokens = TextAnalyzer.analyze(query).stream().distinct().toList();
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        double k1 = props.getK1();
+        double b = props.getB();
+        double[] boosts = {props.getTitleBoost(), props.getAuthorBoost(), props.getCategoryBoost()};
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            List<SegmentSource> sources = new ArrayList<>(segments.size() + 1);
+            List<BitSet> deleted = new ArrayList<>(segments.size() + 1);
+            for (LiveSegment live : segments) {
+                sources.add(live.segment);
+                deleted.add(live.deleted);
+            }
+            sources.add(buffer);
+            deleted.add(bufferDeleted);
+
+            long docCount = 0;
+            long[] totalLengths = new long[IndexField.ALL.length];
+            for (SegmentSource source : sources) {
+                docCount += source.docCount();
+                for (int f = 0; f < totalLengths.length; f++) {
+                    totalLengths[f] += source.totalLength(f);
+                }
+            }
+            if (docCount == 0) {
+                return List.of();
+            }
+
+            for (IndexField field : IndexField.ALL) {
+                int f = field.ordinal();
+                double avgLength = Math.max(1.0, (double) totalLengths[f] / docCount);
+                for (String token : tokens) {
+                    TermKey term = TermKey.of(field, token);
+                    long df = 0;
+                    for (SegmentSource source : sources) {
+                        df += source.docFreq(term);
+                    }
+                    if (df == 0) {
+                        continue;
+                    }
+                    double weight = boosts[f] * Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                    for (int s = 0; s < sources.size(); s++) {
+                        SegmentSource source = sources.get(s);
+                        BitSet dead = deleted.get(s);
+                        source.postings(term, (ord, tf) -> {
+                            if (dead.get(ord)) {
+                                return;
+                            }
+                            double norm = k1 * (1 - b + b * source.fieldLength(ord, f) / avgLength);
+                            scores.merge(source.bookId(ord), weight * tf * (k1 + 1) / (tf + norm), Double::sum);
+                        });
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::bookId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(ranking.reversed());
+        scores.forEach((bookId, score) -> {
+            top.add(new Hit(bookId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<Hit> result = new ArrayList<>(top);
+        result.sort(ranking);
+        return result;
+    }
+
+    // ===== 상태 =====
+
+    /** 다음에 받을 도서 변경 버전 (메모리 버퍼 반영분 포함) */
+    public long since() {
+        return since;
+    }
+
+    /** 디스크에 기록된 다음 도서 변경 버전 (재기동 시 여기서부터 다시 받는다) */
+    public long committedSince() {
+        return committedSince;
+    }
+
+    public int maxLimit() {
+        return props.getMaxLimit();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public int bufferedDocs() {
+        lock.readLock().lock();
+        try {
+            return buffer.docCount() - bufferDeleted.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int indexedDocs() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 내용 지문이 같아 건너뛴 upsert 수 */
+    public long unchangedSkipCount() {
+        return unchangedSkips;
+    }
+
+    public long flushCount() {
+        return flushes;
+    }
+
+    public long mergeCount() {
+        return merges;
+    }
+
+    private CompletableFuture<Void> submit(IndexTask task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            indexer.execute(() -> {
+                try {
+                    task.run();
+                    done.complete(null);
+                } catch (IOException | RuntimeException e) {
+                    log.error("[fulltext] 색인 작업 실패", e);
+                    done.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            done.completeExceptionally(new IllegalStateException("full-text index closed"));
+        }
+        return done;
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+
+    private static List<Path> list(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 종료 시 버퍼를 내려 다음 기동 때 다시 받을 변경분을 줄인다 */
+    @Override
+    public void close() throws Exception {
+        try {
+            commit().get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            log.warn("[fulltext] 종료 시 flush 실패 (다음 기동 때 변경분을 다시 받습니다)", e.getCause());
+        } finally {
+            indexer.shutdown();
+            indexer.awaitTermination(30, TimeUnit.SECONDS);
+            for (LiveSegment live : segments) {
+                live.segment.close();
+            }
+        }
+    }
+}
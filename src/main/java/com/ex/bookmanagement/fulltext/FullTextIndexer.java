@@ -0,0 +1,109 @@
+package com.ex.bookmanagement.fulltext;
+
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.dto.BookChangesResponse;
+import com.ex.bookmanagement.service.BookService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전문 검색 색인 동기화
+ * - 도서 변경 버전 피드(BookService.findChanges)를 색인의 since 부터 읽어 색인에 반영한다.
+ * - 도서 등록/카테고리 변경/삭제가 커밋되면 바로 동기화하고, 누락분은 sync-interval 주기로 보정한다.
+ * - 기동 시에도 매니페스트의 since 이후 변경분만 받으므로, 색인이 없을 때만 전체 도서를 읽는다.
+ * - 대여/반납으로 변경 버전만 오른 도서도 피드에 실리지만, 색인은 내용 지문을 먼저 비교해 분석 없이 건너뛴다.
+ */
+@Slf4j
+public class FullTextIndexer implements AutoCloseable {
+    private final FullTextIndex index;
+    private final BookService bookService;
+    private final FullTextProperties props;
+    private final ExecutorService executor;
+    private final AtomicBoolean queued = new AtomicBoolean();
+
+    public FullTextIndexer(FullTextIndex index, BookService bookService, FullTextProperties props) {
+        this.index = index;
+        this.bookService = bookService;
+        this.props = props;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "fulltext-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        BookChangeType type = event.getType();
+        if (type == BookChangeType.CREATED || type == BookChangeType.CATEGORIES_CHANGED || type == BookChangeType.DELETED) {
+            requestSync();
+        }
+    }
+
+    /** 초기 변경 버전 부여(BookChangeTracker) 이후에 동기화하도록 가장 늦게 실행 */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        requestSync();
+    }
+
+    @Scheduled(fixedDelayString = "${bookmanagement.fulltext.sync-interval:PT10S}",
+            initialDelayString = "${bookmanagement.fulltext.sync-interval:PT10S}")
+    public void scheduledSync() {
+        requestSync();
+    }
+
+    /** 동기화 요청 (이미 대기 중인 요청이 있으면 합친다) */
+    public void requestSync() {
+        if (queued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                queued.set(false);
+                try {
+                    sync();
+                } catch (Exception e) {
+                    log.warn("[fulltext] 변경분 동기화 실패 (다음 주기에 다시 시도)", e);
+                }
+            });
+        }
+    }
+
+    private void sync() throws Exception {
+        long since = index.since();
+        long skippedBefore = index.unchangedSkipCount();
+        int applied = 0;
+        while (true) {
+            BookChangesResponse changes = bookService.findChanges(since, props.getSyncBatchSize());
+            if (changes.getNextSince() == since) {
+                break;
+            }
+            index.apply(changes.getChanged().stream().map(BookDocument::from).toList(),
+                    changes.getDeleted(), changes.getNextSince()).get();
+            applied += changes.getChanged().size() + changes.getDeleted().size();
+            since = changes.getNextSince();
+            if (!changes.isHasMore()) {
+                break;
+            }
+        }
+        if (applied > 0) {
+            log.debug("[fulltext] synced {} changes, {} unchanged skipped (since={})",
+                    applied, index.unchangedSkipCount() - skippedBefore, since);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
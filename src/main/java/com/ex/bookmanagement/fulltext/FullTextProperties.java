@@ -0,0 +1,53 @@
+package com.ex.bookmanagement.fulltext;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 전문 검색 색인 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.fulltext")
+public class FullTextProperties {
+    /** 전문 검색 활성화 여부 */
+    private boolean enabled = false;
+
+    /** 세그먼트/매니페스트 파일 디렉터리 */
+    private String directory = "fulltext";
+
+    /** 메모리 버퍼에 이 건수 이상 쌓이면 즉시 세그먼트로 내린다 */
+    private int maxBufferedDocs = 1000;
+
+    /** 버퍼를 세그먼트로 내리는 주기 (이 주기 사이의 변경은 재기동 시 변경 버전 기준으로 다시 받는다) */
+    private Duration flushInterval = Duration.ofSeconds(30);
+
+    /** 변경분 동기화 주기 (커밋 이벤트로 즉시 동기화하고, 누락분은 이 주기로 보정) */
+    private Duration syncInterval = Duration.ofSeconds(10);
+
+    /** 변경분 조회 단위 */
+    private int syncBatchSize = 500;
+
+    /** 세그먼트 수가 이 값을 넘으면 가장 작은 세그먼트들을 병합 */
+    private int mergeFactor = 8;
+
+    /** 삭제 비율이 이 값 이상인 세그먼트는 단독으로 다시 써서 삭제 문서를 제거 */
+    private double expungeDeletesRatio = 0.5;
+
+    /** BM25 k1 (단어 빈도 포화) */
+    private double k1 = 1.2;
+
+    /** BM25 b (문서 길이 정규화) */
+    private double b = 0.75;
+
+    /** 필드별 가중치 */
+    private double titleBoost = 2.0;
+    private double authorBoost = 1.5;
+    private double categoryBoost = 1.0;
+
+    /** 최대 조회 건수 */
+    private int maxLimit = 50;
+}
@@ -0,0 +1,23 @@
+package com.ex.bookmanagement.fulltext;
+
+/**
+ * 색인 필드
+ * - 용어 키는 필드 접두 문자 + 토큰이다. (예: "t자바", "a홍길동")
+ */
+enum IndexField {
+    TITLE('t'),
+    AUTHOR('a'),
+    CATEGORY('c');
+
+    static final IndexField[] ALL = values();
+
+    private final char prefix;
+
+    IndexField(char prefix) {
+        this.prefix = prefix;
+    }
+
+    String key(String token) {
+        return prefix + token;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ex.bookmanagement.fulltext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * 색인 매니페스트 (manifest)
+ * - 현재 유효한 세그먼트 목록, 세그먼트별 삭제 ord, 다음 세대 번호, 반영이 끝난 도서 변경 버전(since)을 기록한다.
+ * - 임시 파일에 쓰고 fsync 한 뒤 원자적으로 이름을 바꾸므로, 재기동 시에는 항상 완전한 직전 매니페스트를 읽는다.
+ * - 매니페스트에 없는 세그먼트 파일은 flush/병합 도중 중단된 결과이므로 열 때 삭제한다.
+ * <pre>
+ * fulltext-manifest 1
+ * since 1024
+ * next-generation 7
+ * segment 3 5,17,40
+ * segment 6
+ * </pre>
+ */
+final class IndexManifest {
+    static final String FILE = "manifest";
+    private static final String HEADER = "fulltext-manifest 1";
+
+    final long since;
+    final long nextGeneration;
+    final LinkedHashMap<Long, BitSet> segments;
+
+    IndexManifest(long since, long nextGeneration, LinkedHashMap<Long, BitSet> segments) {
+        this.since = since;
+        this.nextGeneration = nextGeneration;
+        this.segments = segments;
+    }
+
+    static IndexManifest empty() {
+        return new IndexManifest(0, 1, new LinkedHashMap<>());
+    }
+
+    /** 매니페스트 읽기, 파일이 없으면 null */
+    static IndexManifest read(Path directory) throws IOException {
+        Path file = directory.resolve(FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !HEADER.equals(lines.get(0))) {
+            throw new IOException("unknown manifest format: " + file);
+        }
+        long since = 0;
+        long nextGeneration = 1;
+        LinkedHashMap<Long, BitSet> segments = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] parts = line.trim().split(" ");
+            switch (parts[0]) {
+                case "since" -> since = Long.parseLong(parts[1]);
+                case "next-generation" -> nextGeneration = Long.parseLong(parts[1]);
+                case "segment" -> {
+                    BitSet deleted = new BitSet();
+                    if (parts.length > 2) {
+                        for (String ord : parts[2].split(",")) {
+                            deleted.set(Integer.parseInt(ord));
+                        }
+                    }
+                    segments.put(Long.parseLong(parts[1]), deleted);
+                }
+                case "" -> {
+                }
+                default -> throw new IOException("unknown manifest line: " + line);
+            }
+        }
+        return new IndexManifest(since, nextGeneration, segments);
+    }
+
+    void write(Path directory) throws IOException {
+        Path tmp = directory.resolve(FILE + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(HEADER);
+            out.newLine();
+            out.write("since " + since);
+            out.newLine();
+            out.write("next-generation " + nextGeneration);
+            out.newLine();
+            for (Map.Entry<Long, BitSet> e : segments.entrySet()) {
+                out.write("segment " + e.getKey());
+                if (!e.getValue().isEmpty()) {
+                    StringJoiner ords = new StringJoiner(",", " ", "");
+                    e.getValue().stream().forEach(ord -> ords.add(Integer.toString(ord)));
+                    out.write(ords.toString());
+                }
+                out.newLine();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tmp, directory.resolve(FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
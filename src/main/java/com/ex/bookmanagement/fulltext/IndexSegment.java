@@ -0,0 +1,214 @@
+package com.ex.bookmanagement.fulltext;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 불변 디스크 세그먼트 (segment-{세대}.seg), 읽기 전용으로 메모리 매핑한다.
+ * <pre>
+ * header(64)  : magic, version, docCount, termCount, 필드별 전체 길이(long x 3), termData 길이, postings 수, CRC32
+ * docs        : docCount x 32 (bookId, 지문, 필드별 길이 int x 3, 여백)
+ * term index  : termCount x 16 (키 offset, 키 길이, 첫 posting 번호, 문서 빈도) - 키 바이트 오름차순
+ * term data   : 용어 키 UTF-8 바이트
+ * postings    : (ord, tf) x 8, 용어별로 ord 오름차순
+ * </pre>
+ * 한 번 쓴 뒤에는 바뀌지 않으며, 삭제 표시는 매니페스트가 따로 관리한다.
+ */
+final class IndexSegment implements SegmentSource, AutoCloseable {
+    static final int MAGIC = 0x424D3235; // "BM25"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int DOC_BYTES = 32;
+    static final int TERM_BYTES = 16;
+    static final int POSTING_BYTES = 8;
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".seg";
+
+    private final Path path;
+    private final long generation;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int docCount;
+    private final int termCount;
+    private final long[] totalLengths = new long[IndexField.ALL.length];
+    private final int termIndexStart;
+    private final int termDataStart;
+    private final int postingsStart;
+
+    private IndexSegment(Path path, long generation, FileChannel channel, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.generation = generation;
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("not a full-text segment: " + path);
+        }
+        this.docCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        for (int f = 0; f < totalLengths.length; f++) {
+            totalLengths[f] = buffer.getLong(16 + f * 8);
+        }
+        long termDataLength = buffer.getLong(40);
+        int postingCount = buffer.getInt(48);
+        this.termIndexStart = HEADER_BYTES + docCount * DOC_BYTES;
+        this.termDataStart = termIndexStart + termCount * TERM_BYTES;
+        this.postingsStart = (int) (termDataStart + termDataLength);
+        if ((long) postingsStart + (long) postingCount * POSTING_BYTES != buffer.capacity()) {
+            throw new IOException("truncated full-text segment: " + path);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES));
+        if ((int) crc.getValue() != buffer.getInt(52)) {
+            throw new IOException("checksum mismatch: " + path);
+        }
+    }
+
+    /** 세그먼트 파일을 읽기 전용으로 매핑하고 헤더/체크섬을 검증 */
+    static IndexSegment open(Path directory, long generation) throws IOException {
+        Path path = directory.resolve(fileName(generation));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new IndexSegment(path, generation, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static String fileName(long generation) {
+        return String.format("%s%020d%s", PREFIX, generation, SUFFIX);
+    }
+
+    /** 파일 이름에서 세대 추출, 세그먼트 파일이 아니면 -1 */
+    static long parseGeneration(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    @Override
+    public int docCount() {
+        return docCount;
+    }
+
+    @Override
+    public long bookId(int ord) {
+        return buffer.getLong(HEADER_BYTES + ord * DOC_BYTES);
+    }
+
+    @Override
+    public long fingerprint(int ord) {
+        return buffer.getLong(HEADER_BYTES + ord * DOC_BYTES + 8);
+    }
+
+    @Override
+    public int fieldLength(int ord, int field) {
+        return buffer.getInt(HEADER_BYTES + ord * DOC_BYTES + 16 + field * 4);
+    }
+
+    @Override
+    public long totalLength(int field) {
+        return totalLengths[field];
+    }
+
+    @Override
+    public int docFreq(TermKey term) {
+        int slot = find(term.bytes());
+        return slot < 0 ? 0 : buffer.getInt(termIndexStart + slot * TERM_BYTES + 12);
+    }
+
+    @Override
+    public void postings(TermKey term, PostingConsumer consumer) {
+        int slot = find(term.bytes());
+        if (slot >= 0) {
+            postingsOf(slot, consumer);
+        }
+    }
+
+    @Override
+    public TermCursor terms() {
+        return new TermCursor() {
+            private int slot = -1;
+
+            @Override
+            public boolean next() {
+                return ++slot < termCount;
+            }
+
+            @Override
+            public byte[] key() {
+                int entry = termIndexStart + slot * TERM_BYTES;
+                byte[] key = new byte[buffer.getInt(entry + 4)];
+                buffer.get(termDataStart + buffer.getInt(entry), key);
+                return key;
+            }
+
+            @Override
+            public void postings(PostingConsumer consumer) {
+                postingsOf(slot, consumer);
+            }
+        };
+    }
+
+    private void postingsOf(int slot, PostingConsumer consumer) {
+        int entry = termIndexStart + slot * TERM_BYTES;
+        int first = buffer.getInt(entry + 8);
+        int df = buffer.getInt(entry + 12);
+        for (int i = 0; i < df; i++) {
+            int at = postingsStart + (first + i) * POSTING_BYTES;
+            consumer.accept(buffer.getInt(at), buffer.getInt(at + 4));
+        }
+    }
+
+    /** 용어 사전 이분 탐색, 없으면 -1 */
+    private int find(byte[] key) {
+        int lo = 0;
+        int hi = termCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = compareKey(mid, key);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareKey(int slot, byte[] key) {
+        int entry = termIndexStart + slot * TERM_BYTES;
+        int offset = termDataStart + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            int cmp = Integer.compare(buffer.get(offset + i) & 0xff, key[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
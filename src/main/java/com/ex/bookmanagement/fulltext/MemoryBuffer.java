@@ -0,0 +1,138 @@
+package com.ex.bookmanagement.fulltext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메모리 색인 버퍼 (near-real-time)
+ * - 새로 반영된 도서는 세그먼트로 내리기 전까지 여기서 바로 검색된다.
+ * - 쓰기는 색인 스레드 한 곳에서만 하고, 읽기와의 동기화는 FullTextIndex 의 잠금이 맡는다.
+ */
+final class MemoryBuffer implements SegmentSource {
+    private static final int FIELDS = IndexField.ALL.length;
+
+    private long[] bookIds = new long[64];
+    private long[] fingerprints = new long[64];
+    private int[] lengths = new int[64 * FIELDS];
+    private final long[] totalLengths = new long[FIELDS];
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private int size;
+
+    /** 문서 추가 후 ord 반환 */
+    int add(BookDocument.Analyzed doc) {
+        if (size == bookIds.length) {
+            int capacity = size * 2;
+            bookIds = Arrays.copyOf(bookIds, capacity);
+            fingerprints = Arrays.copyOf(fingerprints, capacity);
+            lengths = Arrays.copyOf(lengths, capacity * FIELDS);
+        }
+        int ord = size++;
+        bookIds[ord] = doc.bookId();
+        fingerprints[ord] = doc.fingerprint();
+        for (int f = 0; f < FIELDS; f++) {
+            lengths[ord * FIELDS + f] = doc.lengths()[f];
+            totalLengths[f] += doc.lengths()[f];
+        }
+        doc.termFreqs().forEach((key, tf) -> postings.computeIfAbsent(key, k -> new PostingList()).add(ord, tf));
+        return ord;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int docCount() {
+        return size;
+    }
+
+    @Override
+    public long bookId(int ord) {
+        return bookIds[ord];
+    }
+
+    @Override
+    public long fingerprint(int ord) {
+        return fingerprints[ord];
+    }
+
+    @Override
+    public int fieldLength(int ord, int field) {
+        return lengths[ord * FIELDS + field];
+    }
+
+    @Override
+    public long totalLength(int field) {
+        return totalLengths[field];
+    }
+
+    @Override
+    public int docFreq(TermKey term) {
+        PostingList list = postings.get(term.key());
+        return list == null ? 0 : list.size;
+    }
+
+    @Override
+    public void postings(TermKey term, PostingConsumer consumer) {
+        PostingList list = postings.get(term.key());
+        if (list != null) {
+            list.forEach(consumer);
+        }
+    }
+
+    @Override
+    public TermCursor terms() {
+        byte[][] keys = new byte[postings.size()][];
+        PostingList[] lists = new PostingList[keys.length];
+        Integer[] order = new Integer[keys.length];
+        int i = 0;
+        for (Map.Entry<String, PostingList> e : postings.entrySet()) {
+            keys[i] = e.getKey().getBytes(StandardCharsets.UTF_8);
+            lists[i] = e.getValue();
+            order[i] = i;
+            i++;
+        }
+        Arrays.sort(order, (x, y) -> Arrays.compareUnsigned(keys[x], keys[y]));
+        return new TermCursor() {
+            private int pos = -1;
+
+            @Override
+            public boolean next() {
+                return ++pos < order.length;
+            }
+
+            @Override
+            public byte[] key() {
+                return keys[order[pos]];
+            }
+
+            @Override
+            public void postings(PostingConsumer consumer) {
+                lists[order[pos]].forEach(consumer);
+            }
+        };
+    }
+
+    /** (ord, tf) 쌍을 int 배열 하나에 번갈아 저장 */
+    private static final class PostingList {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int ord, int tf) {
+            if (size * 2 == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size * 2] = ord;
+            data[size * 2 + 1] = tf;
+            size++;
+        }
+
+        void forEach(PostingConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(data[i * 2], data[i * 2 + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ex.bookmanagement.fulltext;
+
+/**
+ * 검색/병합이 공통으로 읽는 세그먼트 (디스크 세그먼트, 메모리 버퍼)
+ * - 문서는 세그먼트 안의 순번(ord)으로 식별한다.
+ */
+interface SegmentSource {
+
+    int docCount();
+
+    long bookId(int ord);
+
+    long fingerprint(int ord);
+
+    int fieldLength(int ord, int field);
+
+    /** 필드별 전체 토큰 수 (평균 길이 계산용, 삭제 문서 포함) */
+    long totalLength(int field);
+
+    /** 용어의 문서 빈도 (없으면 0) */
+    int docFreq(TermKey term);
+
+    /** 용어의 postings 를 ord 오름차순으로 전달 */
+    void postings(TermKey term, PostingConsumer consumer);
+
+    /** 용어를 키 바이트(UTF-8) 오름차순으로 순회 */
+    TermCursor terms();
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int ord, int termFreq);
+    }
+
+    interface TermCursor {
+        /** 다음 용어로 이동, 없으면 false */
+        boolean next();
+
+        byte[] key();
+
+        void postings(PostingConsumer consumer);
+    }
+}
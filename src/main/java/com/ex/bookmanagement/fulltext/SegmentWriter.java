@@ -0,0 +1,160 @@
+package com.ex.bookmanagement.fulltext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * 세그먼트 파일 작성기
+ * - 여러 원본(메모리 버퍼 또는 디스크 세그먼트)의 살아 있는 문서를 순서대로 이어 붙여 새 세그먼트 하나를 만든다.
+ *   버퍼 flush 는 원본 1개, 병합은 원본 여러 개인 같은 작업이다.
+ * - 용어는 원본별 정렬된 사전을 k-way 병합하므로 전체 용어를 다시 정렬하지 않는다.
+ * - 임시 파일에 쓰고 fsync 한 뒤 이름을 바꿔, 완성된 파일만 세그먼트 이름으로 보이게 한다.
+ */
+final class SegmentWriter {
+
+    private SegmentWriter() {
+    }
+
+    /**
+     * @param deleted 원본별 삭제 표시 (null 이면 삭제 없음)
+     * @return 원본별 옛 ord -> 새 ord (삭제된 문서는 -1)
+     */
+    static Written write(Path directory, long generation, List<? extends SegmentSource> sources, List<BitSet> deleted)
+            throws IOException {
+        int fields = IndexField.ALL.length;
+        int[][] ordMaps = new int[sources.size()][];
+        long[] totalLengths = new long[fields];
+
+        ByteArrayOutputStream docBytes = new ByteArrayOutputStream();
+        DataOutputStream docs = new DataOutputStream(docBytes);
+        int docCount = 0;
+        for (int s = 0; s < sources.size(); s++) {
+            SegmentSource source = sources.get(s);
+            BitSet dead = deleted.get(s);
+            int[] map = new int[source.docCount()];
+            for (int ord = 0; ord < map.length; ord++) {
+                if (dead != null && dead.get(ord)) {
+                    map[ord] = -1;
+                    continue;
+                }
+                map[ord] = docCount++;
+                docs.writeLong(source.bookId(ord));
+                docs.writeLong(source.fingerprint(ord));
+                for (int f = 0; f < fields; f++) {
+                    int length = source.fieldLength(ord, f);
+                    docs.writeInt(length);
+                    totalLengths[f] += length;
+                }
+                docs.writeInt(0);
+            }
+            ordMaps[s] = map;
+        }
+
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream termIndex = new DataOutputStream(indexBytes);
+        ByteArrayOutputStream termData = new ByteArrayOutputStream();
+        ByteArrayOutputStream postingBytes = new ByteArrayOutputStream();
+        DataOutputStream postings = new DataOutputStream(postingBytes);
+        int[] counts = new int[2]; // [용어 수, posting 수]
+
+        // 키 오름차순, 같은 키면 원본 순서 (새 ord 가 원본 순서대로 부여되므로 postings 도 정렬 유지)
+        PriorityQueue<Head> heads = new PriorityQueue<>((x, y) -> {
+            int cmp = Arrays.compareUnsigned(x.key(), y.key());
+            return cmp != 0 ? cmp : Integer.compare(x.source(), y.source());
+        });
+        for (int s = 0; s < sources.size(); s++) {
+            SegmentSource.TermCursor cursor = sources.get(s).terms();
+            if (cursor.next()) {
+                heads.add(new Head(s, cursor, cursor.key()));
+            }
+        }
+        while (!heads.isEmpty()) {
+            byte[] key = heads.peek().key();
+            int firstPosting = counts[1];
+            while (!heads.isEmpty() && Arrays.equals(heads.peek().key(), key)) {
+                Head head = heads.poll();
+                int[] map = ordMaps[head.source()];
+                head.cursor().postings((ord, tf) -> {
+                    if (map[ord] >= 0) {
+                        writePosting(postings, map[ord], tf);
+                        counts[1]++;
+                    }
+                });
+                if (head.cursor().next()) {
+                    heads.add(new Head(head.source(), head.cursor(), head.cursor().key()));
+                }
+            }
+            int df = counts[1] - firstPosting;
+            if (df > 0) {
+                termIndex.writeInt(termData.size());
+                termIndex.writeInt(key.length);
+                termIndex.writeInt(firstPosting);
+                termIndex.writeInt(df);
+                termData.write(key);
+                counts[0]++;
+            }
+        }
+
+        long body = (long) docBytes.size() + indexBytes.size() + termData.size() + postingBytes.size();
+        if (IndexSegment.HEADER_BYTES + body > Integer.MAX_VALUE) {
+            throw new IOException("full-text segment too large: " + body + " bytes");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(docBytes.toByteArray());
+        crc.update(indexBytes.toByteArray());
+        crc.update(termData.toByteArray());
+        crc.update(postingBytes.toByteArray());
+
+        ByteBuffer header = ByteBuffer.allocate(IndexSegment.HEADER_BYTES);
+        header.putInt(IndexSegment.MAGIC).putInt(IndexSegment.VERSION).putInt(docCount).putInt(counts[0]);
+        for (long total : totalLengths) {
+            header.putLong(total);
+        }
+        header.putLong(termData.size()).putInt(counts[1]).putInt((int) crc.getValue());
+        header.clear();
+
+        Path target = directory.resolve(IndexSegment.fileName(generation));
+        Path tmp = directory.resolve(IndexSegment.fileName(generation) + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            writeFully(channel, ByteBuffer.wrap(docBytes.toByteArray()));
+            writeFully(channel, ByteBuffer.wrap(indexBytes.toByteArray()));
+            writeFully(channel, ByteBuffer.wrap(termData.toByteArray()));
+            writeFully(channel, ByteBuffer.wrap(postingBytes.toByteArray()));
+            channel.force(true);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new Written(generation, docCount, ordMaps);
+    }
+
+    private static void writePosting(DataOutputStream out, int ord, int tf) {
+        try {
+            out.writeInt(ord);
+            out.writeInt(tf);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // ByteArrayOutputStream 은 IOException 을 던지지 않는다
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+
+    private record Head(int source, SegmentSource.TermCursor cursor, byte[] key) {
+    }
+
+    record Written(long generation, int docCount, int[][] ordMaps) {
+    }
+}
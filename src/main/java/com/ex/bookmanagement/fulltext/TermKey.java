@@ -0,0 +1,14 @@
+package com.ex.bookmanagement.fulltext;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 용어 키 (메모리 버퍼는 문자열로, 디스크 세그먼트는 UTF-8 바이트로 찾는다)
+ */
+record TermKey(String key, byte[] bytes) {
+
+    static TermKey of(IndexField field, String token) {
+        String key = field.key(token);
+        return new TermKey(key, key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package com.ex.bookmanagement.fulltext;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 색인/질의 공용 분석기
+ * - NFKC 정규화 + 소문자화 후 글자/숫자 연속 구간을 토큰으로 자른다.
+ * - 한글/한자 구간은 띄어쓰기 없이 붙여 쓰는 경우가 많아 글자 bigram 으로 나눈다. (한 글자 구간은 그대로)
+ * - 그 밖의 구간(영문/숫자)은 구간 전체를 하나의 토큰으로 쓴다.
+ */
+final class TextAnalyzer {
+    private static final int SEPARATOR = 0;
+    private static final int WORD = 1;
+    private static final int CJK = 2;
+
+    private TextAnalyzer() {
+    }
+
+    static List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] cps = normalized.codePoints().toArray();
+        int start = 0;
+        while (start < cps.length) {
+            int kind = kind(cps[start]);
+            int end = start + 1;
+            while (end < cps.length && kind(cps[end]) == kind) {
+                end++;
+            }
+            if (kind == WORD) {
+                tokens.add(new String(cps, start, end - start));
+            } else if (kind == CJK) {
+                if (end - start == 1) {
+                    tokens.add(new String(cps, start, 1));
+                }
+                for (int i = start; i + 1 < end; i++) {
+                    tokens.add(new String(cps, i, 2));
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static int kind(int cp) {
+        if (!Character.isLetterOrDigit(cp)) {
+            return SEPARATOR;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN ? CJK : WORD;
+    }
+}
@@ -0,0 +1,170 @@
+package com.ex.bookmanagement.journal;
+
+import com.ex.bookmanagement.domain.RentalStatus;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 저널을 재생해 얻는 대여 현황 (도서별 재고 + 진행 중 대여)
+ * - 단일 스레드(저널 writer 또는 조회 스레드의 지역 복사본)에서만 변경한다.
+ * - 스냅샷 파일 형식: MAGIC | seq | timestamp | 도서 수 | (bookId, stock)* | 대여 수 | (rentalId, bookId, 대여자)* | CRC32C
+ */
+final class InventoryState {
+    private static final int MAGIC = 0x424B4A31; // "BKJ1"
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+
+    /** 진행 중 대여 */
+    record ActiveRental(long bookId, String renterName) {
+    }
+
+    private final Map<Long, Integer> stockByBook;
+    private final Map<Long, ActiveRental> activeRentals;
+    private long seq;
+    private long timestamp;
+
+    InventoryState() {
+        this(new HashMap<>(), new HashMap<>(), 0, 0);
+    }
+
+    private InventoryState(Map<Long, Integer> stockByBook, Map<Long, ActiveRental> activeRentals, long seq, long timestamp) {
+        this.stockByBook = stockByBook;
+        this.activeRentals = activeRentals;
+        this.seq = seq;
+        this.timestamp = timestamp;
+    }
+
+    void apply(JournalRecord record) {
+        stockByBook.put(record.bookId(), record.stockAfter());
+        if (record.status() == RentalStatus.RENTED) {
+            activeRentals.put(record.rentalId(), new ActiveRental(record.bookId(), record.renterName()));
+        } else if (!record.isStockOnly()) { // 재고만 바뀐 기록은 진행 중 대여와 무관
+            activeRentals.remove(record.rentalId());
+        }
+        seq = record.seq();
+        // 커밋 순서와 이벤트 발생 시각이 어긋날 수 있어 최대값을 유지 (이 시각 이전 상태임을 보장)
+        timestamp = Math.max(timestamp, record.timestamp());
+    }
+
+    InventoryState copy() {
+        return new InventoryState(new HashMap<>(stockByBook), new HashMap<>(activeRentals), seq, timestamp);
+    }
+
+    /** 저널에 한 번도 나타나지 않은 도서면 null */
+    Integer stock(long bookId) {
+        return stockByBook.get(bookId);
+    }
+
+    int activeRentals(long bookId) {
+        int count = 0;
+        for (ActiveRental rental : activeRentals.values()) {
+            if (rental.bookId() == bookId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int trackedBooks() {
+        return stockByBook.size();
+    }
+
+    int activeRentalCount() {
+        return activeRentals.size();
+    }
+
+    long seq() {
+        return seq;
+    }
+
+    long timestamp() {
+        return timestamp;
+    }
+
+    // ===== 스냅샷 파일 =====
+
+    static String fileName(long seq) {
+        return String.format("%s%020d%s", PREFIX, seq, SUFFIX);
+    }
+
+    static boolean isSnapshotFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    /** 임시 파일에 쓰고 fsync 후 원자적으로 이름 변경 */
+    Path writeSnapshot(Path directory) throws IOException {
+        Path target = directory.resolve(fileName(seq));
+        Path temp = directory.resolve(fileName(seq) + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc)))) {
+            out.writeInt(MAGIC);
+            out.writeLong(seq);
+            out.writeLong(timestamp);
+            out.writeInt(stockByBook.size());
+            for (Map.Entry<Long, Integer> e : stockByBook.entrySet()) {
+                out.writeLong(e.getKey());
+                out.writeInt(e.getValue());
+            }
+            out.writeInt(activeRentals.size());
+            for (Map.Entry<Long, ActiveRental> e : activeRentals.entrySet()) {
+                out.writeLong(e.getKey());
+                out.writeLong(e.getValue().bookId());
+                out.writeUTF(e.getValue().renterName());
+            }
+            out.flush();
+            // CRC 는 체크섬 스트림을 거치지 않고 파일 끝에 직접 기록
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            file.getFD().sync();
+        }
+        return Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /** 스냅샷 파일 읽기. 손상되었으면 IOException */
+    static InventoryState readSnapshot(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length < 4) {
+            throw new IOException("snapshot too short: " + file);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length - 4);
+        int stored = ((bytes[bytes.length - 4] & 0xFF) << 24) | ((bytes[bytes.length - 3] & 0xFF) << 16)
+                | ((bytes[bytes.length - 2] & 0xFF) << 8) | (bytes[bytes.length - 1] & 0xFF);
+        if (stored != (int) crc.getValue()) {
+            throw new IOException("snapshot checksum mismatch: " + file);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a journal snapshot: " + file);
+            }
+            long seq = in.readLong();
+            long timestamp = in.readLong();
+            int books = in.readInt();
+            Map<Long, Integer> stock = new HashMap<>(books * 2);
+            for (int i = 0; i < books; i++) {
+                stock.put(in.readLong(), in.readInt());
+            }
+            int rentals = in.readInt();
+            Map<Long, ActiveRental> active = new HashMap<>(rentals * 2);
+            for (int i = 0; i < rentals; i++) {
+                active.put(in.readLong(), new ActiveRental(in.readLong(), in.readUTF()));
+            }
+            return new InventoryState(stock, active, seq, timestamp);
+        }
+    }
+
+    /** 스냅샷 파일 이름의 seq */
+    static long parseSeq(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
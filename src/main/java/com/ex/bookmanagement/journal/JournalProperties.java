@@ -0,0 +1,37 @@
+package com.ex.bookmanagement.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 대여 저널 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.journal")
+public class JournalProperties {
+    /** 저널 활성화 여부 */
+    private boolean enabled = false;
+
+    /** 세그먼트/스냅샷 파일 디렉터리 */
+    private String directory = "journal";
+
+    /** 세그먼트 파일 크기 (가득 차면 다음 세그먼트로 넘어감) */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** 그룹 커밋 대기 시간: 첫 기록 이후 이 시간 동안 모인 기록을 한 번의 fsync 로 내린다 */
+    private Duration groupCommitWindow = Duration.ofMillis(2);
+
+    /** 그룹 커밋 최대 건수 */
+    private int maxBatch = 512;
+
+    /** 스냅샷 주기 */
+    private Duration snapshotInterval = Duration.ofMinutes(1);
+
+    /** 보관할 스냅샷 수 (가장 오래된 스냅샷 이전 세그먼트는 삭제) */
+    private int snapshotsToKeep = 3;
+}
@@ -0,0 +1,100 @@
+package com.ex.bookmanagement.journal;
+
+import com.ex.bookmanagement.domain.RentalStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널 기록 1건
+ * 디스크 형식: [int 본문 길이][int CRC32C][본문]
+ * 본문: seq(long) | timestamp(long, epoch ms) | status(byte) | rentalId(long) | bookId(long) | stockAfter(int) | 대여자(short 길이 + UTF-8)
+ * - 길이 0 은 세그먼트의 기록 끝을 뜻한다. (세그먼트는 0 으로 채워진 상태로 생성된다)
+ * - status 가 null(디스크 -1)이면 대여 없이 재고만 바뀐 기록이다. (재입고, 예약 배정/해제, 신규 등록)
+ */
+public record JournalRecord(long seq, long timestamp, RentalStatus status, long rentalId, long bookId,
+                            int stockAfter, String renterName) {
+    static final int HEADER_BYTES = 8;
+    private static final RentalStatus[] STATUSES = RentalStatus.values();
+    private static final byte STOCK_ONLY = -1;
+
+    /** 재고만 바뀐 도서 기록 (seq 는 writer 가 부여) */
+    static JournalRecord stockOnly(long timestamp, long bookId, int stockAfter) {
+        return new JournalRecord(0, timestamp, null, 0, bookId, stockAfter, "");
+    }
+
+    boolean isStockOnly() {
+        return status == null;
+    }
+
+    int encodedSize() {
+        return HEADER_BYTES + 8 + 8 + 1 + 8 + 8 + 4 + 2 + renterName.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * position 위치에 기록. 본문과 CRC 를 먼저 쓰고 길이를 마지막에 써서,
+     * 길이가 보이는 기록은 항상 완전한 기록이 되도록 한다.
+     */
+    void writeTo(ByteBuffer buffer, int position) {
+        byte[] name = renterName.getBytes(StandardCharsets.UTF_8);
+        int bodyStart = position + HEADER_BYTES;
+        int p = bodyStart;
+        buffer.putLong(p, seq);
+        p += 8;
+        buffer.putLong(p, timestamp);
+        p += 8;
+        buffer.put(p, status == null ? STOCK_ONLY : (byte) status.ordinal());
+        p += 1;
+        buffer.putLong(p, rentalId);
+        p += 8;
+        buffer.putLong(p, bookId);
+        p += 8;
+        buffer.putInt(p, stockAfter);
+        p += 4;
+        buffer.putShort(p, (short) name.length);
+        p += 2;
+        buffer.put(p, name);
+        p += name.length;
+
+        int bodyLength = p - bodyStart;
+        buffer.putInt(position + 4, crc(buffer, bodyStart, bodyLength));
+        buffer.putInt(position, bodyLength);
+    }
+
+    /**
+     * position 위치의 기록을 읽음. 기록 끝이거나 손상(잘린 쓰기, CRC 불일치)이면 null
+     */
+    static JournalRecord readFrom(ByteBuffer buffer, int position) {
+        if (position + HEADER_BYTES > buffer.limit()) {
+            return null;
+        }
+        int bodyLength = buffer.getInt(position);
+        if (bodyLength <= 0 || position + HEADER_BYTES + bodyLength > buffer.limit()) {
+            return null;
+        }
+        int bodyStart = position + HEADER_BYTES;
+        if (buffer.getInt(position + 4) != crc(buffer, bodyStart, bodyLength)) {
+            return null;
+        }
+        int p = bodyStart;
+        long seq = buffer.getLong(p);
+        long timestamp = buffer.getLong(p + 8);
+        byte statusByte = buffer.get(p + 16);
+        RentalStatus status = statusByte == STOCK_ONLY ? null : STATUSES[statusByte];
+        long rentalId = buffer.getLong(p + 17);
+        long bookId = buffer.getLong(p + 25);
+        int stockAfter = buffer.getInt(p + 33);
+        short nameLength = buffer.getShort(p + 37);
+        byte[] name = new byte[nameLength];
+        buffer.get(p + 39, name);
+        return new JournalRecord(seq, timestamp, status, rentalId, bookId, stockAfter,
+                new String(name, StandardCharsets.UTF_8));
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,129 @@
+package com.ex.bookmanagement.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 매핑된 저널 세그먼트 파일 (segment-{첫 seq}.log)
+ * - 파일 전체를 고정 크기로 매핑하고, 기록은 끝(writePosition)에만 추가한다.
+ * - force 는 마지막 force 이후 추가된 구간만 디스크로 내린다.
+ */
+final class JournalSegment implements AutoCloseable {
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final Path path;
+    private final long firstSeq;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private int forcedPosition;
+    private long lastSeq;
+
+    private JournalSegment(Path path, long firstSeq, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSeq = firstSeq;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.lastSeq = firstSeq - 1;
+    }
+
+    /** 세그먼트 생성 또는 열기 (기존 파일이면 크기를 유지) */
+    static JournalSegment open(Path directory, long firstSeq, int size) throws IOException {
+        Path path = directory.resolve(fileName(firstSeq));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long mapSize = Math.max(channel.size(), size);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize);
+        return new JournalSegment(path, firstSeq, channel, buffer);
+    }
+
+    static String fileName(long firstSeq) {
+        return String.format("%s%020d%s", PREFIX, firstSeq, SUFFIX);
+    }
+
+    /** 파일 이름에서 첫 seq 추출, 세그먼트 파일이 아니면 -1 */
+    static long parseFirstSeq(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * 처음부터 유효한 기록을 읽으며 consumer 에 전달하고, 마지막 유효 기록 다음 위치를 쓰기 위치로 삼는다.
+     * 잘린 꼬리 기록(비정상 종료)은 이후 쓰기로 덮어쓴다.
+     */
+    void recover(Consumer<JournalRecord> consumer) {
+        int position = 0;
+        JournalRecord record;
+        while ((record = JournalRecord.readFrom(buffer, position)) != null) {
+            consumer.accept(record);
+            lastSeq = record.seq();
+            position += record.encodedSize();
+        }
+        // 손상된 꼬리 기록이 남아 있으면 길이 필드를 지워 이후 읽기에서 끝으로 인식되게 한다
+        if (position + JournalRecord.HEADER_BYTES <= buffer.capacity()) {
+            buffer.putInt(position, 0);
+        }
+        writePosition = position;
+        forcedPosition = position;
+    }
+
+    boolean hasRoom(int bytes) {
+        // 기록 끝 표시(길이 0)를 위한 헤더 공간을 남겨 둔다
+        return writePosition + bytes + JournalRecord.HEADER_BYTES <= buffer.capacity();
+    }
+
+    void append(JournalRecord record) {
+        record.writeTo(buffer, writePosition);
+        writePosition += record.encodedSize();
+        lastSeq = record.seq();
+    }
+
+    /** 마지막 force 이후 추가된 구간을 디스크에 동기화 */
+    void force() {
+        if (writePosition > forcedPosition) {
+            buffer.force(forcedPosition, writePosition - forcedPosition);
+            forcedPosition = writePosition;
+        }
+    }
+
+    /** 읽기 전용 순회 (다른 스레드에서 호출 가능, upToSeq 이하만) */
+    void forEach(long upToSeq, Consumer<JournalRecord> consumer) {
+        var view = buffer.duplicate();
+        int position = 0;
+        JournalRecord record;
+        while ((record = JournalRecord.readFrom(view, position)) != null && record.seq() <= upToSeq) {
+            consumer.accept(record);
+            position += record.encodedSize();
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long firstSeq() {
+        return firstSeq;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    int size() {
+        return writePosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
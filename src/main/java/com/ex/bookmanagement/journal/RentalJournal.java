@@ -0,0 +1,376 @@
+package com.ex.bookmanagement.journal;
+
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.dto.JournalInventoryResponse;
+import com.ex.bookmanagement.dto.JournalStatusResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 대여 저널 (append-only, 메모리 매핑 세그먼트)
+ * - 커밋된 대여/반납/대여 중단 이벤트와 도서 재고 변경(신규 등록, 재입고, 예약 배정/해제/만료)을 순번(seq)과 함께
+ *   세그먼트 파일 끝에 추가한다.
+ * - 기록은 전용 writer 스레드 한 곳에서만 하며, group-commit-window 동안 모인 기록을 한 번의 fsync 로 내린다.
+ * - snapshot-interval 마다 도서별 재고/진행 중 대여 현황을 스냅샷 파일로 남기고, 보관 범위 밖 세그먼트는 삭제한다.
+ * - 기동 시 최신 스냅샷 + 이후 세그먼트를 재생해 현황을 복원하고, 잘린 꼬리 기록은 버린다.
+ * - 특정 시점의 도서 재고/대여 수는 그 시점 이전 스냅샷부터 재생해 계산한다.
+ * - 커밋 이후 메모리 큐를 거쳐 기록하므로, DB 커밋과 fsync 사이에 프로세스가 죽으면 그 사이의 변경은 저널에 남지 않는다.
+ */
+@Slf4j
+public class RentalJournal implements AutoCloseable {
+    private final JournalProperties props;
+    private final Path directory;
+    private final int segmentSize;
+    private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // writer 스레드 전용
+    private final InventoryState state;
+    private JournalSegment active;
+    private long nextSeq;
+
+    // 조회 스레드와 공유
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+    private volatile long durableSeq;
+    private volatile long lastSnapshotSeq;
+    private volatile int trackedBooks;
+    private volatile int activeRentals;
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong groupCommits = new AtomicLong();
+
+    private sealed interface Command permits Append, Snapshot {
+    }
+
+    private record Append(JournalRecord draft, CompletableFuture<Long> done) implements Command {
+    }
+
+    private record Snapshot(CompletableFuture<Path> done) implements Command {
+    }
+
+    /** 기록되었지만 아직 fsync 되지 않은 요청 */
+    private record Written(CompletableFuture<Long> done, long seq) {
+    }
+
+    private RentalJournal(JournalProperties props, InventoryState state) {
+        this.props = props;
+        this.directory = Path.of(props.getDirectory());
+        this.segmentSize = (int) Math.min(Integer.MAX_VALUE - 8, props.getSegmentSize().toBytes());
+        this.state = state;
+        this.writer = new Thread(this::runWriter, "rental-journal-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /** 디렉터리를 열고 스냅샷 + 세그먼트를 재생한 뒤 writer 스레드를 시작 */
+    public static RentalJournal open(JournalProperties props) throws IOException {
+        long started = System.currentTimeMillis();
+        Path directory = Path.of(props.getDirectory());
+        Files.createDirectories(directory);
+
+        InventoryState state = loadLatestSnapshot(directory);
+        RentalJournal journal = new RentalJournal(props, state);
+        journal.lastSnapshotSeq = state.seq();
+
+        long replayed = 0;
+        for (Path file : list(directory, f -> JournalSegment.parseFirstSeq(f) >= 0)) {
+            JournalSegment segment = JournalSegment.open(directory, JournalSegment.parseFirstSeq(file), journal.segmentSize);
+            long before = state.seq();
+            segment.recover(record -> {
+                if (record.seq() > state.seq()) {
+                    state.apply(record);
+                }
+            });
+            replayed += state.seq() - before;
+            journal.segments.add(segment);
+        }
+
+        journal.nextSeq = state.seq() + 1;
+        if (journal.segments.isEmpty()) {
+            journal.segments.add(JournalSegment.open(directory, journal.nextSeq, journal.segmentSize));
+        }
+        journal.active = journal.segments.get(journal.segments.size() - 1);
+        journal.durableSeq = state.seq();
+        journal.publishCounters();
+        journal.writer.start();
+
+        log.info("[journal] opened {} (snapshot seq={}, replayed {} records, books={}, active rentals={}) in {}ms",
+                directory, journal.lastSnapshotSeq, replayed, state.trackedBooks(), state.activeRentalCount(),
+                System.currentTimeMillis() - started);
+        return journal;
+    }
+
+    private static InventoryState loadLatestSnapshot(Path directory) throws IOException {
+        List<Path> snapshots = list(directory, InventoryState::isSnapshotFile);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try {
+                return InventoryState.readSnapshot(snapshots.get(i));
+            } catch (IOException e) {
+                log.warn("[journal] 손상된 스냅샷을 건너뜁니다: {}", snapshots.get(i), e);
+            }
+        }
+        return new InventoryState();
+    }
+
+    // ===== 기록 =====
+
+    /** 커밋된 대여 이벤트를 저널에 추가 */
+    @TransactionalEventListener
+    public void onRentalChanged(RentalChangedEvent event) {
+        append(event);
+    }
+
+    /** 커밋된 도서 재고 변경을 저널에 추가 (대여/반납으로 인한 변경도 같은 재고 값으로 한 번 더 기록된다) */
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangeType.STOCK_CHANGED || event.getType() == BookChangeType.CREATED) {
+            append(event);
+        }
+    }
+
+    /** 기록 요청. 반환값은 fsync 이후 부여된 seq 로 완료된다 */
+    public CompletableFuture<Long> append(RentalChangedEvent event) {
+        return append(new JournalRecord(0,
+                event.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                event.getStatus(), event.getRentalId(), event.getBookId(), event.getStockAfter(), event.getRenterName()));
+    }
+
+    /** 재고 변경 기록 요청. 이벤트에 발생 시각이 없으므로 커밋 이후 받은 시각으로 기록한다 */
+    public CompletableFuture<Long> append(BookChangedEvent event) {
+        return append(JournalRecord.stockOnly(System.currentTimeMillis(), event.getBookId(), event.getStock()));
+    }
+
+    private CompletableFuture<Long> append(JournalRecord draft) {
+        CompletableFuture<Long> done = new CompletableFuture<>();
+        if (!running) {
+            done.completeExceptionally(new IllegalStateException("journal closed"));
+            return done;
+        }
+        queue.add(new Append(draft, done));
+        return done;
+    }
+
+    @Scheduled(fixedDelayString = "${bookmanagement.journal.snapshot-interval:PT1M}",
+            initialDelayString = "${bookmanagement.journal.snapshot-interval:PT1M}")
+    public void scheduledSnapshot() {
+        snapshot();
+    }
+
+    /** 현재까지의 현황을 스냅샷으로 기록 (writer 스레드에서 기록 순서대로 처리) */
+    public CompletableFuture<Path> snapshot() {
+        CompletableFuture<Path> done = new CompletableFuture<>();
+        queue.add(new Snapshot(done));
+        return done;
+    }
+
+    private void runWriter() {
+        long windowNanos = props.getGroupCommitWindow().toNanos();
+        List<Command> batch = new ArrayList<>(props.getMaxBatch());
+        while (running || !queue.isEmpty()) {
+            try {
+                Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < props.getMaxBatch()) {
+                    long remaining = deadline - System.nanoTime();
+                    Command next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Command> batch) {
+        List<Written> pending = new ArrayList<>(batch.size());
+        for (Command command : batch) {
+            try {
+                if (command instanceof Append append) {
+                    pending.add(new Written(append.done(), write(append.draft())));
+                } else if (command instanceof Snapshot snapshot) {
+                    commit(pending);
+                    snapshot.done().complete(writeSnapshot());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("[journal] 기록 실패", e);
+                if (command instanceof Snapshot snapshot) {
+                    snapshot.done().completeExceptionally(e);
+                } else {
+                    ((Append) command).done().completeExceptionally(e);
+                }
+            }
+        }
+        commit(pending);
+    }
+
+    private long write(JournalRecord draft) throws IOException {
+        JournalRecord record = new JournalRecord(nextSeq, draft.timestamp(), draft.status(), draft.rentalId(),
+                draft.bookId(), draft.stockAfter(), draft.renterName());
+        if (!active.hasRoom(record.encodedSize())) {
+            roll();
+        }
+        active.append(record);
+        state.apply(record);
+        nextSeq++;
+        return record.seq();
+    }
+
+    /** 현재 세그먼트를 동기화하고 다음 세그먼트로 전환 */
+    private void roll() throws IOException {
+        active.force();
+        active = JournalSegment.open(directory, nextSeq, segmentSize);
+        segments.add(active);
+    }
+
+    /** 한 번의 fsync 로 모인 기록을 내리고 대기 중인 요청을 완료 */
+    private void commit(List<Written> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        active.force();
+        durableSeq = nextSeq - 1;
+        appended.addAndGet(pending.size());
+        groupCommits.incrementAndGet();
+        publishCounters();
+        for (Written written : pending) {
+            written.done().complete(written.seq());
+        }
+        pending.clear();
+    }
+
+    private Path writeSnapshot() throws IOException {
+        Path file = state.writeSnapshot(directory);
+        lastSnapshotSeq = state.seq();
+        deleteExpired();
+        return file;
+    }
+
+    /** 최근 snapshots-to-keep 개의 스냅샷만 남기고, 가장 오래된 스냅샷 이전 기록만 담긴 세그먼트를 삭제 */
+    private void deleteExpired() throws IOException {
+        List<Path> snapshots = list(directory, InventoryState::isSnapshotFile);
+        int excess = snapshots.size() - Math.max(1, props.getSnapshotsToKeep());
+        for (int i = 0; i < excess; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+        long oldestKept = InventoryState.parseSeq(snapshots.get(Math.max(0, excess)));
+
+        while (segments.size() > 1 && segments.get(1).firstSeq() <= oldestKept + 1) {
+            JournalSegment expired = segments.remove(0);
+            expired.close();
+            Files.deleteIfExists(expired.path());
+        }
+    }
+
+    private void publishCounters() {
+        trackedBooks = state.trackedBooks();
+        activeRentals = state.activeRentalCount();
+    }
+
+    // ===== 조회 =====
+
+    /** 특정 시점의 도서 재고/진행 중 대여 수 (저널에 기록된 대여/재고 변경 기준) */
+    public JournalInventoryResponse inventoryAt(long bookId, LocalDateTime at) {
+        long atMillis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long upTo = durableSeq;
+        List<JournalSegment> view = List.copyOf(segments);
+
+        InventoryState base = null;
+        List<Path> snapshots = list(directory, InventoryState::isSnapshotFile);
+        for (int i = snapshots.size() - 1; i >= 0 && base == null; i--) {
+            try {
+                InventoryState candidate = InventoryState.readSnapshot(snapshots.get(i));
+                if (candidate.timestamp() <= atMillis) {
+                    base = candidate;
+                }
+            } catch (IOException e) {
+                // 삭제 중이거나 손상된 스냅샷은 건너뜀
+            }
+        }
+        if (base == null) {
+            if (view.isEmpty() || view.get(0).firstSeq() != 1) {
+                throw new BusinessException(ErrorCode.JOURNAL_HISTORY_UNAVAILABLE, Map.of("at", at));
+            }
+            base = new InventoryState();
+        }
+
+        InventoryState replay = base;
+        long fromSeq = base.seq();
+        for (JournalSegment segment : view) {
+            if (segment.lastSeq() <= fromSeq && segment != view.get(view.size() - 1)) {
+                continue;
+            }
+            segment.forEach(upTo, record -> {
+                if (record.seq() > fromSeq && record.timestamp() <= atMillis) {
+                    replay.apply(record);
+                }
+            });
+        }
+
+        Integer stock = replay.stock(bookId);
+        return JournalInventoryResponse.builder()
+                .bookId(bookId)
+                .at(at)
+                .journaled(stock != null)
+                .stock(stock == null ? 0 : stock)
+                .activeRentals(replay.activeRentals(bookId))
+                .snapshotSeq(fromSeq)
+                .build();
+    }
+
+    public JournalStatusResponse status() {
+        return JournalStatusResponse.builder()
+                .directory(directory.toAbsolutePath().toString())
+                .durableSeq(durableSeq)
+                .lastSnapshotSeq(lastSnapshotSeq)
+                .segments(segments.size())
+                .pending(queue.size())
+                .appended(appended.get())
+                .groupCommits(groupCommits.get())
+                .trackedBooks(trackedBooks)
+                .activeRentals(activeRentals)
+                .build();
+    }
+
+    private static List<Path> list(Path directory, java.util.function.Predicate<Path> filter) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(filter).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        for (JournalSegment segment : segments) {
+            segment.close();
+        }
+    }
+}
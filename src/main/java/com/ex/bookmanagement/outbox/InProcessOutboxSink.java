@@ -0,0 +1,27 @@
+package com.ex.bookmanagement.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 내부 싱크: 메시지를 OutboxMessage 이벤트로 발행한다.
+ * 구독자는 @EventListener(OutboxMessage) 로 받는다. (리스너 예외 시 배치 재전달)
+ */
+public class InProcessOutboxSink implements OutboxSink {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String name() {
+        return "in-process";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        batch.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ex.bookmanagement.outbox;
+
+import com.ex.bookmanagement.domain.OutboxEvent;
+import com.ex.bookmanagement.domain.OutboxEventType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 전달되는 발행 메시지
+ * - 최소 1회 전달이므로 수신 측은 id 로 중복을 걸러야 한다.
+ */
+@Getter
+@Builder
+@ToString
+public class OutboxMessage {
+    private Long id;
+    private OutboxEventType eventType;
+    private Long bookId;
+    private String payload;  // JSON
+    private LocalDateTime createdAt;
+
+    public static OutboxMessage fromEntity(OutboxEvent event) {
+        return OutboxMessage.builder()
+                .id(event.getId())
+                .eventType(event.getEventType())
+                .bookId(event.getBookId())
+                .payload(event.getPayload())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
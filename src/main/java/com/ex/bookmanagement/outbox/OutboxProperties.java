@@ -0,0 +1,39 @@
+package com.ex.bookmanagement.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.outbox")
+public class OutboxProperties {
+    /** 아웃박스 기록 + 릴레이 활성화 여부 */
+    private boolean enabled = false;
+
+    /** 릴레이 폴링 주기 */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /** 한 번에 발행할 최대 건수 */
+    private int batchSize = 200;
+
+    /** 발행 완료 이벤트 보관 기간 */
+    private Duration retention = Duration.ofDays(7);
+
+    /** 파일 싱크 */
+    private final FileSink fileSink = new FileSink();
+
+    @Getter
+    @Setter
+    public static class FileSink {
+        private boolean enabled = true;
+
+        /** 발행 파일 경로 (JSON Lines, append-only) */
+        private String path = "outbox/events.jsonl";
+    }
+}
@@ -0,0 +1,111 @@
+package com.ex.bookmanagement.outbox;
+
+import com.ex.bookmanagement.domain.OutboxEvent;
+import com.ex.bookmanagement.dto.OutboxStatusResponse;
+import com.ex.bookmanagement.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * - poll-interval 마다 미발행 이벤트를 id 순으로 batch-size 만큼 읽어 모든 싱크에 전달한 뒤 발행 완료로 기록한다.
+ *   아직 커밋되지 않은 이벤트보다 큰 id 는 그 이벤트가 끝날 때까지 발행하지 않는다. (OutboxWriter.publishableUpTo)
+ * - 싱크 하나라도 실패하면 배치 전체를 다음 폴링에서 다시 전달한다. (최소 1회 전달, 순서 유지)
+ * - 생성 → 발행까지의 지연(lag)과 미발행 건수를 기록한다.
+ */
+@Slf4j
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final List<OutboxSink> sinks;
+    private final OutboxProperties props;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastLagMillis;
+    private volatile long maxLagMillis;
+    private volatile String lastError;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxWriter outboxWriter,
+                       TransactionTemplate transactionTemplate, List<OutboxSink> sinks, OutboxProperties props) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.sinks = sinks;
+        this.props = props;
+    }
+
+    @Scheduled(fixedDelayString = "${bookmanagement.outbox.poll-interval:PT0.5S}")
+    public void poll() {
+        // 밀린 이벤트가 있으면 한 번의 폴링에서 연속으로 비운다
+        int relayed;
+        do {
+            relayed = relayOnce();
+        } while (relayed == props.getBatchSize());
+    }
+
+    /** 한 배치 발행. 반환값: 발행 완료 건수 (실패 시 0) */
+    public int relayOnce() {
+        long upTo = outboxWriter.publishableUpTo();
+        List<OutboxEvent> batch = outboxEventRepository.findUnpublished(upTo, PageRequest.of(0, props.getBatchSize()));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<OutboxMessage> messages = batch.stream().map(OutboxMessage::fromEntity).toList();
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.publish(messages);
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                lastError = sink.name() + ": " + e.getMessage();
+                log.warn("[outbox] {} 싱크 발행 실패, 다음 폴링에서 재시도 (from id={})", sink.name(), batch.get(0).getId(), e);
+                return 0;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(ids, now));
+
+        long lag = Duration.between(batch.get(0).getCreatedAt(), now).toMillis();
+        lastLagMillis = lag;
+        maxLagMillis = Math.max(maxLagMillis, lag);
+        published.addAndGet(batch.size());
+        return batch.size();
+    }
+
+    /** 보관 기간이 지난 발행 완료 이벤트 삭제 */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(props.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("[outbox] 보관 기간이 지난 이벤트 {}건 삭제", deleted);
+        }
+    }
+
+    public OutboxStatusResponse status() {
+        LocalDateTime oldestPending = outboxEventRepository.findFirstByPublishedAtIsNullOrderByIdAsc()
+                .map(OutboxEvent::getCreatedAt)
+                .orElse(null);
+        return OutboxStatusResponse.builder()
+                .enabled(true)
+                .pending(outboxEventRepository.countByPublishedAtIsNull())
+                .oldestPendingAgeMillis(oldestPending == null ? 0 : Duration.between(oldestPending, LocalDateTime.now()).toMillis())
+                .published(published.get())
+                .failures(failures.get())
+                .lastLagMillis(lastLagMillis)
+                .maxLagMillis(maxLagMillis)
+                .sinks(sinks.stream().map(OutboxSink::name).toList())
+                .lastError(lastError)
+                .build();
+    }
+}
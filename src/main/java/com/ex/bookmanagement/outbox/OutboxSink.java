@@ -0,0 +1,14 @@
+package com.ex.bookmanagement.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 발행 대상
+ * - publish 가 예외 없이 끝나야 해당 배치가 발행 완료로 기록된다.
+ * - 실패하면 같은 배치를 다음 폴링에서 처음부터 다시 전달한다.
+ */
+public interface OutboxSink {
+    String name();
+
+    void publish(List<OutboxMessage> batch) throws Exception;
+}
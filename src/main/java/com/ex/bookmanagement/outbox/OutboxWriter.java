@@ -0,0 +1,139 @@
+package com.ex.bookmanagement.outbox;
+
+import com.ex.bookmanagement.domain.OutboxEvent;
+import com.ex.bookmanagement.domain.OutboxEventType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.HoldChangedEvent;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 도메인 이벤트를 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 아웃박스 테이블에 저장
+ * - 도메인 변경이 롤백되면 아웃박스 기록도 함께 롤백된다.
+ * - id 는 저장 시점에 단조 증가 순서로 부여되지만 커밋 순서와 어긋날 수 있다. 부여한 id 를 트랜잭션이 끝날 때까지
+ *   진행 중으로 두고, 릴레이는 진행 중인 가장 작은 id 직전(publishableUpTo)까지만 발행해 늦게 커밋된 이벤트를 앞지르지 않는다.
+ *   (진행 중 id 는 이 인스턴스 메모리에만 있으므로 아웃박스를 기록하는 인스턴스는 하나여야 한다)
+ * - 저장(시퀀스 조회 포함)은 잠금 밖에서 한다. 저장 전에 "지금까지 부여된 id + 1"을 하한으로 먼저 등록해 두고,
+ *   저장 후 실제 id 로 바꾼다. id 는 부여 순서대로 커지므로 실제 id 는 항상 하한 이상이다.
+ *   잠금은 메모리 갱신만 감싸는 ReentrantLock 이므로 가상 스레드를 캐리어에 고정(pinning)하지 않는다.
+ */
+@RequiredArgsConstructor
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 진행 중 id (또는 저장 전 하한) → 개수 */
+    private final TreeMap<Long, Integer> inFlight = new TreeMap<>();
+    private long lastAssigned = -1;
+
+    /** 기동 시 한 번 기존 최대 id 로 시작 (그 전에는 발행하지 않는다) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long maxId = outboxEventRepository.findMaxId();
+        lock.lock();
+        try {
+            lastAssigned = Math.max(lastAssigned, maxId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookChanged(BookChangedEvent event) {
+        OutboxEventType type = OutboxEventType.of(event.getType());
+        if (type != null) {
+            save(type, event.getBookId(), event);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRentalChanged(RentalChangedEvent event) {
+        save(OutboxEventType.of(event.getStatus()), event.getBookId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onHoldChanged(HoldChangedEvent event) {
+        save(OutboxEventType.of(event.getStatus()), event.getBookId(), event);
+    }
+
+    /** 발행해도 되는 최대 id (이하의 id 는 모두 커밋되었거나 롤백됨) */
+    public long publishableUpTo() {
+        lock.lock();
+        try {
+            return inFlight.isEmpty() ? lastAssigned : inFlight.firstKey() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void save(OutboxEventType type, Long bookId, Object payload) {
+        OutboxEvent event;
+        try {
+            event = new OutboxEvent(type, bookId, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload serialization failed: " + type, e);
+        }
+        // 저장 전에 하한을 등록해 두어야 publishableUpTo 가 부여 직후(등록 전)의 id 를 건너뛰지 않는다
+        long floor;
+        lock.lock();
+        try {
+            floor = Math.max(lastAssigned, 0) + 1;
+            add(floor);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            outboxEventRepository.save(event);
+        } catch (RuntimeException | Error e) {
+            lock.lock();
+            try {
+                remove(floor);
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        // 하한을 실제 id 로 바꾸는 것도 한 번에 해야 그 사이에 id 를 건너뛰지 않는다
+        long id = event.getId();
+        lock.lock();
+        try {
+            remove(floor);
+            add(id);
+            lastAssigned = Math.max(lastAssigned, id);
+        } finally {
+            lock.unlock();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.lock();
+                try {
+                    remove(id);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    private void add(long id) {
+        inFlight.merge(id, 1, Integer::sum);
+    }
+
+    private void remove(long id) {
+        inFlight.computeIfPresent(id, (k, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.BookHold;
+import com.ex.bookmanagement.domain.HoldStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookHoldRepository extends JpaRepository<BookHold, Long> {
+    /** 도서별 대기열의 가장 앞 예약 (배정 경합 방지를 위해 잠금) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BookHold> findFirstByBookIdAndHoldStatusOrderByIdAsc(Long bookId, HoldStatus holdStatus);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BookHold> findFirstByBookIdAndRenterNameAndHoldStatus(Long bookId, String renterName, HoldStatus holdStatus);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from BookHold h where h.id = :id")
+    Optional<BookHold> findByIdForUpdate(@Param("id") Long id);
+
+    boolean existsByBookIdAndRenterNameAndHoldStatusIn(Long bookId, String renterName, Collection<HoldStatus> statuses);
+
+    boolean existsByBookIdAndHoldStatusIn(Long bookId, Collection<HoldStatus> statuses);
+
+    /** 대기 순번 (앞에 있는 WAITING 예약 수) */
+    long countByBookIdAndHoldStatusAndIdLessThan(Long bookId, HoldStatus holdStatus, Long id);
+
+    @Query("select distinct h.bookId from BookHold h where h.holdStatus in :statuses")
+    List<Long> findBookIdsByHoldStatusIn(@Param("statuses") Collection<HoldStatus> statuses);
+
+    /** 잠그지 않고 도서 id 만 조회 (도서 행을 먼저 잠그기 위해) */
+    @Query("select h.bookId from BookHold h where h.id = :id")
+    Optional<Long> findBookIdById(@Param("id") Long id);
+
+    /** 수령 기한이 지난 배정 예약의 (예약 id, 도서 id), id 순 - 잠그지 않으므로 잠근 뒤 상태를 다시 확인해야 한다 */
+    @Query("""
+      select h.id, h.bookId
+      from BookHold h
+      where h.holdStatus = com.ex.bookmanagement.domain.HoldStatus.READY
+        and h.expiresAt < :now
+      order by h.id
+    """)
+    List<Object[]> findExpiredTargets(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookField;
+import com.ex.bookmanagement.dto.BookResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 필드를 골라 도서 조회 (fields=)
+ */
+public interface BookProjectionRepository {
+    /**
+     * 선택한 필드의 컬럼만 조회한다. 엔티티를 만들지 않으므로 연관은 로딩되지 않으며,
+     * 카테고리는 요청했을 때만 조회한 도서 id 로 한 번 더 조회한다.
+     * @param spec null 이면 조건 없음
+     */
+    List<BookResponse> findProjected(Specification<Book> spec, Pageable pageable, Set<BookField> fields);
+}
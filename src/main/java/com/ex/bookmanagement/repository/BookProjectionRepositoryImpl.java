@@ -0,0 +1,92 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookField;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.dto.BookResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.*;
+
+@RequiredArgsConstructor
+class BookProjectionRepositoryImpl implements BookProjectionRepository {
+    private static final String CATEGORIES_JPQL = """
+            select bc.book.id, c.name
+            from BookCategory bc
+              join bc.category c
+            where bc.book.id in :ids
+            order by bc.id
+            """;
+
+    private final EntityManager em;
+
+    @Override
+    public List<BookResponse> findProjected(Specification<Book> spec, Pageable pageable, Set<BookField> fields) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Book> root = query.from(Book.class);
+
+        List<Selection<?>> columns = new ArrayList<>();
+        for (BookField field : fields) {
+            if (field.attribute() != null) {
+                columns.add(root.get(field.attribute()).alias(field.name()));
+            }
+        }
+        query.multiselect(columns);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typed = em.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        List<Tuple> rows = typed.getResultList();
+
+        Map<Long, List<String>> categories = fields.contains(BookField.CATEGORIES) && !rows.isEmpty()
+                ? categoriesOf(rows.stream().map(row -> row.get(BookField.ID.name(), Long.class)).toList())
+                : null;
+        List<BookResponse> books = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long id = row.get(BookField.ID.name(), Long.class);
+            books.add(BookResponse.builder()
+                    .id(id)
+                    .title(value(row, fields, BookField.TITLE, String.class))
+                    .author(value(row, fields, BookField.AUTHOR, String.class))
+                    .bookStatus(value(row, fields, BookField.BOOK_STATUS, BookStatus.class))
+                    .stock(value(row, fields, BookField.STOCK, Integer.class))
+                    .categories(categories == null ? null : categories.getOrDefault(id, List.of()))
+                    .build());
+        }
+        return books;
+    }
+
+    private Map<Long, List<String>> categoriesOf(List<Long> bookIds) {
+        Map<Long, List<String>> categories = new HashMap<>();
+        em.createQuery(CATEGORIES_JPQL, Object[].class)
+                .setParameter("ids", bookIds)
+                .getResultList()
+                .forEach(row -> categories.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]));
+        return categories;
+    }
+
+    private static <T> T value(Tuple row, Set<BookField> fields, BookField field, Class<T> type) {
+        return fields.contains(field) ? row.get(field.name(), type) : null;
+    }
+}
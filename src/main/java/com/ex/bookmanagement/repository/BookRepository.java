@@ -1,15 +1,22 @@
 package com.ex.bookmanagement.repository;
 
 import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>, BookProjectionRepository {
     /**  저자 또는 제목으로 도서 검색 */
     @Query("""
         select b
@@ -22,12 +29,21 @@ public interface BookRepository extends JpaRepository<Book, Long> {
                            @Param("title") String title,
                            Pageable pageable);
 
-    /** 카테고리 별 도서 검색 */
-    @Query("""
+    /** 카테고리 별 도서 검색 (하위 카테고리 포함: 클로저 테이블의 ancestor 인덱스로 한 번에 조인) */
+    @Query(value = """
     select distinct b
     from Book b
       join b.bookCategories bc
-      join bc.category c
+      join CategoryClosure cc on cc.descendant = bc.category
+      join cc.ancestor c
+    where (:categoryId is null or c.id = :categoryId)
+      and (:categoryName is null or lower(c.name) like lower(concat('%', :categoryName, '%')))
+    """, countQuery = """
+    select count(distinct b)
+    from Book b
+      join b.bookCategories bc
+      join CategoryClosure cc on cc.descendant = bc.category
+      join cc.ancestor c
     where (:categoryId is null or c.id = :categoryId)
       and (:categoryName is null or lower(c.name) like lower(concat('%', :categoryName, '%')))
     """)
@@ -45,4 +61,64 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     Optional<Book> findByIdWithCategories(@Param("id") Long id);
 
     Optional<Book> findByTitleAndAuthor(String title, String author);
+
+    /** 재고 변경과 예약 배정을 직렬화하기 위한 행 잠금 조회 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Book b where b.id = :id")
+    Optional<Book> findByIdForUpdate(@Param("id") Long id);
+
+    /** 일괄 상태 변경 대상 행 잠금 조회 (id, 상태, 재고) - id 순으로 잠가 교착을 피한다 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id, b.bookStatus, b.stock from Book b where b.id in :ids order by b.id")
+    List<Object[]> findStatusByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    /** 상태 일괄 변경, 변경 버전은 base + (id - minId) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Book b set b.bookStatus = :status, b.changeVersion = :base + b.id - :minId where b.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") BookStatus status,
+                           @Param("base") long base, @Param("minId") long minId);
+
+    /** 변경 버전 구간 [from, to] 의 도서 (id, 변경 버전), 버전 순 */
+    @Query("""
+      select b.id, b.changeVersion
+      from Book b
+      where b.changeVersion between :from and :to
+      order by b.changeVersion
+    """)
+    List<Object[]> findIdAndVersionByChangeVersionBetween(@Param("from") long from, @Param("to") long to,
+                                                          Pageable pageable);
+
+    @Query("""
+      select distinct b
+      from Book b
+      left join fetch b.bookCategories bc
+      left join fetch bc.category c
+      where b.id in :ids
+    """)
+    List<Book> findAllWithCategoriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select bc.category.id from BookCategory bc where bc.book.id = :bookId")
+    List<Long> findCategoryIdsByBookId(@Param("bookId") Long bookId);
+
+    @Query("select coalesce(max(b.changeVersion), 0) from Book b")
+    long findMaxChangeVersion();
+
+    /** 버전이 없는(0) 도서에 base + id 로 고유 버전 부여 */
+    @Modifying
+    @Query("update Book b set b.changeVersion = :base + b.id where b.changeVersion = 0")
+    int assignInitialChangeVersions(@Param("base") long base);
+
+    /** 상태별 도서 수 (status, count) - 검색 계획 통계 */
+    @Query("select b.bookStatus, count(b) from Book b group by b.bookStatus")
+    List<Object[]> countByStatus();
+
+    long countByStockGreaterThan(int stock);
+
+    /** 상태 조건 후보 id (idx_book_status), pageable 크기까지만 */
+    @Query("select b.id from Book b where b.bookStatus in :statuses")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<BookStatus> statuses, Pageable pageable);
+
+    /** 재고 있는 도서 후보 id (idx_book_stock), pageable 크기까지만 */
+    @Query("select b.id from Book b where b.stock > 0")
+    List<Long> findIdsInStock(Pageable pageable);
 }
@@ -0,0 +1,82 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookCategory;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.CategoryClosure;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 도서 통합 검색 조건 (Specification)
+ * - 조건별로 하나씩 만들고 검색 계획에 따라 and 로 묶는다.
+ * - 카테고리는 하위 트리를 포함하며, 조인 대신 exists 서브쿼리로 걸어 중복 행/distinct 가 생기지 않게 한다.
+ */
+public final class BookSpecifications {
+    private BookSpecifications() {
+    }
+
+    public static Specification<Book> titleContains(String title) {
+        String pattern = "%" + title.toLowerCase(Locale.ROOT) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("title")), pattern);
+    }
+
+    public static Specification<Book> authorContains(String author) {
+        String pattern = "%" + author.toLowerCase(Locale.ROOT) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("author")), pattern);
+    }
+
+    public static Specification<Book> statusIn(Collection<BookStatus> statuses) {
+        return (root, query, cb) -> root.get("bookStatus").in(statuses);
+    }
+
+    public static Specification<Book> inStock() {
+        return (root, query, cb) -> cb.greaterThan(root.get("stock"), 0);
+    }
+
+    public static Specification<Book> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /** 카테고리 id 중 하나의 하위 트리에 속함 */
+    public static Specification<Book> inCategorySubtrees(Collection<Long> categoryIds) {
+        return (root, query, cb) -> {
+            Subquery<Long> sub = query.subquery(Long.class);
+            Root<BookCategory> bc = sub.from(BookCategory.class);
+            Root<CategoryClosure> cc = sub.from(CategoryClosure.class);
+            sub.select(bc.get("id")).where(
+                    cb.equal(bc.get("book"), root),
+                    cb.equal(cc.get("descendant"), bc.get("category")),
+                    cc.get("ancestor").get("id").in(categoryIds));
+            return cb.exists(sub);
+        };
+    }
+
+    /** 카테고리(id 일치, 이름 부분 일치)의 하위 트리에 속함. null 조건은 걸지 않는다 */
+    public static Specification<Book> inCategory(Long categoryId, String categoryName) {
+        return (root, query, cb) -> {
+            Subquery<Long> sub = query.subquery(Long.class);
+            Root<BookCategory> bc = sub.from(BookCategory.class);
+            Root<CategoryClosure> cc = sub.from(CategoryClosure.class);
+            List<Predicate> where = new ArrayList<>();
+            where.add(cb.equal(bc.get("book"), root));
+            where.add(cb.equal(cc.get("descendant"), bc.get("category")));
+            if (categoryId != null) {
+                where.add(cb.equal(cc.get("ancestor").get("id"), categoryId));
+            }
+            if (categoryName != null) {
+                where.add(cb.like(cb.lower(cc.get("ancestor").get("name")),
+                        "%" + categoryName.toLowerCase(Locale.ROOT) + "%"));
+            }
+            sub.select(bc.get("id")).where(where.toArray(Predicate[]::new));
+            return cb.exists(sub);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.BookTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BookTombstoneRepository extends JpaRepository<BookTombstone, Long> {
+    List<BookTombstone> findByChangeVersionBetweenOrderByChangeVersionAsc(long from, long to, Pageable pageable);
+
+    @Query("select coalesce(max(t.changeVersion), 0) from BookTombstone t")
+    long findMaxChangeVersion();
+}
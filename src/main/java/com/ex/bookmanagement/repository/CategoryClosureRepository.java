@@ -0,0 +1,57 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.CategoryClosure;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, Long> {
+
+    /** 하위 트리 (자기 자신 포함) 행, 자손 카테고리와 그 조상 행까지 함께 로딩 */
+    @Query("""
+            select distinct cc
+            from CategoryClosure cc
+              join fetch cc.descendant d
+              left join fetch d.ancestors
+            where cc.ancestor.id = :categoryId
+            """)
+    List<CategoryClosure> findSubtree(@Param("categoryId") Long categoryId);
+
+    /** 하위 트리 (자기 자신 포함) 카테고리 id */
+    @Query("select cc.descendant.id from CategoryClosure cc where cc.ancestor.id = :categoryId")
+    List<Long> findSubtreeIds(@Param("categoryId") Long categoryId);
+
+    boolean existsByAncestorIdAndDepth(Long ancestorId, int depth);
+
+    /** 하위 트리에 연결된 도서 id */
+    @Query("""
+            select distinct bc.book.id
+            from CategoryClosure cc
+              join BookCategory bc on bc.category = cc.descendant
+            where cc.ancestor.id = :categoryId
+            """)
+    List<Long> findBookIdsInSubtree(@Param("categoryId") Long categoryId);
+
+    /** 주어진 도서들만 놓고 본 조상 카테고리별 도서 수 (ancestorId, count) */
+    @Query("""
+            select cc.ancestor.id, count(distinct bc.book.id)
+            from BookCategory bc
+              join CategoryClosure cc on cc.descendant = bc.category
+            where bc.book.id in :bookIds
+            group by cc.ancestor.id
+            """)
+    List<Object[]> countBooksByAncestor(@Param("bookIds") Collection<Long> bookIds);
+
+    /** 여러 카테고리 하위 트리에 연결된 도서 id (검색 후보), pageable 크기까지만 */
+    @Query("""
+            select distinct bc.book.id
+            from CategoryClosure cc
+              join BookCategory bc on bc.category = cc.descendant
+            where cc.ancestor.id in :categoryIds
+            """)
+    List<Long> findBookIdsInSubtrees(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
+}
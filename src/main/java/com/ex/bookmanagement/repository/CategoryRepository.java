@@ -2,7 +2,35 @@ package com.ex.bookmanagement.repository;
 
 import com.ex.bookmanagement.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByNameIgnoreCase(String name);
+
+    /** 하위 트리 도서 수 증감 */
+    @Modifying
+    @Query("update Category c set c.bookCount = c.bookCount + :delta where c.id = :id")
+    int addBookCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /** 하위 트리 도서 수 전체 재계산 */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Category c set c.bookCount = (
+                select count(distinct bc.book.id)
+                from BookCategory bc
+                  join CategoryClosure cc on cc.descendant = bc.category
+                where cc.ancestor = c)
+            """)
+    int recountBooks();
+
+    /** 클로저 테이블에 자기 자신 행이 없는 카테고리 */
+    @Query("""
+            select c from Category c
+            where not exists (select 1 from CategoryClosure cc where cc.descendant = c and cc.ancestor = c)
+            """)
+    List<Category> findWithoutClosure();
 }
@@ -0,0 +1,22 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.RentalArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface RentalArchiveRepository extends JpaRepository<RentalArchive, Long> {
+    /** rental 행을 id 그대로 보관 테이블에 복사 (insert ... select, 엔티티 로딩 없음) */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        insert into rental_archive (id, book_id, renter_name, rental_status, rented_date, due_date, returned_date, archived_at)
+        select r.id, r.book_id, r.renter_name, r.rental_status, r.rented_date, r.due_date, r.returned_date, :archivedAt
+        from rental r
+        where r.id in (:ids)
+        """, nativeQuery = true)
+    int copyFromRental(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
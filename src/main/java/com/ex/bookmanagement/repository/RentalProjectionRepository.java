@@ -0,0 +1,18 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.RentalField;
+import com.ex.bookmanagement.dto.RentResponse;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 필드를 골라 대여 내역 조회 (fields=)
+ */
+public interface RentalProjectionRepository {
+    /**
+     * 진행 중/보관된 대여를 최근 대여순으로, 선택한 필드의 컬럼만 조회한다.
+     * 도서 id 는 대여 행의 외래 키로 읽으므로 도서를 조인하지 않는다.
+     */
+    List<RentResponse> findAllProjected(Set<RentalField> fields);
+}
@@ -0,0 +1,66 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.RentalField;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.dto.RentResponse;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+class RentalProjectionRepositoryImpl implements RentalProjectionRepository {
+    private final EntityManager em;
+
+    @Override
+    public List<RentResponse> findAllProjected(Set<RentalField> fields) {
+        List<Object[]> active = rows("Rental", fields);
+        List<Object[]> archived = rows("RentalArchive", fields);
+
+        // 두 목록 모두 대여 시각 내림차순 → 병합 (같은 시각이면 진행 중 대여 먼저)
+        int sortKey = fields.size();
+        List<RentResponse> rentals = new ArrayList<>(active.size() + archived.size());
+        int i = 0;
+        int j = 0;
+        while (i < active.size() || j < archived.size()) {
+            boolean takeActive = j == archived.size()
+                    || (i < active.size() && !((LocalDateTime) active.get(i)[sortKey])
+                    .isBefore((LocalDateTime) archived.get(j)[sortKey]));
+            rentals.add(toResponse(takeActive ? active.get(i++) : archived.get(j++), fields));
+        }
+        return rentals;
+    }
+
+    private List<Object[]> rows(String entity, Set<RentalField> fields) {
+        String columns = fields.stream()
+                .map(field -> "r." + attribute(entity, field))
+                .collect(Collectors.joining(", "));
+        String jpql = "select " + columns + ", r.rentedDate from " + entity + " r order by r.rentedDate desc";
+        return em.createQuery(jpql, Object[].class).getResultList();
+    }
+
+    /** Rental 은 도서 연관의 id(외래 키), RentalArchive 는 bookId 컬럼 */
+    private static String attribute(String entity, RentalField field) {
+        return field == RentalField.BOOK_ID && entity.equals("Rental") ? "book.id" : field.attribute();
+    }
+
+    private static RentResponse toResponse(Object[] row, Set<RentalField> fields) {
+        Object[] values = new Object[RentalField.values().length];
+        int column = 0;
+        for (RentalField field : fields) {
+            values[field.ordinal()] = row[column++];
+        }
+        return new RentResponse(
+                (Long) values[RentalField.RENTAL_ID.ordinal()],
+                (Long) values[RentalField.BOOK_ID.ordinal()],
+                (String) values[RentalField.RENTER_NAME.ordinal()],
+                (RentalStatus) values[RentalField.STATUS.ordinal()],
+                (LocalDateTime) values[RentalField.RENTED_AT.ordinal()],
+                (LocalDateTime) values[RentalField.RETURNED_AT.ordinal()]
+        );
+    }
+}
@@ -1,12 +1,81 @@
 package com.ex.bookmanagement.repository;
 
 import com.ex.bookmanagement.domain.Rental;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface RentalRepository  extends JpaRepository<Rental, Long> {
+public interface RentalRepository  extends JpaRepository<Rental, Long>, RentalProjectionRepository {
      @Query("select r from Rental r join fetch r.book")
      List<Rental> findAllWithBook();
+
+     /** 보관 대상: cutoff 이전에 시작되어 종료된(반납/대여 중단) 대여 id */
+     @Query("""
+       select r.id
+       from Rental r
+       where r.rentalStatus <> com.ex.bookmanagement.domain.RentalStatus.RENTED
+         and r.rentedDate < :cutoff
+       order by r.rentedDate, r.id
+     """)
+     List<Long> findClosedIdsRentedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+     @Query("""
+       select r.id
+       from Rental r
+       where r.book.id = :bookId
+         and r.rentalStatus <> com.ex.bookmanagement.domain.RentalStatus.RENTED
+     """)
+     List<Long> findClosedIdsByBookId(@Param("bookId") Long bookId);
+
+     /** 인기 도서 재구축용: since 이후 대여의 (도서 id, 대여 시각) */
+     @Query("select r.book.id, r.rentedDate from Rental r where r.rentedDate >= :since")
+     List<Object[]> findBookRentedDatesSince(@Param("since") LocalDateTime since);
+
+     /** 인기 도서 재구축용: since 이후 대여의 (카테고리 id, 도서 id, 대여 시각) */
+     @Query("""
+       select bc.category.id, r.book.id, r.rentedDate
+       from Rental r
+         join BookCategory bc on bc.book = r.book
+       where r.rentedDate >= :since
+     """)
+     List<Object[]> findCategoryRentedDatesSince(@Param("since") LocalDateTime since);
+
+     /** 인기 도서 보정용: 후보 도서들의 since 이후 정확한 대여 수 */
+     @Query("""
+       select r.book.id, count(r)
+       from Rental r
+       where r.rentedDate >= :since
+         and r.book.id in :bookIds
+       group by r.book.id
+     """)
+     List<Object[]> countRentalsSinceByBookIds(@Param("since") LocalDateTime since, @Param("bookIds") Collection<Long> bookIds);
+
+     /** 도서들의 진행 중 대여 (id, 도서 id, 대여자, 대여 시각) */
+     @Query("""
+       select r.id, r.book.id, r.renterName, r.rentedDate
+       from Rental r
+       where r.book.id in :bookIds
+         and r.rentalStatus = com.ex.bookmanagement.domain.RentalStatus.RENTED
+     """)
+     List<Object[]> findActiveByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+     /** 도서들의 진행 중 대여를 한 문장으로 대여 불가 처리 */
+     @Modifying(flushAutomatically = true, clearAutomatically = true)
+     @Query("""
+       update Rental r
+       set r.rentalStatus = com.ex.bookmanagement.domain.RentalStatus.UNAVAILABLE
+       where r.book.id in :bookIds
+         and r.rentalStatus = com.ex.bookmanagement.domain.RentalStatus.RENTED
+     """)
+     int markUnavailableByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+     @Modifying(flushAutomatically = true, clearAutomatically = true)
+     @Query("delete from Rental r where r.id in :ids")
+     int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,39 @@
+package com.ex.bookmanagement.repository;
+
+import com.ex.bookmanagement.domain.RentalStatRollup;
+import com.ex.bookmanagement.domain.StatDimension;
+import com.ex.bookmanagement.domain.StatGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RentalStatRollupRepository extends JpaRepository<RentalStatRollup, Long> {
+    Optional<RentalStatRollup> findByGranularityAndDimensionAndDimensionIdAndBucketStart(
+            StatGranularity granularity, StatDimension dimension, long dimensionId, LocalDateTime bucketStart);
+
+    /** 버킷 구간 [from, to) 조회 */
+    @Query("""
+      select r
+      from RentalStatRollup r
+      where r.granularity = :granularity
+        and r.dimension = :dimension
+        and r.dimensionId = :dimensionId
+        and r.bucketStart >= :from
+        and r.bucketStart < :to
+      order by r.bucketStart
+    """)
+    List<RentalStatRollup> findRange(@Param("granularity") StatGranularity granularity,
+                                     @Param("dimension") StatDimension dimension,
+                                     @Param("dimensionId") long dimensionId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("delete from RentalStatRollup r where r.granularity = :granularity and r.bucketStart < :before")
+    int deleteOlderThan(@Param("granularity") StatGranularity granularity, @Param("before") LocalDateTime before);
+}
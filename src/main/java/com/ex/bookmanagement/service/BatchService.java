@@ -0,0 +1,188 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.config.BatchProperties;
+import com.ex.bookmanagement.config.Bulkhead;
+import com.ex.bookmanagement.config.NoBulkhead;
+import com.ex.bookmanagement.config.WorkloadClass;
+import com.ex.bookmanagement.dto.BatchResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.exception.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 일괄 요청 실행
+ * - 트랜잭션 모드: 모든 작업을 한 트랜잭션에서 순서대로 실행하고, 하나라도 실패하면 모두 되돌린다.
+ *   (각 서비스의 @Transactional 은 이 트랜잭션에 참여하고, 커밋 후 이벤트는 일괄 요청 전체가 커밋된 뒤 발행된다)
+ * - 독립 모드: 작업마다 따로 커밋한다. 연속된 조회(GET)는 가상 스레드에서 동시에 실행하고,
+ *   변경 작업은 앞선 작업이 모두 끝난 뒤 실행해 요청 순서대로 반영되게 한다.
+ * - Bulkhead: 트랜잭션 모드는 한 커넥션으로 여러 종류의 작업을 하므로 ADMIN 부류에서 실행하고,
+ *   독립 모드는 부류를 정하지 않아 각 작업이 호출하는 서비스의 부류(대여 쓰기, 카탈로그 조회 등)를 따른다.
+ */
+@Slf4j
+@Service
+public class BatchService {
+    private final BatchProperties props;
+    private final TransactionTemplate transactionTemplate;
+
+    public BatchService(BatchProperties props, PlatformTransactionManager transactionManager) {
+        this.props = props;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 개별 작업: call 은 해당 API 핸들러를 호출한다 */
+    public record Step(String id, String method, String path, Supplier<ResponseEntity<?>> call) {
+        boolean read() {
+            return "GET".equalsIgnoreCase(method);
+        }
+    }
+
+    /** 트랜잭션 모드: 한 트랜잭션에서 순서대로 실행, 하나라도 실패하면 모두 되돌림 */
+    @Bulkhead(WorkloadClass.ADMIN)
+    public BatchResponse executeInTransaction(List<Step> steps) {
+        checkSize(steps);
+        BatchResponse.Result[] results = new BatchResponse.Result[steps.size()];
+        boolean rolledBack = !runInTransaction(steps, results);
+        return response(true, rolledBack, results);
+    }
+
+    /** 독립 모드: 작업마다 따로 커밋 */
+    @NoBulkhead
+    public BatchResponse executeIndependently(List<Step> steps) {
+        checkSize(steps);
+        BatchResponse.Result[] results = new BatchResponse.Result[steps.size()];
+        boolean rolledBack = runIndependently(steps, results);
+        return response(false, rolledBack, results);
+    }
+
+    private void checkSize(List<Step> steps) {
+        if (steps.size() > props.getMaxOperations()) {
+            throw new BusinessException(ErrorCode.BATCH_TOO_LARGE,
+                    Map.of("max", props.getMaxOperations(), "size", steps.size()));
+        }
+    }
+
+    private static BatchResponse response(boolean transactional, boolean rolledBack, BatchResponse.Result[] results) {
+        return BatchResponse.builder()
+                .transactional(transactional)
+                .rolledBack(rolledBack)
+                .results(List.of(results))
+                .build();
+    }
+
+    /** @return 커밋했으면 true */
+    private boolean runInTransaction(List<Step> steps, BatchResponse.Result[] results) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                for (int i = 0; i < steps.size(); i++) {
+                    results[i] = run(steps.get(i));
+                    if (failed(results[i])) {
+                        status.setRollbackOnly();
+                        abortOthers(steps, results, i);
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            // 커밋 시점 실패 (flush 중 제약 위반 등): 어느 작업 때문인지 알 수 없으므로 모두 같은 오류로 응답
+            for (int i = 0; i < steps.size(); i++) {
+                results[i] = failure(steps.get(i), e);
+            }
+            return false;
+        }
+    }
+
+    /** @return 항상 false (되돌린 작업 없음) */
+    private boolean runIndependently(List<Step> steps, BatchResponse.Result[] results) {
+        // 호출한 쪽 트랜잭션이 있으면 다른 스레드에서는 그 트랜잭션의 변경을 볼 수 없으므로 순서대로 실행
+        boolean parallel = props.getReadParallelism() > 1
+                && !TransactionSynchronizationManager.isActualTransactionActive();
+        ExecutorService readers = null;
+        try {
+            int i = 0;
+            while (i < steps.size()) {
+                int end = i;
+                while (end < steps.size() && steps.get(end).read()) {
+                    end++;
+                }
+                if (end - i > 1 && parallel) {
+                    if (readers == null) {
+                        readers = Executors.newFixedThreadPool(props.getReadParallelism(),
+                                Thread.ofVirtual().name("batch-read-", 0).factory());
+                    }
+                    List<CompletableFuture<BatchResponse.Result>> futures = new ArrayList<>();
+                    for (int j = i; j < end; j++) {
+                        Step step = steps.get(j);
+                        futures.add(CompletableFuture.supplyAsync(() -> run(step), readers));
+                    }
+                    for (int j = i; j < end; j++) {
+                        results[j] = futures.get(j - i).join();
+                    }
+                    i = end;
+                } else {
+                    // 변경 작업이거나 단독 조회
+                    results[i] = run(steps.get(i));
+                    i++;
+                }
+            }
+        } finally {
+            if (readers != null) {
+                readers.close();
+            }
+        }
+        return false;
+    }
+
+    private BatchResponse.Result run(Step step) {
+        try {
+            ResponseEntity<?> response = step.call().get();
+            return new BatchResponse.Result(step.id(), response.getStatusCode().value(), response.getBody());
+        } catch (RuntimeException e) {
+            return failure(step, e);
+        }
+    }
+
+    private void abortOthers(List<Step> steps, BatchResponse.Result[] results, int failedIndex) {
+        BusinessException aborted = new BusinessException(ErrorCode.BATCH_ABORTED,
+                Map.of("failedId", steps.get(failedIndex).id()));
+        for (int i = 0; i < steps.size(); i++) {
+            if (i != failedIndex) {
+                results[i] = failure(steps.get(i), aborted);
+            }
+        }
+    }
+
+    /** GlobalExceptionHandler 와 같은 형태의 오류 응답 */
+    private static BatchResponse.Result failure(Step step, RuntimeException e) {
+        ErrorResponse body;
+        if (e instanceof BusinessException be) {
+            ErrorCode code = be.getCode();
+            body = ErrorResponse.of(code.name(), be.getMessage(), code.status().value(), step.path(),
+                    be.getArgs().isEmpty() ? null : be.getArgs());
+        } else {
+            log.error("[batch] {} {} 처리 중 예외", step.method(), step.path(), e);
+            body = ErrorResponse.of("INTERNAL_SERVER_ERROR", "서버 오류가 발생했습니다.",
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(), step.path(), null);
+        }
+        return new BatchResponse.Result(step.id(), body.getStatus(), body);
+    }
+
+    private static boolean failed(BatchResponse.Result result) {
+        return result.getStatus() >= 400;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.domain.BookTombstone;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.BookTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 도서 변경 버전 관리 (증분 동기화)
+ * - BookChangedEvent 를 같은 트랜잭션 안에서 받아 도서의 changeVersion 을 새 버전으로 갱신하고, 삭제는 tombstone 으로 남긴다.
+ * - 버전은 단조 증가하지만 커밋 순서와 어긋날 수 있다. 따라서 아직 끝나지 않은 트랜잭션의 가장 작은 버전 직전(stableVersion)까지만
+ *   조회에 노출해, 클라이언트가 다음 since 로 넘어간 뒤 늦게 커밋된 변경을 놓치지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookChangeTracker {
+    private final BookRepository bookRepository;
+    private final BookTombstoneRepository bookTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private long lastVersion = -1;
+
+    @EventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.isVersionAssigned()) {
+            return;
+        }
+        long version = allocate();
+        event.assignVersion(version);
+        if (event.getType() == BookChangeType.DELETED) {
+            bookTombstoneRepository.save(new BookTombstone(event.getBookId(), version));
+        } else {
+            bookRepository.findById(event.getBookId()).ifPresent(book -> book.markChanged(version));
+        }
+    }
+
+    /** 기동 시 버전이 없는 기존 도서(초기 데이터/대량 적재)에 고유 버전 부여 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void assignInitialVersions() {
+        Integer assigned = transactionTemplate.execute(status ->
+                bookRepository.assignInitialChangeVersions(currentMax()));
+        synchronized (this) {
+            lastVersion = Math.max(lastVersion, currentMax());
+        }
+        if (assigned != null && assigned > 0) {
+            log.info("[change-version] 기존 도서 {}권에 초기 변경 버전 부여", assigned);
+        }
+    }
+
+    /** 노출 가능한 최대 버전 (현재 트랜잭션이 부여한 버전은 자신에게 보이므로 제외) */
+    public synchronized long stableVersion() {
+        seedIfNeeded();
+        Set<Long> own = ownVersions(false);
+        for (Long version : inFlight) {
+            if (own == null || !own.contains(version)) {
+                return version - 1;
+            }
+        }
+        return lastVersion;
+    }
+
+    /**
+     * 한 문장으로 여러 도서를 바꿀 때 쓸 버전 구간 [base, base + span) 의 시작 값
+     * - 도서별 버전은 base + (id - 최소 id) 로 정한다. 구간 시작 버전을 진행 중으로 등록하므로 커밋 전까지 구간 전체가 노출되지 않는다.
+     */
+    public synchronized long allocateRange(long span) {
+        long base = allocate();
+        lastVersion += span - 1;
+        return base;
+    }
+
+    private synchronized long allocate() {
+        seedIfNeeded();
+        long version = ++lastVersion;
+        Set<Long> own = ownVersions(true);
+        if (own == null) {
+            return version; // 트랜잭션 밖 호출은 즉시 확정
+        }
+        inFlight.add(version);
+        own.add(version);
+        return version;
+    }
+
+    /** 현재 트랜잭션이 부여한 버전 집합. 완료 시 in-flight 에서 제거된다 */
+    @SuppressWarnings("unchecked")
+    private Set<Long> ownVersions(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Set<Long> own = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (own == null && create) {
+            Set<Long> versions = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, versions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BookChangeTracker.this);
+                    inFlight.removeAll(versions);
+                }
+            });
+            own = versions;
+        }
+        return own;
+    }
+
+    private void seedIfNeeded() {
+        if (lastVersion < 0) {
+            lastVersion = currentMax();
+        }
+    }
+
+    private long currentMax() {
+        return Math.max(bookRepository.findMaxChangeVersion(), bookTombstoneRepository.findMaxChangeVersion());
+    }
+}
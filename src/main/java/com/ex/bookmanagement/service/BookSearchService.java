@@ -0,0 +1,117 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.config.SearchProperties;
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.dto.BookResponse;
+import com.ex.bookmanagement.dto.BookSearchResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryClosureRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.service.search.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+import static com.ex.bookmanagement.repository.BookSpecifications.*;
+
+/**
+ * 도서 통합 검색 (제목, 저자, 카테고리 집합, 상태, 재고 + 정렬)
+ * - 계획(SearchPlanner)이 고른 경로로 후보 id 를 모아 교집합을 내고, 마지막 조회 한 번에서 나머지 조건 + 정렬 + 페이지를 처리한다.
+ * - 엔티티는 마지막 페이지에 해당하는 행만 로딩한다.
+ * - 통계가 오래되어 실제 후보가 추정보다 훨씬 많으면 해당 경로는 마지막 조회의 조건으로 돌린다.
+ *   후보 id 는 한도 + 1 개까지만 읽어 넘침 여부만 판단한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BookSearchService {
+    private static final int CANDIDATE_OVERFLOW_FACTOR = 4;
+
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository closureRepository;
+    private final SearchStatistics searchStatistics;
+    private final SearchPlanner searchPlanner;
+    private final SearchProperties props;
+
+    public BookSearchResponse search(SearchCondition condition, int page, int size) {
+        if (page < 0 || size < 1 || size > props.getMaxPageSize()) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("page", page, "size", size));
+        }
+        long categoryRows = condition.hasCategories()
+                ? categoryRepository.findAllById(condition.categoryIds()).stream().mapToLong(Category::getBookCount).sum()
+                : 0;
+        SearchPlan plan = searchPlanner.plan(condition, searchStatistics.current(), categoryRows);
+
+        List<Specification<Book>> specs = new ArrayList<>();
+        if (condition.hasTitle()) {
+            specs.add(titleContains(condition.title()));
+        }
+        if (condition.hasAuthor()) {
+            specs.add(authorContains(condition.author()));
+        }
+        plan.residualPaths().forEach(e -> specs.add(specOf(e.path(), condition)));
+
+        // 1) 후보 경로 교집합
+        Set<Long> candidates = null;
+        int overflowLimit = props.getMaxCandidates() * CANDIDATE_OVERFLOW_FACTOR;
+        for (SearchPlan.Estimate driver : plan.drivers()) {
+            List<Long> ids = candidateIds(driver.path(), condition, PageRequest.ofSize(overflowLimit + 1));
+            if (ids.size() > overflowLimit) {
+                specs.add(specOf(driver.path(), condition));
+                continue;
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+            if (candidates.isEmpty()) {
+                return response(List.of(), page, size, 0, plan);
+            }
+        }
+        if (candidates != null) {
+            specs.add(idIn(candidates));
+        }
+
+        // 2) 나머지 조건 + 정렬 + 페이지 (페이지 행만 로딩)
+        Page<Book> result = bookRepository.findAll(Specification.allOf(specs),
+                PageRequest.of(page, size, condition.sort().sort()));
+        return response(result.map(BookResponse::fromEntity).getContent(), page, size, result.getTotalElements(), plan);
+    }
+
+    private List<Long> candidateIds(AccessPath path, SearchCondition condition, Pageable limit) {
+        return switch (path) {
+            case CATEGORY -> closureRepository.findBookIdsInSubtrees(condition.categoryIds(), limit);
+            case STATUS -> bookRepository.findIdsByStatusIn(condition.statuses(), limit);
+            case IN_STOCK -> bookRepository.findIdsInStock(limit);
+        };
+    }
+
+    private static Specification<Book> specOf(AccessPath path, SearchCondition condition) {
+        return switch (path) {
+            case CATEGORY -> inCategorySubtrees(condition.categoryIds());
+            case STATUS -> statusIn(condition.statuses());
+            case IN_STOCK -> inStock();
+        };
+    }
+
+    private static BookSearchResponse response(List<BookResponse> books, int page, int size, long total, SearchPlan plan) {
+        return BookSearchResponse.builder()
+                .books(books)
+                .page(page)
+                .size(size)
+                .totalElements(total)
+                .plan(plan.explain())
+                .build();
+    }
+}
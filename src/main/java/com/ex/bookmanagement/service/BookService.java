@@ -1,34 +1,92 @@
 package com.ex.bookmanagement.service;
 
+import com.ex.bookmanagement.config.AvailabilityIndexProperties;
+import com.ex.bookmanagement.config.BulkStatusProperties;
+import com.ex.bookmanagement.config.Bulkhead;
+import com.ex.bookmanagement.config.WorkloadClass;
 import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookCategory;
+import com.ex.bookmanagement.domain.BookField;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.BookTombstone;
 import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.dto.BookAvailabilityResponse;
+import com.ex.bookmanagement.dto.BookChangesResponse;
 import com.ex.bookmanagement.dto.BookResponse;
+import com.ex.bookmanagement.dto.BulkAvailabilityResponse;
+import com.ex.bookmanagement.dto.BulkStatusChangeResponse;
 import com.ex.bookmanagement.dto.ChangeBookStatusRequest;
 import com.ex.bookmanagement.dto.CreateBookRequest;
 import com.ex.bookmanagement.exception.BusinessException;
 import com.ex.bookmanagement.exception.ErrorCode;
 import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.BookSpecifications;
+import com.ex.bookmanagement.repository.BookTombstoneRepository;
 import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.repository.RentalRepository;
+import com.ex.bookmanagement.service.archive.RentalArchiver;
+import com.ex.bookmanagement.service.cache.SearchResultCache;
+import com.ex.bookmanagement.service.catalog.AvailabilityIndex;
+import com.ex.bookmanagement.service.catalog.CatalogSnapshotService;
+import com.ex.bookmanagement.service.category.CategoryTree;
+import com.ex.bookmanagement.service.hold.HoldQueueIndex;
+import com.ex.bookmanagement.service.hold.HoldService;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Bulkhead(WorkloadClass.ADMIN)
 @Transactional(readOnly=true)
 @RequiredArgsConstructor
 public class BookService {
     private final BookRepository bookRepository;
+    private final RentalRepository rentalRepository;
     private final CategoryRepository categoryRepository;
+    private final BookTombstoneRepository bookTombstoneRepository;
+    private final BookChangeTracker bookChangeTracker;
+    private final CatalogSnapshotService catalogSnapshot;
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityIndexProperties availabilityIndexProps;
+    private final BulkStatusProperties bulkStatusProps;
+    private final SearchResultCache searchResultCache;
+    private final HoldService holdService;
+    private final HoldQueueIndex holdQueueIndex;
+    private final RentalArchiver rentalArchiver;
+    private final CategoryTree categoryTree;
+    private final ApplicationEventPublisher eventPublisher;
 
-    /** 도서 전체 목록 조회 */
+    /** 도서 전체 목록 조회 (스냅샷 준비 전에는 DB 조회) */
     public List<BookResponse> findAllBooks() {
+        return findAllBooks(null);
+    }
+
+    /** 도서 전체 목록 조회, fields 로 고른 필드만 응답 (DB 조회 시 해당 컬럼만 조회) */
+    public List<BookResponse> findAllBooks(String fields) {
+        Set<BookField> selected = BookField.parse(fields);
+        if (catalogSnapshot.isReady()) {
+            return only(catalogSnapshot.findAll(), selected);
+        }
+        if (selected != null) {
+            return bookRepository.findProjected(null, Pageable.unpaged(Sort.by("id")), selected);
+        }
         return bookRepository.findAll()
                 .stream()
                 .map(BookResponse::fromEntity)
@@ -64,8 +122,10 @@ public class BookService {
         Optional<Book> existingOpt = bookRepository
                 .findByTitleAndAuthor(dto.getTitle(), dto.getAuthor());
         if (existingOpt.isPresent()) {
-            Book existing = existingOpt.get();
+            Book existing = bookRepository.findByIdForUpdate(existingOpt.get().getId()).orElseThrow();
             existing.increaseStock(dto.getStock() > 0 ? dto.getStock() : 1);
+            holdService.allocate(existing);
+            eventPublisher.publishEvent(BookChangedEvent.of(existing, BookChangeType.STOCK_CHANGED));
             return existing.getId();
         }
 
@@ -73,7 +133,10 @@ public class BookService {
         Book book = Book.createBook(dto.getTitle(), dto.getAuthor(), categories, dto.getBookStatus(), dto.getStock());
 
         // 4) 저장
-        return bookRepository.save(book).getId();
+        Book saved = bookRepository.save(book);
+        categoryTree.applyBookCounts(List.of(saved.getId()), Map.of());
+        eventPublisher.publishEvent(BookChangedEvent.of(saved, BookChangeType.CREATED));
+        return saved.getId();
     }
 
     /** 카테고리 변경 (set-diff 방식) */
@@ -90,24 +153,134 @@ public class BookService {
             throw new BusinessException(ErrorCode.CATEGORY_NOT_FOUND, Map.of("ids", distinctIds));
         }
 
-        // 3) 실제 동기화는 도메인에 위임
+        // 3) 실제 동기화는 도메인에 위임 (전후 차이만큼 하위 트리 도서 수 반영)
+        Map<Long, Long> before = categoryTree.countBooks(List.of(bookId));
         book.changeCategories(targets);
+        categoryTree.applyBookCounts(List.of(bookId), before);
+        eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.CATEGORIES_CHANGED));
     }
 
     /** 도서 상태 변경 */
     @Transactional
     public void changeStatus(Long bookId, ChangeBookStatusRequest req) {
-        Book book = bookRepository.findById(bookId)
+        Book book = bookRepository.findByIdForUpdate(bookId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", bookId)));
 
         if (book.getBookStatus() == req.getStatus()) return;
         book.changeStatus(req.getStatus());
+        eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.STATUS_CHANGED));
+        // 대여 가능 상태로 복구되면 남은 재고를 대기 중인 예약에 배정
+        if (holdService.allocate(book) > 0) {
+            eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.STOCK_CHANGED));
+        }
+    }
+
+    /**
+     * 여러 도서 상태 일괄 변경 (재고 점검 후 분실/훼손 처리 등)
+     * - 대상 도서를 id 순으로 한 번에 잠가 읽고, 상태가 다른 도서만 한 문장으로 바꾼다. 변경 버전도 같은 문장에서 부여한다.
+     * - 대여 불가 상태로 바꾸면 대상 도서의 진행 중 대여를 한 문장으로 대여 불가(UNAVAILABLE) 처리한다.
+     *   (이미 같은 상태였던 도서의 대여도 포함)
+     * - 인메모리 구조는 도서/대여별 이벤트로 갱신한다. 없는 도서가 있으면 아무것도 바꾸지 않는다.
+     */
+    @Transactional
+    public BulkStatusChangeResponse changeStatus(List<Long> bookIds, BookStatus status) {
+        if (bookIds.size() > bulkStatusProps.getMaxIds() || bookIds.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT,
+                    Map.of("maxIds", bulkStatusProps.getMaxIds(), "size", bookIds.size()));
+        }
+        Set<Long> ids = new LinkedHashSet<>(bookIds);
+        List<Object[]> rows = bookRepository.findStatusByIdInForUpdate(ids);
+        if (rows.size() < ids.size()) {
+            Set<Long> missing = new LinkedHashSet<>(ids);
+            rows.forEach(row -> missing.remove((Long) row[0]));
+            throw new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("ids", missing));
+        }
+
+        // 1) 상태가 다른 도서만 변경 (rows 는 id 순)
+        Map<Long, Integer> stocks = new HashMap<>();
+        List<Long> changed = new ArrayList<>();
+        for (Object[] row : rows) {
+            stocks.put((Long) row[0], (Integer) row[2]);
+            if (row[1] != status) {
+                changed.add((Long) row[0]);
+            }
+        }
+        int updated = 0;
+        if (!changed.isEmpty()) {
+            long minId = changed.get(0);
+            long base = bookChangeTracker.allocateRange(changed.get(changed.size() - 1) - minId + 1);
+            updated = bookRepository.updateStatusByIdIn(changed, status, base, minId);
+            for (Long id : changed) {
+                eventPublisher.publishEvent(new BookChangedEvent(id, BookChangeType.STATUS_CHANGED, status, stocks.get(id),
+                        base + id - minId));
+            }
+        }
+
+        // 2) 대여 불가 상태면 진행 중 대여 중단, 대여 가능 상태로 복구되면 남은 재고를 대기 중인 예약에 배정
+        int suspended = 0;
+        if (!status.isRentable()) {
+            List<Object[]> active = rentalRepository.findActiveByBookIdIn(ids);
+            if (!active.isEmpty()) {
+                suspended = rentalRepository.markUnavailableByBookIdIn(ids);
+                LocalDateTime now = LocalDateTime.now();
+                for (Object[] rental : active) {
+                    eventPublisher.publishEvent(new RentalChangedEvent((Long) rental[0], (Long) rental[1],
+                            (String) rental[2], RentalStatus.UNAVAILABLE, stocks.get((Long) rental[1]),
+                            (LocalDateTime) rental[3], now));
+                }
+            }
+        } else {
+            for (Long id : changed) {
+                if (holdQueueIndex.mayHaveHolds(id)) {
+                    Book book = bookRepository.findById(id).orElseThrow();
+                    if (holdService.allocate(book) > 0) {
+                        eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.STOCK_CHANGED));
+                    }
+                }
+            }
+        }
+        return new BulkStatusChangeResponse(status, updated, ids.size() - updated, suspended);
     }
 
-    /** 저자 또는 제목으로 도서 검색 */
+    /**
+     * 저자 또는 제목으로 도서 검색
+     * - 스냅샷이 없으면 DB 조회 결과를 캐시하고, 같은 질의의 동시 요청은 한 번만 조회한다.
+     *   대기하는 요청이 커넥션을 잡지 않도록 트랜잭션은 조회하는 요청만 연다.
+     * - 호출자의 트랜잭션 안에서는 커밋 전 변경이 보일 수 있으므로 캐시를 거치지 않는다.
+     * - readOnly 이므로 CATALOG_READ 부류에서 실행된다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<BookResponse> searchByAuthorAndTitle(String author, String title, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Book> books = bookRepository.searchByAuthorAndTitle(author, title, pageable);
+        return searchByAuthorAndTitle(author, title, page, size, null);
+    }
+
+    /** 저자 또는 제목으로 도서 검색, fields 로 고른 필드만 응답 */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<BookResponse> searchByAuthorAndTitle(String author, String title, int page, int size, String fields) {
+        Set<BookField> selected = BookField.parse(fields);
+        if (catalogSnapshot.isReady()) {
+            return only(catalogSnapshot.searchByAuthorAndTitle(author, title, page, size), selected);
+        }
+        SearchResultCache.Key key = SearchResultCache.Key.of(author, title, page, size, selected);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loadByAuthorAndTitle(key);
+        }
+        return searchResultCache.get(key, () -> loadByAuthorAndTitle(key));
+    }
+
+    private List<BookResponse> loadByAuthorAndTitle(SearchResultCache.Key key) {
+        Pageable pageable = PageRequest.of(key.page(), key.size(), Sort.by(Sort.Direction.DESC, "id"));
+        if (key.fields() != null) {
+            List<Specification<Book>> specs = new ArrayList<>();
+            if (key.author() != null) {
+                specs.add(BookSpecifications.authorContains(key.author()));
+            }
+            if (key.title() != null) {
+                specs.add(BookSpecifications.titleContains(key.title()));
+            }
+            return bookRepository.findProjected(specs.isEmpty() ? null : Specification.allOf(specs), pageable, key.fields());
+        }
+        Page<Book> books = bookRepository.searchByAuthorAndTitle(key.author(), key.title(), pageable);
         return books.stream()
                 .map(BookResponse::fromEntity)
                 .toList();
@@ -115,18 +288,157 @@ public class BookService {
 
     /** 카테고리 별 도서 검색 */
     public List<BookResponse> searchByCategory(Long categoryId, String categoryName, int page, int size) {
+        return searchByCategory(categoryId, categoryName, page, size, null);
+    }
+
+    /** 카테고리 별 도서 검색, fields 로 고른 필드만 응답 */
+    public List<BookResponse> searchByCategory(Long categoryId, String categoryName, int page, int size, String fields) {
+        Set<BookField> selected = BookField.parse(fields);
+        if (catalogSnapshot.isReady()) {
+            return only(catalogSnapshot.searchByCategory(categoryId, categoryName, page, size), selected);
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+        if (selected != null) {
+            return bookRepository.findProjected(BookSpecifications.inCategory(categoryId, categoryName), pageable, selected);
+        }
         Page<Book> books = bookRepository.searchByCategory(categoryId, categoryName, pageable);
         return books.stream()
                 .map(BookResponse::fromEntity)
                 .toList();
     }
 
+    /** 스냅샷 응답에서 고른 필드만 남김 */
+    private static List<BookResponse> only(List<BookResponse> books, Set<BookField> fields) {
+        if (fields == null) {
+            return books;
+        }
+        return books.stream()
+                .map(book -> book.only(fields))
+                .toList();
+    }
+
     /** 도서 삭제 */
     @Transactional
     public void delete(Long bookId) {
         Book book = bookRepository.findByIdWithCategories(bookId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", bookId)));
+        // 종료된 대여는 Book.rentals 에 로딩되지 않으므로 이력으로 보관한 뒤 삭제
+        rentalArchiver.archiveClosedRentalsOf(bookId);
+        Map<Long, Long> before = categoryTree.countBooks(List.of(bookId));
+        // 같은 영속성 컨텍스트에 카테고리 쪽 연결 목록이 로딩돼 있으면 삭제된 도서를 다시 참조하지 않도록 끊는다
+        for (BookCategory link : book.getBookCategories()) {
+            if (Hibernate.isInitialized(link.getCategory().getBookCategories())) {
+                link.getCategory().getBookCategories().remove(link);
+            }
+        }
         bookRepository.deleteById(bookId);
+        categoryTree.applyBookCounts(List.of(bookId), before);
+        eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.DELETED));
+    }
+
+    /** 대여 가능 여부 조회 */
+    public BookAvailabilityResponse availability(Long bookId) {
+        if (availabilityIndex.isReady()) {
+            Optional<BookAvailabilityResponse> indexed = availabilityIndex.get(bookId);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+        if (catalogSnapshot.isReady()) {
+            Optional<BookAvailabilityResponse> cached = catalogSnapshot.availability(bookId);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", bookId)));
+        return BookAvailabilityResponse.fromEntity(book);
+    }
+
+    /**
+     * 여러 도서 대여 가능 여부 조회 (요청 순서, 중복 제거)
+     * - 인덱스에 있는 도서는 DB 조회 없이 응답하고, 인덱스에 없는 도서만 한 번의 IN 조회로 확인한다.
+     */
+    public BulkAvailabilityResponse availability(List<Long> bookIds) {
+        if (bookIds.size() > availabilityIndexProps.getMaxIds() || bookIds.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT,
+                    Map.of("maxIds", availabilityIndexProps.getMaxIds(), "size", bookIds.size()));
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(bookIds));
+        Map<Long, BookAvailabilityResponse> byId = new HashMap<>();
+        List<Long> missing = ids;
+        if (availabilityIndex.isReady()) {
+            AvailabilityIndex.Lookup lookup = availabilityIndex.lookup(ids);
+            lookup.found().forEach(r -> byId.put(r.getBookId(), r));
+            missing = lookup.missing();
+        }
+        if (!missing.isEmpty()) {
+            bookRepository.findAllById(missing)
+                    .forEach(book -> byId.put(book.getId(), BookAvailabilityResponse.fromEntity(book)));
+        }
+        return new BulkAvailabilityResponse(
+                ids.stream().map(byId::get).filter(Objects::nonNull).toList(),
+                ids.stream().filter(id -> !byId.containsKey(id)).toList());
+    }
+
+    /** 변경분 조회: since 이상 버전의 등록/변경/삭제를 버전 순으로 limit 건 */
+    public BookChangesResponse findChanges(long since, int limit) {
+        if (since < 0 || limit < 1 || limit > 1000) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("since", since, "limit", limit));
+        }
+        long upTo = bookChangeTracker.stableVersion();
+        if (since > upTo) {
+            return BookChangesResponse.builder()
+                    .since(since).nextSince(since).hasMore(false)
+                    .changed(List.of()).deleted(List.of())
+                    .build();
+        }
+
+        // 1) 도서(id, 버전)/삭제 기록을 각각 limit 건까지 버전 순으로 읽음
+        Pageable pageable = PageRequest.of(0, limit);
+        List<Object[]> versions = bookRepository.findIdAndVersionByChangeVersionBetween(since, upTo, pageable);
+        List<BookTombstone> tombstones = bookTombstoneRepository
+                .findByChangeVersionBetweenOrderByChangeVersionAsc(since, upTo, pageable);
+        // 내용은 다시 읽으므로 그 사이 커밋된 변경이 보일 수 있다. 순서와 nextSince 는 처음 읽은 버전으로 정하고,
+        // 더 새로운 버전은 다음 조회에서 다시 받는다. (그 사이 삭제된 도서는 tombstone 으로 받는다)
+        Map<Long, Book> books = new HashMap<>();
+        if (!versions.isEmpty()) {
+            bookRepository.findAllWithCategoriesByIdIn(versions.stream().map(row -> (Long) row[0]).toList())
+                    .forEach(book -> books.put(book.getId(), book));
+        }
+
+        // 2) 두 목록을 버전 순으로 병합해 limit 건까지만 응답
+        List<BookResponse> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        int b = 0;
+        int t = 0;
+        long last = since - 1;
+        while (changed.size() + deleted.size() < limit && (b < versions.size() || t < tombstones.size())) {
+            boolean takeBook = t >= tombstones.size()
+                    || (b < versions.size() && (Long) versions.get(b)[1] < tombstones.get(t).getChangeVersion());
+            if (takeBook) {
+                Object[] row = versions.get(b++);
+                Book book = books.get((Long) row[0]);
+                if (book != null) {
+                    changed.add(BookResponse.fromEntity(book));
+                }
+                last = (Long) row[1];
+            } else {
+                BookTombstone tombstone = tombstones.get(t++);
+                deleted.add(tombstone.getBookId());
+                last = tombstone.getChangeVersion();
+            }
+        }
+
+        last = Math.min(last, upTo);
+        boolean hasMore = b < versions.size() || t < tombstones.size()
+                || versions.size() == limit || tombstones.size() == limit;
+        return BookChangesResponse.builder()
+                .since(since)
+                .nextSince(hasMore ? last + 1 : upTo + 1)
+                .hasMore(hasMore)
+                .changed(changed)
+                .deleted(deleted)
+                .build();
     }
 }
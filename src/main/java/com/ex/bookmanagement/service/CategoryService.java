@@ -1,23 +1,37 @@
 package com.ex.bookmanagement.service;
 
+import com.ex.bookmanagement.config.Bulkhead;
+import com.ex.bookmanagement.config.WorkloadClass;
+import com.ex.bookmanagement.domain.BookCategory;
 import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.CategoryChangedEvent;
 import com.ex.bookmanagement.dto.CategoryResponse;
 import com.ex.bookmanagement.dto.CreateCategoryRequest;
 import com.ex.bookmanagement.exception.BusinessException;
 import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.CategoryClosureRepository;
 import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.service.category.CategoryTree;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
+@Bulkhead(WorkloadClass.ADMIN)
 @Transactional(readOnly=true)
 @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository closureRepository;
+    private final CategoryTree categoryTree;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 전체 조회 */
     public List<CategoryResponse> findAllCategories() {
@@ -44,16 +58,45 @@ public class CategoryService {
             throw new BusinessException(ErrorCode.CATEGORY_ALREADY_EXISTS, Map.of("name", normalizedName));
         }
 
-        Category saved = categoryRepository.save(new Category(req.getName().trim()));
+        Category parent = req.getParentId() == null ? null : findCategory(req.getParentId());
+        Category saved = categoryRepository.save(new Category(req.getName().trim(), parent));
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
         return CategoryResponse.fromEntity(saved);
     }
 
-    /** 카테고리 삭제 */
+    /** 상위 카테고리 변경 (parentId 가 null 이면 최상위로), 하위 카테고리와 연결 도서도 함께 이동 */
+    @Transactional
+    public CategoryResponse move(Long categoryId, Long parentId) {
+        Category category = findCategory(categoryId);
+        Category parent = parentId == null ? null : findCategory(parentId);
+        Long currentParentId = category.getParent() == null ? null : category.getParent().getId();
+        if (!Objects.equals(currentParentId, parentId)) {
+            categoryTree.move(category, parent);
+            eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+        }
+        return CategoryResponse.fromEntity(category);
+    }
+
+    /** 카테고리 삭제 (하위 카테고리가 없을 때만) */
     @Transactional
     public void delete(Long categoryId) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND, Map.of("id", categoryId)));
+        Category category = findCategory(categoryId);
+        if (closureRepository.existsByAncestorIdAndDepth(categoryId, 1)) {
+            throw new BusinessException(ErrorCode.CATEGORY_HAS_CHILDREN, Map.of("id", categoryId));
+        }
         // (Category / BookCategory) : orphanRemoval=true 로 매핑 자동 삭제
+        List<BookCategory> links = List.copyOf(category.getBookCategories());
+        List<Long> bookIds = links.stream().map(bc -> bc.getBook().getId()).toList();
+        Map<Long, Long> before = categoryTree.countBooks(bookIds);
         categoryRepository.delete(category);
+        categoryTree.applyBookCounts(bookIds, before);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+        links.forEach(bc -> eventPublisher.publishEvent(
+                BookChangedEvent.of(bc.getBook(), BookChangeType.CATEGORIES_CHANGED)));
+    }
+
+    private Category findCategory(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND, Map.of("id", categoryId)));
     }
 }
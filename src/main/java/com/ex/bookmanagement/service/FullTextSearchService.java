@@ -0,0 +1,61 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.dto.BookResponse;
+import com.ex.bookmanagement.dto.FullTextSearchResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.fulltext.FullTextIndex;
+import com.ex.bookmanagement.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전문 검색 (BM25 순위)
+ * - 색인에서 점수 상위 도서 id 를 받고, 응답용 도서 정보는 한 번의 조회로 채운다.
+ * - 색인에 반영되기 전에 삭제된 도서는 결과에서 뺀다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class FullTextSearchService {
+    private final ObjectProvider<FullTextIndex> fullTextIndex;
+    private final BookRepository bookRepository;
+
+    public FullTextSearchResponse search(String query, int limit) {
+        FullTextIndex index = fullTextIndex.getIfAvailable();
+        if (index == null) {
+            throw new BusinessException(ErrorCode.FULLTEXT_DISABLED);
+        }
+        if (query == null || query.isBlank() || limit < 1 || limit > index.maxLimit()) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("q", String.valueOf(query), "limit", limit));
+        }
+
+        List<FullTextIndex.Hit> hits = index.search(query, limit);
+        Map<Long, Book> books = hits.isEmpty()
+                ? Map.of()
+                : bookRepository.findAllWithCategoriesByIdIn(hits.stream().map(FullTextIndex.Hit::bookId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        List<FullTextSearchResponse.Item> items = new ArrayList<>(hits.size());
+        for (FullTextIndex.Hit hit : hits) {
+            Book book = books.get(hit.bookId());
+            if (book != null) {
+                items.add(new FullTextSearchResponse.Item(hit.score(), BookResponse.fromEntity(book)));
+            }
+        }
+        return FullTextSearchResponse.builder()
+                .query(query)
+                .books(items)
+                .build();
+    }
+}
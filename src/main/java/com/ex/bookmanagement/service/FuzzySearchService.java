@@ -0,0 +1,61 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.config.FuzzyProperties;
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.FuzzyField;
+import com.ex.bookmanagement.dto.BookResponse;
+import com.ex.bookmanagement.dto.FuzzySearchResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.service.fuzzy.FuzzyIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 오타 허용 제목/저자 검색
+ * - 인덱스에서 거리 순 도서 id 를 받고, 응답용 도서 정보는 한 번의 조회로 채운다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class FuzzySearchService {
+    private final FuzzyIndex fuzzyIndex;
+    private final FuzzyProperties props;
+    private final BookRepository bookRepository;
+
+    public FuzzySearchResponse search(String query, FuzzyField field, Integer maxDistance, int limit) {
+        if (query == null || query.isBlank() || limit < 1 || limit > props.getMaxLimit()
+                || (maxDistance != null && (maxDistance < 0 || maxDistance > props.getMaxDistance()))) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT,
+                    Map.of("maxLimit", props.getMaxLimit(), "maxDistance", props.getMaxDistance()));
+        }
+
+        List<FuzzyIndex.Match> matches = fuzzyIndex.search(query, field, maxDistance, limit);
+        Map<Long, Book> books = matches.isEmpty()
+                ? Map.of()
+                : bookRepository.findAllWithCategoriesByIdIn(matches.stream().map(FuzzyIndex.Match::bookId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        List<FuzzySearchResponse.Item> items = new ArrayList<>(matches.size());
+        for (FuzzyIndex.Match match : matches) {
+            Book book = books.get(match.bookId());
+            if (book != null) {
+                items.add(new FuzzySearchResponse.Item(match.distance(), match.field(), match.matched(),
+                        BookResponse.fromEntity(book)));
+            }
+        }
+        return FuzzySearchResponse.builder()
+                .query(query)
+                .books(items)
+                .build();
+    }
+}
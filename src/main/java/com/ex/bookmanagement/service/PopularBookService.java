@@ -0,0 +1,62 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.config.PopularProperties;
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.PopularWindow;
+import com.ex.bookmanagement.dto.PopularBooksResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.service.popular.PopularityTracker;
+import com.ex.bookmanagement.service.popular.WindowedTopK;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 도서 조회
+ * - 순위는 메모리의 구간별 상위 k 구조에서 읽고, 제목/저자만 id 로 한 번에 조회한다.
+ * - 삭제된 도서는 건너뛴다. (구조에서는 구간이 지나면 자연히 빠진다)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PopularBookService {
+    private final PopularityTracker popularityTracker;
+    private final BookRepository bookRepository;
+    private final PopularProperties props;
+
+    public PopularBooksResponse popular(PopularWindow window, Long categoryId, int limit) {
+        if (limit < 1 || limit > props.getMaxLimit()) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("maxLimit", props.getMaxLimit()));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<WindowedTopK.Estimate> top = popularityTracker.top(window, categoryId, limit, now);
+
+        Map<Long, Book> books = bookRepository.findAllById(top.stream().map(WindowedTopK.Estimate::key).toList())
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<PopularBooksResponse.Item> items = new ArrayList<>(top.size());
+        for (WindowedTopK.Estimate estimate : top) {
+            Book book = books.get(estimate.key());
+            if (book != null) {
+                items.add(new PopularBooksResponse.Item(book.getId(), book.getTitle(), book.getAuthor(), estimate.count()));
+            }
+        }
+
+        PopularityTracker.Reconciliation reconciliation = popularityTracker.lastReconciliation();
+        return PopularBooksResponse.builder()
+                .window(window)
+                .categoryId(categoryId)
+                .from(popularityTracker.windowStart(window, now))
+                .to(now)
+                .reconciledAt(reconciliation == null ? null : reconciliation.at())
+                .books(items)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.config.RecommendProperties;
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.dto.AlsoRentedResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.service.recommend.AlsoRentedIndex;
+import com.ex.bookmanagement.service.recommend.CoRentalMatrix;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 함께 대여된 도서 추천
+ * - 순위는 메모리 행렬에서 읽고, 제목/저자만 id 로 한 번에 조회한다.
+ * - 삭제된 도서는 건너뛰므로 요청보다 적게 응답할 수 있다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RecommendationService {
+    private final AlsoRentedIndex alsoRentedIndex;
+    private final BookRepository bookRepository;
+    private final RecommendProperties props;
+
+    public AlsoRentedResponse alsoRented(Long bookId, int limit) {
+        if (limit < 1 || limit > props.getMaxLimit()) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, Map.of("maxLimit", props.getMaxLimit()));
+        }
+        if (!bookRepository.existsById(bookId)) {
+            throw new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", bookId));
+        }
+        List<CoRentalMatrix.Pair> pairs = alsoRentedIndex.alsoRented(bookId, limit);
+
+        Map<Long, Book> books = bookRepository.findAllById(pairs.stream().map(CoRentalMatrix.Pair::bookId).toList())
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<AlsoRentedResponse.Item> items = new ArrayList<>(pairs.size());
+        for (CoRentalMatrix.Pair pair : pairs) {
+            Book book = books.get(pair.bookId());
+            if (book != null) {
+                items.add(new AlsoRentedResponse.Item(book.getId(), book.getTitle(), book.getAuthor(), pair.renters()));
+            }
+        }
+        return AlsoRentedResponse.builder()
+                .bookId(bookId)
+                .books(items)
+                .build();
+    }
+}
@@ -1,29 +1,45 @@
 package com.ex.bookmanagement.service;
 
+import com.ex.bookmanagement.config.Bulkhead;
+import com.ex.bookmanagement.config.WorkloadClass;
 import com.ex.bookmanagement.domain.Book;
 import com.ex.bookmanagement.domain.Rental;
+import com.ex.bookmanagement.domain.RentalField;
 import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
 import com.ex.bookmanagement.dto.RentResponse;
 import com.ex.bookmanagement.exception.BusinessException;
 import com.ex.bookmanagement.exception.ErrorCode;
 import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.RentalArchiveRepository;
 import com.ex.bookmanagement.repository.RentalRepository;
+import com.ex.bookmanagement.service.hold.HoldService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
 @Service
+@Bulkhead(WorkloadClass.RENTAL_WRITE)
 @Transactional
 @RequiredArgsConstructor
 public class RentalService {
     private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
     private final BookRepository bookRepository;
+    private final HoldService holdService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    /** 대여 */
+    /**
+     * 대여
+     * - 도서 행을 잠그고 읽어 재고 차감/예약 수령이 반납, 예약 배정, 상태 변경(일괄 포함)과 엇갈리지 않게 한다.
+     */
     public RentResponse rentBook(Long bookId, String renterName) {
-        Book book = bookRepository.findById(bookId)
+        Book book = bookRepository.findByIdForUpdate(bookId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", bookId)));
 
         // BookStatus에서 직접 대여 가능 여부 판단
@@ -34,29 +50,34 @@ public class RentalService {
             throw new BusinessException(ErrorCode.BOOK_NOT_AVAILABLE, Map.of("id", bookId));
         }
 
-        book.decreaseStock(1);
-        Rental rental = Rental.create(book, renterName);
-        return RentResponse.fromEntity(rentalRepository.save(rental));
+        // 예약으로 배정된 도서는 이미 재고에서 빠져 있으므로 차감하지 않음
+        if (!holdService.fulfillReady(bookId, renterName)) {
+            book.decreaseStock(1);
+            eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.STOCK_CHANGED));
+        }
+        Rental rental = rentalRepository.save(Rental.create(book, renterName));
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental));
+        return RentResponse.fromEntity(rental);
     }
 
     /** 반납 */
     public RentResponse returnBook(Long rentalId) {
-        Rental rental = rentalRepository.findById(rentalId)
-                .orElseThrow(() ->
-                        new BusinessException(ErrorCode.RENTAL_NOT_FOUND, Map.of("rentalId", rentalId))
-                );
+        Rental rental = findActiveOrClosed(rentalId);
 
         rental.returnBook();
-        rental.getBook().increaseStock(1);
+        Book book = bookRepository.findByIdForUpdate(rental.getBook().getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", rental.getBook().getId())));
+        book.increaseStock(1);
+        // 대기 중인 예약이 있으면 반납된 도서를 바로 배정
+        holdService.allocate(book);
+        eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.STOCK_CHANGED));
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental));
         return RentResponse.fromEntity(rental);
     }
 
     /** 대여 중단 (훼손/분실 등) */
     public RentResponse suspendRental(Long rentalId) {
-        Rental rental = rentalRepository.findById(rentalId)
-                .orElseThrow(() ->
-                        new BusinessException(ErrorCode.RENTAL_NOT_FOUND, Map.of("rentalId", rentalId))
-                );
+        Rental rental = findActiveOrClosed(rentalId);
 
         // 이미 반납되었거나 취소된 건은 중단 불가
         if (rental.getRentalStatus() == RentalStatus.RETURNED) {
@@ -65,19 +86,40 @@ public class RentalService {
 
         // 대여 불가 상태로 전환
         rental.markUnavailable();
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental));
         return RentResponse.fromEntity(rental);
     }
 
-    /** 전체 대여 내역 조회 */
+    /** 전체 대여 내역 조회 (rental + rental_archive) */
+    @Transactional(readOnly = true)
     public List<RentResponse> findAll() {
+        return findAll(null);
+    }
+
+    /** 전체 대여 내역, fields 로 고른 필드의 컬럼만 조회 (도서는 조인하지 않음) */
+    @Transactional(readOnly = true)
+    public List<RentResponse> findAll(String fields) {
+        Set<RentalField> selected = RentalField.parse(fields);
+        if (selected != null) {
+            return rentalRepository.findAllProjected(selected);
+        }
         // N+1 방지 위해 book까지 함께 조회 (Repository에서 @EntityGraph or fetch join 처리)
-        List<Rental> rentals = rentalRepository.findAllWithBook();
+        List<RentResponse> rentals = new ArrayList<>(rentalRepository.findAllWithBook().stream()
+                .map(RentResponse::fromEntity)
+                .toList());
+        rentalArchiveRepository.findAll().forEach(archived -> rentals.add(RentResponse.fromArchive(archived)));
 
         // 최근 대여순 정렬
-        rentals.sort(Comparator.comparing(Rental::getRentedDate).reversed());
+        rentals.sort(Comparator.comparing(RentResponse::getRentedAt).reversed());
+        return rentals;
+    }
 
-        return rentals.stream()
-                .map(RentResponse::fromEntity)
-                .toList();
+    /** 진행 중 대여 조회, 이미 보관된 대여면 종료된 대여로 취급 */
+    private Rental findActiveOrClosed(Long rentalId) {
+        return rentalRepository.findById(rentalId)
+                .orElseThrow(() -> rentalArchiveRepository.existsById(rentalId)
+                        ? new BusinessException(ErrorCode.ALREADY_RETURNED_OR_UNAVAILABLE)
+                        : new BusinessException(ErrorCode.RENTAL_NOT_FOUND, Map.of("rentalId", rentalId))
+                );
     }
 }
@@ -0,0 +1,90 @@
+package com.ex.bookmanagement.service.archive;
+
+import com.ex.bookmanagement.config.RentalArchiveProperties;
+import com.ex.bookmanagement.repository.RentalArchiveRepository;
+import com.ex.bookmanagement.repository.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종료된 대여 보관 작업 (hot: rental / cold: rental_archive)
+ * - 보관 기간이 지난 반납/대여 중단 건을 batchSize 단위로 옮긴다. 배치마다 짧은 트랜잭션 하나에서 insert ... select 후 delete 한다.
+ * - 종료된 대여는 더 이상 바뀌지 않으므로 대여/반납 트랜잭션과 같은 행을 두고 경합하지 않는다.
+ * - 배치 사이에는 잠시 쉬어 대여 트래픽이 커넥션과 잠금을 먼저 쓰게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalArchiver {
+    private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RentalArchiveProperties props;
+
+    private final AtomicLong archivedTotal = new AtomicLong();
+
+    @Scheduled(initialDelayString = "${bookmanagement.rental-archive.interval:PT10M}",
+            fixedDelayString = "${bookmanagement.rental-archive.interval:PT10M}")
+    public void run() {
+        if (!props.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(props.getRetention());
+        int moved = 0;
+        for (int batch = 0; batch < props.getMaxBatchesPerRun(); batch++) {
+            int n = archiveBatch(cutoff);
+            moved += n;
+            if (n < props.getBatchSize()) {
+                break;
+            }
+            try {
+                Thread.sleep(props.getPauseBetweenBatches());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (moved > 0) {
+            log.info("[archive] 종료된 대여 {}건 보관 (cutoff={})", moved, cutoff);
+        }
+    }
+
+    /** cutoff 이전에 시작된 종료 대여를 한 배치만큼 보관하고 옮긴 건수를 반환 */
+    public int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = rentalRepository.findClosedIdsRentedBefore(cutoff, PageRequest.of(0, props.getBatchSize()));
+            return move(ids);
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    /** 도서 삭제 전 해당 도서의 종료 대여를 보관 (호출자 트랜잭션에 참여) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int archiveClosedRentalsOf(Long bookId) {
+        return move(rentalRepository.findClosedIdsByBookId(bookId));
+    }
+
+    public long archivedTotal() {
+        return archivedTotal.get();
+    }
+
+    private int move(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        rentalArchiveRepository.copyFromRental(ids, LocalDateTime.now());
+        int deleted = rentalRepository.deleteAllByIdIn(ids);
+        archivedTotal.addAndGet(deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ex.bookmanagement.service.cache;
+
+/**
+ * 접근 빈도 추정 (Count-Min Sketch, 4비트 카운터)
+ * - 키마다 4개 행의 카운터를 올리고, 빈도는 그중 최솟값으로 추정한다. (최대 15)
+ * - 기록 횟수가 sampleSize 에 이르면 모든 카운터를 절반으로 줄여 오래된 인기를 잊는다.
+ * - 동기화는 호출하는 쪽(TinyLfuCache)이 맡는다.
+ */
+final class FrequencySketch {
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private final long[] table;   // long 하나에 4비트 카운터 16개
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int counters = Integer.highestOneBit(Math.max(16, maximumSize - 1) << 1);
+        this.table = new long[counters / 16 * 4];
+        this.mask = table.length - 1;
+        this.sampleSize = 10 * Math.max(1, maximumSize);
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(index(hash, i), counterOffset(hash, i));
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            long word = table[index(hash, i)];
+            frequency = Math.min(frequency, (int) ((word >>> counterOffset(hash, i)) & 0xfL));
+        }
+        return frequency;
+    }
+
+    private boolean incrementAt(int index, int offset) {
+        long counter = (table[index] >>> offset) & 0xfL;
+        if (counter == 15) {
+            return false;
+        }
+        table[index] += 1L << offset;
+        return true;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int index(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int counterOffset(int hash, int row) {
+        return ((hash >>> (row * 8)) & 0xf) << 2;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
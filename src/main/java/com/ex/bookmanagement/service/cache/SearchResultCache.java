@@ -0,0 +1,136 @@
+package com.ex.bookmanagement.service.cache;
+
+import com.ex.bookmanagement.config.SearchCacheProperties;
+import com.ex.bookmanagement.config.WorkloadContext;
+import com.ex.bookmanagement.domain.BookField;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.dto.BookResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 저자/제목 검색 결과 캐시
+ * - 정규화한 질의와 페이지를 키로 W-TinyLFU 캐시(TinyLfuCache)에 보관한다.
+ * - 도서 변경이 커밋될 때마다 쓰기 버전을 올리고, 항목은 조회 시작 시점의 버전이 현재와 같을 때만 사용한다.
+ *   조회 도중 커밋된 변경이 있으면 그 결과는 보관하지 않는다.
+ * - 같은 키/버전의 동시 미스는 하나로 합친다. 첫 요청만 읽기 전용 트랜잭션을 열어 조회하고,
+ *   나머지는 커넥션과 bulkhead 한도 없이 그 결과를 기다린다.
+ */
+@Component
+public class SearchResultCache {
+    private final SearchCacheProperties props;
+    private final TransactionTemplate readOnlyTx;
+    private final TinyLfuCache<Key, Entry> cache;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<Flight, CompletableFuture<List<BookResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SearchResultCache(SearchCacheProperties props, PlatformTransactionManager transactionManager) {
+        this.props = props;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.cache = new TinyLfuCache<>(props.getMaximumSize());
+    }
+
+    /** 정규화한 검색 키 (빈 문자열은 조건 없음, 대소문자 무시, fields 가 null 이면 전체 필드) */
+    public record Key(String author, String title, int page, int size, Set<BookField> fields) {
+        public static Key of(String author, String title, int page, int size) {
+            return of(author, title, page, size, null);
+        }
+
+        public static Key of(String author, String title, int page, int size, Set<BookField> fields) {
+            return new Key(normalize(author), normalize(title), page, size, fields == null ? null : Set.copyOf(fields));
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Entry(long version, long expiresAt, List<BookResponse> books) {
+    }
+
+    private record Flight(Key key, long version) {
+    }
+
+    public record Stats(long hits, long misses, long coalesced, int size, long evictions) {
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /** 캐시된 결과, 없으면 loader 로 조회 (동시 미스는 한 번만 조회) */
+    public List<BookResponse> get(Key key, Supplier<List<BookResponse>> loader) {
+        if (!props.isEnabled()) {
+            return readOnlyTx.execute(status -> loader.get());
+        }
+        long current = version.get();
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            if (entry.version() == current && entry.expiresAt() > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.books();
+            }
+            cache.remove(key);
+        }
+
+        Flight flight = new Flight(key, current);
+        CompletableFuture<List<BookResponse>> mine = new CompletableFuture<>();
+        CompletableFuture<List<BookResponse>> running = inFlight.putIfAbsent(flight, mine);
+        if (running != null) {
+            // 조회는 첫 요청이 하므로, 기다리는 동안 작업 부류의 동시 실행 한도를 잡고 있지 않는다
+            coalesced.increment();
+            WorkloadContext.releasePermit();
+            return await(running);
+        }
+        misses.increment();
+        try {
+            List<BookResponse> books = List.copyOf(readOnlyTx.execute(status -> loader.get()));
+            if (version.get() == current) {
+                cache.put(key, new Entry(current, System.currentTimeMillis() + props.getTtl().toMillis(), books));
+            }
+            mine.complete(books);
+            return books;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, mine);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), coalesced.sum(), cache.size(), cache.evictions());
+    }
+
+    private static List<BookResponse> await(CompletableFuture<List<BookResponse>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ex.bookmanagement.service.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 캐시 (W-TinyLFU)
+ * - 새 항목은 작은 window(전체의 1%, LRU)에 먼저 들어간다.
+ * - window 에서 밀려난 후보는 main 의 희생자(probation 의 가장 오래된 항목)와 접근 빈도를 비교해,
+ *   더 자주 쓰인 쪽만 남긴다. 한 번 보고 마는 질의가 몰려도 인기 항목이 밀려나지 않는다.
+ * - main 은 probation(20%) / protected(80%) 두 구간 LRU 로, probation 에서 다시 읽힌 항목만 protected 로 올린다.
+ * - 모든 연산은 하나의 잠금 안에서 처리한다. (조회 비용이 DB 조회보다 훨씬 작으므로 단순하게 둔다)
+ */
+public final class TinyLfuCache<K, V> {
+    private final int windowMax;
+    private final int mainMax;
+    private final int protectedMax;
+
+    private final LinkedHashMap<K, V> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+
+    private long evictions;
+
+    public TinyLfuCache(int maximumSize) {
+        if (maximumSize < 2) {
+            throw new IllegalArgumentException("maximumSize must be >= 2");
+        }
+        this.windowMax = Math.max(1, maximumSize / 100);
+        this.mainMax = maximumSize - windowMax;
+        this.protectedMax = Math.max(1, mainMax * 4 / 5);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    public synchronized V get(K key) {
+        sketch.increment(key);
+        V value = window.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = protectedSegment.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = probation.remove(key);
+        if (value != null) {
+            promote(key, value);
+        }
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (window.containsKey(key)) {
+            window.put(key, value);
+            return;
+        }
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, value);
+            return;
+        }
+        if (probation.remove(key) != null) {
+            promote(key, value);
+            return;
+        }
+        sketch.increment(key);
+        window.put(key, value);
+        if (window.size() > windowMax) {
+            Map.Entry<K, V> candidate = pollEldest(window);
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    public synchronized void remove(K key) {
+        if (window.remove(key) == null && probation.remove(key) == null) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    /** window 에서 밀려난 후보를 main 에 넣을지 빈도로 결정 */
+    private void admit(K key, V value) {
+        if (probation.size() + protectedSegment.size() < mainMax) {
+            probation.put(key, value);
+            return;
+        }
+        LinkedHashMap<K, V> victims = probation.isEmpty() ? protectedSegment : probation;
+        K victim = victims.keySet().iterator().next();
+        evictions++;
+        if (sketch.frequency(key) > sketch.frequency(victim)) {
+            victims.remove(victim);
+            probation.put(key, value);
+        }
+    }
+
+    /** probation 에서 다시 읽힌 항목을 protected 로 올리고, 넘치면 가장 오래된 항목을 probation 으로 내린다 */
+    private void promote(K key, V value) {
+        protectedSegment.put(key, value);
+        if (protectedSegment.size() > protectedMax) {
+            Map.Entry<K, V> demoted = pollEldest(protectedSegment);
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    private static <K, V> Map.Entry<K, V> pollEldest(LinkedHashMap<K, V> map) {
+        Iterator<Map.Entry<K, V>> it = map.entrySet().iterator();
+        Map.Entry<K, V> eldest = it.next();
+        Map.Entry<K, V> copy = Map.entry(eldest.getKey(), eldest.getValue());
+        it.remove();
+        return copy;
+    }
+}
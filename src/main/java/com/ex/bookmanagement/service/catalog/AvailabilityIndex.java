@@ -0,0 +1,275 @@
+package com.ex.bookmanagement.service.catalog;
+
+import com.ex.bookmanagement.config.AvailabilityIndexProperties;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.dto.BookAvailabilityResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 도서별 대여 가능 여부 인덱스 (여러 도서 일괄 조회용)
+ * - 도서 id 를 그대로 위치로 쓰는 배열: 대여 가능 비트셋 + 재고 배열 + 상태 배열 + 변경 버전 배열.
+ *   도서 id 는 시퀀스 값이라 빈 자리가 적고, 도서당 약 13바이트다.
+ * - 재고/상태가 바뀐 커밋마다 그 도서 한 행을 변경 버전(change_version)과 함께 다시 읽어 반영한다.
+ *   읽기와 반영 사이에 더 새로운 행이 먼저 반영될 수 있으므로, 이미 반영한 버전보다 오래된 행은 버린다.
+ *   삭제된 도서는 버전을 남겨 두어 삭제 전에 읽은 행이 늦게 반영되어도 되살아나지 않는다.
+ * - 쓰기는 쓰기 잠금, 조회는 낙관적 읽기로 요청한 도서 전체를 읽는다.
+ *   읽는 중 쓰기가 있었으면 읽기 잠금으로 다시 읽으므로 한 번의 조회 결과는 같은 시점의 값이다.
+ * - 기동 시 book 테이블로 한 번 구축하고, 구축 중 들어온 변경은 대기열에 모았다가 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex {
+    private static final String BOOKS_SQL = "select id, book_status, stock, change_version from book";
+    private static final String BOOK_SQL = BOOKS_SQL + " where id = ?";
+    private static final BookStatus[] STATUSES = BookStatus.values();
+    private static final int MIN_CAPACITY = 1024;
+    /** 배열 위치로 쓸 수 있는 최대 id (넘는 도서는 인덱스에 없는 것으로 보고 DB 조회) */
+    private static final long MAX_ID = Integer.MAX_VALUE - 64;
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, i) ->
+            new Row(rs.getLong(1), BookStatus.valueOf(rs.getString(2)), rs.getInt(3), rs.getLong(4));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AvailabilityIndexProperties props;
+
+    private final StampedLock lock = new StampedLock();
+    private Table table = new Table(0);
+    private volatile boolean ready;
+    private volatile Queue<Long> pending;
+
+    record Row(long id, BookStatus status, int stock, long version) {
+    }
+
+    /** 조회 결과: 인덱스에 있는 도서(요청 순서)와 없는 도서 id */
+    public record Lookup(List<BookAvailabilityResponse> found, List<Long> missing) {
+    }
+
+    public boolean isReady() {
+        return props.isEnabled() && ready;
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (!props.isEnabled() || event.getType() == BookChangeType.CATEGORIES_CHANGED) {
+            return;
+        }
+        Queue<Long> queue = pending;
+        if (event.getType() == BookChangeType.DELETED) {
+            remove(event.getBookId(), event.getChangeVersion());
+        } else {
+            refresh(event.getBookId());
+        }
+        if (queue != null) {
+            queue.add(event.getBookId());
+        }
+    }
+
+    /** 커밋된 최신 행을 다시 읽어 반영 (행이 없으면 제거) */
+    public void refresh(long bookId) {
+        List<Row> rows = jdbcTemplate.query(BOOK_SQL, ROW_MAPPER, bookId);
+        if (rows.isEmpty()) {
+            remove(bookId, 0);
+        } else {
+            apply(rows.get(0));
+        }
+    }
+
+    /** book 테이블로 배열을 구축한 뒤 교체 */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void bootstrap() {
+        if (!props.isEnabled()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Queue<Long> queue = new ConcurrentLinkedQueue<>();
+        pending = queue;
+        try {
+            Table[] fresh = {new Table(0)};
+            jdbcTemplate.query(BOOKS_SQL, (RowCallbackHandler) rs -> {
+                long id = rs.getLong(1);
+                if (id >= 0 && id <= MAX_ID) {
+                    fresh[0] = fresh[0].ensureCapacity((int) id);
+                    fresh[0].put((int) id, BookStatus.valueOf(rs.getString(2)), rs.getInt(3), rs.getLong(4));
+                }
+            });
+            long stamp = lock.writeLock();
+            try {
+                table = fresh[0];
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            // 스캔 이후 커밋된 변경은 스캔 결과에 없을 수 있으므로 최신 행으로 다시 반영
+            Long bookId;
+            while ((bookId = queue.poll()) != null) {
+                refresh(bookId);
+            }
+            ready = true;
+            log.info("[availability] 도서 {}권 (대여 가능 {}권)으로 대여 가능 여부 인덱스 구축 ({}ms)",
+                    fresh[0].size, fresh[0].availableCount(), System.currentTimeMillis() - started);
+        } finally {
+            pending = null;
+        }
+    }
+
+    /**
+     * 요청한 도서들의 대여 가능 여부를 한 시점 기준으로 조회 (DB 조회 없음)
+     * - 인덱스에 없는 id 는 missing 으로 돌려준다. (방금 등록되어 아직 반영 전인 도서일 수 있음)
+     */
+    public Lookup lookup(Collection<Long> bookIds) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Lookup result = read(table, bookIds);
+            if (lock.validate(stamp)) {
+                return result;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return read(table, bookIds);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public Optional<BookAvailabilityResponse> get(long bookId) {
+        return lookup(List.of(bookId)).found().stream().findFirst();
+    }
+
+    private static Lookup read(Table t, Collection<Long> bookIds) {
+        List<BookAvailabilityResponse> found = new ArrayList<>(bookIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long bookId : bookIds) {
+            BookAvailabilityResponse entry = t.get(bookId);
+            if (entry != null) {
+                found.add(entry);
+            } else {
+                missing.add(bookId);
+            }
+        }
+        return new Lookup(found, missing);
+    }
+
+    /** 읽은 행 반영 (이미 반영한 버전보다 오래된 행은 무시) */
+    void apply(Row row) {
+        if (row.id() < 0 || row.id() > MAX_ID) {
+            return;
+        }
+        int id = (int) row.id();
+        long stamp = lock.writeLock();
+        try {
+            table = table.ensureCapacity(id);
+            if (row.version() >= table.version[id]) {
+                table.put(id, row.status(), row.stock(), row.version());
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** 도서 제거 (버전은 남겨 이전 행이 다시 반영되지 않게 한다, 0 = 알 수 없음) */
+    private void remove(long bookId, long version) {
+        if (bookId < 0 || bookId > MAX_ID) {
+            return;
+        }
+        int id = (int) bookId;
+        long stamp = lock.writeLock();
+        try {
+            table = table.ensureCapacity(id);
+            table.remove(id, version);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** 같은 용량의 배열들 (용량이 모자라면 더 큰 Table 로 교체) */
+    private static final class Table {
+        final long[] rentable;  // id 번째 비트 = 대여 가능 (대여 가능 상태 && 재고 > 0)
+        final int[] stock;
+        final byte[] status;    // BookStatus.ordinal() + 1, 0 = 없는 도서
+        final long[] version;   // 반영한 change_version (삭제 후에도 유지)
+        int size;
+
+        Table(int capacity) {
+            rentable = new long[(capacity + 63) >>> 6];
+            stock = new int[capacity];
+            status = new byte[capacity];
+            version = new long[capacity];
+        }
+
+        Table ensureCapacity(int id) {
+            if (id < status.length) {
+                return this;
+            }
+            long capacity = Math.max(id + 1L, Math.max(status.length * 2L, MIN_CAPACITY));
+            Table grown = new Table((int) Math.min(capacity, MAX_ID + 1));
+            System.arraycopy(rentable, 0, grown.rentable, 0, rentable.length);
+            System.arraycopy(stock, 0, grown.stock, 0, stock.length);
+            System.arraycopy(status, 0, grown.status, 0, status.length);
+            System.arraycopy(version, 0, grown.version, 0, version.length);
+            grown.size = size;
+            return grown;
+        }
+
+        void put(int id, BookStatus bookStatus, int bookStock, long changeVersion) {
+            if (status[id] == 0) {
+                size++;
+            }
+            status[id] = (byte) (bookStatus.ordinal() + 1);
+            stock[id] = bookStock;
+            version[id] = changeVersion;
+            if (bookStatus.isRentable() && bookStock > 0) {
+                rentable[id >>> 6] |= 1L << id;
+            } else {
+                rentable[id >>> 6] &= ~(1L << id);
+            }
+        }
+
+        void remove(int id, long changeVersion) {
+            version[id] = Math.max(version[id], changeVersion);
+            if (status[id] == 0) {
+                return;
+            }
+            size--;
+            status[id] = 0;
+            stock[id] = 0;
+            rentable[id >>> 6] &= ~(1L << id);
+        }
+
+        /** 낙관적 읽기 중에도 예외 없이 끝나도록 범위를 확인한다 (값은 validate 후에만 사용) */
+        BookAvailabilityResponse get(Long bookId) {
+            if (bookId == null || bookId < 0 || bookId >= status.length) {
+                return null;
+            }
+            int id = bookId.intValue();
+            int code = status[id];
+            if (code <= 0 || code > STATUSES.length) {
+                return null;
+            }
+            boolean available = (rentable[id >>> 6] & (1L << id)) != 0;
+            return new BookAvailabilityResponse(bookId, available, STATUSES[code - 1], stock[id]);
+        }
+
+        long availableCount() {
+            long count = 0;
+            for (long word : rentable) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.ex.bookmanagement.service.catalog;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.dto.BookResponse;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 오프힙 컬럼형 도서 스냅샷
+ * - 도서 1권 = 행 번호(idx). 행은 id 오름차순으로 정렬되어 있다.
+ * - 모든 컬럼은 direct ByteBuffer 에 저장되어 GC 대상이 아니다.
+ *   ids(long) / 문자열 참조(int x 8: 제목, 저자, 소문자 제목, 소문자 저자의 offset+length)
+ *   status(int, ordinal) / stock(int) / version(long, 반영한 변경 버전) / 카테고리 CSR(catOffsets int[n+1], catIds long[])
+ * - 제목/저자 문자열은 UTF-8 arena 에 중복 제거(intern)되어 한 번만 저장된다.
+ * - 재고/상태는 제자리 갱신(volatile) 가능하고, 그 외 구조 변경은 새 스냅샷을 만들어 교체한다.
+ */
+public final class CatalogSnapshot {
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final int DELETED = -1;
+    private static final int STRING_REFS = 8;
+    private static final BookStatus[] STATUSES = BookStatus.values();
+
+    private final int size;
+    private final ByteBuffer ids;
+    private final ByteBuffer strings;
+    private final ByteBuffer status;
+    private final ByteBuffer stock;
+    private final ByteBuffer version;
+    private final ByteBuffer catOffsets;
+    private final ByteBuffer catIds;
+    private final ByteBuffer arena;
+    private final Map<Long, String> categoryNames;
+
+    private CatalogSnapshot(int size, ByteBuffer ids, ByteBuffer strings, ByteBuffer status, ByteBuffer stock,
+                            ByteBuffer version, ByteBuffer catOffsets, ByteBuffer catIds, ByteBuffer arena,
+                            Map<Long, String> categoryNames) {
+        this.size = size;
+        this.ids = ids;
+        this.strings = strings;
+        this.status = status;
+        this.stock = stock;
+        this.version = version;
+        this.catOffsets = catOffsets;
+        this.catIds = catIds;
+        this.arena = arena;
+        this.categoryNames = categoryNames;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int idx) {
+        return ids.getLong(idx * 8);
+    }
+
+    /** id 로 행 번호 조회 (이분 탐색), 없으면 -1 */
+    public int indexOf(long id) {
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long v = id(mid);
+            if (v < id) {
+                lo = mid + 1;
+            } else if (v > id) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isLive(int idx) {
+        return (int) INT.getVolatile(status, idx * 4) != DELETED;
+    }
+
+    public BookStatus status(int idx) {
+        return STATUSES[(int) INT.getVolatile(status, idx * 4)];
+    }
+
+    public int stock(int idx) {
+        return (int) INT.getVolatile(stock, idx * 4);
+    }
+
+    public long version(int idx) {
+        return (long) LONG.getVolatile(version, idx * 8);
+    }
+
+    public void setStatus(int idx, BookStatus newStatus) {
+        INT.setVolatile(status, idx * 4, newStatus.ordinal());
+    }
+
+    public void setStock(int idx, int newStock) {
+        INT.setVolatile(stock, idx * 4, newStock);
+    }
+
+    public void setVersion(int idx, long newVersion) {
+        LONG.setVolatile(version, idx * 8, newVersion);
+    }
+
+    public void markDeleted(int idx) {
+        INT.setVolatile(status, idx * 4, DELETED);
+    }
+
+    public boolean isAvailable(int idx) {
+        return isLive(idx) && status(idx).isRentable() && stock(idx) > 0;
+    }
+
+    /** 소문자 제목/저자에 대한 부분 일치 (needle 은 소문자 UTF-8, null 이면 조건 없음) */
+    public boolean matches(int idx, byte[] authorNeedle, byte[] titleNeedle) {
+        return (authorNeedle == null || contains(stringRef(idx, 6), stringRef(idx, 7), authorNeedle))
+                && (titleNeedle == null || contains(stringRef(idx, 4), stringRef(idx, 5), titleNeedle));
+    }
+
+    /** 카테고리 id 집합 중 하나라도 연결되어 있는지 */
+    public boolean hasAnyCategory(int idx, Set<Long> categoryIdSet) {
+        int from = catOffsets.getInt(idx * 4);
+        int to = catOffsets.getInt((idx + 1) * 4);
+        for (int i = from; i < to; i++) {
+            if (categoryIdSet.contains(catIds.getLong(i * 8))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Map<Long, String> categoryNames() {
+        return categoryNames;
+    }
+
+    public BookResponse toResponse(int idx) {
+        int from = catOffsets.getInt(idx * 4);
+        int to = catOffsets.getInt((idx + 1) * 4);
+        List<String> categories = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            categories.add(categoryNames.get(catIds.getLong(i * 8)));
+        }
+        return BookResponse.builder()
+                .id(id(idx))
+                .title(decode(stringRef(idx, 0), stringRef(idx, 1)))
+                .author(decode(stringRef(idx, 2), stringRef(idx, 3)))
+                .bookStatus(status(idx))
+                .stock(stock(idx))
+                .categories(categories)
+                .build();
+    }
+
+    /** 오프힙 사용량 (bytes) */
+    public long offHeapBytes() {
+        return (long) ids.capacity() + strings.capacity() + status.capacity() + stock.capacity() + version.capacity()
+                + catOffsets.capacity() + catIds.capacity() + arena.capacity();
+    }
+
+    private int stringRef(int idx, int field) {
+        return strings.getInt((idx * STRING_REFS + field) * 4);
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        arena.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean contains(int offset, int length, byte[] needle) {
+        if (needle.length == 0) {
+            return true;
+        }
+        int last = offset + length - needle.length;
+        byte first = needle[0];
+        outer:
+        for (int i = offset; i <= last; i++) {
+            if (arena.get(i) != first) {
+                continue;
+            }
+            for (int j = 1; j < needle.length; j++) {
+                if (arena.get(i + j) != needle[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    static byte[] lowerUtf8(String s) {
+        return s == null ? null : s.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 스냅샷 빌더 (id 오름차순으로 add 해야 한다)
+     */
+    public static final class Builder {
+        private long[] ids = new long[1024];
+        private int[] strings = new int[1024 * STRING_REFS];
+        private int[] statuses = new int[1024];
+        private int[] stocks = new int[1024];
+        private long[] versions = new long[1024];
+        private int[] catOffsets = new int[1025];
+        private long[] catIds = new long[1024];
+        private int size;
+        private int catCount;
+
+        private byte[] arena = new byte[64 * 1024];
+        private int arenaSize;
+        private final Map<String, Long> interned = new HashMap<>();
+        private final Map<Long, String> categoryNames = new HashMap<>();
+
+        public Builder category(long id, String name) {
+            categoryNames.put(id, name);
+            return this;
+        }
+
+        public Builder add(long id, String title, String author, BookStatus bookStatus, int bookStock, long[] categoryIdsOfBook) {
+            return add(id, title, author, bookStatus, bookStock, 0, categoryIdsOfBook);
+        }
+
+        public Builder add(long id, String title, String author, BookStatus bookStatus, int bookStock, long changeVersion,
+                           long[] categoryIdsOfBook) {
+            if (size > 0 && ids[size - 1] >= id) {
+                throw new IllegalArgumentException("ids must be added in ascending order: " + id);
+            }
+            ensureRows(size + 1);
+            ids[size] = id;
+            putString(size, 0, title);
+            putString(size, 2, author);
+            putString(size, 4, title.toLowerCase(Locale.ROOT));
+            putString(size, 6, author.toLowerCase(Locale.ROOT));
+            statuses[size] = bookStatus.ordinal();
+            stocks[size] = bookStock;
+            versions[size] = changeVersion;
+
+            if (catCount + categoryIdsOfBook.length > catIds.length) {
+                catIds = Arrays.copyOf(catIds, Math.max(catIds.length * 2, catCount + categoryIdsOfBook.length));
+            }
+            System.arraycopy(categoryIdsOfBook, 0, catIds, catCount, categoryIdsOfBook.length);
+            catCount += categoryIdsOfBook.length;
+            size++;
+            catOffsets[size] = catCount;
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            ByteBuffer idBuf = direct(size * 8);
+            ByteBuffer strBuf = direct(size * STRING_REFS * 4);
+            ByteBuffer statusBuf = direct(size * 4);
+            ByteBuffer stockBuf = direct(size * 4);
+            ByteBuffer versionBuf = direct(size * 8);
+            ByteBuffer offBuf = direct((size + 1) * 4);
+            ByteBuffer catBuf = direct(catCount * 8);
+            for (int i = 0; i < size; i++) {
+                idBuf.putLong(i * 8, ids[i]);
+                statusBuf.putInt(i * 4, statuses[i]);
+                stockBuf.putInt(i * 4, stocks[i]);
+                versionBuf.putLong(i * 8, versions[i]);
+            }
+            for (int i = 0; i < size * STRING_REFS; i++) {
+                strBuf.putInt(i * 4, strings[i]);
+            }
+            for (int i = 0; i <= size; i++) {
+                offBuf.putInt(i * 4, catOffsets[i]);
+            }
+            for (int i = 0; i < catCount; i++) {
+                catBuf.putLong(i * 8, catIds[i]);
+            }
+            ByteBuffer arenaBuf = ByteBuffer.allocateDirect(Math.max(1, arenaSize));
+            arenaBuf.put(0, arena, 0, arenaSize);
+
+            return new CatalogSnapshot(size, idBuf, strBuf, statusBuf, stockBuf, versionBuf, offBuf, catBuf, arenaBuf,
+                    Map.copyOf(categoryNames));
+        }
+
+        private void putString(int row, int field, String value) {
+            long ref = interned.computeIfAbsent(value, this::appendToArena);
+            strings[row * STRING_REFS + field] = (int) (ref >>> 32);
+            strings[row * STRING_REFS + field + 1] = (int) ref;
+        }
+
+        private long appendToArena(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (arenaSize + bytes.length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + bytes.length));
+            }
+            System.arraycopy(bytes, 0, arena, arenaSize, bytes.length);
+            long ref = ((long) arenaSize << 32) | (bytes.length & 0xFFFFFFFFL);
+            arenaSize += bytes.length;
+            return ref;
+        }
+
+        private void ensureRows(int rows) {
+            if (rows <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(ids.length * 2, rows);
+            ids = Arrays.copyOf(ids, capacity);
+            strings = Arrays.copyOf(strings, capacity * STRING_REFS);
+            statuses = Arrays.copyOf(statuses, capacity);
+            stocks = Arrays.copyOf(stocks, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            catOffsets = Arrays.copyOf(catOffsets, capacity + 1);
+        }
+
+        private static ByteBuffer direct(int bytes) {
+            return ByteBuffer.allocateDirect(Math.max(8, bytes)).order(ByteOrder.nativeOrder());
+        }
+    }
+}
@@ -0,0 +1,473 @@
+package com.ex.bookmanagement.service.catalog;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.CategoryChangedEvent;
+import com.ex.bookmanagement.dto.BookAvailabilityResponse;
+import com.ex.bookmanagement.dto.BookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카탈로그 조회 전용 스냅샷 관리
+ * - 기동 시 DB 에서 오프힙 스냅샷(CatalogSnapshot)을 만들고, 이후 커밋된 도서 변경 이벤트로 갱신한다.
+ *   재고/상태 변경: 스냅샷 제자리 갱신
+ *   신규/카테고리 변경: 기존 행을 지우고 소량의 힙 overlay 에 최신 행 보관 → overlay 가 커지면 재구축
+ *   삭제: 행 삭제 표시
+ * - 카테고리 하위 트리(클로저 테이블)도 메모리에 두고, 재구축과 카테고리 변경 커밋 때 다시 읽는다.
+ * - 이벤트 반영과 재구축은 단일 스레드에서 순서대로 처리한다.
+ * - 커밋 순서와 이벤트 도착 순서가 어긋날 수 있으므로, 행마다 반영한 변경 버전(change_version)을 두고
+ *   그보다 오래된 재고/상태 이벤트는 버린다. refresh-interval 마다 전체 재구축으로도 보정한다.
+ * - 조회 시 DB 커넥션과 엔티티를 사용하지 않는다.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotService {
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int overlayRebuildThreshold;
+    private final ExecutorService applier = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "catalog-snapshot");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicBoolean categoriesStale = new AtomicBoolean();
+
+    private volatile State state;
+
+    public CatalogSnapshotService(JdbcTemplate jdbcTemplate,
+                                  @Value("${bookmanagement.catalog-snapshot.enabled:true}") boolean enabled,
+                                  @Value("${bookmanagement.catalog-snapshot.overlay-rebuild-threshold:1024}") int overlayRebuildThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.overlayRebuildThreshold = overlayRebuildThreshold;
+    }
+
+    /** 스냅샷 + 스냅샷 이후 구조가 바뀐 행(overlay) + 카테고리 하위 트리 */
+    private record State(CatalogSnapshot snapshot, ConcurrentSkipListMap<Long, OverlayRow> overlay,
+                         CategorySubtrees categories) {
+    }
+
+    public boolean isReady() {
+        return enabled && state != null;
+    }
+
+    // ===== 갱신 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            applier.execute(this::rebuild);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bookmanagement.catalog-snapshot.refresh-interval:PT5M}",
+            initialDelayString = "${bookmanagement.catalog-snapshot.refresh-interval:PT5M}")
+    public void refresh() {
+        if (enabled) {
+            applier.execute(this::rebuild);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (enabled) {
+            applier.execute(() -> apply(event));
+        }
+    }
+
+    /** 여러 변경이 몰려도 카테고리 트리는 한 번만 다시 읽는다 */
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (enabled && categoriesStale.compareAndSet(false, true)) {
+            applier.execute(this::reloadCategories);
+        }
+    }
+
+    private void reloadCategories() {
+        categoriesStale.set(false);
+        State current = state;
+        if (current != null) {
+            state = new State(current.snapshot(), current.overlay(), CategorySubtrees.load(jdbcTemplate));
+        }
+    }
+
+    private void apply(BookChangedEvent event) {
+        State current = state;
+        if (current == null) {
+            return; // 재구축이 최신 상태를 반영한다
+        }
+        CatalogSnapshot snapshot = current.snapshot();
+        long id = event.getBookId();
+
+        switch (event.getType()) {
+            case STOCK_CHANGED, STATUS_CHANGED -> {
+                long version = event.getChangeVersion();
+                OverlayRow row = current.overlay().get(id);
+                int idx = snapshot.indexOf(id);
+                if (row != null) {
+                    if (isStale(version, row.version)) {
+                        return;
+                    }
+                    row.status = event.getStatus();
+                    row.stock = event.getStock();
+                    row.version = Math.max(row.version, version);
+                } else if (idx >= 0 && snapshot.isLive(idx)) {
+                    if (isStale(version, snapshot.version(idx))) {
+                        return;
+                    }
+                    snapshot.setStatus(idx, event.getStatus());
+                    snapshot.setStock(idx, event.getStock());
+                    snapshot.setVersion(idx, Math.max(snapshot.version(idx), version));
+                } else {
+                    reload(current, id);
+                }
+            }
+            case DELETED -> {
+                current.overlay().remove(id);
+                int idx = snapshot.indexOf(id);
+                if (idx >= 0) {
+                    snapshot.markDeleted(idx);
+                }
+            }
+            case CREATED, CATEGORIES_CHANGED -> reload(current, id);
+        }
+
+        if (current.overlay().size() >= overlayRebuildThreshold) {
+            rebuild();
+        }
+    }
+
+    /** 이미 같거나 더 새로운 버전을 반영했으면 true (버전이 없는 이벤트는 그대로 반영) */
+    private static boolean isStale(long eventVersion, long appliedVersion) {
+        return eventVersion > 0 && eventVersion <= appliedVersion;
+    }
+
+    /** 한 권을 DB 에서 다시 읽어 overlay 로 옮김 */
+    private void reload(State current, long id) {
+        List<OverlayRow> rows = new ArrayList<>(1);
+        jdbcTemplate.query("""
+                select b.id, b.title, b.author, b.book_status, b.stock, b.change_version, c.category_id, c.name
+                from book b
+                  left join book_category bc on bc.book_id = b.id
+                  left join category c on c.category_id = bc.category_id
+                where b.id = ?
+                """, rs -> {
+            if (rows.isEmpty()) {
+                rows.add(new OverlayRow(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        BookStatus.valueOf(rs.getString(4)), rs.getInt(5), rs.getLong(6)));
+            }
+            long categoryId = rs.getLong(7);
+            if (!rs.wasNull()) {
+                rows.get(0).addCategory(categoryId, rs.getString(8));
+            }
+        }, id);
+
+        int idx = current.snapshot().indexOf(id);
+        if (idx >= 0) {
+            current.snapshot().markDeleted(idx);
+        }
+        if (rows.isEmpty()) {
+            current.overlay().remove(id);
+        } else {
+            current.overlay().put(id, rows.get(0));
+        }
+    }
+
+    /** DB 전체를 읽어 새 스냅샷으로 교체 */
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        CategorySubtrees categories = CategorySubtrees.load(jdbcTemplate);
+        categories.names.forEach(builder::category);
+
+        RowAccumulator acc = new RowAccumulator(builder);
+        jdbcTemplate.query("""
+                select b.id, b.title, b.author, b.book_status, b.stock, b.change_version, bc.category_id
+                from book b
+                  left join book_category bc on bc.book_id = b.id
+                order by b.id
+                """, acc::accept);
+        acc.flush();
+
+        CatalogSnapshot snapshot = builder.build();
+        state = new State(snapshot, new ConcurrentSkipListMap<>(), categories);
+        log.info("[catalog-snapshot] rebuilt books={}, offHeap={}KB in {}ms",
+                snapshot.size(), snapshot.offHeapBytes() / 1024, System.currentTimeMillis() - started);
+    }
+
+    // ===== 조회 =====
+
+    /** 전체 도서 (id 오름차순) */
+    public List<BookResponse> findAll() {
+        State st = state;
+        CatalogSnapshot s = st.snapshot();
+        Iterator<OverlayRow> ov = st.overlay().values().iterator();
+        OverlayRow next = ov.hasNext() ? ov.next() : null;
+        List<BookResponse> result = new ArrayList<>(s.size() + st.overlay().size());
+        int idx = 0;
+        while (idx < s.size() || next != null) {
+            if (next != null && (idx >= s.size() || next.id < s.id(idx))) {
+                result.add(next.toResponse());
+                next = ov.hasNext() ? ov.next() : null;
+            } else {
+                if (s.isLive(idx)) {
+                    result.add(s.toResponse(idx));
+                }
+                idx++;
+            }
+        }
+        return result;
+    }
+
+    /** 저자/제목 부분 일치 (id 내림차순 페이지) */
+    public List<BookResponse> searchByAuthorAndTitle(String author, String title, int page, int size) {
+        byte[] authorNeedle = CatalogSnapshot.lowerUtf8(author);
+        byte[] titleNeedle = CatalogSnapshot.lowerUtf8(title);
+        String authorLower = author == null ? null : author.toLowerCase(Locale.ROOT);
+        String titleLower = title == null ? null : title.toLowerCase(Locale.ROOT);
+        return pageDesc(new RowFilter() {
+            @Override
+            public boolean test(CatalogSnapshot s, int idx) {
+                return s.matches(idx, authorNeedle, titleNeedle);
+            }
+
+            @Override
+            public boolean test(OverlayRow row) {
+                return (authorLower == null || row.authorLower.contains(authorLower))
+                        && (titleLower == null || row.titleLower.contains(titleLower));
+            }
+        }, page, size);
+    }
+
+    /** 카테고리 id/이름 조건, 하위 카테고리 포함 (id 내림차순 페이지) */
+    public List<BookResponse> searchByCategory(Long categoryId, String categoryName, int page, int size) {
+        Set<Long> targets = state.categories().subtrees(categoryId, categoryName);
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+        return pageDesc(new RowFilter() {
+            @Override
+            public boolean test(CatalogSnapshot s, int idx) {
+                return s.hasAnyCategory(idx, targets);
+            }
+
+            @Override
+            public boolean test(OverlayRow row) {
+                for (Long id : row.categoryIds) {
+                    if (targets.contains(id)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }, page, size);
+    }
+
+    /** 대여 가능 여부 (스냅샷에 없으면 empty) */
+    public Optional<BookAvailabilityResponse> availability(long bookId) {
+        State st = state;
+        OverlayRow row = st.overlay().get(bookId);
+        if (row != null) {
+            return Optional.of(new BookAvailabilityResponse(bookId, row.status.isRentable() && row.stock > 0,
+                    row.status, row.stock));
+        }
+        CatalogSnapshot s = st.snapshot();
+        int idx = s.indexOf(bookId);
+        if (idx < 0 || !s.isLive(idx)) {
+            return Optional.empty();
+        }
+        return Optional.of(new BookAvailabilityResponse(bookId, s.isAvailable(idx), s.status(idx), s.stock(idx)));
+    }
+
+    /** 스냅샷(역순)과 overlay(역순)를 id 내림차순으로 병합하며 조건에 맞는 페이지만 응답 객체로 만든다 */
+    private List<BookResponse> pageDesc(RowFilter filter, int page, int size) {
+        State st = state;
+        CatalogSnapshot s = st.snapshot();
+        Iterator<OverlayRow> ov = st.overlay().descendingMap().values().iterator();
+        OverlayRow next = ov.hasNext() ? ov.next() : null;
+        long skip = (long) page * size;
+        List<BookResponse> result = new ArrayList<>(size);
+        int idx = s.size() - 1;
+
+        while (result.size() < size && (idx >= 0 || next != null)) {
+            if (next != null && (idx < 0 || next.id > s.id(idx))) {
+                OverlayRow row = next;
+                next = ov.hasNext() ? ov.next() : null;
+                if (filter.test(row)) {
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        result.add(row.toResponse());
+                    }
+                }
+            } else {
+                int i = idx--;
+                if (s.isLive(i) && filter.test(s, i)) {
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        result.add(s.toResponse(i));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /** 카테고리 이름과 조상 → 하위 카테고리 id (자기 자신 포함, category_closure 기준) */
+    private static final class CategorySubtrees {
+        private final Map<Long, String> names = new HashMap<>();
+        private final Map<Long, String> lowerNames = new HashMap<>();
+        private final Map<Long, long[]> descendants = new HashMap<>();
+
+        static CategorySubtrees load(JdbcTemplate jdbcTemplate) {
+            CategorySubtrees trees = new CategorySubtrees();
+            jdbcTemplate.query("select category_id, name from category", rs -> {
+                trees.names.put(rs.getLong(1), rs.getString(2));
+                trees.lowerNames.put(rs.getLong(1), rs.getString(2).toLowerCase(Locale.ROOT));
+            });
+            Map<Long, List<Long>> rows = new HashMap<>();
+            jdbcTemplate.query("select ancestor_id, descendant_id from category_closure",
+                    rs -> { rows.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2)); });
+            rows.forEach((ancestorId, ids) ->
+                    trees.descendants.put(ancestorId, ids.stream().mapToLong(Long::longValue).toArray()));
+            return trees;
+        }
+
+        /** id 가 같고(지정 시) 이름에 categoryName 을 포함하는(지정 시) 카테고리들의 하위 트리 id */
+        Set<Long> subtrees(Long categoryId, String categoryName) {
+            String needle = categoryName == null ? null : categoryName.toLowerCase(Locale.ROOT);
+            Set<Long> targets = new HashSet<>();
+            if (categoryId != null) {
+                addSubtree(categoryId, needle, targets);
+            } else {
+                for (Long ancestorId : descendants.keySet()) {
+                    addSubtree(ancestorId, needle, targets);
+                }
+            }
+            return targets;
+        }
+
+        private void addSubtree(long ancestorId, String needle, Set<Long> targets) {
+            long[] ids = descendants.get(ancestorId);
+            if (ids == null) {
+                return;
+            }
+            if (needle != null) {
+                String name = lowerNames.get(ancestorId);
+                if (name == null || !name.contains(needle)) {
+                    return;
+                }
+            }
+            for (long id : ids) {
+                targets.add(id);
+            }
+        }
+    }
+
+    private interface RowFilter {
+        boolean test(CatalogSnapshot snapshot, int idx);
+
+        boolean test(OverlayRow row);
+    }
+
+    /** 스냅샷 이후 추가/변경된 행 (힙) */
+    static final class OverlayRow {
+        final long id;
+        final String title;
+        final String author;
+        final String titleLower;
+        final String authorLower;
+        final List<Long> categoryIds = new ArrayList<>(2);
+        final List<String> categoryNames = new ArrayList<>(2);
+        volatile BookStatus status;
+        volatile int stock;
+        volatile long version;
+
+        OverlayRow(long id, String title, String author, BookStatus status, int stock, long version) {
+            this.id = id;
+            this.title = title;
+            this.author = author;
+            this.titleLower = title.toLowerCase(Locale.ROOT);
+            this.authorLower = author.toLowerCase(Locale.ROOT);
+            this.status = status;
+            this.stock = stock;
+            this.version = version;
+        }
+
+        void addCategory(long categoryId, String name) {
+            categoryIds.add(categoryId);
+            categoryNames.add(name);
+        }
+
+        BookResponse toResponse() {
+            return BookResponse.builder()
+                    .id(id)
+                    .title(title)
+                    .author(author)
+                    .bookStatus(status)
+                    .stock(stock)
+                    .categories(List.copyOf(categoryNames))
+                    .build();
+        }
+    }
+
+    /** book left join book_category 결과(도서 id 순)를 도서 단위로 묶어 빌더에 추가 */
+    private static final class RowAccumulator {
+        private final CatalogSnapshot.Builder builder;
+        private long id = -1;
+        private String title;
+        private String author;
+        private BookStatus status;
+        private int stock;
+        private long version;
+        private long[] categories = new long[4];
+        private int categoryCount;
+
+        RowAccumulator(CatalogSnapshot.Builder builder) {
+            this.builder = builder;
+        }
+
+        void accept(java.sql.ResultSet rs) throws java.sql.SQLException {
+            long rowId = rs.getLong(1);
+            if (rowId != id) {
+                flush();
+                id = rowId;
+                title = rs.getString(2);
+                author = rs.getString(3);
+                status = BookStatus.valueOf(rs.getString(4));
+                stock = rs.getInt(5);
+                version = rs.getLong(6);
+            }
+            long categoryId = rs.getLong(7);
+            if (!rs.wasNull()) {
+                if (categoryCount == categories.length) {
+                    categories = Arrays.copyOf(categories, categoryCount * 2);
+                }
+                categories[categoryCount++] = categoryId;
+            }
+        }
+
+        void flush() {
+            if (id >= 0) {
+                builder.add(id, title, author, status, stock, version, Arrays.copyOf(categories, categoryCount));
+            }
+            id = -1;
+            categoryCount = 0;
+        }
+    }
+}
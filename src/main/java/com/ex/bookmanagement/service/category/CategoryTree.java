@@ -0,0 +1,110 @@
+package com.ex.bookmanagement.service.category;
+
+import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.domain.CategoryClosure;
+import com.ex.bookmanagement.domain.event.CategoryChangedEvent;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.CategoryClosureRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리 (클로저 테이블) 관리와 하위 트리 도서 수 증분 갱신
+ * - 도서 수는 "변경 전 / 후에 영향받는 도서들만 놓고 센 조상별 도서 수" 의 차이만큼 더한다.
+ *   영향받지 않는 도서의 기여는 그대로이므로 전체를 다시 세지 않아도 중복 없는 값이 유지된다.
+ * - 기동 시 한 번 클로저 행이 없는 카테고리(JDBC 적재분)를 보완하고 도서 수를 다시 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTree {
+    private static final int IN_CHUNK = 1000;
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository closureRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 변경 전 스냅샷: bookIds 만 놓고 센 조상 카테고리별 도서 수 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Long> countBooks(Collection<Long> bookIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> ids = List.copyOf(bookIds);
+        for (int from = 0; from < ids.size(); from += IN_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + IN_CHUNK));
+            for (Object[] row : closureRepository.countBooksByAncestor(chunk)) {
+                counts.merge((Long) row[0], (Long) row[1], Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /** 변경 후 다시 세어 before 와의 차이를 조상 카테고리의 도서 수에 반영 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyBookCounts(Collection<Long> bookIds, Map<Long, Long> before) {
+        Map<Long, Long> delta = new HashMap<>(countBooks(bookIds));
+        before.forEach((ancestorId, count) -> delta.merge(ancestorId, -count, Long::sum));
+        delta.forEach((ancestorId, d) -> {
+            if (d != 0) {
+                categoryRepository.addBookCount(ancestorId, d);
+            }
+        });
+    }
+
+    /**
+     * 카테고리를 newParent 아래로 이동 (null 이면 최상위)
+     * - 하위 트리의 각 카테고리에서 트리 밖 조상 행만 교체하고, 트리 안 행은 그대로 둔다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Category category, Category newParent) {
+        List<CategoryClosure> subtree = closureRepository.findSubtree(category.getId());
+        Set<Long> subtreeIds = new HashSet<>();
+        subtree.forEach(row -> subtreeIds.add(row.getDescendant().getId()));
+        if (newParent != null && subtreeIds.contains(newParent.getId())) {
+            throw new BusinessException(ErrorCode.CATEGORY_CYCLE,
+                    Map.of("id", category.getId(), "parentId", newParent.getId()));
+        }
+
+        List<Long> bookIds = closureRepository.findBookIdsInSubtree(category.getId());
+        Map<Long, Long> before = countBooks(bookIds);
+
+        for (CategoryClosure row : subtree) {
+            Map<Category, Integer> newAncestors = new HashMap<>();
+            if (newParent != null) {
+                for (CategoryClosure parentRow : newParent.getAncestors()) {
+                    newAncestors.put(parentRow.getAncestor(), parentRow.getDepth() + row.getDepth() + 1);
+                }
+            }
+            row.getDescendant().replaceAncestors(subtreeIds, newAncestors);
+        }
+        category.changeParent(newParent);
+
+        applyBookCounts(bookIds, before);
+    }
+
+    /** 기동 시 클로저 보완 + 도서 수 재계산 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Category> missing = categoryRepository.findWithoutClosure();
+            missing.forEach(Category::attachAsRoot);
+            missing.forEach(category -> eventPublisher.publishEvent(new CategoryChangedEvent(category.getId())));
+            categoryRepository.flush();
+            int updated = categoryRepository.recountBooks();
+            if (!missing.isEmpty()) {
+                log.info("[category] 클로저 행 {}건 보완, 카테고리 {}개 도서 수 재계산", missing.size(), updated);
+            }
+        });
+    }
+}
@@ -0,0 +1,231 @@
+package com.ex.bookmanagement.service.fuzzy;
+
+import com.ex.bookmanagement.config.FuzzyProperties;
+import com.ex.bookmanagement.domain.FuzzyField;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 오타 허용 제목/저자 인덱스
+ * - 제목/저자를 단어로 나눠 필드별 단어 트라이에 넣는다. 긴 제목 전체가 아니라 단어 사전 위에서 거리를 계산하므로
+ *   도서가 많아도 질의 단어당 탐색 범위가 작다.
+ * - 질의의 모든 단어가 같은 필드에서 거리 안에 들어야 하며(AND), 도서의 거리는 단어별 최소 거리의 합이다.
+ * - 도서 등록/삭제가 커밋되면 바로 반영하고, 기동 시 book 테이블로 한 번 구축한다.
+ *   구축 중 들어온 변경은 대기열에 모았다가 새 트라이에 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FuzzyIndex {
+    private static final String BOOKS_SQL = "select id, title, author from book";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookRepository bookRepository;
+    private final FuzzyProperties props;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final EnumMap<FuzzyField, WordTrie> tries = newTries();
+    private volatile Queue<Change> pending;
+
+    public record Match(long bookId, FuzzyField field, int distance, String matched) {
+    }
+
+    /** 구축 중 들어온 변경 (삭제면 title/author 가 null) */
+    private record Change(long bookId, String title, String author) {
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        Change change;
+        if (event.getType() == BookChangeType.CREATED) {
+            change = bookRepository.findById(event.getBookId())
+                    .map(book -> new Change(book.getId(), book.getTitle(), book.getAuthor()))
+                    .orElse(null);
+        } else if (event.getType() == BookChangeType.DELETED) {
+            change = new Change(event.getBookId(), null, null);
+        } else {
+            return;
+        }
+        if (change == null) {
+            return;
+        }
+        Queue<Change> queue = pending;
+        apply(change);
+        if (queue != null) {
+            queue.add(change);
+        }
+    }
+
+    /** book 테이블로 트라이를 구축한 뒤 교체 */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void bootstrap() {
+        long started = System.currentTimeMillis();
+        Queue<Change> queue = new ConcurrentLinkedQueue<>();
+        pending = queue;
+        try {
+            EnumMap<FuzzyField, WordTrie> fresh = newTries();
+            jdbcTemplate.query(BOOKS_SQL, (RowCallbackHandler) rs -> {
+                long bookId = rs.getLong(1);
+                fresh.get(FuzzyField.TITLE).add(bookId, FuzzyText.words(rs.getString(2)));
+                fresh.get(FuzzyField.AUTHOR).add(bookId, FuzzyText.words(rs.getString(3)));
+            });
+            lock.writeLock().lock();
+            try {
+                tries.putAll(fresh);
+                Change change;
+                while ((change = queue.poll()) != null) {
+                    applyLocked(change);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("[fuzzy] 도서 {}권, 제목 단어 {}개, 저자 단어 {}개로 오타 검색 인덱스 구축 ({}ms)",
+                    fresh.get(FuzzyField.TITLE).bookCount(), fresh.get(FuzzyField.TITLE).liveTerms(),
+                    fresh.get(FuzzyField.AUTHOR).liveTerms(), System.currentTimeMillis() - started);
+        } finally {
+            pending = null;
+        }
+    }
+
+    public void add(long bookId, String title, String author) {
+        apply(new Change(bookId, title, author));
+    }
+
+    public void remove(long bookId) {
+        apply(new Change(bookId, null, null));
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(Change change) {
+        if (change.title() == null) {
+            for (Map.Entry<FuzzyField, WordTrie> e : tries.entrySet()) {
+                WordTrie trie = e.getValue();
+                if (trie.remove(change.bookId())
+                        && trie.deadTerms() > props.getCompactThreshold() && trie.deadTerms() > trie.liveTerms()) {
+                    e.setValue(trie.compact());
+                }
+            }
+            return;
+        }
+        tries.get(FuzzyField.TITLE).add(change.bookId(), FuzzyText.words(change.title()));
+        tries.get(FuzzyField.AUTHOR).add(change.bookId(), FuzzyText.words(change.author()));
+    }
+
+    /**
+     * 거리 순 상위 limit 건 (같은 거리면 제목 일치 우선, 다음 id 순)
+     * @param field       null 이면 제목/저자 모두
+     * @param maxDistance null 이면 단어 길이에 따라 자동 (짧은 단어 1, 긴 단어 max-distance)
+     */
+    public List<Match> search(String query, FuzzyField field, Integer maxDistance, int limit) {
+        List<String> words = FuzzyText.words(query);
+        if (words.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        int[] bounds = new int[words.size()];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = bound(words.get(i), maxDistance);
+        }
+
+        Map<Long, Match> best = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (FuzzyField f : field == null ? FuzzyField.values() : new FuzzyField[]{field}) {
+                for (Match match : searchField(f, tries.get(f), words, bounds)) {
+                    best.merge(match.bookId(), match, (a, b) -> compare(a, b) <= 0 ? a : b);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return best.values().stream()
+                .sorted(FuzzyIndex::compare)
+                .limit(limit)
+                .toList();
+    }
+
+    /** 질의 단어마다 후보를 좁혀 가며(교집합) 단어별 최소 거리를 더한다 */
+    private static List<Match> searchField(FuzzyField field, WordTrie trie, List<String> words, int[] bounds) {
+        Map<Long, Match> acc = null;
+        for (int i = 0; i < words.size(); i++) {
+            Map<Long, Match> previous = acc;
+            Map<Long, Match> current = new HashMap<>();
+            trie.search(words.get(i), bounds[i], (word, distance, bookIds, count) -> {
+                for (int j = 0; j < count; j++) {
+                    long bookId = bookIds[j];
+                    if (previous != null && !previous.containsKey(bookId)) {
+                        continue;
+                    }
+                    Match seen = current.get(bookId);
+                    if (seen == null || distance < seen.distance()) {
+                        current.put(bookId, new Match(bookId, field, distance, FuzzyText.display(word)));
+                    }
+                }
+            });
+            if (previous != null) {
+                current.replaceAll((bookId, m) -> {
+                    Match p = previous.get(bookId);
+                    return new Match(bookId, field, p.distance() + m.distance(), p.matched() + " " + m.matched());
+                });
+            }
+            acc = current;
+            if (acc.isEmpty()) {
+                break;
+            }
+        }
+        return acc == null ? List.of() : List.copyOf(acc.values());
+    }
+
+    private int bound(String word, Integer requested) {
+        int jamo = word.codePointCount(0, word.length());
+        int auto = jamo <= 2 ? 0 : jamo <= props.getShortWordLength() ? 1 : props.getMaxDistance();
+        int limit = requested == null ? auto : requested;
+        return Math.max(0, Math.min(limit, props.getMaxDistance()));
+    }
+
+    private static int compare(Match a, Match b) {
+        int cmp = Integer.compare(a.distance(), b.distance());
+        if (cmp == 0) {
+            cmp = a.field().compareTo(b.field());
+        }
+        return cmp != 0 ? cmp : Long.compare(a.bookId(), b.bookId());
+    }
+
+    /** 인덱스에 등록된 도서 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tries.get(FuzzyField.TITLE).bookCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static EnumMap<FuzzyField, WordTrie> newTries() {
+        EnumMap<FuzzyField, WordTrie> map = new EnumMap<>(FuzzyField.class);
+        for (FuzzyField field : FuzzyField.values()) {
+            map.put(field, new WordTrie());
+        }
+        return map;
+    }
+}
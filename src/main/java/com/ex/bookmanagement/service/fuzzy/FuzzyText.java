@@ -0,0 +1,48 @@
+package com.ex.bookmanagement.service.fuzzy;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 오타 검색용 정규화
+ * - NFKD 로 한글 음절을 초성/중성/종성 자모로 풀고, 호환 자모(ㄱ, ㅏ)도 같은 자모로 맞춘다.
+ *   그래서 "김" 과 "긴" 의 거리는 1(종성 하나)이고, 입력 중인 "홍길ㄷ" 도 "홍길동" 과 가깝다.
+ * - 소문자화하고 결합 기호(악센트)는 버린 뒤, 글자/숫자 연속 구간을 단어로 자른다.
+ */
+final class FuzzyText {
+
+    private FuzzyText() {
+    }
+
+    /** 정규화된 단어 목록 (자모 단위 문자열) */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKD).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        normalized.codePoints().forEach(cp -> {
+            if (Character.getType(cp) == Character.NON_SPACING_MARK) {
+                return;
+            }
+            if (Character.isLetterOrDigit(cp)) {
+                word.appendCodePoint(cp);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        });
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    /** 자모 단위 문자열을 사람이 읽는 형태(NFC)로 */
+    static String display(String word) {
+        return Normalizer.normalize(word, Normalizer.Form.NFC);
+    }
+}
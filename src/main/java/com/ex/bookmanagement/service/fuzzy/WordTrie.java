@@ -0,0 +1,233 @@
+package com.ex.bookmanagement.service.fuzzy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단어 사전 트라이 + Levenshtein 탐색 (거리 = 자모 단위 편집 거리)
+ * - 트라이를 깊이 우선으로 내려가며 질의와의 편집 거리 DP 행을 한 줄씩 이어 계산한다.
+ *   (Levenshtein 오토마톤을 사전 위에서 그대로 돌리는 것과 같다)
+ *   행의 최솟값이 k 를 넘으면 그 아래 단어는 모두 k 를 넘으므로 가지를 자른다.
+ * - 공통 접두어를 한 번만 계산하므로 단어마다 거리를 따로 구하는 방식(BK-tree)보다 비교 횟수가 훨씬 적다.
+ * - 단어마다 그 단어를 가진 도서 id 목록을 둔다. 도서가 삭제되어 목록이 빈 단어는 결과에서만 뺀다.
+ * - 노드는 배열에 저장한다. (자식 = firstChild/nextSibling 연결 목록)
+ * - 동기화는 호출하는 쪽(FuzzyIndex)이 맡는다.
+ */
+final class WordTrie {
+    private static final int NO_TERM = -1;
+
+    // 노드
+    private int[] firstChild = new int[1024];
+    private int[] nextSibling = new int[1024];
+    private int[] labels = new int[1024];
+    private int[] terms = filled(1024);
+    private int nodeCount = 1; // 0 = 루트
+
+    // 단어
+    private String[] words = new String[256];
+    private long[][] postings = new long[256][];
+    private int[] postingSizes = new int[256];
+    private int termCount;
+    private int liveTerms;
+
+    private final Map<Long, int[]> termsByBook = new HashMap<>();
+
+    @FunctionalInterface
+    interface MatchConsumer {
+        void accept(String word, int distance, long[] bookIds, int count);
+    }
+
+    /** 도서의 단어들을 등록 (이미 등록된 도서/단어 쌍은 무시) */
+    void add(long bookId, List<String> bookWords) {
+        int[] bookTerms = termsByBook.getOrDefault(bookId, new int[0]);
+        for (String word : bookWords) {
+            int term = termOf(word);
+            if (contains(bookTerms, term)) {
+                continue;
+            }
+            int n = postingSizes[term];
+            if (n == 0) {
+                liveTerms++;
+            }
+            if (n == postings[term].length) {
+                postings[term] = Arrays.copyOf(postings[term], n * 2);
+            }
+            postings[term][n] = bookId;
+            postingSizes[term] = n + 1;
+            bookTerms = Arrays.copyOf(bookTerms, bookTerms.length + 1);
+            bookTerms[bookTerms.length - 1] = term;
+        }
+        if (bookTerms.length > 0) {
+            termsByBook.put(bookId, bookTerms);
+        }
+    }
+
+    /** 도서 제거, 제거되었으면 true */
+    boolean remove(long bookId) {
+        int[] bookTerms = termsByBook.remove(bookId);
+        if (bookTerms == null) {
+            return false;
+        }
+        for (int term : bookTerms) {
+            long[] list = postings[term];
+            int n = postingSizes[term];
+            for (int i = 0; i < n; i++) {
+                if (list[i] == bookId) {
+                    list[i] = list[n - 1];
+                    postingSizes[term] = n - 1;
+                    if (n == 1) {
+                        liveTerms--;
+                    }
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** 질의 단어와 거리 k 이내인 단어(도서가 남아 있는 것)를 전달 */
+    void search(String query, int k, MatchConsumer consumer) {
+        int[] q = query.codePoints().toArray();
+        int maxDepth = q.length + k;
+        int[][] rows = new int[maxDepth + 1][q.length + 1];
+        for (int j = 0; j <= q.length; j++) {
+            rows[0][j] = j;
+        }
+
+        int[] stackNode = new int[64];
+        int[] stackDepth = new int[64];
+        int top = 0;
+        for (int child = firstChild[0]; child != 0; child = nextSibling[child]) {
+            stackNode[top] = child;
+            stackDepth[top++] = 1;
+        }
+        while (top > 0) {
+            int node = stackNode[--top];
+            int depth = stackDepth[top];
+            int[] prev = rows[depth - 1];
+            int[] row = rows[depth];
+            int label = labels[node];
+            row[0] = depth;
+            int min = depth;
+            for (int j = 1; j <= q.length; j++) {
+                int cost = q[j - 1] == label ? 0 : 1;
+                int v = Math.min(Math.min(row[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                row[j] = v;
+                min = Math.min(min, v);
+            }
+
+            int term = terms[node];
+            if (term != NO_TERM && row[q.length] <= k && postingSizes[term] > 0) {
+                consumer.accept(words[term], row[q.length], postings[term], postingSizes[term]);
+            }
+            if (min > k || depth == maxDepth) {
+                continue;
+            }
+            for (int child = firstChild[node]; child != 0; child = nextSibling[child]) {
+                if (top == stackNode.length) {
+                    stackNode = Arrays.copyOf(stackNode, top * 2);
+                    stackDepth = Arrays.copyOf(stackDepth, top * 2);
+                }
+                stackNode[top] = child;
+                stackDepth[top++] = depth + 1;
+            }
+        }
+    }
+
+    int liveTerms() {
+        return liveTerms;
+    }
+
+    int deadTerms() {
+        return termCount - liveTerms;
+    }
+
+    int bookCount() {
+        return termsByBook.size();
+    }
+
+    /** 도서가 남아 있는 단어만으로 새 트라이 구성 */
+    WordTrie compact() {
+        WordTrie fresh = new WordTrie();
+        int[] mapped = new int[termCount];
+        for (int term = 0; term < termCount; term++) {
+            if (postingSizes[term] > 0) {
+                int copy = fresh.termOf(words[term]);
+                fresh.postings[copy] = Arrays.copyOf(postings[term], postingSizes[term]);
+                fresh.postingSizes[copy] = postingSizes[term];
+                fresh.liveTerms++;
+                mapped[term] = copy;
+            }
+        }
+        termsByBook.forEach((bookId, bookTerms) -> {
+            int[] copy = new int[bookTerms.length];
+            for (int i = 0; i < bookTerms.length; i++) {
+                copy[i] = mapped[bookTerms[i]];
+            }
+            fresh.termsByBook.put(bookId, copy);
+        });
+        return fresh;
+    }
+
+    /** 단어의 번호 (없으면 노드/단어를 만든다) */
+    private int termOf(String word) {
+        int node = 0;
+        for (int i = 0; i < word.length(); ) {
+            int cp = word.codePointAt(i);
+            i += Character.charCount(cp);
+            int child = firstChild[node];
+            while (child != 0 && labels[child] != cp) {
+                child = nextSibling[child];
+            }
+            if (child == 0) {
+                child = newNode(cp);
+                nextSibling[child] = firstChild[node];
+                firstChild[node] = child;
+            }
+            node = child;
+        }
+        if (terms[node] == NO_TERM) {
+            if (termCount == words.length) {
+                int capacity = termCount * 2;
+                words = Arrays.copyOf(words, capacity);
+                postings = Arrays.copyOf(postings, capacity);
+                postingSizes = Arrays.copyOf(postingSizes, capacity);
+            }
+            words[termCount] = word;
+            postings[termCount] = new long[1];
+            terms[node] = termCount++;
+        }
+        return terms[node];
+    }
+
+    private int newNode(int label) {
+        if (nodeCount == labels.length) {
+            int capacity = nodeCount * 2;
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+            int[] grown = filled(capacity);
+            System.arraycopy(terms, 0, grown, 0, nodeCount);
+            terms = grown;
+        }
+        labels[nodeCount] = label;
+        return nodeCount++;
+    }
+
+    private static int[] filled(int capacity) {
+        int[] array = new int[capacity];
+        Arrays.fill(array, NO_TERM);
+        return array;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ex.bookmanagement.service.hold;
+
+import com.ex.bookmanagement.domain.HoldStatus;
+import com.ex.bookmanagement.repository.BookHoldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중(WAITING/READY) 예약이 있을 수 있는 도서 id 의 메모리 색인
+ * - 반납/대여마다 예약 테이블을 조회하지 않도록, 색인에 없는 도서는 예약이 없다고 보고 바로 넘어간다.
+ * - 색인은 힌트다. 있다고 표시된 도서는 테이블을 조회해 확인하고, 실제로 없으면 그때 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldQueueIndex {
+    static final Set<HoldStatus> ACTIVE = EnumSet.of(HoldStatus.WAITING, HoldStatus.READY);
+
+    private final BookHoldRepository bookHoldRepository;
+    private final Set<Long> bookIds = ConcurrentHashMap.newKeySet();
+
+    /** 기동 시 테이블에서 색인 복원 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        bookIds.addAll(bookHoldRepository.findBookIdsByHoldStatusIn(ACTIVE));
+        log.info("[hold] 진행 중인 예약이 있는 도서 {}권 색인", bookIds.size());
+    }
+
+    public boolean mayHaveHolds(Long bookId) {
+        return bookIds.contains(bookId);
+    }
+
+    public void mark(Long bookId) {
+        bookIds.add(bookId);
+    }
+
+    public void unmark(Long bookId) {
+        bookIds.remove(bookId);
+    }
+
+    public int size() {
+        return bookIds.size();
+    }
+}
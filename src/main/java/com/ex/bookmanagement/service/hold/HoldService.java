@@ -0,0 +1,195 @@
+package com.ex.bookmanagement.service.hold;
+
+import com.ex.bookmanagement.config.Bulkhead;
+import com.ex.bookmanagement.config.HoldProperties;
+import com.ex.bookmanagement.config.WorkloadClass;
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookHold;
+import com.ex.bookmanagement.domain.HoldStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.HoldChangedEvent;
+import com.ex.bookmanagement.dto.HoldResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookHoldRepository;
+import com.ex.bookmanagement.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 도서 예약 대기
+ * - 재고가 없는 도서에 예약을 걸면 도서별 FIFO 대기열(book_hold)에 들어간다.
+ * - 재고가 늘어나는 시점(반납, 동일 도서 추가 입고, 상태 복구)에 같은 트랜잭션에서 대기열 맨 앞 예약에 한 권을 배정(READY)하고
+ *   재고에서 뺀다. 배정 이벤트(HoldChangedEvent)는 아웃박스를 통해 예약자 안내로 발행된다.
+ * - 수령 기한이 지난 배정은 주기적으로 만료시키고, 그 한 권은 다음 대기자에게 넘기거나 재고로 되돌린다.
+ * - 대여/반납/예약 등록/배정/해제가 모두 도서 행 잠금(findByIdForUpdate) 아래에서 재고를 바꾸므로 서로 직렬화되어,
+ *   반납과 예약 등록이 엇갈려도 예약이 누락되지 않고 배정된 한 권이 다른 대여로 빠지지 않는다.
+ * - 잠금 순서는 항상 도서 행 → 예약 행이다. 예약에서 시작하는 취소/만료도 예약을 잠그지 않고 읽어 도서를 먼저 잠근 뒤
+ *   예약을 잠가 상태를 다시 확인하므로, 배정된 예약자의 대여(도서 → 예약)와 교착되지 않는다.
+ */
+@Slf4j
+@Service
+@Bulkhead(WorkloadClass.RENTAL_WRITE)
+@Transactional
+@RequiredArgsConstructor
+public class HoldService {
+    private final BookHoldRepository bookHoldRepository;
+    private final BookRepository bookRepository;
+    private final HoldQueueIndex holdQueueIndex;
+    private final HoldProperties props;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 예약 대기 등록 */
+    public HoldResponse place(Long bookId, String renterName) {
+        Book book = bookRepository.findByIdForUpdate(bookId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", bookId)));
+
+        if (!book.getBookStatus().isRentable()) {
+            throw new BusinessException(ErrorCode.BOOK_NOT_AVAILABLE, Map.of("id", bookId));
+        }
+        if (book.getStock() > 0) {
+            throw new BusinessException(ErrorCode.HOLD_NOT_NEEDED, Map.of("id", bookId));
+        }
+        if (bookHoldRepository.existsByBookIdAndRenterNameAndHoldStatusIn(bookId, renterName, HoldQueueIndex.ACTIVE)) {
+            throw new BusinessException(ErrorCode.HOLD_ALREADY_EXISTS, Map.of("bookId", bookId));
+        }
+
+        BookHold hold = bookHoldRepository.save(BookHold.place(bookId, renterName));
+        holdQueueIndex.mark(bookId);
+        eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+        return HoldResponse.fromEntity(hold, position(hold));
+    }
+
+    /** 예약 조회 */
+    @Transactional(readOnly = true)
+    public HoldResponse find(Long holdId) {
+        BookHold hold = bookHoldRepository.findById(holdId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.HOLD_NOT_FOUND, Map.of("id", holdId)));
+        return HoldResponse.fromEntity(hold, position(hold));
+    }
+
+    /** 예약 취소 (배정된 도서는 다음 대기자에게 넘기거나 재고로 되돌림) */
+    public void cancel(Long holdId) {
+        Long bookId = bookHoldRepository.findBookIdById(holdId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.HOLD_NOT_FOUND, Map.of("id", holdId)));
+        bookRepository.findByIdForUpdate(bookId);
+        BookHold hold = bookHoldRepository.findByIdForUpdate(holdId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.HOLD_NOT_FOUND, Map.of("id", holdId)));
+        boolean wasReady = hold.getHoldStatus() == HoldStatus.READY;
+        hold.cancel();
+        eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+        if (wasReady) {
+            releaseCopy(hold.getBookId());
+        }
+    }
+
+    /**
+     * 대여 요청자에게 배정된 예약이 있으면 대여로 전환
+     * @return 전환했으면 true (이미 재고에서 빼 둔 한 권이므로 호출자는 재고를 차감하지 않는다)
+     */
+    public boolean fulfillReady(Long bookId, String renterName) {
+        if (!holdQueueIndex.mayHaveHolds(bookId)) {
+            return false;
+        }
+        Optional<BookHold> ready = bookHoldRepository
+                .findFirstByBookIdAndRenterNameAndHoldStatus(bookId, renterName, HoldStatus.READY);
+        ready.ifPresent(hold -> {
+            hold.fulfill();
+            eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+        });
+        return ready.isPresent();
+    }
+
+    /**
+     * 늘어난 재고를 대기열 앞쪽 예약부터 배정 (호출자가 도서 행을 잠근 상태여야 한다)
+     * @return 배정한 권수
+     */
+    public int allocate(Book book) {
+        if (!book.getBookStatus().isRentable() || !holdQueueIndex.mayHaveHolds(book.getId())) {
+            return 0;
+        }
+        int allocated = 0;
+        while (book.getStock() > 0) {
+            Optional<BookHold> next = bookHoldRepository
+                    .findFirstByBookIdAndHoldStatusOrderByIdAsc(book.getId(), HoldStatus.WAITING);
+            if (next.isEmpty()) {
+                if (!bookHoldRepository.existsByBookIdAndHoldStatusIn(book.getId(), HoldQueueIndex.ACTIVE)) {
+                    holdQueueIndex.unmark(book.getId());
+                }
+                break;
+            }
+            BookHold hold = next.get();
+            hold.markReady(props.getPickupWindow());
+            book.decreaseStock(1);
+            eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+            allocated++;
+        }
+        return allocated;
+    }
+
+    /** 수령 기한 만료 처리 */
+    @Scheduled(fixedDelayString = "${bookmanagement.hold.expiry-check-interval:PT1M}")
+    public void expireHolds() {
+        expireHolds(LocalDateTime.now());
+    }
+
+    /**
+     * now 기준으로 기한이 지난 배정 예약을 만료시키고 처리 건수를 반환
+     * - 여러 도서를 잠그므로 도서 id 순으로 잠근다. 잠그기 전에 수령/취소된 예약은 건너뛴다.
+     */
+    public int expireHolds(LocalDateTime now) {
+        List<Object[]> targets = new ArrayList<>(
+                bookHoldRepository.findExpiredTargets(now, PageRequest.of(0, props.getExpiryBatchSize())));
+        targets.sort(Comparator.comparingLong((Object[] t) -> (Long) t[1]).thenComparingLong(t -> (Long) t[0]));
+        int expired = 0;
+        for (Object[] target : targets) {
+            bookRepository.findByIdForUpdate((Long) target[1]);
+            Optional<BookHold> locked = bookHoldRepository.findByIdForUpdate((Long) target[0]);
+            if (locked.isEmpty() || locked.get().getHoldStatus() != HoldStatus.READY
+                    || !locked.get().getExpiresAt().isBefore(now)) {
+                continue;
+            }
+            BookHold hold = locked.get();
+            hold.expire();
+            eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+            releaseCopy(hold.getBookId());
+            expired++;
+        }
+        if (expired > 0) {
+            log.info("[hold] 수령 기한이 지난 예약 {}건 만료", expired);
+        }
+        return expired;
+    }
+
+    /** 배정이 풀린 한 권을 재고로 되돌리고 다음 대기자에게 배정 */
+    private void releaseCopy(Long bookId) {
+        Optional<Book> locked = bookRepository.findByIdForUpdate(bookId);
+        if (locked.isEmpty()) {
+            return;
+        }
+        Book book = locked.get();
+        book.increaseStock(1);
+        allocate(book);
+        eventPublisher.publishEvent(BookChangedEvent.of(book, BookChangeType.STOCK_CHANGED));
+    }
+
+    private Long position(BookHold hold) {
+        if (hold.getHoldStatus() != HoldStatus.WAITING) {
+            return null;
+        }
+        return bookHoldRepository.countByBookIdAndHoldStatusAndIdLessThan(hold.getBookId(), HoldStatus.WAITING, hold.getId());
+    }
+}
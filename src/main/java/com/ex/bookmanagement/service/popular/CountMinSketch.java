@@ -0,0 +1,54 @@
+package com.ex.bookmanagement.service.popular;
+
+/**
+ * Count-Min Sketch (long 키 전용)
+ * - depth 개의 해시 행마다 width 개의 카운터. 추정값은 행별 카운터의 최솟값이며 실제 값 이상이다.
+ * - 같은 width/depth 의 스케치는 칸별로 더할 수 있어, 시간 조각별 스케치의 합으로 구간 빈도를 추정한다.
+ */
+public class CountMinSketch {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    private final int[] counters;
+
+    /** width 는 2의 거듭제곱으로 올림, depth 는 1..8 */
+    public CountMinSketch(int width, int depth) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be 1.." + SEEDS.length + ": " + depth);
+        }
+        this.width = Integer.highestOneBit(Math.max(2, width) - 1) << 1;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new int[this.width * depth];
+    }
+
+    public void add(long key, int count) {
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + index(key, row)] += count;
+        }
+    }
+
+    public long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + index(key, row)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(counters, 0);
+    }
+
+    private int index(long key, int row) {
+        long h = (key + SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 31)) * 0x94D049BB133111EBL;
+        h ^= h >>> 29;
+        return (int) h & mask;
+    }
+}
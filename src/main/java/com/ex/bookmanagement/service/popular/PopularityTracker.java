@@ -0,0 +1,191 @@
+package com.ex.bookmanagement.service.popular;
+
+import com.ex.bookmanagement.config.PopularProperties;
+import com.ex.bookmanagement.domain.PopularWindow;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.repository.RentalRepository;
+import com.ex.bookmanagement.service.stats.BookCategoryIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 도서 추적 (전체 + 카테고리별, 구간별 WindowedTopK)
+ * - 대여 커밋 이벤트마다 해당 도서와 카테고리의 현재 시간 조각에 1을 더한다.
+ * - 기동 시와 보정 실패 시에는 최근 일주일 대여로 새 구조를 만든 뒤 교체한다. 만드는 동안 들어온 이벤트는 양쪽에 기록한다.
+ * - 보정: 주기적으로 전체 상위 후보의 정확한 대여 수를 조회해 추정 오차를 확인한다. (GROUP BY 는 후보 id 로 한정)
+ */
+@Slf4j
+@Component
+public class PopularityTracker {
+    private final RentalRepository rentalRepository;
+    private final BookCategoryIndex bookCategoryIndex;
+    private final PopularProperties props;
+
+    private volatile Trackers current;
+    private volatile Trackers rebuilding;
+    private volatile Reconciliation lastReconciliation;
+
+    public PopularityTracker(RentalRepository rentalRepository, BookCategoryIndex bookCategoryIndex, PopularProperties props) {
+        this.rentalRepository = rentalRepository;
+        this.bookCategoryIndex = bookCategoryIndex;
+        this.props = props;
+        this.current = new Trackers(); // 구축 전에는 빈 구조로 응답 (조회/기록이 구축 잠금을 기다리지 않도록)
+    }
+
+    @TransactionalEventListener
+    public void onRentalChanged(RentalChangedEvent event) {
+        if (event.getStatus() != RentalStatus.RENTED) {
+            return;
+        }
+        long[] categoryIds = bookCategoryIndex.categoriesOf(event.getBookId());
+        Trackers live = trackers();
+        live.record(event.getBookId(), categoryIds, event.getOccurredAt());
+        Trackers next = rebuilding;
+        if (next != null && next != live) {
+            next.record(event.getBookId(), categoryIds, event.getOccurredAt());
+        }
+    }
+
+    /** 최근 일주일 대여로 다시 구축 */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        Trackers fresh = new Trackers();
+        rebuilding = fresh;
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(PopularWindow.WEEK.length());
+            int rentals = 0;
+            for (Object[] row : rentalRepository.findBookRentedDatesSince(since)) {
+                fresh.recordGlobal((Long) row[0], (LocalDateTime) row[1]);
+                rentals++;
+            }
+            for (Object[] row : rentalRepository.findCategoryRentedDatesSince(since)) {
+                fresh.recordCategory((Long) row[0], (Long) row[1], (LocalDateTime) row[2]);
+            }
+            current = fresh;
+            log.info("[popular] 최근 대여 {}건으로 인기 도서 구축 ({}ms)", rentals, System.currentTimeMillis() - started);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /** 전체 상위 후보의 추정값을 정확한 대여 수와 비교하고, 오차가 크면 다시 구축 */
+    @Scheduled(initialDelayString = "${bookmanagement.popular.reconcile-interval:PT15M}",
+            fixedDelayString = "${bookmanagement.popular.reconcile-interval:PT15M}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        boolean drifted = false;
+        long maxOverestimate = 0;
+        int checked = 0;
+        for (PopularWindow window : PopularWindow.values()) {
+            WindowedTopK topK = trackers().global.get(window);
+            List<WindowedTopK.Estimate> candidates = topK.top(props.getReconcileCandidates(), now);
+            if (candidates.isEmpty()) {
+                continue;
+            }
+            Map<Long, Long> exact = new HashMap<>();
+            List<Long> ids = candidates.stream().map(WindowedTopK.Estimate::key).toList();
+            for (Object[] row : rentalRepository.countRentalsSinceByBookIds(topK.windowStart(now), ids)) {
+                exact.put((Long) row[0], (Long) row[1]);
+            }
+            for (WindowedTopK.Estimate estimate : candidates) {
+                long actual = exact.getOrDefault(estimate.key(), 0L);
+                long over = estimate.count() - actual;
+                maxOverestimate = Math.max(maxOverestimate, over);
+                if (over < 0 || over > Math.max(1, Math.ceil(actual * props.getTolerance()))) {
+                    drifted = true;
+                }
+                checked++;
+            }
+        }
+        lastReconciliation = new Reconciliation(now, checked, maxOverestimate, drifted);
+        if (drifted) {
+            log.info("[popular] 추정 오차가 허용치를 넘어 다시 구축 (checked={}, maxOverestimate={})", checked, maxOverestimate);
+            rebuild();
+        }
+    }
+
+    /** 구간(+카테고리)의 상위 limit 개 */
+    public List<WindowedTopK.Estimate> top(PopularWindow window, Long categoryId, int limit, LocalDateTime now) {
+        WindowedTopK topK = find(window, categoryId);
+        return topK == null ? List.of() : topK.top(limit, now);
+    }
+
+    public LocalDateTime windowStart(PopularWindow window, LocalDateTime now) {
+        return trackers().global.get(window).windowStart(now);
+    }
+
+    public Reconciliation lastReconciliation() {
+        return lastReconciliation;
+    }
+
+    private WindowedTopK find(PopularWindow window, Long categoryId) {
+        Trackers trackers = trackers();
+        if (categoryId == null) {
+            return trackers.global.get(window);
+        }
+        Map<PopularWindow, WindowedTopK> byWindow = trackers.byCategory.get(categoryId);
+        return byWindow == null ? null : byWindow.get(window);
+    }
+
+    private Trackers trackers() {
+        return current;
+    }
+
+    /** 마지막 보정 결과 */
+    public record Reconciliation(LocalDateTime at, int checked, long maxOverestimate, boolean rebuilt) {
+    }
+
+    /** 전체/카테고리별 구간 구조 묶음 (교체 단위) */
+    private final class Trackers {
+        final Map<PopularWindow, WindowedTopK> global = new EnumMap<>(PopularWindow.class);
+        final Map<Long, Map<PopularWindow, WindowedTopK>> byCategory = new ConcurrentHashMap<>();
+
+        Trackers() {
+            for (PopularWindow window : PopularWindow.values()) {
+                global.put(window, new WindowedTopK(window, props.getSketchWidth(), props.getSketchDepth(), props.getCapacity()));
+            }
+        }
+
+        void record(long bookId, long[] categoryIds, LocalDateTime at) {
+            recordGlobal(bookId, at);
+            for (long categoryId : categoryIds) {
+                recordCategory(categoryId, bookId, at);
+            }
+        }
+
+        void recordGlobal(long bookId, LocalDateTime at) {
+            for (WindowedTopK topK : global.values()) {
+                topK.record(bookId, at);
+            }
+        }
+
+        void recordCategory(long categoryId, long bookId, LocalDateTime at) {
+            Map<PopularWindow, WindowedTopK> byWindow = byCategory.get(categoryId);
+            if (byWindow == null) {
+                if (byCategory.size() >= props.getMaxTrackedCategories()) {
+                    return;
+                }
+                byWindow = byCategory.computeIfAbsent(categoryId, id -> {
+                    Map<PopularWindow, WindowedTopK> created = new EnumMap<>(PopularWindow.class);
+                    for (PopularWindow window : PopularWindow.values()) {
+                        created.put(window, new WindowedTopK(window, props.getCategorySketchWidth(), props.getSketchDepth(), props.getCapacity()));
+                    }
+                    return created;
+                });
+            }
+            for (WindowedTopK topK : byWindow.values()) {
+                topK.record(bookId, at);
+            }
+        }
+    }
+}
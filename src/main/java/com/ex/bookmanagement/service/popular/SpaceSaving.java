@@ -0,0 +1,157 @@
+package com.ex.bookmanagement.service.popular;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 k 추적 (Stream-Summary 구조)
+ * - 같은 count 의 항목을 한 버킷에 묶고, 버킷은 count 오름차순 이중 연결 리스트로 유지한다.
+ * - 1 증가는 옆 버킷으로 옮기기만 하면 되므로 O(1) 이다.
+ * - 가득 찬 상태에서 새 키가 오면 가장 작은 count 의 항목을 대체하고, 그 count 를 오차(error)로 물려받는다.
+ */
+public class SpaceSaving {
+    private final int capacity;
+    private final Map<Long, Node> nodes;
+    private Bucket minBucket;
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.nodes = new HashMap<>(capacity * 2);
+    }
+
+    public void increment(long key) {
+        Node node = nodes.get(key);
+        if (node != null) {
+            moveUp(node);
+            return;
+        }
+        if (nodes.size() < capacity) {
+            node = new Node(key);
+            nodes.put(key, node);
+            attachAsOne(node);
+            return;
+        }
+        // 가장 작은 항목을 새 키로 대체
+        Node victim = minBucket.head;
+        nodes.remove(victim.key);
+        victim.key = key;
+        victim.error = minBucket.count;
+        nodes.put(key, victim);
+        moveUp(victim);
+    }
+
+    /** 추적 중인 항목 (count 내림차순) */
+    public List<Entry> entries() {
+        List<Entry> result = new ArrayList<>(nodes.size());
+        for (Bucket b = minBucket; b != null; b = b.next) {
+            for (Node n = b.head; n != null; n = n.next) {
+                result.add(new Entry(n.key, b.count, n.error));
+            }
+        }
+        java.util.Collections.reverse(result);
+        return result;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public void clear() {
+        nodes.clear();
+        minBucket = null;
+    }
+
+    private void attachAsOne(Node node) {
+        if (minBucket == null || minBucket.count != 1) {
+            Bucket one = new Bucket(1);
+            one.next = minBucket;
+            if (minBucket != null) {
+                minBucket.prev = one;
+            }
+            minBucket = one;
+        }
+        minBucket.add(node);
+    }
+
+    private void moveUp(Node node) {
+        Bucket from = node.bucket;
+        Bucket to = from.next;
+        if (to == null || to.count != from.count + 1) {
+            to = new Bucket(from.count + 1);
+            to.prev = from;
+            to.next = from.next;
+            if (from.next != null) {
+                from.next.prev = to;
+            }
+            from.next = to;
+        }
+        from.remove(node);
+        to.add(node);
+        if (from.head == null) {
+            unlink(from);
+        }
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            minBucket = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    /** 추적 항목: count 는 실제 빈도의 상한, count - error 는 하한 */
+    public record Entry(long key, long count, long error) {
+    }
+
+    private static final class Bucket {
+        final long count;
+        Node head;
+        Bucket prev;
+        Bucket next;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void add(Node node) {
+            node.bucket = this;
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            }
+            head = node;
+        }
+
+        void remove(Node node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    private static final class Node {
+        long key;
+        long error;
+        Bucket bucket;
+        Node prev;
+        Node next;
+
+        Node(long key) {
+            this.key = key;
+        }
+    }
+}
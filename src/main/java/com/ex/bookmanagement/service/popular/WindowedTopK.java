@@ -0,0 +1,104 @@
+package com.ex.bookmanagement.service.popular;
+
+import com.ex.bookmanagement.domain.PopularWindow;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 슬라이딩 구간 상위 k
+ * - 구간을 시간 조각(slice)으로 나누고 조각마다 Count-Min Sketch 와 Space-Saving 을 둔다.
+ * - 기록은 현재 조각에만 하므로 O(1), 오래된 조각은 같은 자리를 다시 쓸 때 비운다. 메모리는 조각 수에 고정된다.
+ * - 조회 시 구간 안 조각들의 Space-Saving 후보를 모으고, 후보별 빈도는 조각별 CMS 추정값의 합으로 매긴다.
+ */
+public class WindowedTopK {
+    private final PopularWindow window;
+    private final long sliceSeconds;
+    private final Slice[] slices;
+
+    public WindowedTopK(PopularWindow window, int sketchWidth, int sketchDepth, int capacity) {
+        this.window = window;
+        this.sliceSeconds = window.slice().toSeconds();
+        this.slices = new Slice[window.slices()];
+        for (int i = 0; i < slices.length; i++) {
+            slices[i] = new Slice(new CountMinSketch(sketchWidth, sketchDepth), new SpaceSaving(capacity));
+        }
+    }
+
+    public PopularWindow window() {
+        return window;
+    }
+
+    public synchronized void record(long key, LocalDateTime at) {
+        long epoch = sliceOf(at);
+        Slice slice = slices[(int) Math.floorMod(epoch, (long) slices.length)];
+        if (slice.epoch != epoch) {
+            if (slice.epoch > epoch) {
+                return; // 구간 밖으로 밀려난 오래된 기록
+            }
+            slice.reset(epoch);
+        }
+        slice.sketch.add(key, 1);
+        slice.topK.increment(key);
+    }
+
+    /** now 기준 구간의 상위 limit 개 (추정 빈도 내림차순) */
+    public synchronized List<Estimate> top(int limit, LocalDateTime now) {
+        long current = sliceOf(now);
+        Set<Long> candidates = new HashSet<>();
+        List<Slice> live = new ArrayList<>(slices.length);
+        for (Slice slice : slices) {
+            if (slice.epoch > current - slices.length && slice.epoch <= current) {
+                live.add(slice);
+                slice.topK.entries().forEach(e -> candidates.add(e.key()));
+            }
+        }
+        List<Estimate> result = new ArrayList<>(candidates.size());
+        for (Long key : candidates) {
+            long sum = 0;
+            for (Slice slice : live) {
+                sum += slice.sketch.estimate(key);
+            }
+            result.add(new Estimate(key, sum));
+        }
+        result.sort(Comparator.comparingLong(Estimate::count).reversed().thenComparingLong(Estimate::key));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /** 구간 시작 시각 (now 가 속한 조각을 포함해 slices 개 조각) */
+    public LocalDateTime windowStart(LocalDateTime now) {
+        long first = sliceOf(now) - slices.length + 1;
+        return LocalDateTime.ofEpochSecond(first * sliceSeconds, 0, ZoneOffset.UTC);
+    }
+
+    public synchronized void clear() {
+        for (Slice slice : slices) {
+            slice.reset(Long.MIN_VALUE);
+        }
+    }
+
+    private long sliceOf(LocalDateTime at) {
+        return Math.floorDiv(at.toEpochSecond(ZoneOffset.UTC), sliceSeconds);
+    }
+
+    public record Estimate(long key, long count) {
+    }
+
+    private static final class Slice {
+        final CountMinSketch sketch;
+        final SpaceSaving topK;
+        long epoch = Long.MIN_VALUE;
+
+        Slice(CountMinSketch sketch, SpaceSaving topK) {
+            this.sketch = sketch;
+            this.topK = topK;
+        }
+
+        void reset(long newEpoch) {
+            sketch.clear();
+            topK.clear();
+            epoch = newEpoch;
+        }
+    }
+}
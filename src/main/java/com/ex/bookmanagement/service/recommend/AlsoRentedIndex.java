@@ -0,0 +1,139 @@
+package com.ex.bookmanagement.service.recommend;
+
+import com.ex.bookmanagement.config.RecommendProperties;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 함께 대여된 도서 인덱스
+ * - 대여가 커밋될 때마다 대여자의 이전 대여 도서들과의 칸을 올린다.
+ * - 기동 시 rental + rental_archive 이력으로 한 번 구축한다. 구축 중 들어온 대여는 대기열에 모았다가 새 행렬에 다시 반영한다. (같은 대여를 두 번 반영해도 결과는 같다)
+ * - 조회는 DB 를 거치지 않고 메모리 행렬에서 바로 응답한다.
+ * - 빈 행렬로 시작해 구축이 끝나면 교체하므로, 기록/조회는 잠금 없이 그 시점의 행렬을 쓴다.
+ */
+@Slf4j
+@Component
+public class AlsoRentedIndex {
+    private static final String HISTORY_SQL = """
+            select renter_name, book_id, rented_date from rental
+            union all
+            select renter_name, book_id, rented_date from rental_archive
+            order by renter_name, rented_date desc
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecommendProperties props;
+
+    private volatile CoRentalMatrix matrix;
+    private volatile Queue<RentalChangedEvent> pending;
+
+    public AlsoRentedIndex(JdbcTemplate jdbcTemplate, RecommendProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        this.matrix = new CoRentalMatrix(props.getRowLimit(), props.getMaxHistoryPerRenter());
+    }
+
+    @TransactionalEventListener
+    public void onRentalChanged(RentalChangedEvent event) {
+        if (event.getStatus() != RentalStatus.RENTED) {
+            return;
+        }
+        Queue<RentalChangedEvent> queue = pending;
+        matrix.record(event.getRenterName(), event.getBookId());
+        if (queue != null) {
+            queue.add(event);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangeType.DELETED) {
+            matrix.removeRow(event.getBookId());
+        }
+    }
+
+    /** 대여 이력으로 행렬 구축 후 교체 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        Queue<RentalChangedEvent> queue = new ConcurrentLinkedQueue<>();
+        pending = queue;
+        try {
+            Map<String, long[]> histories = loadHistories();
+            CoRentalMatrix fresh = CoRentalMatrix.build(histories, props.getRowLimit(), props.getMaxHistoryPerRenter(),
+                    props.getBootstrapChunkSize(), ForkJoinPool.commonPool());
+            matrix = fresh;
+            RentalChangedEvent event;
+            while ((event = queue.poll()) != null) {
+                fresh.record(event.getRenterName(), event.getBookId());
+            }
+            log.info("[recommend] 대여자 {}명, 도서 {}권으로 함께 대여 행렬 구축 ({}ms)",
+                    fresh.renterCount(), fresh.rowCount(), System.currentTimeMillis() - started);
+        } finally {
+            pending = null;
+        }
+    }
+
+    /** bookId 와 함께 대여된 도서 상위 limit 개 */
+    public List<CoRentalMatrix.Pair> alsoRented(long bookId, int limit) {
+        return matrix.top(bookId, limit);
+    }
+
+    /** 대여자별 대여 도서 id (중복 제거, 최근 순) */
+    private Map<String, long[]> loadHistories() {
+        Map<String, long[]> histories = new HashMap<>();
+        HistoryCollector collector = new HistoryCollector(histories);
+        jdbcTemplate.query(HISTORY_SQL, (RowCallbackHandler) rs -> collector.accept(rs.getString(1), rs.getLong(2)));
+        collector.finish();
+        return histories;
+    }
+
+    /** 대여자 순으로 정렬된 행을 대여자별 배열로 모음 */
+    private static final class HistoryCollector {
+        private final Map<String, long[]> histories;
+        private String renter;
+        private LongIntHashMap seen = new LongIntHashMap();
+        private long[] books = new long[16];
+        private int count;
+
+        HistoryCollector(Map<String, long[]> histories) {
+            this.histories = histories;
+        }
+
+        void accept(String renterName, long bookId) {
+            if (!renterName.equals(renter)) {
+                finish();
+                renter = renterName;
+            }
+            if (seen.containsKey(bookId)) {
+                return;
+            }
+            seen.addTo(bookId, 1);
+            if (count == books.length) {
+                books = Arrays.copyOf(books, count * 2);
+            }
+            books[count++] = bookId;
+        }
+
+        void finish() {
+            if (renter != null && count > 0) {
+                histories.put(renter, Arrays.copyOf(books, count));
+            }
+            seen = new LongIntHashMap();
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ex.bookmanagement.service.recommend;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 함께 대여된 도서 희소 행렬
+ * - rows[A][B] = A 와 B 를 모두 대여한 대여자 수. 행은 도서별 LongIntHashMap 이다.
+ * - 대여자별 대여 도서 집합을 함께 두어, 같은 대여자가 같은 도서를 다시 빌려도 중복 집계하지 않는다. (같은 대여를 여러 번 기록해도 결과가 같다)
+ * - 행이 rowLimit 의 두 배를 넘으면 값이 큰 rowLimit 개만 남긴다. 잘린 항목은 다시 나타나면 1부터 센다.
+ * - 대여 이력이 maxHistoryPerRenter 에 이른 대여자의 이후 대여는 반영하지 않는다. (대여자당 O(k^2) 갱신 상한)
+ */
+public class CoRentalMatrix {
+    private final int rowLimit;
+    private final int maxHistoryPerRenter;
+    private final Map<Long, LongIntHashMap> rows = new HashMap<>();
+    private final Map<String, LongIntHashMap> histories = new HashMap<>();
+
+    public CoRentalMatrix(int rowLimit, int maxHistoryPerRenter) {
+        this.rowLimit = rowLimit;
+        this.maxHistoryPerRenter = maxHistoryPerRenter;
+    }
+
+    /**
+     * renter 가 bookId 를 대여함. 처음 대여한 도서면 이전 대여 도서들과의 칸을 1씩 올린다.
+     * @return 행렬이 바뀌었는지
+     */
+    public synchronized boolean record(String renter, long bookId) {
+        LongIntHashMap history = histories.computeIfAbsent(renter, r -> new LongIntHashMap(4));
+        if (history.containsKey(bookId) || history.size() >= maxHistoryPerRenter) {
+            return false;
+        }
+        LongIntHashMap row = row(bookId);
+        history.forEach((other, ignored) -> {
+            increment(row, bookId, other);
+            increment(row(other), other, bookId);
+        });
+        history.addTo(bookId, 1);
+        return true;
+    }
+
+    /** bookId 와 함께 대여된 도서 상위 limit 개 (대여자 수 내림차순) */
+    public synchronized List<Pair> top(long bookId, int limit) {
+        LongIntHashMap row = rows.get(bookId);
+        if (row == null) {
+            return List.of();
+        }
+        long[] keys = row.topKeys(limit);
+        List<Pair> result = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            result.add(new Pair(key, row.get(key)));
+        }
+        return result;
+    }
+
+    /** 삭제된 도서의 행을 버린다 (다른 행의 칸은 조회 시 걸러낸다) */
+    public synchronized void removeRow(long bookId) {
+        rows.remove(bookId);
+    }
+
+    public synchronized int rowCount() {
+        return rows.size();
+    }
+
+    public synchronized int renterCount() {
+        return histories.size();
+    }
+
+    private LongIntHashMap row(long bookId) {
+        return rows.computeIfAbsent(bookId, id -> new LongIntHashMap());
+    }
+
+    private void increment(LongIntHashMap row, long bookId, long other) {
+        row.addTo(other, 1);
+        if (row.size() > rowLimit * 2) {
+            row.retainTop(rowLimit);
+        }
+    }
+
+    /**
+     * 대여 이력으로 행렬을 병렬 구축 (fork/join)
+     * - 대여자 목록을 나눠 조각마다 부분 행렬을 만들고, 두 부분 행렬을 행 단위로 합친다.
+     * - 가지치기는 합친 뒤에 한 번만 해 조각 경계에서 값이 잘리지 않게 한다.
+     * @param histories 대여자별 대여 도서 id (중복 없음, 최근 순)
+     */
+    public static CoRentalMatrix build(Map<String, long[]> histories, int rowLimit, int maxHistoryPerRenter,
+                                       int chunkSize, ForkJoinPool pool) {
+        List<Map.Entry<String, long[]>> renters = new ArrayList<>(histories.entrySet());
+        Map<Long, LongIntHashMap> merged = pool.invoke(new BuildTask(renters, 0, renters.size(), chunkSize, maxHistoryPerRenter));
+
+        CoRentalMatrix matrix = new CoRentalMatrix(rowLimit, maxHistoryPerRenter);
+        for (Map.Entry<Long, LongIntHashMap> e : merged.entrySet()) {
+            e.getValue().retainTop(rowLimit);
+            matrix.rows.put(e.getKey(), e.getValue());
+        }
+        for (Map.Entry<String, long[]> e : renters) {
+            long[] books = e.getValue();
+            int count = Math.min(books.length, maxHistoryPerRenter);
+            LongIntHashMap history = new LongIntHashMap(count);
+            for (int i = 0; i < count; i++) {
+                history.addTo(books[i], 1);
+            }
+            matrix.histories.put(e.getKey(), history);
+        }
+        return matrix;
+    }
+
+    public record Pair(long bookId, int renters) {
+    }
+
+    private static final class BuildTask extends RecursiveTask<Map<Long, LongIntHashMap>> {
+        private final List<Map.Entry<String, long[]>> renters;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final int maxHistoryPerRenter;
+
+        BuildTask(List<Map.Entry<String, long[]>> renters, int from, int to, int chunkSize, int maxHistoryPerRenter) {
+            this.renters = renters;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.maxHistoryPerRenter = maxHistoryPerRenter;
+        }
+
+        @Override
+        protected Map<Long, LongIntHashMap> compute() {
+            if (to - from <= chunkSize) {
+                return computeDirectly();
+            }
+            int mid = (from + to) >>> 1;
+            BuildTask left = new BuildTask(renters, from, mid, chunkSize, maxHistoryPerRenter);
+            left.fork();
+            Map<Long, LongIntHashMap> right = new BuildTask(renters, mid, to, chunkSize, maxHistoryPerRenter).compute();
+            return merge(left.join(), right);
+        }
+
+        private Map<Long, LongIntHashMap> computeDirectly() {
+            Map<Long, LongIntHashMap> partial = new HashMap<>();
+            for (int r = from; r < to; r++) {
+                long[] books = renters.get(r).getValue();
+                int count = Math.min(books.length, maxHistoryPerRenter);
+                for (int i = 0; i < count; i++) {
+                    LongIntHashMap row = partial.computeIfAbsent(books[i], id -> new LongIntHashMap());
+                    for (int j = 0; j < count; j++) {
+                        if (i != j) {
+                            row.addTo(books[j], 1);
+                        }
+                    }
+                }
+            }
+            return partial;
+        }
+
+        private static Map<Long, LongIntHashMap> merge(Map<Long, LongIntHashMap> a, Map<Long, LongIntHashMap> b) {
+            Map<Long, LongIntHashMap> big = a.size() >= b.size() ? a : b;
+            Map<Long, LongIntHashMap> small = big == a ? b : a;
+            for (Map.Entry<Long, LongIntHashMap> e : small.entrySet()) {
+                LongIntHashMap row = big.get(e.getKey());
+                if (row == null) {
+                    big.put(e.getKey(), e.getValue());
+                } else {
+                    row.addAll(e.getValue());
+                }
+            }
+            return big;
+        }
+    }
+}
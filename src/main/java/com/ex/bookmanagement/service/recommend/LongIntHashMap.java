@@ -0,0 +1,205 @@
+package com.ex.bookmanagement.service.recommend;
+
+import java.util.Arrays;
+
+/**
+ * long -> int 오픈 어드레싱 해시맵 (선형 탐사)
+ * - 키/값을 원시 배열에 저장해 항목당 객체(Long, Integer, Entry)를 만들지 않는다.
+ * - 키 0 은 빈 칸 표시로 쓰므로 저장할 수 없다. (도서 id 는 1부터)
+ * - 개별 삭제 대신 retainTop 으로 상위 항목만 남기고 다시 채운다.
+ * - 스레드 안전하지 않다. 호출 측에서 동기화한다.
+ */
+public class LongIntHashMap {
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongIntHashMap() {
+        this(8);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 없으면 0 */
+    public int get(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /** key 의 값에 delta 를 더하고 더한 뒤의 값을 반환 (없으면 delta 로 추가) */
+    public int addTo(long key, int delta) {
+        checkKey(key);
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    public void forEach(LongIntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /** 다른 맵의 값을 모두 더함 */
+    public void addAll(LongIntHashMap other) {
+        other.forEach(this::addTo);
+    }
+
+    /**
+     * 값이 큰 순서로 최대 n 개 키 (같은 값이면 키 오름차순)
+     */
+    public long[] topKeys(int n) {
+        long[] packed = packByValue();
+        int count = Math.min(n, packed.length);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = keys[(int) packed[i]];
+        }
+        return result;
+    }
+
+    /** 값이 큰 n 개만 남기고 나머지는 버린다 */
+    public void retainTop(int n) {
+        if (size <= n) {
+            return;
+        }
+        long[] packed = packByValue();
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(tableSizeFor(n));
+        for (int i = 0; i < n; i++) {
+            int slot = (int) packed[i];
+            addTo(oldKeys[slot], oldValues[slot]);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    /** 값 내림차순, 같은 값이면 키 오름차순으로 정렬된 칸 번호 */
+    private long[] packByValue() {
+        // (값, 칸 번호)를 long 하나에 담아 원시 배열로 정렬. 같은 값 안의 키 순서는 아래에서 다시 맞춘다.
+        long[] packed = new long[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                packed[n++] = ((long) (Integer.MAX_VALUE - values[i]) << 32) | i;
+            }
+        }
+        Arrays.sort(packed);
+        for (int from = 0; from < n; ) {
+            int to = from + 1;
+            while (to < n && (packed[to] >>> 32) == (packed[from] >>> 32)) {
+                to++;
+            }
+            if (to - from > 1) {
+                sortRunByKey(packed, from, to);
+            }
+            from = to;
+        }
+        for (int i = 0; i < n; i++) {
+            packed[i] &= 0xFFFFFFFFL;
+        }
+        return packed;
+    }
+
+    private void sortRunByKey(long[] packed, int from, int to) {
+        // 같은 값을 가진 구간은 짧으므로 삽입 정렬
+        for (int i = from + 1; i < to; i++) {
+            long cur = packed[i];
+            long curKey = keys[(int) cur];
+            int j = i - 1;
+            while (j >= from && keys[(int) packed[j]] > curKey) {
+                packed[j + 1] = packed[j];
+                j--;
+            }
+            packed[j + 1] = cur;
+        }
+    }
+
+    private int find(long key) {
+        if (key == 0) {
+            return -1;
+        }
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                addTo(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(1, expectedSize) / LOAD_FACTOR) + 1;
+        return Math.max(4, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface LongIntConsumer {
+        void accept(long key, int value);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ex.bookmanagement.service.search;
+
+/**
+ * 검색 후보 id 를 얻는 접근 경로
+ */
+public enum AccessPath {
+    CATEGORY,   // 카테고리 클로저 인덱스 (uk_category_closure) + book_category
+    STATUS,     // idx_book_status
+    IN_STOCK,   // idx_book_stock
+}
@@ -0,0 +1,31 @@
+package com.ex.bookmanagement.service.search;
+
+import com.ex.bookmanagement.domain.BookSort;
+import com.ex.bookmanagement.domain.BookStatus;
+
+import java.util.Set;
+
+/**
+ * 통합 검색 조건 (null / 빈 집합 = 조건 없음)
+ * @param categoryIds 하위 카테고리 포함, 하나라도 속하면 일치
+ */
+public record SearchCondition(String title, String author, Set<Long> categoryIds, Set<BookStatus> statuses,
+                              boolean inStock, BookSort sort) {
+
+    public boolean hasTitle() {
+        return title != null && !title.isBlank();
+    }
+
+    public boolean hasAuthor() {
+        return author != null && !author.isBlank();
+    }
+
+    public boolean hasCategories() {
+        return categoryIds != null && !categoryIds.isEmpty();
+    }
+
+    /** 모든 상태를 고른 경우는 조건이 없는 것과 같다 */
+    public boolean hasStatuses() {
+        return statuses != null && !statuses.isEmpty() && statuses.size() < BookStatus.values().length;
+    }
+}
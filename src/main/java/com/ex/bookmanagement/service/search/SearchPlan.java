@@ -0,0 +1,35 @@
+package com.ex.bookmanagement.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 계획
+ * @param drivers 후보 id 를 먼저 가져와 교집합을 낼 경로 (추정 행 수 오름차순, 비어 있으면 DB 가 전체 조건으로 검색)
+ * @param residualPaths 후보가 많아 마지막 조회의 조건으로만 거는 경로
+ * @param residualFilters 인덱스가 없어 마지막 조회에서 거르는 조건 (title, author)
+ * @param estimatedRows 조건 독립 가정으로 추정한 결과 행 수
+ */
+public record SearchPlan(List<Estimate> drivers, List<Estimate> residualPaths, List<String> residualFilters,
+                         long estimatedRows) {
+
+    public boolean usesCandidates() {
+        return !drivers.isEmpty();
+    }
+
+    /** 예: CATEGORY(~120) ∩ STATUS(~900) → filter[title, IN_STOCK] ~40 */
+    public String explain() {
+        String access = drivers.isEmpty() ? "SCAN" : drivers.stream().map(Estimate::toString).collect(Collectors.joining(" ∩ "));
+        List<String> filters = new ArrayList<>(residualFilters);
+        residualPaths.forEach(e -> filters.add(e.path().name()));
+        return access + (filters.isEmpty() ? "" : " → filter" + filters) + " ~" + estimatedRows;
+    }
+
+    public record Estimate(AccessPath path, long rows) {
+        @Override
+        public String toString() {
+            return path + "(~" + rows + ")";
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ex.bookmanagement.service.search;
+
+import com.ex.bookmanagement.domain.BookStatus;
+
+import java.util.*;
+
+/**
+ * 비용 기반 검색 계획 선택
+ * - 인덱스가 있는 조건(카테고리, 상태, 재고)마다 통계로 후보 행 수를 추정한다.
+ * - 추정 행 수가 maxCandidates 이하인 경로는 후보 id 를 가져와 교집합을 내고, 마지막 조회는 그 id 안에서 나머지 조건 + 정렬 + 페이지만 처리한다.
+ * - 그런 경로가 없으면 모든 조건을 한 번의 조회로 DB 에 맡긴다.
+ * - 제목/저자 부분 일치는 인덱스를 탈 수 없으므로 항상 마지막 조회의 조건이다.
+ */
+public class SearchPlanner {
+    /** 부분 일치 조건 하나의 가정 선택도 */
+    static final double TEXT_SELECTIVITY = 0.05;
+
+    private final long maxCandidates;
+
+    public SearchPlanner(long maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * @param categoryRows 선택한 카테고리들의 하위 트리 도서 수 합 (중복 포함 상한)
+     */
+    public SearchPlan plan(SearchCondition condition, SearchStatistics.Snapshot stats, long categoryRows) {
+        long total = Math.max(1, stats.totalBooks());
+        List<SearchPlan.Estimate> paths = new ArrayList<>(3);
+        if (condition.hasCategories()) {
+            paths.add(new SearchPlan.Estimate(AccessPath.CATEGORY, Math.min(categoryRows, total)));
+        }
+        if (condition.hasStatuses()) {
+            long rows = 0;
+            for (BookStatus status : condition.statuses()) {
+                rows += stats.byStatus().getOrDefault(status, 0L);
+            }
+            paths.add(new SearchPlan.Estimate(AccessPath.STATUS, rows));
+        }
+        if (condition.inStock()) {
+            paths.add(new SearchPlan.Estimate(AccessPath.IN_STOCK, stats.inStock()));
+        }
+        paths.sort(Comparator.comparingLong(SearchPlan.Estimate::rows));
+
+        List<SearchPlan.Estimate> drivers = new ArrayList<>();
+        List<SearchPlan.Estimate> residualPaths = new ArrayList<>();
+        for (SearchPlan.Estimate path : paths) {
+            (path.rows() <= maxCandidates ? drivers : residualPaths).add(path);
+        }
+
+        List<String> residualFilters = new ArrayList<>(2);
+        double selectivity = 1.0;
+        if (condition.hasTitle()) {
+            residualFilters.add("title");
+            selectivity *= TEXT_SELECTIVITY;
+        }
+        if (condition.hasAuthor()) {
+            residualFilters.add("author");
+            selectivity *= TEXT_SELECTIVITY;
+        }
+        for (SearchPlan.Estimate path : paths) {
+            selectivity *= (double) path.rows() / total;
+        }
+        return new SearchPlan(drivers, residualPaths, residualFilters, Math.round(total * selectivity));
+    }
+}
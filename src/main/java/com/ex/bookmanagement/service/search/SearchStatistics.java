@@ -0,0 +1,64 @@
+package com.ex.bookmanagement.service.search;
+
+import com.ex.bookmanagement.config.SearchProperties;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검색 계획용 도서 통계 (전체 수, 상태별 수, 재고 있는 수)
+ * - 계획은 대략적인 크기만 알면 되므로 stats-ttl 동안 캐시한다. (카테고리별 수는 Category.bookCount 를 그대로 쓴다)
+ * - 만료되면 한 요청만 다시 세고, 그동안 다른 요청은 이전 값을 쓴다. 처음 한 번만 값이 생길 때까지 기다린다.
+ *   (JDBC 를 감싸는 잠금은 가상 스레드를 고정하지 않도록 ReentrantLock 을 쓴다)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchStatistics {
+    private final BookRepository bookRepository;
+    private final SearchProperties props;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null && !isExpired(s)) {
+            return s;
+        }
+        if (s == null) {
+            reloadLock.lock();
+        } else if (!reloadLock.tryLock()) {
+            return s;
+        }
+        try {
+            s = snapshot;
+            return s != null && !isExpired(s) ? s : reload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private boolean isExpired(Snapshot s) {
+        return System.currentTimeMillis() - s.loadedAt() > props.getStatsTtl().toMillis();
+    }
+
+    private Snapshot reload() {
+        Map<BookStatus, Long> byStatus = new EnumMap<>(BookStatus.class);
+        long total = 0;
+        for (Object[] row : bookRepository.countByStatus()) {
+            byStatus.put((BookStatus) row[0], (Long) row[1]);
+            total += (Long) row[1];
+        }
+        snapshot = new Snapshot(total, byStatus, bookRepository.countByStockGreaterThan(0), System.currentTimeMillis());
+        return snapshot;
+    }
+
+    public record Snapshot(long totalBooks, Map<BookStatus, Long> byStatus, long inStock, long loadedAt) {
+    }
+}
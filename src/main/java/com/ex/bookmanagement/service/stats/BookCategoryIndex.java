@@ -0,0 +1,48 @@
+package com.ex.bookmanagement.service.stats;
+
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도서 id → 카테고리 id 캐시
+ * - 대여 이벤트를 카테고리별로 집계할 때 매번 book_category 를 조인하지 않기 위함
+ * - 처음 조회할 때 채우고, 카테고리 변경/삭제가 커밋되면 해당 도서만 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookCategoryIndex {
+    private static final long[] NONE = new long[0];
+
+    private final BookRepository bookRepository;
+    private final Map<Long, long[]> categoriesByBook = new ConcurrentHashMap<>();
+
+    public long[] categoriesOf(Long bookId) {
+        long[] cached = categoriesByBook.get(bookId);
+        if (cached != null) {
+            return cached;
+        }
+        long[] loaded = bookRepository.findCategoryIdsByBookId(bookId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        categoriesByBook.put(bookId, loaded.length == 0 ? NONE : loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangeType.CATEGORIES_CHANGED || event.getType() == BookChangeType.DELETED) {
+            categoriesByBook.remove(event.getBookId());
+        }
+    }
+
+    public int size() {
+        return categoriesByBook.size();
+    }
+}
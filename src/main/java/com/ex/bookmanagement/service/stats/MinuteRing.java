@@ -0,0 +1,46 @@
+package com.ex.bookmanagement.service.stats;
+
+/**
+ * 최근 N분의 분 단위 집계 링 버퍼
+ * - 슬롯 = epochMinute % capacity, 슬롯마다 어떤 분의 값인지 tag 로 기록해 지난 값을 덮어쓴다.
+ * - 기록/조회 모두 O(1) 이며 메모리는 capacity 에 고정된다.
+ */
+public class MinuteRing {
+    private final long[] tags;
+    private final long[] rentals;
+    private final long[] returns;
+    private final long[] durations;
+
+    public MinuteRing(int capacity) {
+        this.tags = new long[capacity];
+        this.rentals = new long[capacity];
+        this.returns = new long[capacity];
+        this.durations = new long[capacity];
+        java.util.Arrays.fill(tags, -1);
+    }
+
+    public int capacity() {
+        return tags.length;
+    }
+
+    public synchronized void add(long epochMinute, long rentalCount, long returnCount, long durationSeconds) {
+        int slot = (int) Math.floorMod(epochMinute, (long) tags.length);
+        if (tags[slot] != epochMinute) {
+            tags[slot] = epochMinute;
+            rentals[slot] = 0;
+            returns[slot] = 0;
+            durations[slot] = 0;
+        }
+        rentals[slot] += rentalCount;
+        returns[slot] += returnCount;
+        durations[slot] += durationSeconds;
+    }
+
+    /** epochMinute 의 값을 target 에 더한다 (링에서 밀려났거나 기록이 없으면 0) */
+    public synchronized void readInto(long epochMinute, RollupCounts target) {
+        int slot = (int) Math.floorMod(epochMinute, (long) tags.length);
+        if (tags[slot] == epochMinute) {
+            target.add(rentals[slot], returns[slot], durations[slot]);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ex.bookmanagement.service.stats;
+
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.StatDimension;
+import com.ex.bookmanagement.domain.StatGranularity;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 대여/반납 이벤트의 증분 집계
+ * - 이벤트 하나당 (분/일) x (전체/카테고리) 버킷과 일 단위 도서 버킷에 더한다.
+ * - 아직 테이블에 반영되지 않은 증분은 pending 에 쌓이고, flush 가 가져가 반영한다.
+ *   반영 중인 증분(flushing)도 조회에 포함한다.
+ * - flush 는 세대(generation)를 시작/끝에 하나씩 올린다. (홀수 = 반영 중)
+ *   조회는 짝수 세대에서 테이블과 증분을 읽고, 그 사이 세대가 바뀌었으면 다시 읽는다.
+ *   반영 중에는 커밋된 행과 flushing 이 겹칠 수 있어 끝날 때까지 기다린다.
+ * - 분 단위 전체/카테고리 값은 링 버퍼에도 기록한다. 링은 기동 이후(liveSince 다음 분부터)의 값만 갖는다.
+ */
+public class RentalStatsAggregator {
+    private final int ringMinutes;
+    private final long liveSinceMinute;
+    private final MinuteRing totalRing;
+    private final Map<Long, MinuteRing> categoryRings = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<RollupKey, RollupCounts> pending = new ConcurrentHashMap<>();
+    private volatile Map<RollupKey, RollupCounts> flushing = Map.of();
+    private final AtomicLong generation = new AtomicLong();
+
+    public RentalStatsAggregator(int ringMinutes, LocalDateTime liveSince) {
+        this.ringMinutes = ringMinutes;
+        this.liveSinceMinute = epochMinute(liveSince);
+        this.totalRing = new MinuteRing(ringMinutes);
+    }
+
+    /** 대여(RENTED)와 반납(RETURNED)만 집계 */
+    public void record(RentalChangedEvent event, long[] categoryIds) {
+        long rentals;
+        long returns;
+        long durationSeconds;
+        if (event.getStatus() == RentalStatus.RENTED) {
+            rentals = 1;
+            returns = 0;
+            durationSeconds = 0;
+        } else if (event.getStatus() == RentalStatus.RETURNED) {
+            rentals = 0;
+            returns = 1;
+            durationSeconds = event.getRentedAt() == null
+                    ? 0 : Math.max(0, Duration.between(event.getRentedAt(), event.getOccurredAt()).toSeconds());
+        } else {
+            return;
+        }
+
+        LocalDateTime at = event.getOccurredAt();
+        LocalDateTime minute = StatGranularity.MINUTE.truncate(at);
+        LocalDateTime day = StatGranularity.DAY.truncate(at);
+        long epochMinute = epochMinute(minute);
+
+        add(new RollupKey(StatGranularity.MINUTE, StatDimension.TOTAL, 0, minute), rentals, returns, durationSeconds);
+        add(new RollupKey(StatGranularity.DAY, StatDimension.TOTAL, 0, day), rentals, returns, durationSeconds);
+        add(new RollupKey(StatGranularity.DAY, StatDimension.BOOK, event.getBookId(), day), rentals, returns, durationSeconds);
+        totalRing.add(epochMinute, rentals, returns, durationSeconds);
+        for (long categoryId : categoryIds) {
+            add(new RollupKey(StatGranularity.MINUTE, StatDimension.CATEGORY, categoryId, minute), rentals, returns, durationSeconds);
+            add(new RollupKey(StatGranularity.DAY, StatDimension.CATEGORY, categoryId, day), rentals, returns, durationSeconds);
+            categoryRings.computeIfAbsent(categoryId, id -> new MinuteRing(ringMinutes))
+                    .add(epochMinute, rentals, returns, durationSeconds);
+        }
+    }
+
+    /** 반영할 증분을 가져감. 반영 후 반드시 endFlush 를 호출해야 한다. */
+    public synchronized Map<RollupKey, RollupCounts> beginFlush() {
+        Map<RollupKey, RollupCounts> drained = new ConcurrentHashMap<>();
+        generation.incrementAndGet();
+        flushing = drained;
+        for (RollupKey key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, counts) -> {
+                drained.put(k, counts);
+                return null;
+            });
+        }
+        return drained;
+    }
+
+    /** 반영 실패 시 증분을 pending 으로 되돌림 */
+    public synchronized void endFlush(boolean success) {
+        if (!success) {
+            flushing.forEach((key, counts) -> pending.merge(key, counts, (a, b) -> {
+                a.add(b);
+                return a;
+            }));
+        }
+        flushing = Map.of();
+        generation.incrementAndGet();
+    }
+
+    /** 현재 flush 세대 */
+    public long generation() {
+        return generation.get();
+    }
+
+    /** 반영 중이 아닌 세대. 반영 중이면 끝날 때까지 기다린다. */
+    public long stableGeneration() {
+        long current;
+        while (((current = generation.get()) & 1) != 0) {
+            LockSupport.parkNanos(1_000_000);
+        }
+        return current;
+    }
+
+    /** 아직 테이블에 없는 증분 (pending + flushing) */
+    public RollupCounts unflushed(RollupKey key) {
+        RollupCounts result = new RollupCounts();
+        RollupCounts inFlight = flushing.get(key);
+        if (inFlight != null) {
+            result.add(inFlight);
+        }
+        pending.computeIfPresent(key, (k, counts) -> {
+            result.add(counts);
+            return counts;
+        });
+        return result;
+    }
+
+    /** 해당 분이 링에서 정확히 조회 가능한지 (기동 이후 && 링 보관 범위 안) */
+    public boolean ringCovers(LocalDateTime minute, LocalDateTime now) {
+        long m = epochMinute(minute);
+        return m > liveSinceMinute && m > epochMinute(now) - ringMinutes;
+    }
+
+    /** 링에서 분 단위 값 조회 (dimension 은 TOTAL 또는 CATEGORY) */
+    public RollupCounts fromRing(StatDimension dimension, long dimensionId, LocalDateTime minute) {
+        RollupCounts result = new RollupCounts();
+        MinuteRing ring = dimension == StatDimension.TOTAL ? totalRing : categoryRings.get(dimensionId);
+        if (ring != null) {
+            ring.readInto(epochMinute(minute), result);
+        }
+        return result;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void add(RollupKey key, long rentals, long returns, long durationSeconds) {
+        pending.compute(key, (k, counts) -> {
+            RollupCounts c = counts == null ? new RollupCounts() : counts;
+            c.add(rentals, returns, durationSeconds);
+            return c;
+        });
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
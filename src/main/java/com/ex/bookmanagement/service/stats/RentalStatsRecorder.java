@@ -0,0 +1,104 @@
+package com.ex.bookmanagement.service.stats;
+
+import com.ex.bookmanagement.config.StatsProperties;
+import com.ex.bookmanagement.domain.RentalStatRollup;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.StatGranularity;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.repository.RentalStatRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 대여/반납 커밋 이벤트를 받아 통계 증분을 쌓고 주기적으로 rental_stat_rollup 에 반영
+ * - 이벤트 처리는 메모리 연산뿐이라 커밋 스레드를 거의 붙잡지 않는다. (카테고리는 BookCategoryIndex 캐시 사용)
+ * - 반영은 버킷별 upsert 이므로 한 번의 flush 비용은 그 사이 바뀐 버킷 수에만 비례한다.
+ * - flush 는 한 번에 하나만 실행한다. (주기 실행과 종료 시 반영이 겹치지 않도록)
+ */
+@Slf4j
+@Component
+public class RentalStatsRecorder {
+    private final RentalStatRollupRepository rollupRepository;
+    private final BookCategoryIndex bookCategoryIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final StatsProperties props;
+    private final RentalStatsAggregator aggregator;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public RentalStatsRecorder(RentalStatRollupRepository rollupRepository, BookCategoryIndex bookCategoryIndex,
+                               TransactionTemplate transactionTemplate, StatsProperties props) {
+        this.rollupRepository = rollupRepository;
+        this.bookCategoryIndex = bookCategoryIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.props = props;
+        this.aggregator = new RentalStatsAggregator(props.getRingMinutes(), LocalDateTime.now());
+    }
+
+    @TransactionalEventListener
+    public void onRentalChanged(RentalChangedEvent event) {
+        if (event.getStatus() == RentalStatus.UNAVAILABLE) {
+            return;
+        }
+        aggregator.record(event, bookCategoryIndex.categoriesOf(event.getBookId()));
+    }
+
+    @Scheduled(fixedDelayString = "${bookmanagement.stats.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<RollupKey, RollupCounts> drained = aggregator.beginFlush();
+            if (drained.isEmpty()) {
+                aggregator.endFlush(true);
+                return;
+            }
+            boolean success = false;
+            try {
+                transactionTemplate.executeWithoutResult(status -> drained.forEach(this::upsert));
+                success = true;
+            } catch (RuntimeException e) {
+                log.warn("[stats] 집계 반영 실패, 다음 주기에 재시도 (buckets={})", drained.size(), e);
+            } finally {
+                aggregator.endFlush(success);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 보관 기간이 지난 분 단위 집계 삭제 */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgeMinuteRollups() {
+        LocalDateTime before = LocalDateTime.now().minus(props.getMinuteRetention());
+        Integer deleted = transactionTemplate.execute(status ->
+                rollupRepository.deleteOlderThan(StatGranularity.MINUTE, before));
+        if (deleted != null && deleted > 0) {
+            log.info("[stats] 분 단위 집계 {}건 삭제 (before={})", deleted, before);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public RentalStatsAggregator aggregator() {
+        return aggregator;
+    }
+
+    private void upsert(RollupKey key, RollupCounts counts) {
+        RentalStatRollup row = rollupRepository
+                .findByGranularityAndDimensionAndDimensionIdAndBucketStart(
+                        key.granularity(), key.dimension(), key.dimensionId(), key.bucketStart())
+                .orElseGet(() -> new RentalStatRollup(key.granularity(), key.dimension(), key.dimensionId(), key.bucketStart()));
+        row.add(counts.getRentals(), counts.getReturns(), counts.getDurationSecondsSum());
+        rollupRepository.save(row);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ex.bookmanagement.service.stats;
+
+import lombok.Getter;
+
+/**
+ * 버킷 하나의 대여/반납 수와 대여 기간 합계 (동기화는 호출자가 담당)
+ */
+@Getter
+public class RollupCounts {
+    private long rentals;
+    private long returns;
+    private long durationSecondsSum;
+
+    public void add(long rentals, long returns, long durationSecondsSum) {
+        this.rentals += rentals;
+        this.returns += returns;
+        this.durationSecondsSum += durationSecondsSum;
+    }
+
+    public void add(RollupCounts other) {
+        add(other.rentals, other.returns, other.durationSecondsSum);
+    }
+
+    public boolean isEmpty() {
+        return rentals == 0 && returns == 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ex.bookmanagement.service.stats;
+
+import com.ex.bookmanagement.domain.StatDimension;
+import com.ex.bookmanagement.domain.StatGranularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 버킷 식별자 (rental_stat_rollup 의 유니크 키와 같다)
+ */
+public record RollupKey(StatGranularity granularity, StatDimension dimension, long dimensionId, LocalDateTime bucketStart) {
+}
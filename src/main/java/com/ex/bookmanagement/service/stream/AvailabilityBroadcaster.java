@@ -0,0 +1,199 @@
+package com.ex.bookmanagement.service.stream;
+
+import com.ex.bookmanagement.config.AvailabilityStreamProperties;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.dto.AvailabilityEventResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대여 가능 현황 SSE 브로드캐스터
+ * - 커밋된 재고/상태 변경을 도서별로 모아 두고(같은 도서는 변경 버전이 가장 큰 값만 남김), coalesce-window 마다 한 배치로 내보낸다.
+ *   커밋 후 이벤트는 커밋마다 다른 스레드에서 순서 없이 도착하므로, 이미 내보낸 버전보다 오래된 변경도 버린다.
+ * - 배치는 구독자별 고정 크기 대기열에 넣기만 하므로 커밋 스레드/flush 스레드는 느린 클라이언트 때문에 막히지 않는다.
+ * - 구독자마다 가상 스레드 하나가 대기열을 비우며 전송한다.
+ * - 대기열이 가득 찬 구독자는 밀린 배치를 버리고 resync 이벤트를 마지막으로 받은 뒤 연결이 끊긴다.
+ *   (클라이언트는 다시 구독하고 전체 현황을 다시 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityBroadcaster {
+    private static final Object RESYNC = new Object();
+    private static final Object CLOSE = new Object();
+
+    private final AvailabilityStreamProperties props;
+    private final Map<Long, Update> pending = new ConcurrentHashMap<>();
+    /** 도서별 마지막으로 내보낸 변경 버전 (flush 스레드에서만 갱신) */
+    private final Map<Long, Long> sentVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger slots = new AtomicInteger();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    /** 변경 버전이 붙은 변경 (버전 0 = 부여 전, 도착 순서대로 최신으로 본다) */
+    private record Update(long version, AvailabilityEventResponse response) {
+        boolean olderThan(long other) {
+            return version > 0 && version < other;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() != BookChangeType.STOCK_CHANGED && event.getType() != BookChangeType.STATUS_CHANGED) {
+            return;
+        }
+        Update update = new Update(event.getChangeVersion(), AvailabilityEventResponse.fromEvent(event));
+        if (update.olderThan(sentVersions.getOrDefault(event.getBookId(), 0L) + 1)) {
+            return;
+        }
+        pending.merge(event.getBookId(), update, (old, cur) -> cur.olderThan(old.version()) ? old : cur);
+    }
+
+    /** 모인 변경을 한 배치로 모든 구독자 대기열에 전달 */
+    @Scheduled(fixedDelayString = "${bookmanagement.availability-stream.coalesce-window:PT0.25S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<AvailabilityEventResponse> batch = new ArrayList<>(pending.size());
+        for (Long bookId : pending.keySet()) {
+            Update update = pending.remove(bookId);
+            if (update == null) {
+                continue;
+            }
+            // 앞선 flush 이후 늦게 도착한 이전 버전은 보내지 않는다
+            long sent = sentVersions.getOrDefault(bookId, 0L);
+            if (update.olderThan(sent + 1)) {
+                continue;
+            }
+            sentVersions.put(bookId, Math.max(sent, update.version()));
+            batch.add(update.response());
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<AvailabilityEventResponse> payload = List.copyOf(batch);
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.enqueue(payload);
+        }
+    }
+
+    /** 새 구독 (한도 확인과 자리 차지를 한 번에 해 동시 구독에도 max-subscribers 를 넘지 않음) */
+    public SseEmitter subscribe() {
+        if (slots.incrementAndGet() > props.getMaxSubscribers()) {
+            slots.decrementAndGet();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+        SseEmitter emitter = createEmitter(props.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter,
+                new ArrayBlockingQueue<>(props.getSubscriberBuffer()));
+        subscribers.put(subscriber.id, subscriber);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        Thread.ofVirtual().name("availability-sse-" + subscriber.id).start(subscriber::run);
+        return emitter;
+    }
+
+    /** 테스트에서 전송 내용을 기록하는 emitter 로 바꿔 끼울 수 있게 분리 */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long resyncCount() {
+        return resyncs.get();
+    }
+
+    private final class Subscriber {
+        private final long id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(long id, SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.id = id;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        /** flush 스레드에서만 호출. 대기열이 넘치면 더는 배치를 받지 않고 resync 후 종료 */
+        void enqueue(List<AvailabilityEventResponse> batch) {
+            if (!queue.offer(batch)) {
+                subscribers.remove(id, this);
+                queue.clear();
+                queue.offer(RESYNC);
+                resyncs.incrementAndGet();
+            }
+        }
+
+        /** 전송 루프 (구독자 전용 가상 스레드) */
+        void run() {
+            long heartbeatMillis = props.getHeartbeatInterval().toMillis();
+            try {
+                emitter.send(SseEmitter.event().name("connected").data(Map.of("subscriberId", id)));
+                while (!closed.get()) {
+                    Object item = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (item == CLOSE || closed.get()) {
+                        break;
+                    }
+                    if (item == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (item == RESYNC) {
+                        emitter.send(SseEmitter.event().name("resync").data(Map.of("reason", "buffer-overflow")));
+                        emitter.complete();
+                        break;
+                    } else {
+                        emitter.send(SseEmitter.event().name("availability").data(item, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                log.debug("[availability-sse] subscriber {} disconnected: {}", id, e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.remove(id, this);
+            slots.decrementAndGet();
+            queue.clear();
+            queue.offer(CLOSE);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ex.bookmanagement.workload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캡처된 API 요청 1건 (JSON Lines 한 줄)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CapturedRequest {
+    /** 요청 시작 시각 (epoch millis) */
+    private long ts;
+
+    private String method;
+
+    private String path;
+
+    private String query;
+
+    private String body;
+
+    /** 응답 상태 코드 */
+    private int status;
+
+    /** 서버 처리 시간 (마이크로초) */
+    private long durationMicros;
+
+    /** 대여자 이름 (순서 보장 키) */
+    private String renter;
+
+    /** 대여 생성 응답의 rentalId (재생 시 반납/중단 경로 치환용) */
+    private Long rentalId;
+}
@@ -0,0 +1,167 @@
+package com.ex.bookmanagement.workload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API 요청 캡처 필터
+ * - 샘플링된 /api/** 요청의 메서드, 경로, 본문, 처리 시간을 append-only JSON Lines 파일에 기록한다.
+ * - 요청 스레드는 대기열에 넣기만 하고, 파일 쓰기는 전용 writer 스레드가 처리한다.
+ * - 대기열이 가득 차면 요청을 막지 않고 해당 기록을 버린다.
+ */
+@Slf4j
+public class WorkloadCaptureFilter extends OncePerRequestFilter {
+    private final WorkloadCaptureProperties props;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<CapturedRequest> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public WorkloadCaptureFilter(WorkloadCaptureProperties props, ObjectMapper objectMapper) {
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+        this.writer = new Thread(this::drain, "workload-capture-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (ThreadLocalRandom.current().nextDouble() >= props.getSampleRate()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingRequestWrapper req = new ContentCachingRequestWrapper(request, props.getMaxBodyBytes());
+        // 대여 생성 응답만 rentalId 추출을 위해 버퍼링
+        ContentCachingResponseWrapper rentRes = isRent(request) ? new ContentCachingResponseWrapper(response) : null;
+
+        long ts = System.currentTimeMillis();
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(req, rentRes != null ? rentRes : response);
+        } finally {
+            long durationMicros = (System.nanoTime() - started) / 1_000;
+            String body = new String(req.getContentAsByteArray(), StandardCharsets.UTF_8);
+            Long rentalId = null;
+            int status = response.getStatus();
+            if (rentRes != null) {
+                status = rentRes.getStatus();
+                rentalId = status == 200 ? readLong(rentRes.getContentAsByteArray(), "rentalId") : null;
+                rentRes.copyBodyToResponse();
+            }
+
+            CapturedRequest captured = CapturedRequest.builder()
+                    .ts(ts)
+                    .method(request.getMethod())
+                    .path(request.getRequestURI())
+                    .query(request.getQueryString())
+                    .body(body.isEmpty() ? null : body)
+                    .status(status)
+                    .durationMicros(durationMicros)
+                    .renter(rentRes != null ? readText(body, "renterName") : null)
+                    .rentalId(rentalId)
+                    .build();
+            if (!queue.offer(captured)) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    private static boolean isRent(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && "/api/rentals".equals(request.getRequestURI());
+    }
+
+    private String readText(String json, String field) {
+        try {
+            JsonNode node = objectMapper.readTree(json).path(field);
+            return node.isTextual() ? node.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Long readLong(byte[] json, String field) {
+        try {
+            JsonNode node = objectMapper.readTree(json).path(field);
+            return node.isNumber() ? node.asLong() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** writer 스레드: 대기열을 비우며 파일 끝에 한 줄씩 추가 */
+    private void drain() {
+        Path path = Path.of(props.getFile());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+        } catch (IOException e) {
+            log.error("[capture] 캡처 디렉터리를 만들 수 없습니다: {}", path, e);
+            return;
+        }
+
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            while (running || !queue.isEmpty()) {
+                CapturedRequest next = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    out.flush();
+                    continue;
+                }
+                out.write(objectMapper.writeValueAsString(next));
+                out.newLine();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("[capture] 캡처 파일 기록 실패: {}", path, e);
+        }
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.get() > 0) {
+            log.warn("[capture] 대기열 초과로 버려진 요청 {}건", dropped.get());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ex.bookmanagement.workload;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * API 요청 캡처 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmanagement.capture")
+public class WorkloadCaptureProperties {
+    /** 캡처 활성화 여부 */
+    private boolean enabled = false;
+
+    /** 샘플링 비율 (0.0 ~ 1.0) */
+    private double sampleRate = 1.0;
+
+    /** 캡처 파일 경로 (append-only JSON Lines) */
+    private String file = "capture/workload.jsonl";
+
+    /** 요청 본문 최대 저장 바이트 */
+    private int maxBodyBytes = 4096;
+
+    /** 기록 대기열 크기 (가득 차면 해당 요청은 버림) */
+    private int queueCapacity = 10_000;
+}
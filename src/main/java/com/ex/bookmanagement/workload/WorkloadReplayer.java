@@ -0,0 +1,230 @@
+package com.ex.bookmanagement.workload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 캡처 파일 재생 도구
+ * - 캡처 시각 간격을 speed 배속으로 재현한다. (speed=max 면 대기 없이 즉시 발사)
+ * - 같은 대여자의 요청은 캡처 순서대로 직렬 실행하고, 서로 다른 대여자는 동시에 실행한다.
+ * - 대여 생성 응답의 rentalId 를 기록해 이후 반납/중단 경로의 id 를 재생 환경 id 로 치환한다.
+ * - 종료 시 엔드포인트별 캡처 지연시간과 재생 지연시간(p50/p99)을 비교 출력한다.
+ *
+ * 실행 예: ./gradlew replayWorkload -PreplayArgs="--file=capture/workload.jsonl --target=http://localhost:8080 --speed=2"
+ */
+public class WorkloadReplayer {
+    private static final Pattern RENTAL_ACTION = Pattern.compile("^/api/rentals/(\\d+)/(return|suspend)$");
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final URI target;
+    private final double speed; // 0 이하 = max
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ExecutorService pool;
+
+    private final Map<Long, String> renterByCapturedRental = new HashMap<>();
+    private final Map<Long, Long> replayedRentalIds = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> capturedLatencies = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> replayedLatencies = new ConcurrentHashMap<>();
+    private final Map<String, Integer> statusMismatches = new ConcurrentHashMap<>();
+
+    public WorkloadReplayer(URI target, double speed, int concurrency) {
+        this.target = target;
+        this.speed = speed;
+        this.pool = Executors.newFixedThreadPool(concurrency);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parseArgs(args);
+        Path file = Path.of(opts.getOrDefault("file", "capture/workload.jsonl"));
+        URI target = URI.create(opts.getOrDefault("target", "http://localhost:8080"));
+        String speedArg = opts.getOrDefault("speed", "1");
+        double speed = "max".equalsIgnoreCase(speedArg) ? 0 : Double.parseDouble(speedArg);
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "64"));
+
+        WorkloadReplayer replayer = new WorkloadReplayer(target, speed, concurrency);
+        List<CapturedRequest> capture = replayer.load(file);
+        System.out.printf("replaying %d requests from %s to %s at %s%n",
+                capture.size(), file, target, speed <= 0 ? "max speed" : speed + "x");
+        replayer.replay(capture);
+        System.out.print(replayer.report());
+    }
+
+    public List<CapturedRequest> load(Path file) throws IOException {
+        List<CapturedRequest> result = new ArrayList<>();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) {
+                    result.add(objectMapper.readValue(line, CapturedRequest.class));
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(CapturedRequest::getTs));
+        for (CapturedRequest r : result) {
+            if (r.getRentalId() != null && r.getRenter() != null) {
+                renterByCapturedRental.put(r.getRentalId(), r.getRenter());
+            }
+        }
+        return result;
+    }
+
+    public void replay(List<CapturedRequest> capture) throws InterruptedException {
+        if (capture.isEmpty()) {
+            return;
+        }
+        long firstTs = capture.get(0).getTs();
+        long start = System.nanoTime();
+        Map<String, CompletableFuture<Void>> tails = new HashMap<>();
+        List<CompletableFuture<Void>> independent = new ArrayList<>();
+
+        for (CapturedRequest r : capture) {
+            if (speed > 0) {
+                long due = start + (long) (TimeUnit.MILLISECONDS.toNanos(r.getTs() - firstTs) / speed);
+                long remaining;
+                while ((remaining = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(remaining);
+                }
+            }
+            // 같은 키(대여자)의 요청은 앞 요청이 끝난 뒤 실행
+            String key = orderingKey(r);
+            if (key == null) {
+                independent.add(CompletableFuture.runAsync(() -> send(r), pool));
+                continue;
+            }
+            CompletableFuture<Void> prev = tails.get(key);
+            CompletableFuture<Void> next = prev == null
+                    ? CompletableFuture.runAsync(() -> send(r), pool)
+                    : prev.thenRunAsync(() -> send(r), pool);
+            tails.put(key, next);
+        }
+
+        independent.addAll(tails.values());
+        CompletableFuture.allOf(independent.toArray(CompletableFuture[]::new)).join();
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private String orderingKey(CapturedRequest r) {
+        if (r.getRenter() != null) {
+            return "renter:" + r.getRenter();
+        }
+        Matcher m = RENTAL_ACTION.matcher(r.getPath());
+        if (m.matches()) {
+            Long capturedId = Long.valueOf(m.group(1));
+            String renter = renterByCapturedRental.get(capturedId);
+            return renter != null ? "renter:" + renter : "rental:" + capturedId;
+        }
+        // 대여자와 무관한 요청은 서로 독립적으로 실행
+        return null;
+    }
+
+    private void send(CapturedRequest r) {
+        String path = rewritePath(r.getPath());
+        String uri = path + (r.getQuery() != null ? "?" + r.getQuery() : "");
+        HttpRequest.BodyPublisher body = r.getBody() != null
+                ? HttpRequest.BodyPublishers.ofString(r.getBody())
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target.resolve(uri)).method(r.getMethod(), body);
+        if (r.getBody() != null) {
+            builder.header("Content-Type", "application/json");
+        }
+
+        String endpoint = r.getMethod() + " " + NUMERIC_SEGMENT.matcher(r.getPath()).replaceAll("/{id}");
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            long micros = (System.nanoTime() - started) / 1_000;
+            record(capturedLatencies, endpoint, r.getDurationMicros());
+            record(replayedLatencies, endpoint, micros);
+            if (response.statusCode() != r.getStatus()) {
+                statusMismatches.merge(endpoint + " " + r.getStatus() + "->" + response.statusCode(), 1, Integer::sum);
+            }
+            if (r.getRentalId() != null && response.statusCode() == 200) {
+                JsonNode id = objectMapper.readTree(response.body()).path("rentalId");
+                if (id.isNumber()) {
+                    replayedRentalIds.put(r.getRentalId(), id.asLong());
+                }
+            }
+        } catch (IOException e) {
+            statusMismatches.merge(endpoint + " IO_ERROR", 1, Integer::sum);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 캡처 당시 rentalId 를 재생 환경에서 생성된 rentalId 로 치환 */
+    private String rewritePath(String path) {
+        Matcher m = RENTAL_ACTION.matcher(path);
+        if (!m.matches()) {
+            return path;
+        }
+        Long replayed = replayedRentalIds.get(Long.valueOf(m.group(1)));
+        return replayed == null ? path : "/api/rentals/" + replayed + "/" + m.group(2);
+    }
+
+    private static void record(Map<String, List<Long>> target, String endpoint, long micros) {
+        target.computeIfAbsent(endpoint, k -> Collections.synchronizedList(new ArrayList<>())).add(micros);
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-40s %8s %14s %14s %14s %14s%n",
+                "endpoint", "count", "capture p50", "replay p50", "capture p99", "replay p99"));
+        new TreeMap<>(replayedLatencies).forEach((endpoint, replayed) -> {
+            long[] r = sorted(replayed);
+            long[] c = sorted(capturedLatencies.getOrDefault(endpoint, List.of()));
+            sb.append(String.format("%-40s %8d %12.2fms %12.2fms %12.2fms %12.2fms%n",
+                    endpoint, r.length, pct(c, 50), pct(r, 50), pct(c, 99), pct(r, 99)));
+        });
+        if (!statusMismatches.isEmpty()) {
+            sb.append("status mismatches:\n");
+            new TreeMap<>(statusMismatches).forEach((k, v) -> sb.append(String.format("    %-50s %6d%n", k, v)));
+        }
+        return sb.toString();
+    }
+
+    private static long[] sorted(List<Long> values) {
+        long[] result;
+        synchronized (values) {
+            result = values.stream().mapToLong(Long::longValue).toArray();
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static double pct(long[] sortedMicros, double percentile) {
+        if (sortedMicros.length == 0) {
+            return 0;
+        }
+        int idx = (int) Math.ceil(percentile / 100.0 * sortedMicros.length) - 1;
+        return sortedMicros[Math.max(0, idx)] / 1_000.0;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return opts;
+    }
+}
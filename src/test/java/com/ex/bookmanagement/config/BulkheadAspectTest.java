@@ -0,0 +1,224 @@
+package com.ex.bookmanagement.config;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.dto.BulkheadStatusResponse;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.service.BatchService;
+import com.ex.bookmanagement.service.BookService;
+import com.ex.bookmanagement.service.RentalService;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BulkheadAspect 작업 부류 결정 테스트
+ * 테스트 범위:
+ * - RentalService.rentBook 은 RENTAL_WRITE 부류에서 실행
+ * - 클래스가 ADMIN 이어도 readOnly 메서드는 CATALOG_READ
+ * - 서비스 안에서 호출한 다른 서비스는 바깥 부류를 그대로 사용 (한도도 한 번만 차지)
+ * - 저자/제목 검색은 캐시 조회 트랜잭션까지 CATALOG_READ 부류에서 실행
+ * - 일괄 요청: 독립 모드는 작업마다 자기 부류, 트랜잭션 모드는 ADMIN
+ * - releasePermit 으로 한도를 먼저 돌려주면 부류는 유지되고 한도는 한 번만 반환
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import({BulkheadAspectTest.WorkloadRecorder.class, BulkheadAspectTest.CatalogLikeService.class,
+        BulkheadAspectTest.RentalLikeService.class})
+class BulkheadAspectTest {
+    @Autowired private RentalService rentalService;
+    @Autowired private BookService bookService;
+    @Autowired private BatchService batchService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private WorkloadRecorder recorder;
+    @Autowired private BulkheadRegistry registry;
+    @Autowired private CatalogLikeService catalogLikeService;
+    @Autowired private RentalLikeService rentalLikeService;
+
+    @BeforeEach
+    void init() {
+        recorder.clear();
+    }
+
+    @Test
+    @DisplayName("대여는 RENTAL_WRITE 부류에서 실행")
+    void rentBook_runsOnRentalWrite() {
+        // given
+        Category category = categoryRepository.save(new Category("격리"));
+        Book book = bookRepository.save(Book.createBook("격리 도서", "저자", List.of(category), BookStatus.AVAILABLE, 1));
+
+        // when
+        rentalService.rentBook(book.getId(), "김민철");
+
+        // then
+        assertThat(recorder.workloads).containsExactly(WorkloadClass.RENTAL_WRITE);
+        assertThat(recorder.inFlight).containsExactly(Map.of(
+                WorkloadClass.RENTAL_WRITE, 1, WorkloadClass.CATALOG_READ, 0, WorkloadClass.ADMIN, 0));
+    }
+
+    @Test
+    @DisplayName("ADMIN 클래스의 readOnly 메서드는 CATALOG_READ")
+    void readOnlyMethod_resolvesToCatalogRead() {
+        // when
+        catalogLikeService.read();
+        catalogLikeService.write();
+
+        // then
+        assertThat(recorder.workloads).containsExactly(WorkloadClass.CATALOG_READ, WorkloadClass.ADMIN);
+    }
+
+    @Test
+    @DisplayName("중첩 호출은 바깥 부류를 재사용")
+    void nestedCall_reusesOuterWorkload() {
+        // when
+        rentalLikeService.callCatalogRead();
+
+        // then: 안쪽 readOnly 메서드도 RENTAL_WRITE 로 실행되고, 한도는 바깥 호출 하나만 차지
+        assertThat(recorder.workloads).containsExactly(WorkloadClass.RENTAL_WRITE);
+        assertThat(recorder.inFlight).containsExactly(Map.of(
+                WorkloadClass.RENTAL_WRITE, 1, WorkloadClass.CATALOG_READ, 0, WorkloadClass.ADMIN, 0));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("저자/제목 검색은 캐시 조회까지 CATALOG_READ 부류에서 실행")
+    void searchByAuthorAndTitle_runsOnCatalogRead() {
+        // when: 테스트 트랜잭션 없이 호출해 검색 결과 캐시의 조회 트랜잭션을 거침
+        bookService.searchByAuthorAndTitle("격리 저자", null, 0, 10);
+
+        // then
+        assertThat(recorder.workloads).containsExactly(WorkloadClass.CATALOG_READ);
+        assertThat(recorder.inFlight).containsExactly(Map.of(
+                WorkloadClass.RENTAL_WRITE, 0, WorkloadClass.CATALOG_READ, 1, WorkloadClass.ADMIN, 0));
+    }
+
+    @Test
+    @DisplayName("일괄 요청 - 독립 모드는 작업마다 자기 부류, 트랜잭션 모드는 ADMIN 에서 실행")
+    void batch_independentStepsClassifyThemselves_transactionalRunsOnAdmin() {
+        // given: 대여 1건 + 카탈로그 조회 1건
+        Category category = categoryRepository.save(new Category("격리"));
+        Book book = bookRepository.save(Book.createBook("격리 도서", "저자", List.of(category), BookStatus.AVAILABLE, 2));
+        List<BatchService.Step> steps = List.of(
+                new BatchService.Step("rent", "POST", "/api/rentals", () -> {
+                    rentalService.rentBook(book.getId(), "김민철");
+                    return ResponseEntity.ok().build();
+                }),
+                new BatchService.Step("read", "GET", "/api/books", () -> {
+                    catalogLikeService.read();
+                    return ResponseEntity.ok().build();
+                }));
+
+        // when
+        batchService.executeIndependently(steps);
+        List<WorkloadClass> independent = List.copyOf(recorder.workloads);
+        recorder.clear();
+        batchService.executeInTransaction(steps);
+
+        // then
+        assertThat(independent).containsExactly(WorkloadClass.RENTAL_WRITE, WorkloadClass.CATALOG_READ);
+        assertThat(recorder.workloads).containsExactly(WorkloadClass.ADMIN, WorkloadClass.ADMIN);
+    }
+
+    @Test
+    @DisplayName("한도를 먼저 돌려줘도 부류는 유지되고, 호출이 끝날 때 다시 돌려주지 않음")
+    void releasePermit_keepsWorkload_releasesOnce() {
+        // when
+        catalogLikeService.readAfterRelease();
+
+        // then
+        assertThat(recorder.workloads).containsExactly(WorkloadClass.CATALOG_READ);
+        assertThat(recorder.inFlight).containsExactly(Map.of(
+                WorkloadClass.RENTAL_WRITE, 0, WorkloadClass.CATALOG_READ, 0, WorkloadClass.ADMIN, 0));
+        assertThat(registry.statuses()).allSatisfy(status -> assertThat(status.getInFlight()).isZero());
+    }
+
+    /** 호출 시점의 작업 부류와 부류별 사용 중인 한도를 기록 (도서 검색 쿼리 직전 포함) */
+    @Aspect
+    @RequiredArgsConstructor
+    static class WorkloadRecorder {
+        private final BulkheadRegistry registry;
+        final List<WorkloadClass> workloads = new ArrayList<>();
+        final List<Map<WorkloadClass, Integer>> inFlight = new ArrayList<>();
+
+        void record() {
+            workloads.add(WorkloadContext.current());
+            inFlight.add(registry.statuses().stream()
+                    .collect(Collectors.toMap(BulkheadStatusResponse::getWorkload, BulkheadStatusResponse::getInFlight)));
+        }
+
+        void clear() {
+            workloads.clear();
+            inFlight.clear();
+        }
+
+        @EventListener
+        public void onRentalChanged(RentalChangedEvent event) {
+            record();
+        }
+
+        @Before("execution(* com.ex.bookmanagement.repository.BookRepository.searchByAuthorAndTitle(..))")
+        public void beforeSearch() {
+            record();
+        }
+    }
+
+    /** BookService 와 같은 구성 (클래스 ADMIN + readOnly 기본) */
+    @Service
+    @Bulkhead(WorkloadClass.ADMIN)
+    @Transactional(readOnly = true)
+    @RequiredArgsConstructor
+    static class CatalogLikeService {
+        private final WorkloadRecorder recorder;
+
+        public void read() {
+            recorder.record();
+        }
+
+        public void readAfterRelease() {
+            WorkloadContext.releasePermit();
+            WorkloadContext.releasePermit();
+            recorder.record();
+        }
+
+        @Transactional
+        public void write() {
+            recorder.record();
+        }
+    }
+
+    @Service
+    @Bulkhead(WorkloadClass.RENTAL_WRITE)
+    @Transactional
+    @RequiredArgsConstructor
+    static class RentalLikeService {
+        private final CatalogLikeService catalogLikeService;
+
+        public void callCatalogRead() {
+            catalogLikeService.read();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ex.bookmanagement.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * SyntheticDataGenerator 테스트 클래스 (synthetic 프로파일, 소량 설정으로 기동 시 적재)
+ * 테스트 범위:
+ * - 카테고리/도서/대여 건수
+ * - 대여 상태 비율 유지 (권수가 모두 대여 중인 인기 도서가 있어도 대여 불가 비율이 늘지 않음)
+ * - 도서별 대여 중 건수가 보유 권수를 넘지 않음 (재고 >= 0)
+ */
+@SpringBootTest(properties = {
+        "bookmanagement.datagen.categories=5",
+        "bookmanagement.datagen.books=100",
+        "bookmanagement.datagen.rentals=5000",
+        "bookmanagement.datagen.batch-size=500",
+        "bookmanagement.datagen.renters=50"
+})
+@ActiveProfiles({"test", "synthetic"})
+@DisplayName("SyntheticDataGenerator 테스트")
+class SyntheticDataGeneratorTest {
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Test
+    @DisplayName("설정한 건수와 상태 비율로 적재되고, 대여 중 건수는 보유 권수를 넘지 않음")
+    void generate() {
+        // given: 기동 시 적재 완료 (rentals 5000, 대여 중 8% ≒ 400건, 전체 권수 약 300권 중 인기 도서에 몰림)
+        Map<String, Long> byStatus = new HashMap<>();
+        jdbcTemplate.query("select rental_status, count(*) from rental group by rental_status",
+                rs -> { byStatus.put(rs.getString(1), rs.getLong(2)); });
+        long total = count("select count(*) from rental");
+
+        // then
+        assertThat(count("select count(*) from category")).isEqualTo(5);
+        assertThat(count("select count(*) from book")).isEqualTo(100);
+        assertThat(total).isLessThanOrEqualTo(5000);
+        assertThat(byStatus.getOrDefault("UNAVAILABLE", 0L) / (double) total).isCloseTo(0.02, within(0.01));
+        assertThat(count("select count(*) from book where stock < 0")).isZero();
+        // 도서별 대여 중 건수 + 재고 = 보유 권수 (1~5권)
+        assertThat(count("""
+                select count(*) from book b
+                where b.stock + (select count(*) from rental r where r.book_id = b.id and r.rental_status = 'RENTED')
+                      not between 1 and 5
+                """)).isZero();
+    }
+}
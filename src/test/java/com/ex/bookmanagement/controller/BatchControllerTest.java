@@ -0,0 +1,150 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.dto.CreateBookRequest;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.service.BookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BatchController 통합 테스트
+ * 테스트 범위:
+ * - 조회/변경 작업을 한 요청으로 실행하고 개별 API 와 같은 상태/본문을 요청 순서대로 응답
+ * - 경로 변수, 쿼리 파라미터(한글 포함), 본문 검증
+ * - 지원하지 않는 API / 최대 작업 수 초과
+ * - 트랜잭션 모드에서 실패 시 전체 되돌림 표시
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("BatchController 통합 테스트")
+class BatchControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired BookService bookService;
+    @Autowired CategoryRepository categoryRepository;
+
+    private Long catId;
+    private Long bookId;
+
+    @BeforeEach
+    void init() {
+        catId = categoryRepository.save(new Category("일괄")).getId();
+        bookId = bookService.create(new CreateBookRequest("코스모스", "칼 세이건", BookStatus.AVAILABLE, 2, List.of(catId)));
+    }
+
+    private static Map<String, Object> op(String id, String method, String path, Object body) {
+        Map<String, Object> op = new HashMap<>();
+        op.put("id", id);
+        op.put("method", method);
+        op.put("path", path);
+        op.put("body", body);
+        return op;
+    }
+
+    private String batch(boolean transactional, Object... ops) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("transactional", transactional, "operations", List.of(ops)));
+    }
+
+    @Test
+    @DisplayName("조회와 변경을 한 번에 실행 - 결과는 요청 순서, 상태/본문은 개별 API 와 같음")
+    void mixed_success() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(false,
+                                op("avail", "GET", "/api/books/" + bookId + "/availability", null),
+                                op("search", "GET", "/api/books/search?author=칼%20세이건&fields=id,title", null),
+                                op("rent", "POST", "/api/rentals", Map.of("bookId", bookId, "renterName", "홍길동")),
+                                op("after", "GET", "/api/books/" + bookId + "/availability", null),
+                                op("cats", "GET", "/api/categories", null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rolledBack").value(false))
+                .andExpect(jsonPath("$.results[*].id", contains("avail", "search", "rent", "after", "cats")))
+                .andExpect(jsonPath("$.results[*].status", everyItem(is(200))))
+                .andExpect(jsonPath("$.results[0].body.stock").value(2))
+                .andExpect(jsonPath("$.results[1].body", hasSize(1)))
+                .andExpect(jsonPath("$.results[1].body[0].title").value("코스모스"))
+                .andExpect(jsonPath("$.results[1].body[0].author").doesNotExist())
+                .andExpect(jsonPath("$.results[2].body.status").value("RENTED"))
+                .andExpect(jsonPath("$.results[3].body.stock").value(1))
+                .andExpect(jsonPath("$.results[4].body[*].name", hasItem("일괄")));
+    }
+
+    @Test
+    @DisplayName("개별 실패 - 없는 도서(404), 본문 검증 실패(400), 지원하지 않는 API(404), 204 응답은 본문 없음")
+    void partial_failures() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(false,
+                                op("missing", "GET", "/api/books/999999/availability", null),
+                                op("invalid", "POST", "/api/rentals", Map.of("bookId", bookId)),
+                                op("unknown", "GET", "/api/holds", null),
+                                op("status", "PUT", "/api/books/" + bookId + "/status", Map.of("status", "SUSPENDED_LOST")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[*].status", contains(404, 400, 404, 204)))
+                .andExpect(jsonPath("$.results[0].body.code").value("BOOK_NOT_FOUND"))
+                .andExpect(jsonPath("$.results[0].body.path").value("/api/books/999999/availability"))
+                .andExpect(jsonPath("$.results[1].body.code").value("INVALID_ARGUMENT"))
+                .andExpect(jsonPath("$.results[1].body.args.errors[0].field").value("renterName"))
+                .andExpect(jsonPath("$.results[2].body.code").value("BATCH_ROUTE_NOT_FOUND"))
+                .andExpect(jsonPath("$.results[3].body").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 모드 - 한 작업이 실패하면 rolledBack, 나머지는 BATCH_ABORTED(424)")
+    void transactional_abort() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(true,
+                                op(null, "POST", "/api/rentals", Map.of("bookId", bookId, "renterName", "홍길동")),
+                                op(null, "POST", "/api/rentals", Map.of("bookId", 999999L, "renterName", "홍길동")),
+                                op(null, "GET", "/api/rentals", null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactional").value(true))
+                .andExpect(jsonPath("$.rolledBack").value(true))
+                .andExpect(jsonPath("$.results[*].id", contains("0", "1", "2")))
+                .andExpect(jsonPath("$.results[*].status", contains(424, 404, 424)))
+                .andExpect(jsonPath("$.results[0].body.code").value("BATCH_ABORTED"))
+                .andExpect(jsonPath("$.results[0].body.args.failedId").value("1"));
+    }
+
+    @Test
+    @DisplayName("요청 검증 - 작업 없음(400), 최대 작업 수 초과(400 BATCH_TOO_LARGE)")
+    void request_validation() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(false)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+
+        Object[] ops = Collections.nCopies(51, op(null, "GET", "/api/categories", null)).toArray();
+        mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(false, ops)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BATCH_TOO_LARGE"));
+    }
+}
@@ -5,7 +5,9 @@ import com.ex.bookmanagement.dto.CreateBookRequest;
 import com.ex.bookmanagement.repository.BookRepository;
 import com.ex.bookmanagement.repository.CategoryRepository;
 import com.ex.bookmanagement.service.BookService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -17,7 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -187,6 +191,40 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.code").value("BOOK_NOT_FOUND"));
     }
 
+    @Test
+    @DisplayName("도서 상태 일괄 변경 성공 - 200 OK & 변경 건수")
+    void changeStatuses_success() throws Exception {
+        Long a = createBook("A", "저자", 1, BookStatus.AVAILABLE, List.of(catA));
+        Long b = createBook("B", "저자", 1, BookStatus.SUSPENDED_DAMAGED, List.of(catA));
+
+        mockMvc.perform(put("/api/books/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("bookIds", List.of(a, b), "status", "SUSPENDED_DAMAGED"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUSPENDED_DAMAGED"))
+                .andExpect(jsonPath("$.updatedBooks").value(1))
+                .andExpect(jsonPath("$.unchangedBooks").value(1))
+                .andExpect(jsonPath("$.suspendedRentals").value(0));
+    }
+
+    @Test
+    @DisplayName("도서 상태 일괄 변경 실패 - 없는 도서(404), 상태 누락(400)")
+    void changeStatuses_fail() throws Exception {
+        Long a = createBook("A", "저자", 1, BookStatus.AVAILABLE, List.of(catA));
+
+        mockMvc.perform(put("/api/books/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("bookIds", List.of(a, 999999L), "status", "SUSPENDED_LOST"))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("BOOK_NOT_FOUND"))
+                .andExpect(jsonPath("$.args.ids", contains(999999)));
+
+        mockMvc.perform(put("/api/books/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("bookIds", List.of(a)))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("저자/제목 검색 - 200 OK")
     void searchByAuthorAndTitle_success() throws Exception {
@@ -201,6 +239,59 @@ class BookControllerTest {
                 .andExpect(jsonPath("$[*].author", everyItem(equalTo("권태영"))));
     }
 
+    @Test
+    @DisplayName("저자/제목 검색 - fields 로 고른 필드만 응답 (id 는 항상 포함)")
+    void searchByAuthorAndTitle_sparseFields() throws Exception {
+        createBook("게으른 사랑", "권태영", 3, BookStatus.AVAILABLE, List.of(catA));
+
+        mockMvc.perform(get("/api/books/search")
+                        .param("author", "권태영")
+                        .param("fields", "title,stock"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].title").value("게으른 사랑"))
+                .andExpect(jsonPath("$[0].stock").value(3))
+                .andExpect(jsonPath("$[0].author").doesNotExist())
+                .andExpect(jsonPath("$[0].categories").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("카테고리 검색 - fields 에 categories 를 주면 카테고리 이름까지 응답")
+    void searchByCategory_sparseFields() throws Exception {
+        createBook("여행의 기술", "알랭 드 보통", 1, BookStatus.AVAILABLE, List.of(catC, catA));
+
+        mockMvc.perform(get("/api/books/search-by-category")
+                        .param("categoryName", "여행")
+                        .param("fields", "id,categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].categories", containsInAnyOrder("여행", "철학")))
+                .andExpect(jsonPath("$[0].title").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("도서 전체 조회 - Accept: application/cbor 면 같은 구조를 CBOR 로 응답")
+    void findBooks_cbor() throws Exception {
+        createBook("코스모스", "칼 세이건", 2, BookStatus.AVAILABLE, List.of(catA));
+
+        byte[] body = mockMvc.perform(get("/api/books").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<Map<String, Object>> books = new CBORMapper().readValue(body, new TypeReference<>() {});
+        assertThat(books).hasSize(1);
+        assertThat(books.get(0)).containsEntry("title", "코스모스").containsEntry("stock", 2)
+                .containsEntry("categories", List.of("철학"));
+    }
+
+    @Test
+    @DisplayName("도서 전체 조회 - 알 수 없는 필드(400)")
+    void findBooks_fail_unknownField() throws Exception {
+        mockMvc.perform(get("/api/books").param("fields", "id,price"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+    }
+
     @Test
     @DisplayName("카테고리 검색 - ID로 검색 200 OK")
     void searchByCategory_byId_success() throws Exception {
@@ -234,4 +325,48 @@ class BookControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("BOOK_NOT_FOUND"));
     }
+
+    @Test
+    @DisplayName("여러 도서 대여 가능 여부 조회 - 요청 순서, 중복 제거, 없는 도서는 notFound")
+    void availabilities_success() throws Exception {
+        Long a = createBook("A", "작가A", 2, BookStatus.AVAILABLE, List.of(catA));
+        Long b = createBook("B", "작가B", 0, BookStatus.AVAILABLE, List.of(catA));
+        Long c = createBook("C", "작가C", 3, BookStatus.SUSPENDED_LOST, List.of(catA));
+
+        mockMvc.perform(post("/api/books/availability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("bookIds", List.of(c, a, 999999L, a, b)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.books[*].bookId", contains(c.intValue(), a.intValue(), b.intValue())))
+                .andExpect(jsonPath("$.books[*].available", contains(false, true, false)))
+                .andExpect(jsonPath("$.books[0].bookStatus").value("SUSPENDED_LOST"))
+                .andExpect(jsonPath("$.books[1].stock").value(2))
+                .andExpect(jsonPath("$.notFound", contains(999999)));
+    }
+
+    @Test
+    @DisplayName("여러 도서 대여 가능 여부 조회 - 빈 목록 / 최대 개수 초과는 400")
+    void availabilities_invalid() throws Exception {
+        mockMvc.perform(post("/api/books/availability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("bookIds", List.of()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+
+        List<Long> tooMany = LongStream.rangeClosed(1, 501).boxed().toList();
+        mockMvc.perform(post("/api/books/availability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("bookIds", tooMany))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"))
+                .andExpect(jsonPath("$.args.maxIds").value(500));
+    }
+
+    @Test
+    @DisplayName("대여 가능 현황 스트림 구독 - SSE 비동기 응답 시작")
+    void availabilityStream_subscribe() throws Exception {
+        mockMvc.perform(get("/api/books/availability/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk());
+    }
 }
@@ -0,0 +1,52 @@
+package com.ex.bookmanagement.controller;
+
+import com.ex.bookmanagement.config.BulkheadRegistry;
+import com.ex.bookmanagement.config.WorkloadClass;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "bookmanagement.bulkhead.admin.max-concurrent=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("BulkheadController 통합 테스트")
+class BulkheadControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired BulkheadRegistry bulkheadRegistry;
+
+    @Test
+    @DisplayName("작업 부류별 지표 조회 - 200 OK")
+    void statuses_success() throws Exception {
+        mockMvc.perform(get("/api/admin/bulkheads"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(WorkloadClass.values().length))
+                .andExpect(jsonPath("$[0].workload").value("RENTAL_WRITE"))
+                .andExpect(jsonPath("$[0].poolMax").value(6));
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도 초과 - BULKHEAD_FULL")
+    void acquire_fail_whenFull() {
+        bulkheadRegistry.acquire(WorkloadClass.ADMIN);
+        try {
+            BusinessException ex = assertThrows(BusinessException.class,
+                    () -> bulkheadRegistry.acquire(WorkloadClass.ADMIN));
+            assertThat(ex.getCode()).isEqualTo(ErrorCode.BULKHEAD_FULL);
+        } finally {
+            bulkheadRegistry.release(WorkloadClass.ADMIN);
+        }
+    }
+}
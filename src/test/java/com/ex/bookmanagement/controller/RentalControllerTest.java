@@ -201,5 +201,19 @@ class RentalControllerTest {
                 .andExpect(jsonPath("$", isA(List.class)))
                 .andExpect(jsonPath("$.length()", greaterThanOrEqualTo(2)));
     }
-}
 
+    @Test
+    @DisplayName("전체 대여 내역 조회 - fields 로 고른 필드만 응답")
+    void findAll_sparseFields() throws Exception {
+        Long bookId = createBook("C", "작가C", 1, BookStatus.AVAILABLE);
+        rentalService.rentBook(bookId, "대여자C");
+
+        mockMvc.perform(get("/api/rentals").param("fields", "bookId,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rentalId").exists())
+                .andExpect(jsonPath("$[0].bookId").value(bookId))
+                .andExpect(jsonPath("$[0].status").value("RENTED"))
+                .andExpect(jsonPath("$[0].renterName").doesNotExist())
+                .andExpect(jsonPath("$[0].rentedAt").doesNotExist());
+    }
+}
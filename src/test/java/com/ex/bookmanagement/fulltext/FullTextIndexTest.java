@@ -0,0 +1,174 @@
+package com.ex.bookmanagement.fulltext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FullTextIndex 테스트 클래스
+ * 테스트 범위:
+ * - BM25 순위 / 한글 bigram 검색
+ * - flush 전 메모리 버퍼 검색
+ * - 재기동 시 세그먼트/삭제 표시/since 복원
+ * - 수정/삭제 반영, 병합 이후 검색 결과 유지
+ * - 중단된 flush 가 남긴 파일 정리
+ */
+@DisplayName("FullTextIndex 테스트")
+class FullTextIndexTest {
+    @TempDir
+    Path dir;
+
+    private FullTextProperties props;
+
+    @BeforeEach
+    void init() {
+        props = new FullTextProperties();
+        props.setEnabled(true);
+        props.setDirectory(dir.toString());
+        props.setMergeFactor(3);
+    }
+
+    private static BookDocument doc(long id, String title, String author, String... categories) {
+        return new BookDocument(id, title, author, List.of(categories));
+    }
+
+    private static List<Long> ids(List<FullTextIndex.Hit> hits) {
+        return hits.stream().map(FullTextIndex.Hit::bookId).toList();
+    }
+
+    @Test
+    @DisplayName("제목 일치가 카테고리 일치보다 높은 점수, 붙여 쓴 한글도 검색")
+    void ranking() throws Exception {
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            index.apply(List.of(
+                    doc(1, "자바스크립트 완벽 가이드", "데이비드 플래너건", "프로그래밍"),
+                    doc(2, "이펙티브 자바", "조슈아 블로크", "프로그래밍", "자바"),
+                    doc(3, "토지", "박경리", "소설")
+            ), List.of(), 10).get();
+
+            // when
+            List<FullTextIndex.Hit> hits = index.search("자바", 10);
+            List<FullTextIndex.Hit> partial = index.search("스크립트", 10);
+
+            // then
+            assertThat(ids(hits)).containsExactly(2L, 1L);
+            assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+            assertThat(ids(partial)).containsExactly(1L);
+            assertThat(index.search("해리포터", 10)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("flush 전에도 검색되고, 재기동 후 세그먼트와 since 가 복원됨")
+    void nrt_and_reopen() throws Exception {
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            index.apply(List.of(doc(1, "Clean Code", "Robert Martin", "개발")), List.of(), 5).get();
+            assertThat(index.bufferedDocs()).isEqualTo(1);
+            assertThat(ids(index.search("clean", 10))).containsExactly(1L);
+
+            index.commit().get();
+            assertThat(index.bufferedDocs()).isZero();
+            assertThat(index.segmentCount()).isEqualTo(1);
+            assertThat(index.committedSince()).isEqualTo(5);
+        }
+
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            assertThat(index.since()).isEqualTo(5);
+            assertThat(index.indexedDocs()).isEqualTo(1);
+            assertThat(ids(index.search("CLEAN code", 10))).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("수정은 이전 문서를 삭제 표시하고, 삭제 표시는 재기동 후에도 유지")
+    void update_and_delete() throws Exception {
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            index.apply(List.of(doc(1, "리팩터링", "마틴 파울러", "개발"), doc(2, "객체지향의 사실과 오해", "조영호", "개발")),
+                    List.of(), 3).get();
+            index.commit().get();
+
+            // when: 1번 카테고리 변경, 2번 삭제
+            index.apply(List.of(doc(1, "리팩터링", "마틴 파울러", "설계")), List.of(2L), 6).get();
+
+            // then
+            assertThat(index.search("개발", 10)).isEmpty();
+            assertThat(ids(index.search("설계", 10))).containsExactly(1L);
+            index.commit().get();
+        }
+
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            assertThat(index.indexedDocs()).isEqualTo(1);
+            assertThat(index.search("개발 오해", 10)).isEmpty();
+            assertThat(ids(index.search("리팩터링", 10))).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("내용이 같은 변경(재고/상태)은 다시 색인하지 않음")
+    void unchanged_is_skipped() throws Exception {
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            index.apply(List.of(doc(1, "토비의 스프링", "이일민", "개발")), List.of(), 2).get();
+            index.commit().get();
+
+            index.apply(List.of(doc(1, "토비의 스프링", "이일민", "개발")), List.of(), 3).get();
+
+            assertThat(index.bufferedDocs()).isZero();
+            assertThat(index.unchangedSkipCount()).isEqualTo(1);
+            assertThat(index.since()).isEqualTo(3);
+
+            // 제목이 바뀌면 다시 색인
+            index.apply(List.of(doc(1, "토비의 스프링 3.1", "이일민", "개발")), List.of(), 4).get();
+            assertThat(index.bufferedDocs()).isEqualTo(1);
+            assertThat(index.unchangedSkipCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트가 merge-factor 를 넘으면 병합되고 결과는 그대로")
+    void merge() throws Exception {
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            for (int i = 1; i <= 5; i++) {
+                index.apply(List.of(doc(i, "알고리즘 " + i + "판", "저자" + i, "컴퓨터")), List.of(), i + 1).get();
+                index.commit().get();
+            }
+            index.apply(List.of(), List.of(3L), 7).get();
+            index.commit().get();
+
+            // then
+            assertThat(index.mergeCount()).isPositive();
+            assertThat(index.segmentCount()).isLessThanOrEqualTo(3);
+            assertThat(ids(index.search("알고리즘", 10))).containsExactlyInAnyOrder(1L, 2L, 4L, 5L);
+        }
+
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            assertThat(index.indexedDocs()).isEqualTo(4);
+            assertThat(ids(index.search("저자4", 1))).containsExactly(4L);
+        }
+    }
+
+    @Test
+    @DisplayName("매니페스트에 없는 세그먼트/임시 파일은 열 때 삭제")
+    void orphan_files_removed() throws Exception {
+        try (FullTextIndex index = FullTextIndex.open(props)) {
+            index.apply(List.of(doc(1, "데미안", "헤르만 헤세", "소설")), List.of(), 2).get();
+            index.commit().get();
+        }
+        Files.writeString(dir.resolve(IndexSegment.fileName(99)), "partial");
+        Files.writeString(dir.resolve(IndexManifest.FILE + ".tmp"), "partial");
+
+        try (FullTextIndex index = FullTextIndex.open(props);
+             Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(f -> f.getFileName().toString()))
+                    .containsExactlyInAnyOrder(IndexManifest.FILE, IndexSegment.fileName(1));
+            assertThat(ids(index.search("데미안", 10))).containsExactly(1L);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ex.bookmanagement.journal;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.dto.JournalInventoryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RentalJournal 테스트 클래스
+ * 테스트 범위:
+ * - 기록 후 재기동 시 재생
+ * - 세그먼트 전환 / 스냅샷 이후 재생
+ * - 잘린 꼬리 기록 복구
+ * - 시점별 재고 조회
+ * - 대여 없이 재고만 바뀐 기록 (재입고/예약 배정) 반영과 재생
+ */
+@DisplayName("RentalJournal 테스트")
+class RentalJournalTest {
+    @TempDir
+    Path dir;
+
+    private JournalProperties props;
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void init() {
+        props = new JournalProperties();
+        props.setEnabled(true);
+        props.setDirectory(dir.toString());
+        props.setSegmentSize(DataSize.ofKilobytes(4));
+    }
+
+    private RentalChangedEvent event(long rentalId, long bookId, RentalStatus status, int stockAfter, int minutes) {
+        return new RentalChangedEvent(rentalId, bookId, "대여자" + rentalId, status, stockAfter, base, base.plusMinutes(minutes));
+    }
+
+    @Test
+    @DisplayName("재기동 시 기록을 재생해 현황 복원")
+    void reopen_replays() throws Exception {
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            journal.append(event(1, 10, RentalStatus.RENTED, 2, 0));
+            journal.append(event(2, 10, RentalStatus.RENTED, 1, 1));
+            long seq = journal.append(event(1, 10, RentalStatus.RETURNED, 2, 2)).get();
+            assertThat(seq).isEqualTo(3);
+        }
+
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            assertThat(journal.status().getDurableSeq()).isEqualTo(3);
+            assertThat(journal.status().getActiveRentals()).isEqualTo(1);
+            assertThat(journal.append(event(3, 11, RentalStatus.RENTED, 0, 3)).get()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트 전환과 스냅샷 이후에도 순번이 이어짐")
+    void roll_and_snapshot() throws Exception {
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            for (int i = 1; i <= 200; i++) {
+                journal.append(event(i, i % 7, RentalStatus.RENTED, 1, i));
+            }
+            journal.snapshot().get();
+            journal.append(event(201, 1, RentalStatus.RETURNED, 3, 300)).get();
+            assertThat(journal.status().getSegments()).isGreaterThanOrEqualTo(1);
+        }
+
+        try (RentalJournal journal = RentalJournal.open(props);
+             Stream<Path> files = Files.list(dir)) {
+            assertThat(files.anyMatch(InventoryState::isSnapshotFile)).isTrue();
+            assertThat(journal.status().getLastSnapshotSeq()).isEqualTo(200);
+            assertThat(journal.status().getDurableSeq()).isEqualTo(201);
+            assertThat(journal.status().getActiveRentals()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("잘린 꼬리 기록은 버리고 그 위치부터 이어서 기록")
+    void torn_tail_is_discarded() throws Exception {
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            journal.append(event(1, 10, RentalStatus.RENTED, 0, 0)).get();
+        }
+        // 두 번째 기록이 길이만 쓰이고 본문이 쓰이지 않은 상황
+        Path segment = dir.resolve(JournalSegment.fileName(1));
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int firstSize = new JournalRecord(1, 0, RentalStatus.RENTED, 1, 10, 0, "대여자1").encodedSize();
+            file.seek(firstSize);
+            file.writeInt(40);
+        }
+
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            assertThat(journal.status().getDurableSeq()).isEqualTo(1);
+            assertThat(journal.append(event(2, 10, RentalStatus.RETURNED, 1, 1)).get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("시점별 재고 조회")
+    void inventoryAt() throws Exception {
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            journal.append(event(1, 10, RentalStatus.RENTED, 2, 0));
+            journal.append(event(2, 10, RentalStatus.RENTED, 1, 10));
+            journal.append(event(1, 10, RentalStatus.RETURNED, 2, 20)).get();
+
+            JournalInventoryResponse at5 = journal.inventoryAt(10L, base.plusMinutes(5));
+            JournalInventoryResponse at15 = journal.inventoryAt(10L, base.plusMinutes(15));
+            JournalInventoryResponse at30 = journal.inventoryAt(10L, base.plusMinutes(30));
+
+            assertThat(at5.getStock()).isEqualTo(2);
+            assertThat(at5.getActiveRentals()).isEqualTo(1);
+            assertThat(at15.getStock()).isEqualTo(1);
+            assertThat(at15.getActiveRentals()).isEqualTo(2);
+            assertThat(at30.getStock()).isEqualTo(2);
+            assertThat(at30.getActiveRentals()).isEqualTo(1);
+            assertThat(journal.inventoryAt(99L, base).isJournaled()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("재고만 바뀐 기록도 시점별 재고와 재기동 복원에 반영, 진행 중 대여는 그대로")
+    void stockOnlyRecords() throws Exception {
+        LocalDateTime afterRestock;
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            journal.append(event(1, 10, RentalStatus.RENTED, 0, 0));
+            journal.append(new BookChangedEvent(10L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 3)).get();
+            afterRestock = LocalDateTime.now();
+
+            JournalInventoryResponse beforeRestock = journal.inventoryAt(10L, base.plusMinutes(5));
+            JournalInventoryResponse restocked = journal.inventoryAt(10L, afterRestock);
+
+            assertThat(beforeRestock.getStock()).isZero();
+            assertThat(restocked.getStock()).isEqualTo(3);
+            assertThat(restocked.getActiveRentals()).isEqualTo(1);
+        }
+
+        try (RentalJournal journal = RentalJournal.open(props)) {
+            JournalInventoryResponse replayed = journal.inventoryAt(10L, afterRestock);
+            assertThat(replayed.getStock()).isEqualTo(3);
+            assertThat(replayed.getActiveRentals()).isEqualTo(1);
+            assertThat(journal.status().getActiveRentals()).isEqualTo(1);
+        }
+    }
+}
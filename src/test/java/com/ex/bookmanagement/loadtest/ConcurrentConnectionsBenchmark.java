@@ -0,0 +1,123 @@
+package com.ex.bookmanagement.loadtest;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.dto.CreateBookRequest;
+import com.ex.bookmanagement.dto.CreateCategoryRequest;
+import com.ex.bookmanagement.service.BookService;
+import com.ex.bookmanagement.service.CategoryService;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 비교 벤치마크
+ * - 동시 연결 N개(기본 10,000)가 한꺼번에 검색 API 를 호출할 때의 처리 시간/지연시간/거절 수를 측정한다.
+ * - 스레드 모델별 하위 클래스(PlatformThreads, VirtualThreads)가 각각 서버를 띄운다.
+ * - 동시 요청 한도(503)와 bulkhead 를 끄고 측정한다. 켜 두면 스레드 모델 차이 대신 거절 수를 재게 된다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "decorator.datasource.p6spy.enable-logging=false",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=2000",
+        "bookmanagement.concurrency.enabled=false",
+        "bookmanagement.bulkhead.enabled=false"
+})
+@ActiveProfiles("test")
+abstract class ConcurrentConnectionsBenchmark {
+    @LocalServerPort int port;
+    @Autowired BookService bookService;
+    @Autowired CategoryService categoryService;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    boolean virtualThreads;
+
+    @Test
+    void concurrentSearches() throws Exception {
+        int connections = Integer.getInteger("loadtest.connections", 10_000);
+        seed();
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        URI uri = URI.create("http://localhost:" + port + "/api/books/search?author=%EA%B6%8C%ED%83%9C%EC%98%81&size=10");
+
+        Histogram latencies = new Histogram(TimeUnit.MINUTES.toNanos(2), 3);
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        CountDownLatch ready = new CountDownLatch(1);
+
+        long started;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> results = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                results.add(clients.submit(() -> {
+                    ready.await();
+                    long t0 = System.nanoTime();
+                    try {
+                        HttpResponse<Void> res = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        return new long[]{System.nanoTime() - t0, res.statusCode()};
+                    } catch (IOException e) {
+                        return new long[]{System.nanoTime() - t0, -1};
+                    }
+                }));
+            }
+            started = System.nanoTime();
+            ready.countDown();
+            for (Future<long[]> f : results) {
+                long[] r = f.get();
+                latencies.recordValue(Math.min(r[0], latencies.getHighestTrackableValue()));
+                statuses.merge((int) r[1], 1, Integer::sum);
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        System.out.printf("=== %s threads, %d concurrent connections ===%n",
+                virtualThreads ? "virtual" : "platform", connections);
+        System.out.printf("elapsed=%.2fs, throughput=%.1f req/s, p50=%.1fms, p99=%.1fms, max=%.1fms, statuses=%s (-1 = IO error)%n",
+                seconds, connections / seconds,
+                latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(99) / 1e6,
+                latencies.getMaxValue() / 1e6, statuses);
+
+        assertThat(latencies.getTotalCount()).isEqualTo(connections);
+        int succeeded = statuses.entrySet().stream()
+                .filter(e -> e.getKey() >= 200 && e.getKey() < 300)
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        double minSuccessRatio = Double.parseDouble(System.getProperty("loadtest.min-success-ratio", "0.99"));
+        assertThat((double) succeeded / connections)
+                .as("2xx 비율 (statuses=%s)", statuses)
+                .isGreaterThanOrEqualTo(minSuccessRatio);
+    }
+
+    private void seed() {
+        Long categoryId = categoryService.create(new CreateCategoryRequest("벤치마크" + (virtualThreads ? "V" : "P"))).getId();
+        for (int i = 0; i < 200; i++) {
+            bookService.create(new CreateBookRequest("벤치마크 도서 " + i, i % 2 == 0 ? "권태영" : "홍길동",
+                    BookStatus.AVAILABLE, 1, List.of(categoryId)));
+        }
+    }
+}
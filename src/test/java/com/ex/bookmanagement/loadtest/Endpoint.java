@@ -0,0 +1,28 @@
+package com.ex.bookmanagement.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트와 기본 가중치
+ */
+public enum Endpoint {
+    SEARCH_BOOKS("search", 50),         // GET /api/books/search
+    RENT("rent", 20),                   // POST /api/rentals
+    RETURN("return", 15),               // PUT /api/rentals/{id}/return
+    LIST_CATEGORIES("categories", 15),  // GET /api/categories
+    ;
+
+    private final String key;
+    private final int defaultWeight;
+
+    Endpoint(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ex.bookmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연시간(HdrHistogram) 및 응답 코드 집계
+ * - 지연시간은 "요청 예정 시각"부터 측정한다 (coordinated omission 보정)
+ */
+public class EndpointStats {
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Endpoint endpoint;
+    private final Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+    private final Histogram accumulated = new Histogram(MAX_TRACKABLE_NANOS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /** 응답 기록 (outcome 예: "200", "400 OUT_OF_STOCK", "IO_ERROR") */
+    public void record(long latencyNanos, String outcome) {
+        recorder.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+    }
+
+    public synchronized Histogram snapshot() {
+        accumulated.add(recorder.getIntervalHistogram());
+        return accumulated.copy();
+    }
+
+    public Map<String, Long> outcomes() {
+        Map<String, Long> result = new TreeMap<>();
+        outcomes.forEach((k, v) -> result.put(k, v.sum()));
+        return result;
+    }
+
+    public Endpoint endpoint() {
+        return endpoint;
+    }
+}
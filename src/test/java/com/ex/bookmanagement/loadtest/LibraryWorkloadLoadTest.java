@@ -0,0 +1,80 @@
+package com.ex.bookmanagement.loadtest;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.dto.CreateBookRequest;
+import com.ex.bookmanagement.dto.CreateCategoryRequest;
+import com.ex.bookmanagement.service.BookService;
+import com.ex.bookmanagement.service.CategoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 도서관 워크로드 부하 테스트
+ * - jdbc:h2:mem (test 프로파일) 위에 실제 서버를 띄우고 HTTP 로 부하를 건다. (외부 네트워크 불필요)
+ * - 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // SQL 로깅이 측정값을 왜곡하지 않도록 끔
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@ActiveProfiles("test")
+@DisplayName("도서관 워크로드 부하 테스트")
+class LibraryWorkloadLoadTest {
+    private static final List<String> AUTHORS = List.of(
+            "권태영", "현영서", "장동혁", "홍길동", "이서연", "위성원", "지승열", "장지명", "이승열", "Robert Martin"
+    );
+
+    @LocalServerPort int port;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired BookService bookService;
+    @Autowired CategoryService categoryService;
+
+    @Test
+    @DisplayName("검색/대여/반납/카테고리 혼합 부하")
+    void mixedWorkload() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        List<Long> bookIds = seed(config);
+
+        LoadGenerator generator = new LoadGenerator(
+                URI.create("http://localhost:" + port), config, bookIds, AUTHORS, objectMapper);
+        LoadGenerator.LoadReport report = generator.run();
+
+        System.out.println(report.format());
+        assertThat(report.totalRequests()).isPositive();
+    }
+
+    /** 카테고리 10개, 도서 N권 생성 */
+    private List<Long> seed(LoadTestConfig config) {
+        List<Long> categoryIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            categoryIds.add(categoryService.create(new CreateCategoryRequest("부하카테고리" + i)).getId());
+        }
+
+        SplittableRandom random = new SplittableRandom(config.seed());
+        List<Long> bookIds = new ArrayList<>(config.books());
+        for (int i = 0; i < config.books(); i++) {
+            String author = AUTHORS.get(random.nextInt(AUTHORS.size()));
+            Long categoryId = categoryIds.get(random.nextInt(categoryIds.size()));
+            bookIds.add(bookService.create(new CreateBookRequest(
+                    "부하 테스트 도서 " + i, author, BookStatus.AVAILABLE, config.stockPerBook(), List.of(categoryId))));
+        }
+        return bookIds;
+    }
+}
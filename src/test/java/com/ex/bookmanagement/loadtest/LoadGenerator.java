@@ -0,0 +1,216 @@
+package com.ex.bookmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop 부하 생성기
+ * - 요청은 고정 도착률(rate)로 스케줄되며, 응답 지연과 무관하게 다음 요청이 도착한다.
+ * - 동시 처리 수는 virtualUsers 로 제한되고, 대기 시간도 지연시간에 포함된다.
+ * - 요청 파라미터는 seed 기반 난수로 디스패처 스레드에서 결정한다 (재현 가능).
+ */
+public class LoadGenerator {
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final List<Long> bookIds;
+    private final List<String> authors;
+    private final ObjectMapper objectMapper;
+
+    private final HttpClient client;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Queue<Long> activeRentals = new ConcurrentLinkedQueue<>();
+    private final Endpoint[] weightedEndpoints;
+
+    public LoadGenerator(URI baseUri, LoadTestConfig config, List<Long> bookIds, List<String> authors,
+                         ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.config = config;
+        this.bookIds = List.copyOf(bookIds);
+        this.authors = List.copyOf(authors);
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Endpoint> table = new ArrayList<>();
+        config.mix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(endpoint);
+            }
+        });
+        this.weightedEndpoints = table.toArray(Endpoint[]::new);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+    }
+
+    /** 부하 실행 후 리포트 반환 */
+    public LoadReport run() throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(config.virtualUsers());
+        SplittableRandom random = new SplittableRandom(config.seed());
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, config.ratePerSecond());
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            waitUntil(intended);
+
+            Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+            Long bookId = bookIds.get(random.nextInt(bookIds.size()));
+            String author = authors.get(random.nextInt(authors.size()));
+            String renter = "renter-" + random.nextInt(config.renters());
+            boolean measured = intended >= measureFrom;
+
+            users.execute(() -> execute(endpoint, bookId, author, renter, intended, measured));
+        }
+
+        users.shutdown();
+        users.awaitTermination(1, TimeUnit.MINUTES);
+        return new LoadReport(config, stats, config.duration());
+    }
+
+    private void execute(Endpoint endpoint, Long bookId, String author, String renter,
+                         long intended, boolean measured) {
+        Endpoint actual = endpoint;
+        Long rentalId = null;
+        if (endpoint == Endpoint.RETURN) {
+            rentalId = activeRentals.poll();
+            if (rentalId == null) {
+                actual = Endpoint.RENT; // 반납할 대여가 없으면 대여로 대체
+            }
+        }
+
+        HttpRequest request = switch (actual) {
+            case SEARCH_BOOKS -> get("/api/books/search?author="
+                    + URLEncoder.encode(author, StandardCharsets.UTF_8) + "&page=0&size=10");
+            case LIST_CATEGORIES -> get("/api/categories");
+            case RENT -> post("/api/rentals",
+                    "{\"bookId\":" + bookId + ",\"renterName\":\"" + renter + "\"}");
+            case RETURN -> put("/api/rentals/" + rentalId + "/return");
+        };
+
+        String outcome;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            outcome = outcomeOf(response);
+            if (actual == Endpoint.RENT && response.statusCode() == 200) {
+                activeRentals.offer(objectMapper.readTree(response.body()).path("rentalId").asLong());
+            }
+        } catch (IOException e) {
+            outcome = "IO_ERROR " + e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (measured) {
+            stats.get(actual).record(System.nanoTime() - intended, outcome);
+        }
+    }
+
+    private String outcomeOf(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status < 400) {
+            return String.valueOf(status);
+        }
+        try {
+            JsonNode code = objectMapper.readTree(response.body()).path("code");
+            return status + " " + (code.isMissingNode() ? "UNKNOWN" : code.asText());
+        } catch (IOException e) {
+            return status + " UNPARSEABLE";
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest put(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /** 측정 결과 */
+    public static class LoadReport {
+        private final LoadTestConfig config;
+        private final Map<Endpoint, EndpointStats> stats;
+        private final Duration measured;
+
+        LoadReport(LoadTestConfig config, Map<Endpoint, EndpointStats> stats, Duration measured) {
+            this.config = config;
+            this.stats = stats;
+            this.measured = measured;
+        }
+
+        public long totalRequests() {
+            return stats.values().stream().mapToLong(s -> s.snapshot().getTotalCount()).sum();
+        }
+
+        /** 성공한 대여(POST /api/rentals 200) 초당 처리량 */
+        public double rentalsPerSecond() {
+            long ok = stats.get(Endpoint.RENT).outcomes().getOrDefault("200", 0L);
+            return ok / (double) measured.toSeconds();
+        }
+
+        public String format() {
+            double seconds = measured.toMillis() / 1000.0;
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Load test report ===\n").append(config).append('\n');
+            sb.append(String.format("%-16s %9s %10s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+            for (EndpointStats s : stats.values()) {
+                Histogram h = s.snapshot();
+                if (h.getTotalCount() == 0) {
+                    continue;
+                }
+                sb.append(String.format("%-16s %9d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        s.endpoint().name(), h.getTotalCount(), h.getTotalCount() / seconds,
+                        millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                        millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue())));
+                s.outcomes().forEach((outcome, count) ->
+                        sb.append(String.format("    %-40s %9d%n", outcome, count)));
+            }
+            sb.append(String.format("total=%d req, %.1f req/s, rentals=%.1f/s%n",
+                    totalRequests(), totalRequests() / seconds, rentalsPerSecond()));
+            return sb.toString();
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
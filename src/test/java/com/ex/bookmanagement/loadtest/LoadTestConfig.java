@@ -0,0 +1,81 @@
+package com.ex.bookmanagement.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * - 모든 값은 -Dloadtest.* 시스템 프로퍼티로 덮어쓸 수 있다.
+ * - rate 는 초당 도착 요청 수(open-loop), virtualUsers 는 동시에 처리 중일 수 있는 최대 요청 수
+ */
+public class LoadTestConfig {
+    private final int ratePerSecond;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int virtualUsers;
+    private final int books;
+    private final int stockPerBook;
+    private final int renters;
+    private final long seed;
+    private final Map<Endpoint, Integer> mix;
+
+    private LoadTestConfig(int ratePerSecond, Duration duration, Duration warmup, int virtualUsers,
+                           int books, int stockPerBook, int renters, long seed, Map<Endpoint, Integer> mix) {
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.virtualUsers = virtualUsers;
+        this.books = books;
+        this.stockPerBook = stockPerBook;
+        this.renters = renters;
+        this.seed = seed;
+        this.mix = mix;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            int weight = intProp("loadtest.mix." + endpoint.key(), endpoint.defaultWeight());
+            if (weight > 0) {
+                mix.put(endpoint, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix.* 가중치가 모두 0입니다.");
+        }
+
+        return new LoadTestConfig(
+                intProp("loadtest.rate", 200),
+                Duration.ofSeconds(intProp("loadtest.duration", 20)),
+                Duration.ofSeconds(intProp("loadtest.warmup", 3)),
+                intProp("loadtest.virtualUsers", 64),
+                intProp("loadtest.books", 500),
+                intProp("loadtest.stockPerBook", 3),
+                intProp("loadtest.renters", 1_000),
+                Long.getLong("loadtest.seed", 42L),
+                mix
+        );
+    }
+
+    private static int intProp(String key, int defaultValue) {
+        return Integer.getInteger(key, defaultValue);
+    }
+
+    public int ratePerSecond() { return ratePerSecond; }
+    public Duration duration() { return duration; }
+    public Duration warmup() { return warmup; }
+    public int virtualUsers() { return virtualUsers; }
+    public int books() { return books; }
+    public int stockPerBook() { return stockPerBook; }
+    public int renters() { return renters; }
+    public long seed() { return seed; }
+    public Map<Endpoint, Integer> mix() { return mix; }
+
+    @Override
+    public String toString() {
+        return "rate=" + ratePerSecond + "/s, duration=" + duration.toSeconds() + "s, warmup=" + warmup.toSeconds()
+                + "s, virtualUsers=" + virtualUsers + ", books=" + books + ", renters=" + renters
+                + ", seed=" + seed + ", mix=" + mix;
+    }
+}
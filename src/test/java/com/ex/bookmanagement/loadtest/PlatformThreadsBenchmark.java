@@ -0,0 +1,9 @@
+package com.ex.bookmanagement.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("동시 연결 벤치마크 - 플랫폼 스레드")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsBenchmark extends ConcurrentConnectionsBenchmark {
+}
@@ -0,0 +1,133 @@
+package com.ex.bookmanagement.loadtest;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.dto.BookResponse;
+import com.ex.bookmanagement.dto.CategoryResponse;
+import com.ex.bookmanagement.dto.RentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 형식별 직렬화 비용/크기 벤치마크 (JSON vs CBOR vs Smile)
+ * - 큰 페이지(기본 1,000건)의 BookResponse / RentResponse / CategoryResponse 목록을 형식마다 반복 직렬화/파싱한다.
+ * - 파싱은 클라이언트처럼 트리(JsonNode)로 읽는다.
+ * - ./gradlew loadTest --tests '*SerializationBenchmark' -Dloadtest.pageSize=1000 -Dloadtest.iterations=2000
+ */
+@Tag("load")
+@DisplayName("응답 형식 직렬화 벤치마크")
+class SerializationBenchmark {
+    private static final int WARMUP = 500;
+
+    @Test
+    void compareFormats() throws Exception {
+        int pageSize = Integer.getInteger("loadtest.pageSize", 1000);
+        int iterations = Integer.getInteger("loadtest.iterations", 2000);
+
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", configure(Jackson2ObjectMapperBuilder.json()));
+        formats.put("cbor", configure(Jackson2ObjectMapperBuilder.cbor()));
+        formats.put("smile", configure(Jackson2ObjectMapperBuilder.smile()));
+
+        Map<String, List<?>> pages = new LinkedHashMap<>();
+        pages.put("BookResponse", books(pageSize));
+        pages.put("RentResponse", rentals(pageSize));
+        pages.put("CategoryResponse", categories(pageSize));
+
+        System.out.printf("%n[serialization] %d건 페이지, 형식별 %d회 반복%n", pageSize, iterations);
+        System.out.printf("%-18s %-6s %10s %8s %14s %14s%n", "dto", "format", "bytes", "vs json", "write(us/op)", "read(us/op)");
+        for (Map.Entry<String, List<?>> page : pages.entrySet()) {
+            long jsonBytes = 0;
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                ObjectMapper mapper = format.getValue();
+                byte[] payload = mapper.writeValueAsBytes(page.getValue());
+                if (format.getKey().equals("json")) {
+                    jsonBytes = payload.length;
+                } else {
+                    assertThat(payload.length).isLessThan((int) jsonBytes);
+                }
+                assertThat(mapper.readTree(payload).size()).isEqualTo(pageSize);
+
+                double write = measure(iterations, () -> mapper.writeValueAsBytes(page.getValue()));
+                double read = measure(iterations, () -> mapper.readTree(payload));
+                System.out.printf("%-18s %-6s %10d %7.0f%% %14.1f %14.1f%n", page.getKey(), format.getKey(),
+                        payload.length, 100.0 * payload.length / jsonBytes, write, read);
+            }
+        }
+    }
+
+    private static ObjectMapper configure(Jackson2ObjectMapperBuilder builder) {
+        // Boot 기본값과 같이 날짜는 ISO 문자열
+        return builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    }
+
+    private interface Task {
+        Object run() throws Exception;
+    }
+
+    /** 1회 평균 마이크로초 (워밍업 제외) */
+    private static double measure(int iterations, Task task) throws Exception {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = task.run();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = task.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(sink).isNotNull();
+        return elapsed / 1_000.0 / iterations;
+    }
+
+    private static List<BookResponse> books(int n) {
+        List<BookResponse> books = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            books.add(BookResponse.builder()
+                    .id((long) i)
+                    .title("자바 프로그래밍 입문 " + i + "판")
+                    .author("저자" + (i % 97))
+                    .bookStatus(i % 10 == 0 ? BookStatus.SUSPENDED_DAMAGED : BookStatus.AVAILABLE)
+                    .stock(i % 7)
+                    .categories(List.of("컴퓨터", "프로그래밍"))
+                    .build());
+        }
+        return books;
+    }
+
+    private static List<RentResponse> rentals(int n) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<RentResponse> rentals = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            rentals.add(new RentResponse((long) i, (long) (i % 500), "대여자" + (i % 200),
+                    i % 3 == 0 ? RentalStatus.RETURNED : RentalStatus.RENTED,
+                    base.plusMinutes(i), base.plusMinutes(i).plusWeeks(2)));
+        }
+        return rentals;
+    }
+
+    private static List<CategoryResponse> categories(int n) {
+        List<CategoryResponse> categories = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            categories.add(CategoryResponse.builder()
+                    .id((long) i)
+                    .name("카테고리" + i)
+                    .parentId(i <= 10 ? null : (long) (i % 10 + 1))
+                    .bookCount(i * 3L)
+                    .build());
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,161 @@
+package com.ex.bookmanagement.outbox;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.OutboxEventType;
+import com.ex.bookmanagement.dto.CreateBookRequest;
+import com.ex.bookmanagement.dto.CreateCategoryRequest;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.repository.OutboxEventRepository;
+import com.ex.bookmanagement.repository.RentalRepository;
+import com.ex.bookmanagement.service.BookService;
+import com.ex.bookmanagement.service.CategoryService;
+import com.ex.bookmanagement.service.RentalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 아웃박스 테스트 클래스
+ * - 아웃박스 기록은 커밋 직전에 일어나므로 테스트 트랜잭션 없이 실행하고, 종료 후 데이터를 직접 정리한다.
+ * 테스트 범위:
+ * - 서비스 커밋 시 아웃박스 기록
+ * - 롤백 시 아웃박스 미기록
+ * - 릴레이 발행 순서 / 발행 완료 처리
+ * - 먼저 id 를 받은 트랜잭션이 늦게 커밋될 때 뒤 id 이벤트가 앞지르지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-test",
+        "bookmanagement.outbox.enabled=true",
+        "bookmanagement.outbox.file-sink.enabled=false",
+        "bookmanagement.outbox.poll-interval=PT1H"
+})
+@DisplayName("Outbox 테스트")
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class OutboxRelayTest {
+    @Autowired private BookService bookService;
+    @Autowired private CategoryService categoryService;
+    @Autowired private RentalService rentalService;
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private RentalRepository rentalRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ApplicationEvents events;
+
+    @AfterEach
+    void cleanup() {
+        outboxEventRepository.deleteAll();
+        rentalRepository.deleteAll();
+        bookRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대여/반납 이벤트가 도서 단위 순서대로 발행되고 발행 완료 처리됨")
+    void relay_publishesInOrder() {
+        // given
+        Long categoryId = categoryService.create(new CreateCategoryRequest("아웃박스")).getId();
+        Long bookId = bookService.create(new CreateBookRequest("코스모스", "칼 세이건", BookStatus.AVAILABLE, 1, List.of(categoryId)));
+        Long rentalId = rentalService.rentBook(bookId, "홍길동").getRentalId();
+        rentalService.returnBook(rentalId);
+
+        // when
+        int relayed = outboxRelay.relayOnce();
+
+        // then
+        List<OutboxMessage> messages = events.stream(OutboxMessage.class).toList();
+        assertThat(relayed).isEqualTo(3);
+        assertThat(messages).extracting(OutboxMessage::getEventType).containsExactly(
+                OutboxEventType.BOOK_CREATED, OutboxEventType.RENTAL_RENTED, OutboxEventType.RENTAL_RETURNED);
+        assertThat(messages).extracting(OutboxMessage::getBookId).containsOnly(bookId);
+        assertThat(messages.get(1).getPayload()).contains("홍길동");
+        assertThat(outboxRelay.relayOnce()).isZero();
+        assertThat(outboxRelay.status().getPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("도메인 변경이 롤백되면 아웃박스도 기록되지 않음")
+    void rollback_discardsOutbox() {
+        // given
+        Long categoryId = categoryService.create(new CreateCategoryRequest("재고없음")).getId();
+        Long bookId = bookService.create(new CreateBookRequest("빈 서가", "작가", BookStatus.AVAILABLE, 0, List.of(categoryId)));
+        long before = outboxEventRepository.count();
+
+        // when
+        assertThrows(BusinessException.class, () -> rentalService.rentBook(bookId, "홍길동"));
+
+        // then
+        assertThat(outboxEventRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("앞 id 를 받은 트랜잭션이 커밋되기 전에는 뒤 id 의 커밋된 이벤트도 발행하지 않음")
+    void relay_waitsForEarlierUncommittedEvent() throws Exception {
+        // given
+        Long categoryId = categoryService.create(new CreateCategoryRequest("커밋순서")).getId();
+        Long first = bookService.create(new CreateBookRequest("먼저 기록", "작가", BookStatus.AVAILABLE, 1, List.of(categoryId)));
+        Long second = bookService.create(new CreateBookRequest("나중 기록", "작가", BookStatus.AVAILABLE, 1, List.of(categoryId)));
+        outboxRelay.relayOnce();
+        events.clear();
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 아웃박스 기록(BEFORE_COMMIT)까지 마친 뒤 커밋 직전에 멈춘 트랜잭션
+            Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                rentalService.rentBook(first, "먼저");
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCompletion() {
+                        written.countDown();
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }));
+            assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // when: 뒤 id 를 받은 대여가 먼저 커밋
+            rentalService.rentBook(second, "나중");
+            int whileInFlight = outboxRelay.relayOnce();
+            release.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+            int afterCommit = outboxRelay.relayOnce();
+
+            // then
+            assertThat(whileInFlight).isZero();
+            assertThat(afterCommit).isEqualTo(2);
+            assertThat(events.stream(OutboxMessage.class).toList())
+                    .extracting(OutboxMessage::getBookId).containsExactly(first, second);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.config.BatchProperties;
+import com.ex.bookmanagement.dto.BatchResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.exception.ErrorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * BatchService 테스트 클래스
+ * 테스트 범위:
+ * - 독립 모드: 연속된 조회는 동시에 실행, 변경 작업은 앞선 작업이 끝난 뒤 실행
+ * - 독립 모드: 실패한 작업만 오류 응답
+ * - 트랜잭션 모드: 실패 시 롤백, 나머지 작업은 BATCH_ABORTED
+ * - 최대 작업 수 초과
+ */
+@DisplayName("BatchService 테스트")
+class BatchServiceTest {
+    private BatchProperties props;
+    private CountingTransactionManager txManager;
+    private BatchService batchService;
+
+    @BeforeEach
+    void init() {
+        props = new BatchProperties();
+        txManager = new CountingTransactionManager();
+        batchService = new BatchService(props, txManager);
+    }
+
+    private static BatchService.Step step(String id, String method, Runnable body) {
+        return new BatchService.Step(id, method, "/api/test/" + id, () -> {
+            body.run();
+            return ResponseEntity.ok(id);
+        });
+    }
+
+    private static List<Integer> statuses(BatchResponse response) {
+        return response.getResults().stream().map(BatchResponse.Result::getStatus).toList();
+    }
+
+    @Test
+    @DisplayName("연속된 조회는 동시에 실행되고, 변경 작업은 앞선 조회가 끝난 뒤 실행")
+    void reads_parallel_writes_ordered() {
+        // given: 두 조회가 서로를 기다림 (동시에 실행되지 않으면 시간 초과)
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        Runnable read = () -> {
+            bothStarted.countDown();
+            try {
+                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            order.add("read");
+        };
+
+        // when
+        BatchResponse response = batchService.executeIndependently(List.of(
+                step("a", "GET", read),
+                step("b", "GET", read),
+                step("c", "POST", () -> order.add("write")),
+                step("d", "GET", () -> order.add("read-after"))
+        ));
+
+        // then
+        assertThat(statuses(response)).containsExactly(200, 200, 200, 200);
+        assertThat(response.getResults()).extracting(BatchResponse.Result::getBody).containsExactly("a", "b", "c", "d");
+        assertThat(order).containsExactly("read", "read", "write", "read-after");
+        assertThat(response.isRolledBack()).isFalse();
+        assertThat(txManager.begins.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("독립 모드 - 실패한 작업만 오류 응답, 나머지는 실행")
+    void independent_failure() {
+        // when
+        BatchResponse response = batchService.executeIndependently(List.of(
+                step("ok", "POST", () -> { }),
+                step("missing", "GET", () -> {
+                    throw new BusinessException(ErrorCode.BOOK_NOT_FOUND, Map.of("id", 9));
+                }),
+                step("after", "POST", () -> { })
+        ));
+
+        // then
+        assertThat(statuses(response)).containsExactly(200, 404, 200);
+        ErrorResponse error = (ErrorResponse) response.getResults().get(1).getBody();
+        assertThat(error.getCode()).isEqualTo("BOOK_NOT_FOUND");
+        assertThat(error.getPath()).isEqualTo("/api/test/missing");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 모드 - 실패하면 롤백하고 나머지 작업은 BATCH_ABORTED, 이후 작업은 실행하지 않음")
+    void transactional_rollback() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+
+        // when
+        BatchResponse response = batchService.executeInTransaction(List.of(
+                step("first", "POST", executed::incrementAndGet),
+                step("fail", "PUT", () -> {
+                    throw new BusinessException(ErrorCode.OUT_OF_STOCK, Map.of("id", 1));
+                }),
+                step("never", "POST", executed::incrementAndGet)
+        ));
+
+        // then
+        assertThat(response.isRolledBack()).isTrue();
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(statuses(response)).containsExactly(424, 400, 424);
+        ErrorResponse aborted = (ErrorResponse) response.getResults().get(0).getBody();
+        assertThat(aborted.getCode()).isEqualTo("BATCH_ABORTED");
+        assertThat(aborted.getArgs()).containsEntry("failedId", "fail");
+        assertThat(txManager.commits.get()).isZero();
+        assertThat(txManager.rollbacks.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 모드 - 모두 성공하면 한 번 커밋")
+    void transactional_commit() {
+        // when
+        BatchResponse response = batchService.executeInTransaction(List.of(
+                step("a", "POST", () -> { }),
+                step("b", "GET", () -> { })
+        ));
+
+        // then
+        assertThat(response.isRolledBack()).isFalse();
+        assertThat(statuses(response)).containsExactly(200, 200);
+        assertThat(txManager.begins.get()).isEqualTo(1);
+        assertThat(txManager.commits.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 작업 수 초과 - BATCH_TOO_LARGE")
+    void tooLarge() {
+        // given
+        props.setMaxOperations(1);
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class, () -> batchService.executeIndependently(List.of(
+                step("a", "GET", () -> { }),
+                step("b", "GET", () -> { }))));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.BATCH_TOO_LARGE);
+    }
+
+    private static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+        final AtomicInteger begins = new AtomicInteger();
+        final AtomicInteger commits = new AtomicInteger();
+        final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begins.incrementAndGet();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}
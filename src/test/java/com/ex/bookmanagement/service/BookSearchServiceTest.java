@@ -0,0 +1,104 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.domain.BookSort;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.dto.BookResponse;
+import com.ex.bookmanagement.dto.BookSearchResponse;
+import com.ex.bookmanagement.dto.ChangeBookStatusRequest;
+import com.ex.bookmanagement.dto.CreateBookRequest;
+import com.ex.bookmanagement.dto.CreateCategoryRequest;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.service.search.SearchCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * BookSearchService 테스트 클래스
+ * 테스트 범위:
+ * - 카테고리(하위 포함) + 상태 + 재고 + 제목 조건 조합
+ * - 정렬과 페이지
+ * - 예외: 페이지 크기 초과
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class BookSearchServiceTest {
+    @Autowired private BookSearchService bookSearchService;
+    @Autowired private BookService bookService;
+    @Autowired private CategoryService categoryService;
+    @Autowired private RentalService rentalService;
+
+    private Long 과학;
+    private Long 물리;
+
+    @BeforeEach
+    void init() {
+        과학 = categoryService.create(new CreateCategoryRequest("검색-과학")).getId();
+        물리 = categoryService.create(new CreateCategoryRequest("검색-물리", 과학)).getId();
+        Long 문학 = categoryService.create(new CreateCategoryRequest("검색-문학")).getId();
+
+        bookService.create(new CreateBookRequest("시간의 역사", "호킹", BookStatus.AVAILABLE, 2, List.of(물리)));
+        Long 코스모스 = bookService.create(new CreateBookRequest("코스모스", "세이건", BookStatus.AVAILABLE, 1, List.of(과학)));
+        bookService.create(new CreateBookRequest("파인만의 물리학 강의", "파인만", BookStatus.AVAILABLE, 3, List.of(물리)));
+        Long 분실 = bookService.create(new CreateBookRequest("엘러건트 유니버스", "그린", BookStatus.AVAILABLE, 1, List.of(물리)));
+        bookService.create(new CreateBookRequest("소년이 온다", "한강", BookStatus.AVAILABLE, 1, List.of(문학)));
+
+        rentalService.rentBook(코스모스, "김민철");
+        bookService.changeStatus(분실, new ChangeBookStatusRequest(BookStatus.SUSPENDED_LOST));
+    }
+
+    @Test
+    @DisplayName("카테고리(하위 포함) + 상태 + 재고 조합, 제목 순 정렬")
+    void search_combinedFilters() {
+        // given
+        SearchCondition condition = new SearchCondition(null, null, Set.of(과학),
+                Set.of(BookStatus.AVAILABLE), true, BookSort.TITLE);
+
+        // when
+        BookSearchResponse res = bookSearchService.search(condition, 0, 10);
+
+        // then: 대여로 재고가 없는 코스모스, 분실 처리된 엘러건트 유니버스 제외
+        assertThat(res.getBooks()).extracting(BookResponse::getTitle)
+                .containsExactly("시간의 역사", "파인만의 물리학 강의");
+        assertThat(res.getTotalElements()).isEqualTo(2);
+        assertThat(res.getPlan()).contains("CATEGORY");
+    }
+
+    @Test
+    @DisplayName("제목 조건 + 재고 순 정렬 + 페이지")
+    void search_titleAndPaging() {
+        // given
+        SearchCondition condition = new SearchCondition("의", null, Set.of(과학), null, false, BookSort.STOCK);
+
+        // when
+        BookSearchResponse first = bookSearchService.search(condition, 0, 1);
+        BookSearchResponse second = bookSearchService.search(condition, 1, 1);
+
+        // then
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(first.getBooks()).extracting(BookResponse::getTitle).containsExactly("파인만의 물리학 강의");
+        assertThat(second.getBooks()).extracting(BookResponse::getTitle).containsExactly("시간의 역사");
+    }
+
+    @Test
+    @DisplayName("검색 실패 - 페이지 크기 초과")
+    void search_fail_pageSize() {
+        SearchCondition condition = new SearchCondition(null, null, null, null, false, BookSort.NEWEST);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> bookSearchService.search(condition, 0, 1000));
+
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
+}
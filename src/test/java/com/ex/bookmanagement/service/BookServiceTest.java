@@ -3,22 +3,32 @@ package com.ex.bookmanagement.service;
 import com.ex.bookmanagement.domain.Book;
 import com.ex.bookmanagement.domain.BookStatus;
 import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.dto.BookChangesResponse;
 import com.ex.bookmanagement.dto.BookResponse;
+import com.ex.bookmanagement.dto.BulkStatusChangeResponse;
 import com.ex.bookmanagement.dto.ChangeBookStatusRequest;
 import com.ex.bookmanagement.dto.CreateBookRequest;
 import com.ex.bookmanagement.exception.BusinessException;
 import com.ex.bookmanagement.exception.ErrorCode;
 import com.ex.bookmanagement.repository.BookRepository;
 import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.repository.RentalRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -29,19 +39,25 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  * - 도서 전체 목록 조회
  * - 신규 도서 등록
  * - 카테고리 변경
- * - 도서 상태 변경
+ * - 도서 상태 변경 / 여러 도서 상태 일괄 변경 (진행 중 대여 중단)
  * - 지은이/제목으로 검색
  * - 카테고리별 검색
  * - 도서 단권 삭제
+ * - 변경분 조회 (두 번 읽는 사이 커밋된 변경이 있어도 건너뛰지 않음)
  */
 @SpringBootTest
 @DisplayName("BookService 테스트")
 @ActiveProfiles("test")
 @Transactional
+@Import(BookServiceTest.VersionBumper.class)
 class BookServiceTest {
     @Autowired private BookService bookService;
     @Autowired private BookRepository bookRepository;
     @Autowired private CategoryRepository categoryRepository;
+    @Autowired private RentalService rentalService;
+    @Autowired private RentalRepository rentalRepository;
+    @Autowired private VersionBumper versionBumper;
+    @PersistenceContext private EntityManager em;
 
     // 테스트 데이터
     private Category 철학;
@@ -290,6 +306,53 @@ class BookServiceTest {
         assertThat(ex.getCode()).isEqualTo(ErrorCode.BOOK_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("상태 일괄 변경 - 다른 상태인 도서만 변경, 진행 중 대여는 대여 불가로, 변경 버전은 도서마다 새로 부여")
+    void changeStatus_bulk() {
+        // given
+        Long a = bookService.create(new CreateBookRequest("A", "작가A", BookStatus.AVAILABLE, 3, List.of(철학.getId())));
+        Long b = bookService.create(new CreateBookRequest("B", "작가B", BookStatus.AVAILABLE, 1, List.of(예술.getId())));
+        Long lost = bookService.create(new CreateBookRequest("C", "작가C", BookStatus.AVAILABLE, 2, List.of(여행.getId())));
+        Long rentedA1 = rentalService.rentBook(a, "홍길동").getRentalId();
+        Long rentedA2 = rentalService.rentBook(a, "김철수").getRentalId();
+        Long returnedB = rentalService.rentBook(b, "이영희").getRentalId();
+        rentalService.returnBook(returnedB);
+        Long rentedLost = rentalService.rentBook(lost, "박민수").getRentalId();
+        bookService.changeStatus(lost, new ChangeBookStatusRequest(BookStatus.SUSPENDED_LOST));
+        long since = bookService.findChanges(0, 1000).getNextSince();
+
+        // when
+        BulkStatusChangeResponse res = bookService.changeStatus(List.of(a, b, lost, a), BookStatus.SUSPENDED_LOST);
+
+        // then
+        assertThat(res.getUpdatedBooks()).isEqualTo(2);
+        assertThat(res.getUnchangedBooks()).isEqualTo(1);
+        assertThat(res.getSuspendedRentals()).isEqualTo(3);
+        assertThat(bookRepository.findAllById(List.of(a, b, lost)))
+                .extracting(Book::getBookStatus).containsOnly(BookStatus.SUSPENDED_LOST);
+        assertThat(rentalRepository.findAllById(List.of(rentedA1, rentedA2, rentedLost)))
+                .extracting("rentalStatus").containsOnly(RentalStatus.UNAVAILABLE);
+        assertThat(rentalRepository.findById(returnedB).orElseThrow().getRentalStatus()).isEqualTo(RentalStatus.RETURNED);
+        BookChangesResponse changes = bookService.findChanges(since, 10);
+        assertThat(changes.getChanged()).extracting("id").containsExactly(a, b);
+    }
+
+    @Test
+    @DisplayName("상태 일괄 변경 실패 - 없는 도서가 있으면 아무것도 바꾸지 않음")
+    void changeStatus_bulk_fail_bookNotFound() {
+        // given
+        Long a = bookService.create(new CreateBookRequest("A", "작가A", BookStatus.AVAILABLE, 1, List.of(철학.getId())));
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> bookService.changeStatus(List.of(a, 404L), BookStatus.SUSPENDED_DAMAGED));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.BOOK_NOT_FOUND);
+        assertThat(ex.getArgs()).containsEntry("ids", Set.of(404L));
+        assertThat(bookRepository.findById(a).orElseThrow().getBookStatus()).isEqualTo(BookStatus.AVAILABLE);
+    }
+
     @Test
     @DisplayName("저자/제목 검색")
     void searchByAuthorAndTitle() {
@@ -350,4 +413,102 @@ class BookServiceTest {
         assertThat(ex.getCode()).isEqualTo(ErrorCode.BOOK_NOT_FOUND);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("대여 가능 여부 조회 - 재고 0 또는 중단 상태면 대여 불가")
+    void availability() {
+        // given
+        Long available = bookService.create(new CreateBookRequest(
+                "대여 가능", "작가A", BookStatus.AVAILABLE, 1, List.of(철학.getId())));
+        Long noStock = bookService.create(new CreateBookRequest(
+                "재고 없음", "작가B", BookStatus.AVAILABLE, 0, List.of(철학.getId())));
+        Long lost = bookService.create(new CreateBookRequest(
+                "분실", "작가C", BookStatus.SUSPENDED_LOST, 3, List.of(철학.getId())));
+
+        // when & then
+        assertThat(bookService.availability(available).isAvailable()).isTrue();
+        assertThat(bookService.availability(noStock).isAvailable()).isFalse();
+        assertThat(bookService.availability(lost).isAvailable()).isFalse();
+        BusinessException ex = assertThrows(BusinessException.class, () -> bookService.availability(9999L));
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.BOOK_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("변경분 조회 - 상태 변경/삭제가 버전 순으로 조회되고 nextSince 로 이어받음")
+    void findChanges() {
+        // given
+        long since = bookService.findChanges(0, 1000).getNextSince();
+        Long keep = bookService.create(new CreateBookRequest("남는 책", "작가A", BookStatus.AVAILABLE, 1, List.of(철학.getId())));
+        Long removed = bookService.create(new CreateBookRequest("지울 책", "작가B", BookStatus.AVAILABLE, 1, List.of(예술.getId())));
+        bookService.changeStatus(keep, new ChangeBookStatusRequest(BookStatus.SUSPENDED_DAMAGED));
+        bookService.delete(removed);
+
+        // when
+        BookChangesResponse first = bookService.findChanges(since, 1);
+        BookChangesResponse rest = bookService.findChanges(first.getNextSince(), 10);
+        BookChangesResponse none = bookService.findChanges(rest.getNextSince(), 10);
+
+        // then
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getChanged()).extracting("id").containsExactly(keep);
+        assertThat(first.getChanged().get(0).getBookStatus()).isEqualTo(BookStatus.SUSPENDED_DAMAGED);
+        assertThat(rest.getChanged()).isEmpty();
+        assertThat(rest.getDeleted()).containsExactly(removed);
+        assertThat(rest.isHasMore()).isFalse();
+        assertThat(none.getChanged()).isEmpty();
+        assertThat(none.getDeleted()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경분 조회 - id 와 내용을 읽는 사이 버전이 오른 도서가 있어도 nextSince 는 처음 읽은 버전 기준")
+    void findChanges_versionBumpedBetweenReads() {
+        // given
+        long since = bookService.findChanges(0, 1000).getNextSince();
+        Long bumped = bookService.create(new CreateBookRequest("먼저 바뀐 책", "작가A", BookStatus.AVAILABLE, 1, List.of(철학.getId())));
+        Long next = bookService.create(new CreateBookRequest("다음 책", "작가B", BookStatus.AVAILABLE, 1, List.of(예술.getId())));
+        long bumpedVersion = bookRepository.findById(bumped).orElseThrow().getChangeVersion();
+        em.flush();
+        em.clear();
+
+        // when: 첫 쪽의 id 를 읽은 직후 그 도서가 다시 커밋된 상황 (버전이 upTo 를 넘음)
+        versionBumper.bumpAfterIdRead(bumped, Long.MAX_VALUE / 2);
+        BookChangesResponse first = bookService.findChanges(since, 1);
+        BookChangesResponse rest = bookService.findChanges(first.getNextSince(), 10);
+
+        // then: 다음 책을 건너뛰지 않음
+        assertThat(first.getChanged()).extracting("id").containsExactly(bumped);
+        assertThat(first.getNextSince()).isEqualTo(bumpedVersion + 1);
+        assertThat(rest.getChanged()).extracting("id").containsExactly(next);
+    }
+
+    @Test
+    @DisplayName("변경분 조회 실패 - limit 범위 초과")
+    void findChanges_fail_invalidLimit() {
+        // given & when
+        BusinessException ex = assertThrows(BusinessException.class, () -> bookService.findChanges(0, 0));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
+
+    /** 변경분 조회가 (id, 버전)을 읽은 직후 지정한 도서의 버전을 올린다 (두 조회 사이의 커밋 재현) */
+    @Aspect
+    static class VersionBumper {
+        @PersistenceContext private EntityManager em;
+        private Long bookId;
+        private long version;
+
+        void bumpAfterIdRead(Long bookId, long version) {
+            this.bookId = bookId;
+            this.version = version;
+        }
+
+        @AfterReturning("execution(* com.ex.bookmanagement.repository.BookRepository.findIdAndVersionByChangeVersionBetween(..))")
+        public void afterIdRead() {
+            if (bookId != null) {
+                em.createNativeQuery("update book set change_version = ? where id = ?")
+                        .setParameter(1, version).setParameter(2, bookId).executeUpdate();
+                bookId = null;
+            }
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.ex.bookmanagement.service;
 
+import com.ex.bookmanagement.domain.BookStatus;
 import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.dto.BookResponse;
 import com.ex.bookmanagement.dto.CategoryResponse;
+import com.ex.bookmanagement.dto.CreateBookRequest;
 import com.ex.bookmanagement.dto.CreateCategoryRequest;
 import com.ex.bookmanagement.exception.BusinessException;
 import com.ex.bookmanagement.exception.ErrorCode;
 import com.ex.bookmanagement.repository.CategoryRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +32,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  * - 신규 카테고리 등록 (성공, 실패)
  * - 중복 이름 (대소문자/공백 차이 포함)
  * - 카테고리 단권 삭제
+ * - 하위 카테고리: 하위 트리 도서 수 (중복 제외), 이동, 하위 트리 도서 검색
+ * - 예외: 자기 하위로 이동 / 하위 카테고리가 있는 카테고리 삭제
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -33,6 +41,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class CategoryServiceTest {
     @Autowired private CategoryService categoryService;
     @Autowired private CategoryRepository categoryRepository;
+    @Autowired private BookService bookService;
+    @Autowired private EntityManager em;
 
     private Category 철학;
     private Category 예술;
@@ -131,4 +141,89 @@ class CategoryServiceTest {
         // then
         assertThat(ex.getCode()).isEqualTo(ErrorCode.CATEGORY_NOT_FOUND);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("하위 트리 도서 수 - 여러 하위 카테고리에 걸친 도서는 한 번만 셈, 도서 카테고리 변경 시 증분 반영")
+    void subtreeBookCount() {
+        // given: 과학 > 물리 > 양자역학, 과학 > 생물
+        Long 과학 = create("과학", null);
+        Long 물리 = create("물리", 과학);
+        Long 양자역학 = create("양자역학", 물리);
+        Long 생물 = create("생물", 과학);
+        bookService.create(new CreateBookRequest("양자 세계", "작가A", BookStatus.AVAILABLE, 1, List.of(양자역학)));
+        Long 양쪽 = bookService.create(new CreateBookRequest("물리와 양자", "작가B", BookStatus.AVAILABLE, 1, List.of(물리, 양자역학)));
+        bookService.create(new CreateBookRequest("세포", "작가C", BookStatus.AVAILABLE, 1, List.of(생물)));
+
+        // then
+        assertThat(bookCounts()).containsAllEntriesOf(Map.of(과학, 3L, 물리, 2L, 양자역학, 2L, 생물, 1L));
+
+        // when: 두 카테고리에 걸친 도서를 생물로 옮김
+        bookService.updateCategories(양쪽, List.of(생물));
+
+        // then
+        assertThat(bookCounts()).containsAllEntriesOf(Map.of(과학, 3L, 물리, 1L, 양자역학, 1L, 생물, 2L));
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 - 하위 카테고리와 도서가 함께 옮겨지고 상위 카테고리 검색에 반영")
+    void move_success() {
+        // given
+        Long 과학 = create("과학", null);
+        Long 물리 = create("물리", 과학);
+        Long 양자역학 = create("양자역학", 물리);
+        Long 인문 = create("인문", null);
+        bookService.create(new CreateBookRequest("양자 세계", "작가A", BookStatus.AVAILABLE, 1, List.of(양자역학)));
+        bookService.create(new CreateBookRequest("고전 역학", "작가B", BookStatus.AVAILABLE, 1, List.of(물리)));
+        assertThat(bookService.searchByCategory(과학, null, 0, 10)).hasSize(2);
+
+        // when: 물리(와 양자역학)를 인문 아래로
+        CategoryResponse moved = categoryService.move(물리, 인문);
+
+        // then
+        assertThat(moved.getParentId()).isEqualTo(인문);
+        assertThat(bookCounts()).containsAllEntriesOf(Map.of(과학, 0L, 인문, 2L, 물리, 2L, 양자역학, 1L));
+        assertThat(bookService.searchByCategory(과학, null, 0, 10)).isEmpty();
+        assertThat(bookService.searchByCategory(인문, null, 0, 10)).extracting(BookResponse::getTitle)
+                .containsExactlyInAnyOrder("양자 세계", "고전 역학");
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 실패 - 자기 하위 카테고리 아래로")
+    void move_fail_cycle() {
+        // given
+        Long 과학 = create("과학", null);
+        Long 물리 = create("물리", 과학);
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class, () -> categoryService.move(과학, 물리));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.CATEGORY_CYCLE);
+    }
+
+    @Test
+    @DisplayName("카테고리 삭제 실패 - 하위 카테고리가 있음")
+    void delete_fail_hasChildren() {
+        // given
+        Long 과학 = create("과학", null);
+        create("물리", 과학);
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class, () -> categoryService.delete(과학));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.CATEGORY_HAS_CHILDREN);
+    }
+
+    private Long create(String name, Long parentId) {
+        return categoryService.create(new CreateCategoryRequest(name, parentId)).getId();
+    }
+
+    /** 도서 수는 벌크 update 로 갱신되므로 영속성 컨텍스트를 비우고 다시 조회 */
+    private Map<Long, Long> bookCounts() {
+        em.flush();
+        em.clear();
+        return categoryService.findAllCategories().stream()
+                .collect(Collectors.toMap(CategoryResponse::getId, CategoryResponse::getBookCount));
+    }
+}
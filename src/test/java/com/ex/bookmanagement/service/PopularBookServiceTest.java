@@ -0,0 +1,77 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.domain.*;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.dto.PopularBooksResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.service.popular.PopularityTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * PopularBookService 테스트 클래스
+ * 테스트 범위:
+ * - 카테고리별 인기 도서 순위 (대여 커밋 이벤트 반영)
+ * - 예외: limit 범위 초과
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PopularBookServiceTest {
+    @Autowired private PopularBookService popularBookService;
+    @Autowired private PopularityTracker popularityTracker;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("카테고리별 인기 도서 - 대여 수 순으로 제목/저자와 함께 응답")
+    void popularByCategory() {
+        // given: 다른 테스트와 겹치지 않도록 새 카테고리
+        Category 시 = categoryRepository.save(new Category("인기-시"));
+        Book first = bookRepository.save(Book.createBook("진달래꽃", "김소월", List.of(시), BookStatus.AVAILABLE, 5));
+        Book second = bookRepository.save(Book.createBook("하늘과 바람과 별과 시", "윤동주", List.of(시), BookStatus.AVAILABLE, 5));
+        rent(first, 3);
+        rent(second, 1);
+
+        // when
+        PopularBooksResponse res = popularBookService.popular(PopularWindow.HOUR, 시.getId(), 10);
+
+        // then
+        assertThat(res.getBooks()).extracting(PopularBooksResponse.Item::getTitle)
+                .containsExactly("진달래꽃", "하늘과 바람과 별과 시");
+        assertThat(res.getBooks().get(0).getEstimatedRentals()).isEqualTo(3);
+        assertThat(res.getFrom()).isBefore(res.getTo());
+    }
+
+    @Test
+    @DisplayName("조회 실패 - limit 범위 초과")
+    void invalidLimit() {
+        assertThat(assertThrows(BusinessException.class,
+                () -> popularBookService.popular(PopularWindow.WEEK, null, 0)).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+        assertThat(assertThrows(BusinessException.class,
+                () -> popularBookService.popular(PopularWindow.WEEK, null, 51)).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
+
+    private void rent(Book book, int times) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < times; i++) {
+            popularityTracker.onRentalChanged(
+                    new RentalChangedEvent((long) i, book.getId(), "대여자" + i, RentalStatus.RENTED, 0, now, now));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.domain.*;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.dto.AlsoRentedResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.service.recommend.AlsoRentedIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * RecommendationService 테스트 클래스
+ * 테스트 범위:
+ * - 함께 대여된 도서 순위 (대여 커밋 이벤트 반영)
+ * - 예외: 존재하지 않는 도서 / limit 범위 초과
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RecommendationServiceTest {
+    @Autowired private RecommendationService recommendationService;
+    @Autowired private AlsoRentedIndex alsoRentedIndex;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("함께 대여된 도서 - 함께 대여한 대여자 수 순으로 응답")
+    void alsoRented() {
+        // given
+        Category 소설 = categoryRepository.save(new Category("소설"));
+        Book 파친코 = save("파친코", "이민진", 소설);
+        Book 토지 = save("토지", "박경리", 소설);
+        Book 태백산맥 = save("태백산맥", "조정래", 소설);
+        rent("추천-김민철", 파친코, 토지, 태백산맥);
+        rent("추천-이영희", 파친코, 토지);
+
+        // when
+        AlsoRentedResponse res = recommendationService.alsoRented(파친코.getId(), 10);
+
+        // then
+        assertThat(res.getBooks()).extracting(AlsoRentedResponse.Item::getTitle).containsExactly("토지", "태백산맥");
+        assertThat(res.getBooks().get(0).getSharedRenters()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 존재하지 않는 도서 / limit 범위 초과")
+    void invalidRequest() {
+        assertThat(assertThrows(BusinessException.class,
+                () -> recommendationService.alsoRented(Long.MAX_VALUE, 10)).getCode())
+                .isEqualTo(ErrorCode.BOOK_NOT_FOUND);
+        assertThat(assertThrows(BusinessException.class,
+                () -> recommendationService.alsoRented(1L, 0)).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
+
+    private Book save(String title, String author, Category category) {
+        return bookRepository.save(Book.createBook(title, author, List.of(category), BookStatus.AVAILABLE, 3));
+    }
+
+    private void rent(String renter, Book... books) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Book book : books) {
+            alsoRentedIndex.onRentalChanged(
+                    new RentalChangedEvent(1L, book.getId(), renter, RentalStatus.RENTED, 0, now, now));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.domain.Rental;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.repository.RentalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 동시성 테스트 클래스
+ * - 커밋 전후의 엇갈림을 재현해야 하므로 테스트 트랜잭션 없이 실행하고, 종료 후 데이터를 직접 정리한다.
+ * - 먼저 시작한 트랜잭션을 커밋 직전에 멈춰 두고 다른 트랜잭션을 실행해 순서를 고정한다.
+ * 테스트 범위:
+ * - 재고 1권에 대한 동시 대여는 한 건만 성공 (도서 행 잠금)
+ * - 일괄 대여 중단과 대여가 엇갈려도 중단 상태가 되돌려지지 않음 (어느 쪽이 먼저 커밋되든)
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:rental-concurrency")
+@DisplayName("대여 동시성 테스트")
+@ActiveProfiles("test")
+class RentalConcurrencyTest {
+    @Autowired private RentalService rentalService;
+    @Autowired private BookService bookService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private RentalRepository rentalRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private Book book;
+
+    @BeforeEach
+    void init() {
+        Category category = categoryRepository.save(new Category("동시성"));
+        book = bookRepository.save(Book.createBook("한 권뿐인 책", "작가", List.of(category), BookStatus.AVAILABLE, 1));
+    }
+
+    @AfterEach
+    void cleanup() {
+        executor.shutdownNow();
+        rentalRepository.deleteAll();
+        bookRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    /** action 을 실행한 트랜잭션을 커밋 직전에 멈춰 두고, release 가 열리면 커밋 */
+    private Future<?> pausedBeforeCommit(Runnable action, CountDownLatch paused, CountDownLatch release) {
+        return executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            action.run();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCompletion() {
+                    paused.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }));
+    }
+
+    @Test
+    @DisplayName("재고 1권 동시 대여 - 뒤 요청은 앞 대여가 커밋될 때까지 기다린 뒤 재고 부족으로 실패")
+    void concurrentRent_onlyOneSucceeds() throws Exception {
+        // given: 첫 대여가 재고를 0으로 바꾼 채 커밋 직전에 멈춤
+        CountDownLatch paused = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> first = pausedBeforeCommit(() -> rentalService.rentBook(book.getId(), "먼저"), paused, release);
+        assertThat(paused.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when: 두 번째 대여는 도서 행 잠금에서 대기
+        Future<?> second = executor.submit(() -> rentalService.rentBook(book.getId(), "나중"));
+        Thread.sleep(300);
+        boolean secondBlocked = !second.isDone();
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        ExecutionException failure = null;
+        try {
+            second.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            failure = e;
+        }
+
+        // then
+        assertThat(secondBlocked).isTrue();
+        assertThat(failure).isNotNull();
+        assertThat(failure.getCause()).isInstanceOf(BusinessException.class);
+        assertThat(((BusinessException) failure.getCause()).getCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStock()).isZero();
+        assertThat(rentalRepository.findAll()).extracting(Rental::getRentalStatus).containsExactly(RentalStatus.RENTED);
+    }
+
+    @Test
+    @DisplayName("일괄 대여 중단이 먼저 - 대여는 커밋을 기다린 뒤 대여 불가로 실패하고 중단 상태 유지")
+    void bulkSuspendFirst_rentFails_statusKept() throws Exception {
+        // given: 일괄 중단이 커밋 직전에 멈춤
+        CountDownLatch paused = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> suspend = pausedBeforeCommit(
+                () -> bookService.changeStatus(List.of(book.getId()), BookStatus.SUSPENDED_LOST), paused, release);
+        assertThat(paused.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when: 대여는 도서 행 잠금에서 대기
+        Future<?> rent = executor.submit(() -> rentalService.rentBook(book.getId(), "대여자"));
+        Thread.sleep(300);
+        boolean rentBlocked = !rent.isDone();
+        release.countDown();
+        suspend.get(10, TimeUnit.SECONDS);
+        ExecutionException failure = null;
+        try {
+            rent.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            failure = e;
+        }
+
+        // then: 대여가 읽은 이전 상태(AVAILABLE)로 덮어쓰지 않음
+        assertThat(rentBlocked).isTrue();
+        assertThat(failure).isNotNull();
+        assertThat(failure.getCause()).isInstanceOf(BusinessException.class);
+        assertThat(((BusinessException) failure.getCause()).getCode()).isEqualTo(ErrorCode.BOOK_NOT_AVAILABLE);
+        Book after = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(after.getBookStatus()).isEqualTo(BookStatus.SUSPENDED_LOST);
+        assertThat(after.getStock()).isEqualTo(1);
+        assertThat(rentalRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대여가 먼저 - 일괄 대여 중단은 커밋을 기다린 뒤 그 대여까지 대여 불가 처리")
+    void rentFirst_bulkSuspendCoversRental() throws Exception {
+        // given: 대여가 커밋 직전에 멈춤
+        CountDownLatch paused = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> rent = pausedBeforeCommit(() -> rentalService.rentBook(book.getId(), "대여자"), paused, release);
+        assertThat(paused.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when: 일괄 중단은 도서 행 잠금에서 대기
+        Future<?> suspend = executor.submit(
+                () -> bookService.changeStatus(List.of(book.getId()), BookStatus.SUSPENDED_LOST));
+        Thread.sleep(300);
+        boolean suspendBlocked = !suspend.isDone();
+        release.countDown();
+        rent.get(10, TimeUnit.SECONDS);
+        suspend.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(suspendBlocked).isTrue();
+        Book after = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(after.getBookStatus()).isEqualTo(BookStatus.SUSPENDED_LOST);
+        assertThat(after.getStock()).isZero();
+        assertThat(rentalRepository.findAll()).extracting(Rental::getRentalStatus)
+                .containsExactly(RentalStatus.UNAVAILABLE);
+    }
+}
@@ -0,0 +1,136 @@
+package com.ex.bookmanagement.service;
+
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.StatDimension;
+import com.ex.bookmanagement.domain.StatGranularity;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import com.ex.bookmanagement.dto.RentalStatsResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.service.stats.RentalStatsRecorder;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * StatsService 테스트 클래스
+ * 테스트 범위:
+ * - 도서별 일 단위 통계 (대여/반납 수, 평균 대여 기간)
+ * - 집계 테이블 조회 직후 flush 가 끼어도 중복/누락 없이 응답
+ * - 예외: 잘못된 구간 / 도서+카테고리 동시 지정 / 도서별 분 단위 / 최대 버킷 초과
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(StatsServiceTest.FlushInterleaver.class)
+class StatsServiceTest {
+    @Autowired private StatsService statsService;
+    @Autowired private RentalStatsRecorder recorder;
+    @Autowired private FlushInterleaver flushInterleaver;
+
+    @Test
+    @DisplayName("도서별 일 단위 통계 - 커밋된 대여/반납이 바로 반영")
+    void bookDailyStats() {
+        // given: 다른 테스트와 겹치지 않는 도서 id
+        long bookId = 990_001L;
+        LocalDateTime rentedAt = LocalDate.now().atTime(0, 10);
+        recorder.onRentalChanged(new RentalChangedEvent(1L, bookId, "김민철", RentalStatus.RENTED, 0, rentedAt, rentedAt));
+        recorder.onRentalChanged(new RentalChangedEvent(1L, bookId, "김민철", RentalStatus.RETURNED, 1, rentedAt, rentedAt.plusMinutes(30)));
+
+        // when
+        RentalStatsResponse res = statsService.rentalStats(StatGranularity.DAY,
+                LocalDate.now().atStartOfDay(), LocalDate.now().plusDays(1).atStartOfDay(), bookId, null);
+
+        // then
+        assertThat(res.getDimension()).isEqualTo(StatDimension.BOOK);
+        assertThat(res.getBuckets()).hasSize(1);
+        assertThat(res.getTotalRentals()).isEqualTo(1);
+        assertThat(res.getTotalReturns()).isEqualTo(1);
+        assertThat(res.getAverageRentalMinutes()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("집계 테이블을 읽은 직후 flush 가 커밋돼도 대여가 빠지지 않음")
+    void flushBetweenReads_keepsCounts() {
+        // given: 아직 반영되지 않은 대여 1건
+        long bookId = 990_003L;
+        LocalDateTime rentedAt = LocalDate.now().atTime(0, 20);
+        recorder.onRentalChanged(new RentalChangedEvent(1L, bookId, "김민철", RentalStatus.RENTED, 0, rentedAt, rentedAt));
+
+        // when: 집계 테이블 조회 직후 다른 스레드에서 flush 가 끝까지 실행됨
+        flushInterleaver.flushAfterRangeRead(recorder);
+        RentalStatsResponse res = statsService.rentalStats(StatGranularity.DAY,
+                LocalDate.now().atStartOfDay(), LocalDate.now().plusDays(1).atStartOfDay(), bookId, null);
+
+        // then: 다시 읽어 테이블에 반영된 값으로 응답
+        assertThat(flushInterleaver.fired).isTrue();
+        assertThat(res.getTotalRentals()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 구간도 버킷으로 채워 응답")
+    void emptyBucketsIncluded() {
+        // when
+        RentalStatsResponse res = statsService.rentalStats(StatGranularity.DAY,
+                LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 1, 8, 0, 0), null, 990_002L);
+
+        // then
+        assertThat(res.getBuckets()).hasSize(7);
+        assertThat(res.getTotalRentals()).isZero();
+        assertThat(res.getAverageRentalMinutes()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 잘못된 요청")
+    void invalidArguments() {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertThat(assertThrows(BusinessException.class,
+                () -> statsService.rentalStats(StatGranularity.DAY, from, from, null, null)).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+        assertThat(assertThrows(BusinessException.class,
+                () -> statsService.rentalStats(StatGranularity.DAY, from, from.plusDays(1), 1L, 1L)).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+        assertThat(assertThrows(BusinessException.class,
+                () -> statsService.rentalStats(StatGranularity.MINUTE, from, from.plusHours(1), 1L, null)).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+        assertThat(assertThrows(BusinessException.class,
+                () -> statsService.rentalStats(StatGranularity.MINUTE, from, from.plusDays(30), null, null)).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
+
+    /** 집계 테이블 조회 직후 한 번, 다른 스레드에서 flush 를 실행 */
+    @Aspect
+    static class FlushInterleaver {
+        private volatile RentalStatsRecorder recorder;
+        private volatile boolean fired;
+
+        void flushAfterRangeRead(RentalStatsRecorder recorder) {
+            this.fired = false;
+            this.recorder = recorder;
+        }
+
+        @AfterReturning("execution(* com.ex.bookmanagement.repository.RentalStatRollupRepository.findRange(..))")
+        public void afterRangeRead() {
+            RentalStatsRecorder target = recorder;
+            if (target != null) {
+                recorder = null;
+                CompletableFuture.runAsync(target::flush).join();
+                fired = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.ex.bookmanagement.service.archive;
+
+import com.ex.bookmanagement.domain.Book;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.Category;
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.dto.RentResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.repository.RentalArchiveRepository;
+import com.ex.bookmanagement.repository.RentalRepository;
+import com.ex.bookmanagement.service.BookService;
+import com.ex.bookmanagement.service.RentalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * RentalArchiver 테스트 클래스
+ * 테스트 범위:
+ * - 종료된 대여만 보관 테이블로 이동 (진행 중 대여는 유지)
+ * - 전체 대여 내역 조회는 두 테이블을 함께 조회
+ * - 보관된 대여 반납 시 이미 반납된 대여로 처리
+ * - 도서 삭제 시 종료된 대여 이력 보관
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RentalArchiverTest {
+    @Autowired private RentalArchiver rentalArchiver;
+    @Autowired private RentalService rentalService;
+    @Autowired private BookService bookService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private RentalRepository rentalRepository;
+    @Autowired private RentalArchiveRepository rentalArchiveRepository;
+
+    private Book book;
+    private RentResponse returned;
+    private RentResponse active;
+
+    @BeforeEach
+    void init() {
+        Category 역사 = categoryRepository.save(new Category("역사"));
+        book = bookRepository.save(Book.createBook("총균쇠", "재레드 다이아몬드", List.of(역사), BookStatus.AVAILABLE, 2));
+        returned = rentalService.rentBook(book.getId(), "김민철");
+        rentalService.returnBook(returned.getRentalId());
+        active = rentalService.rentBook(book.getId(), "이영희");
+    }
+
+    @Test
+    @DisplayName("종료된 대여만 보관되고 진행 중 대여는 rental 에 남음")
+    void archiveBatch_movesClosedOnly() {
+        // when
+        int moved = rentalArchiver.archiveBatch(LocalDateTime.now().plusDays(1));
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(rentalRepository.findById(returned.getRentalId())).isEmpty();
+        assertThat(rentalRepository.findById(active.getRentalId())).isPresent();
+        assertThat(rentalArchiveRepository.findById(returned.getRentalId()).orElseThrow().getRentalStatus())
+                .isEqualTo(RentalStatus.RETURNED);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나지 않은 대여는 이동하지 않음")
+    void archiveBatch_respectsCutoff() {
+        // when
+        int moved = rentalArchiver.archiveBatch(LocalDateTime.now().minusDays(1));
+
+        // then
+        assertThat(moved).isZero();
+        assertThat(rentalArchiveRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 대여 내역은 보관된 대여까지 함께 조회")
+    void findAll_readsBothTiers() {
+        // given
+        rentalArchiver.archiveBatch(LocalDateTime.now().plusDays(1));
+
+        // when
+        List<RentResponse> all = rentalService.findAll();
+
+        // then
+        assertThat(all).extracting(RentResponse::getRentalId)
+                .containsExactlyInAnyOrder(returned.getRentalId(), active.getRentalId());
+    }
+
+    @Test
+    @DisplayName("보관된 대여 반납 시 ALREADY_RETURNED_OR_UNAVAILABLE")
+    void return_archived_alreadyReturned() {
+        // given
+        rentalArchiver.archiveBatch(LocalDateTime.now().plusDays(1));
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> rentalService.returnBook(returned.getRentalId()));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.ALREADY_RETURNED_OR_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("도서 삭제 시 종료된 대여는 보관 테이블에 남음")
+    void deleteBook_archivesClosedRentals() {
+        // given
+        rentalService.returnBook(active.getRentalId());
+
+        // when
+        bookService.delete(book.getId());
+
+        // then
+        assertThat(bookRepository.findById(book.getId())).isEmpty();
+        assertThat(rentalRepository.count()).isZero();
+        assertThat(rentalArchiveRepository.count()).isEqualTo(2);
+    }
+}
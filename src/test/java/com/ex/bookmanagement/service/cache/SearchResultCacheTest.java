@@ -0,0 +1,155 @@
+package com.ex.bookmanagement.service.cache;
+
+import com.ex.bookmanagement.config.SearchCacheProperties;
+import com.ex.bookmanagement.dto.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SearchResultCache 테스트 클래스
+ * 테스트 범위:
+ * - 같은 질의(대소문자 무시)는 한 번만 조회
+ * - 도서 변경 커밋 후에는 다시 조회, 조회 도중 변경되면 결과를 보관하지 않음
+ * - 동시 미스는 한 번만 조회하고 나머지는 결과 공유
+ * - 조회 실패는 캐시하지 않음
+ */
+@DisplayName("SearchResultCache 테스트")
+class SearchResultCacheTest {
+    private SearchResultCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void init() {
+        cache = new SearchResultCache(new SearchCacheProperties(), new NoOpTransactionManager());
+    }
+
+    private List<BookResponse> load(String title) {
+        loads.incrementAndGet();
+        return List.of(BookResponse.builder().id(1L).title(title).author("권태영").categories(List.of()).build());
+    }
+
+    @Test
+    @DisplayName("같은 질의는 캐시에서 응답하고, 도서 변경이 커밋되면 다시 조회")
+    void hit_and_invalidate() {
+        // when
+        cache.get(SearchResultCache.Key.of("권태영", null, 0, 10), () -> load("사랑"));
+        cache.get(SearchResultCache.Key.of("권태영", "", 0, 10), () -> load("사랑"));
+        cache.get(SearchResultCache.Key.of("KWON", null, 0, 10), () -> load("사랑"));
+        cache.get(SearchResultCache.Key.of("kwon", null, 0, 10), () -> load("사랑"));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().hits()).isEqualTo(2);
+
+        // when: 도서 변경 커밋
+        cache.onBookChanged(null);
+        cache.get(SearchResultCache.Key.of("권태영", null, 0, 10), () -> load("사랑"));
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 도중 도서 변경이 커밋되면 그 결과는 보관하지 않음")
+    void change_during_load_is_not_cached() {
+        SearchResultCache.Key key = SearchResultCache.Key.of("권태영", null, 0, 10);
+
+        // when
+        cache.get(key, () -> {
+            cache.onBookChanged(null);
+            return load("사랑");
+        });
+        cache.get(key, () -> load("사랑"));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 질의는 한 번만 조회하고 결과를 공유")
+    void single_flight() throws Exception {
+        // given
+        int clients = 50;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SearchResultCache.Key key = SearchResultCache.Key.of("권태영", null, 0, 10);
+        List<Future<List<BookResponse>>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> cache.get(key, () -> {
+                    loading.countDown();
+                    await(release);
+                    return load("사랑");
+                })));
+            }
+            loading.await();
+            while (cache.stats().coalesced() < clients - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // then
+            for (Future<List<BookResponse>> result : results) {
+                assertThat(result.get().get(0).getTitle()).isEqualTo("사랑");
+            }
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 실패는 호출자에게 전달되고 캐시되지 않음")
+    void failure_is_not_cached() {
+        SearchResultCache.Key key = SearchResultCache.Key.of(null, "사랑", 0, 10);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> cache.get(key, () -> {
+            throw new IllegalStateException("db down");
+        }));
+        cache.get(key, () -> load("사랑"));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 트랜잭션 경계만 흉내 내는 매니저 */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ex.bookmanagement.service.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TinyLfuCache 테스트 클래스
+ * 테스트 범위:
+ * - 최대 크기 유지
+ * - 한 번씩만 조회되는 키가 몰려도 자주 조회된 키는 유지 (빈도 기반 진입 제한)
+ * - 갱신/삭제
+ */
+@DisplayName("TinyLfuCache 테스트")
+class TinyLfuCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않음")
+    void bounded() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(100);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, "v" + i);
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.evictions()).isPositive();
+    }
+
+    @Test
+    @DisplayName("자주 조회된 키는 한 번씩만 조회되는 키가 몰려도 남음")
+    void scan_resistant() {
+        // given: 인기 키 50개를 여러 번 조회
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.get("hot-" + i) == null) {
+                    cache.put("hot-" + i, i);
+                }
+            }
+        }
+
+        // when: 한 번씩만 조회되는 키 6,000개 사이사이에 인기 키 조회 (LRU 였다면 다시 조회되기 전에 밀려나는 간격)
+        for (int i = 0; i < 6000; i++) {
+            if (cache.get("scan-" + i) == null) {
+                cache.put("scan-" + i, i);
+            }
+            if (i % 3 == 0 && cache.get("hot-" + (i / 3 % 50)) == null) {
+                cache.put("hot-" + (i / 3 % 50), i);
+            }
+        }
+
+        // then
+        int retained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("hot-" + i) != null) {
+                retained++;
+            }
+        }
+        assertThat(retained).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("같은 키는 값을 갱신하고, 삭제한 키는 조회되지 않음")
+    void update_and_remove() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+        cache.put("a", 1);
+        cache.put("a", 2);
+        cache.put("b", 3);
+
+        // when
+        cache.remove("b");
+
+        // then
+        assertThat(cache.get("a")).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
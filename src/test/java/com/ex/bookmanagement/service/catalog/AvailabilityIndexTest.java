@@ -0,0 +1,162 @@
+package com.ex.bookmanagement.service.catalog;
+
+import com.ex.bookmanagement.config.AvailabilityIndexProperties;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.dto.BookAvailabilityResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AvailabilityIndex 테스트 클래스 (별도 H2 메모리 DB 의 book 테이블로 구축)
+ * 테스트 범위:
+ * - 기동 구축 후 요청 순서대로 조회, 없는 id 는 missing
+ * - 재고/상태 변경 이벤트는 커밋된 최신 행으로 반영 (이벤트 값과 달라도 DB 값 기준)
+ * - 읽은 뒤 늦게 반영되는 행은 이미 반영한 변경 버전보다 오래되면 무시 (삭제된 도서 포함)
+ * - 등록/삭제 반영, 배열 용량을 넘는 id
+ */
+@DisplayName("AvailabilityIndex 테스트")
+class AvailabilityIndexTest {
+    private JdbcTemplate jdbcTemplate;
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void init() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:availability-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                create table book (id bigint primary key, book_status varchar(32) not null, stock int not null,
+                  change_version bigint not null)
+                """);
+        insert(1, BookStatus.AVAILABLE, 3, 1);
+        insert(2, BookStatus.AVAILABLE, 0, 2);
+        insert(3, BookStatus.SUSPENDED_DAMAGED, 5, 3);
+        index = new AvailabilityIndex(jdbcTemplate, new AvailabilityIndexProperties());
+        index.bootstrap();
+    }
+
+    @AfterEach
+    void close() {
+        jdbcTemplate.execute("shutdown");
+    }
+
+    private void insert(long id, BookStatus status, int stock, long version) {
+        jdbcTemplate.update("insert into book (id, book_status, stock, change_version) values (?, ?, ?, ?)",
+                id, status.name(), stock, version);
+    }
+
+    private static BookChangedEvent event(long bookId, BookChangeType type) {
+        return new BookChangedEvent(bookId, type, BookStatus.AVAILABLE, 0);
+    }
+
+    @Test
+    @DisplayName("구축 후 요청 순서대로 조회 - 대여 가능 = 대여 가능 상태 && 재고 > 0, 없는 id 는 missing")
+    void lookup() {
+        // when
+        AvailabilityIndex.Lookup lookup = index.lookup(List.of(3L, 1L, 99L, 2L));
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(lookup.found()).extracting(BookAvailabilityResponse::getBookId).containsExactly(3L, 1L, 2L);
+        assertThat(lookup.found()).extracting(BookAvailabilityResponse::isAvailable).containsExactly(false, true, false);
+        assertThat(lookup.found()).extracting(BookAvailabilityResponse::getBookStatus)
+                .containsExactly(BookStatus.SUSPENDED_DAMAGED, BookStatus.AVAILABLE, BookStatus.AVAILABLE);
+        assertThat(lookup.found()).extracting(BookAvailabilityResponse::getStock).containsExactly(5, 3, 0);
+        assertThat(lookup.missing()).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("재고/상태 변경 - 이벤트 값이 아니라 커밋된 최신 행으로 반영")
+    void change_rereadsRow() {
+        // given: 나중 커밋(재고 0)의 이벤트가 먼저 도착한 뒤 앞선 커밋(재고 2)의 이벤트가 도착한 상황
+        jdbcTemplate.update("update book set stock = 0, change_version = 5 where id = 1");
+        jdbcTemplate.update("update book set book_status = 'AVAILABLE', change_version = 6 where id = 3");
+
+        // when
+        index.onBookChanged(new BookChangedEvent(1L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 0));
+        index.onBookChanged(new BookChangedEvent(1L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 2));
+        index.onBookChanged(event(3L, BookChangeType.STATUS_CHANGED));
+
+        // then
+        BookAvailabilityResponse first = index.get(1L).orElseThrow();
+        assertThat(first.getStock()).isZero();
+        assertThat(first.isAvailable()).isFalse();
+        BookAvailabilityResponse third = index.get(3L).orElseThrow();
+        assertThat(third.getBookStatus()).isEqualTo(BookStatus.AVAILABLE);
+        assertThat(third.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록/삭제 반영 - 배열 용량을 넘는 id 도 등록")
+    void create_and_delete() {
+        // given
+        insert(100_000, BookStatus.AVAILABLE, 1, 7);
+
+        // when
+        index.onBookChanged(event(100_000L, BookChangeType.CREATED));
+        index.onBookChanged(event(2L, BookChangeType.DELETED));
+        index.onBookChanged(event(1L, BookChangeType.CATEGORIES_CHANGED));
+
+        // then
+        AvailabilityIndex.Lookup lookup = index.lookup(List.of(100_000L, 2L, 1L));
+        assertThat(lookup.found()).extracting(BookAvailabilityResponse::getBookId).containsExactly(100_000L, 1L);
+        assertThat(lookup.found().get(0).isAvailable()).isTrue();
+        assertThat(lookup.missing()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 늦게 반영되는 행 - 이미 반영한 버전보다 오래되면 무시")
+    void staleRow_ignored() {
+        // given: 버전 5(재고 0)가 먼저 반영됨
+        jdbcTemplate.update("update book set stock = 0, change_version = 5 where id = 1");
+        index.onBookChanged(event(1L, BookChangeType.STOCK_CHANGED));
+
+        // when: 그 전에 읽은 버전 4(재고 2)의 반영이 늦게 도착
+        index.apply(new AvailabilityIndex.Row(1L, BookStatus.AVAILABLE, 2, 4));
+
+        // then
+        BookAvailabilityResponse first = index.get(1L).orElseThrow();
+        assertThat(first.getStock()).isZero();
+        assertThat(first.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제 후 늦게 반영되는 삭제 전 행 - 도서가 되살아나지 않음")
+    void staleRow_afterDelete_ignored() {
+        // given: 버전 8 로 삭제 (삭제 전 행은 버전 3)
+        jdbcTemplate.update("delete from book where id = 3");
+        index.onBookChanged(new BookChangedEvent(3L, BookChangeType.DELETED, BookStatus.AVAILABLE, 0, 8));
+
+        // when
+        index.apply(new AvailabilityIndex.Row(3L, BookStatus.SUSPENDED_DAMAGED, 5, 3));
+
+        // then
+        assertThat(index.lookup(List.of(3L)).missing()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 구축하지 않고 준비되지 않은 상태")
+    void disabled() {
+        // given
+        AvailabilityIndexProperties props = new AvailabilityIndexProperties();
+        props.setEnabled(false);
+        AvailabilityIndex disabled = new AvailabilityIndex(jdbcTemplate, props);
+
+        // when
+        disabled.bootstrap();
+
+        // then
+        assertThat(disabled.isReady()).isFalse();
+        assertThat(disabled.lookup(List.of(1L)).missing()).containsExactly(1L);
+    }
+}
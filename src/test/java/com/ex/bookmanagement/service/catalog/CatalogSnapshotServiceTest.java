@@ -0,0 +1,144 @@
+package com.ex.bookmanagement.service.catalog;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.domain.event.CategoryChangedEvent;
+import com.ex.bookmanagement.dto.BookAvailabilityResponse;
+import com.ex.bookmanagement.dto.BookResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogSnapshotService 테스트 클래스 (별도 H2 메모리 DB 로 구축)
+ * 테스트 범위:
+ * - 커밋 순서와 다르게 도착한 재고/상태 이벤트 중 이미 반영한 버전보다 오래된 것은 무시 (스냅샷 행, overlay 행)
+ * - 카테고리 검색은 메모리 하위 트리로 응답, 카테고리 이동 커밋 후 다시 읽음
+ */
+@DisplayName("CatalogSnapshotService 테스트")
+class CatalogSnapshotServiceTest {
+    private JdbcTemplate jdbcTemplate;
+    private CatalogSnapshotService service;
+
+    @BeforeEach
+    void init() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:catalog-snapshot-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("create table category (category_id bigint primary key, name varchar(64) not null)");
+        jdbcTemplate.execute("""
+                create table book (id bigint primary key, title varchar(64) not null, author varchar(64) not null,
+                  book_status varchar(32) not null, stock int not null, change_version bigint not null)
+                """);
+        jdbcTemplate.execute("create table book_category (book_id bigint not null, category_id bigint not null)");
+        jdbcTemplate.execute("create table category_closure (ancestor_id bigint not null, descendant_id bigint not null)");
+        insert(1, 3, 10);
+        insert(2, 1, 11);
+        service = new CatalogSnapshotService(jdbcTemplate, true, 1024);
+        service.initialize();
+    }
+
+    @AfterEach
+    void close() {
+        jdbcTemplate.execute("shutdown");
+    }
+
+    private void insert(long id, int stock, long version) {
+        jdbcTemplate.update("insert into book (id, title, author, book_status, stock, change_version) values (?, ?, ?, ?, ?, ?)",
+                id, "도서" + id, "저자", BookStatus.AVAILABLE.name(), stock, version);
+    }
+
+    private static BookChangedEvent stockChanged(long bookId, int stock, long version) {
+        return new BookChangedEvent(bookId, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, stock, version);
+    }
+
+    /** 반영 스레드는 도착 순서대로 처리하므로, 마지막에 보낸 표시 이벤트가 보이면 앞선 이벤트도 모두 처리된 것 */
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("반영 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private int stock(long bookId) {
+        return service.availability(bookId).map(BookAvailabilityResponse::getStock).orElse(-1);
+    }
+
+    private List<Long> idsInCategory(Long categoryId, String categoryName) {
+        return service.searchByCategory(categoryId, categoryName, 0, 10).stream().map(BookResponse::getId).toList();
+    }
+
+    @Test
+    @DisplayName("스냅샷 행 - 나중 버전 반영 후 도착한 이전 버전 이벤트는 무시")
+    void staleEvent_ignored_onSnapshotRow() throws Exception {
+        // given
+        await(service::isReady);
+
+        // when: 버전 13(재고 1)이 먼저, 버전 12(재고 2)가 나중에 도착
+        service.onBookChanged(stockChanged(1, 1, 13));
+        service.onBookChanged(stockChanged(1, 2, 12));
+        service.onBookChanged(stockChanged(2, 0, 14));
+        await(() -> stock(2) == 0);
+
+        // then
+        assertThat(stock(1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("overlay 행 - DB 에서 다시 읽은 버전보다 오래된 이벤트는 무시, 새 이벤트는 반영")
+    void staleEvent_ignored_onOverlayRow() throws Exception {
+        // given: 스냅샷 이후 등록된 도서 (커밋된 버전 15, 재고 4)
+        await(service::isReady);
+        insert(3, 4, 15);
+        service.onBookChanged(new BookChangedEvent(3L, BookChangeType.CREATED, BookStatus.AVAILABLE, 4, 15));
+
+        // when: 등록 전에 커밋된 재고 이벤트(버전 14)가 늦게 도착한 뒤 새 변경(버전 16) 도착
+        service.onBookChanged(stockChanged(3, 9, 14));
+        service.onBookChanged(stockChanged(2, 0, 17));
+        await(() -> stock(2) == 0);
+        int afterStale = stock(3);
+        service.onBookChanged(stockChanged(3, 2, 16));
+        await(() -> stock(3) == 2);
+
+        // then
+        assertThat(afterStale).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("카테고리 검색 - 메모리 하위 트리로 응답, 이동 커밋 후 새 트리 반영")
+    void categorySearch_followsMove() throws Exception {
+        // given: 문학(10) > 소설(11), 도서 1 은 소설
+        await(service::isReady);
+        jdbcTemplate.update("insert into category (category_id, name) values (10, '문학'), (11, '소설')");
+        jdbcTemplate.update("insert into category_closure (ancestor_id, descendant_id) values (10, 10), (11, 11), (10, 11)");
+        jdbcTemplate.update("insert into book_category (book_id, category_id) values (1, 11)");
+        service.refresh();
+        service.onBookChanged(stockChanged(2, 0, 20));
+        await(() -> stock(2) == 0);
+
+        // then: 상위 카테고리 id / 이름으로도 하위 카테고리 도서 조회
+        assertThat(idsInCategory(10L, null)).containsExactly(1L);
+        assertThat(idsInCategory(null, "문")).containsExactly(1L);
+        assertThat(idsInCategory(10L, "소설")).isEmpty();
+
+        // when: 소설을 최상위로 이동
+        jdbcTemplate.update("delete from category_closure where ancestor_id = 10 and descendant_id = 11");
+        service.onCategoryChanged(new CategoryChangedEvent(11L));
+        service.onBookChanged(stockChanged(2, 5, 21));
+        await(() -> stock(2) == 5);
+
+        // then
+        assertThat(idsInCategory(10L, null)).isEmpty();
+        assertThat(idsInCategory(11L, null)).containsExactly(1L);
+    }
+}
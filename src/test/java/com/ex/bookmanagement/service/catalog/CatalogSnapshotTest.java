@@ -0,0 +1,88 @@
+package com.ex.bookmanagement.service.catalog;
+
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.dto.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * CatalogSnapshot 테스트 클래스
+ * 테스트 범위:
+ * - id 조회 / 응답 변환
+ * - 제목/저자 부분 일치 (대소문자 무시, 한글)
+ * - 카테고리 조건
+ * - 재고/상태 제자리 갱신, 삭제 표시
+ */
+@DisplayName("CatalogSnapshot 테스트")
+class CatalogSnapshotTest {
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void init() {
+        snapshot = new CatalogSnapshot.Builder()
+                .category(1L, "철학")
+                .category(2L, "IT")
+                .add(10L, "게으른 사랑", "권태영", BookStatus.AVAILABLE, 2, new long[]{1L})
+                .add(20L, "Clean Code", "Robert Martin", BookStatus.AVAILABLE, 0, new long[]{2L})
+                .add(30L, "게으른 사랑", "권태영", BookStatus.SUSPENDED_LOST, 1, new long[]{1L, 2L})
+                .build();
+    }
+
+    @Test
+    @DisplayName("id 로 행을 찾고 응답으로 변환")
+    void indexOf_toResponse() {
+        int idx = snapshot.indexOf(30L);
+        BookResponse response = snapshot.toResponse(idx);
+
+        assertThat(snapshot.indexOf(15L)).isEqualTo(-1);
+        assertThat(response.getTitle()).isEqualTo("게으른 사랑");
+        assertThat(response.getAuthor()).isEqualTo("권태영");
+        assertThat(response.getBookStatus()).isEqualTo(BookStatus.SUSPENDED_LOST);
+        assertThat(response.getCategories()).containsExactly("철학", "IT");
+    }
+
+    @Test
+    @DisplayName("제목/저자 부분 일치 - 대소문자 무시")
+    void matches() {
+        int clean = snapshot.indexOf(20L);
+        int lazy = snapshot.indexOf(10L);
+
+        assertThat(snapshot.matches(clean, CatalogSnapshot.lowerUtf8("martin"), CatalogSnapshot.lowerUtf8("CODE"))).isTrue();
+        assertThat(snapshot.matches(clean, null, CatalogSnapshot.lowerUtf8("사랑"))).isFalse();
+        assertThat(snapshot.matches(lazy, CatalogSnapshot.lowerUtf8("태영"), null)).isTrue();
+        assertThat(snapshot.hasAnyCategory(lazy, Set.of(2L))).isFalse();
+        assertThat(snapshot.hasAnyCategory(snapshot.indexOf(30L), Set.of(2L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("재고/상태 갱신과 삭제 표시")
+    void updateInPlace() {
+        int idx = snapshot.indexOf(20L);
+        assertThat(snapshot.isAvailable(idx)).isFalse();
+
+        snapshot.setStock(idx, 3);
+        assertThat(snapshot.isAvailable(idx)).isTrue();
+
+        snapshot.setStatus(idx, BookStatus.SUSPENDED_DAMAGED);
+        assertThat(snapshot.isAvailable(idx)).isFalse();
+
+        snapshot.markDeleted(idx);
+        assertThat(snapshot.isLive(idx)).isFalse();
+    }
+
+    @Test
+    @DisplayName("id 는 오름차순으로만 추가 가능")
+    void builder_rejectsUnorderedIds() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder()
+                .add(5L, "A", "B", BookStatus.AVAILABLE, 1, new long[0]);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.add(5L, "C", "D", BookStatus.AVAILABLE, 1, new long[0]));
+    }
+}
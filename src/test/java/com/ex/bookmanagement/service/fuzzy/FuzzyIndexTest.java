@@ -0,0 +1,85 @@
+package com.ex.bookmanagement.service.fuzzy;
+
+import com.ex.bookmanagement.config.FuzzyProperties;
+import com.ex.bookmanagement.domain.FuzzyField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FuzzyIndex 테스트 클래스
+ * 테스트 범위:
+ * - 거리 순 정렬, 같은 거리면 제목 일치 우선
+ * - 여러 단어 질의는 같은 필드에서 모두 일치(AND), 거리는 단어별 합
+ * - 단어 길이에 따른 자동 허용 거리 / 요청 거리 상한
+ * - 삭제 반영
+ */
+@DisplayName("FuzzyIndex 테스트")
+class FuzzyIndexTest {
+    private FuzzyIndex index;
+
+    @BeforeEach
+    void init() {
+        index = new FuzzyIndex(null, null, new FuzzyProperties());
+        index.add(1, "해리 포터와 마법사의 돌", "J.K. 롤링");
+        index.add(2, "살인자의 기억법", "김영하");
+        index.add(3, "김영하 산문집", "김영하");
+        index.add(4, "채식주의자", "한강");
+    }
+
+    private static List<Long> ids(List<FuzzyIndex.Match> matches) {
+        return matches.stream().map(FuzzyIndex.Match::bookId).toList();
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 거리 순으로 찾고, 같은 거리면 제목 일치가 먼저")
+    void ranking() {
+        // when
+        List<FuzzyIndex.Match> matches = index.search("김영아", null, null, 10);
+
+        // then
+        assertThat(ids(matches)).containsExactly(3L, 2L);
+        assertThat(matches.get(0).field()).isEqualTo(FuzzyField.TITLE);
+        assertThat(matches.get(0).distance()).isEqualTo(1);
+        assertThat(matches.get(0).matched()).isEqualTo("김영하");
+        assertThat(ids(index.search("김영아", FuzzyField.AUTHOR, null, 10))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("여러 단어는 같은 필드에서 모두 일치해야 하고 거리는 합산")
+    void multi_word() {
+        // when
+        List<FuzzyIndex.Match> matches = index.search("해리 포타와", null, null, 10);
+
+        // then
+        assertThat(ids(matches)).containsExactly(1L);
+        assertThat(matches.get(0).distance()).isEqualTo(1);
+        assertThat(index.search("해리 김영하", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("짧은 단어는 정확히 일치해야 하고, 요청 거리는 max-distance 를 넘지 않음")
+    void bounds() {
+        // "한강"(4자모) 은 자동 허용 거리 1 → "한감" 일치, "하감"(거리 2) 불일치
+        assertThat(ids(index.search("한감", null, null, 10))).containsExactly(4L);
+        assertThat(index.search("하감", null, null, 10)).isEmpty();
+        assertThat(ids(index.search("하감", null, 2, 10))).containsExactly(4L);
+        assertThat(index.search("채식", null, 9, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 도서는 검색되지 않음")
+    void remove() {
+        // when
+        index.remove(2);
+
+        // then
+        assertThat(ids(index.search("기억법", null, null, 10))).isEmpty();
+        assertThat(ids(index.search("김영하", FuzzyField.AUTHOR, null, 10))).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ex.bookmanagement.service.fuzzy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WordTrie 테스트 클래스
+ * 테스트 범위:
+ * - 자모 단위 편집 거리 (받침/모음 하나 차이 = 1)
+ * - 거리 한도 안의 단어만 전달
+ * - 삭제된 도서의 단어 제외, 재구성 후 결과 유지
+ * - 무작위 사전에서 전수 비교와 결과 일치
+ */
+@DisplayName("WordTrie 테스트")
+class WordTrieTest {
+
+    private static Map<String, Integer> search(WordTrie trie, String query, int k) {
+        Map<String, Integer> found = new TreeMap<>();
+        trie.search(FuzzyText.words(query).get(0), k,
+                (word, distance, bookIds, count) -> found.put(FuzzyText.display(word), distance));
+        return found;
+    }
+
+    @Test
+    @DisplayName("한글은 자모 단위로 비교: 김/긴, 김영하/김영아 거리 1")
+    void jamo_distance() {
+        WordTrie trie = new WordTrie();
+        trie.add(1, FuzzyText.words("김 김영하"));
+        trie.add(2, FuzzyText.words("kotlin"));
+
+        // then
+        assertThat(search(trie, "긴", 1)).containsExactly(Map.entry("김", 1));
+        assertThat(search(trie, "김영아", 1)).containsExactly(Map.entry("김영하", 1));
+        assertThat(search(trie, "Kotiln", 2)).containsExactly(Map.entry("kotlin", 2));
+        assertThat(search(trie, "Kotiln", 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도서가 모두 삭제된 단어는 나오지 않고, 재구성 후에도 남은 단어는 그대로")
+    void remove_and_compact() {
+        WordTrie trie = new WordTrie();
+        trie.add(1, List.of("java", "spring"));
+        trie.add(2, List.of("java"));
+
+        // when
+        assertThat(trie.remove(1)).isTrue();
+        assertThat(trie.remove(1)).isFalse();
+
+        // then
+        assertThat(search(trie, "spring", 0)).isEmpty();
+        assertThat(trie.deadTerms()).isEqualTo(1);
+        WordTrie compacted = trie.compact();
+        assertThat(compacted.deadTerms()).isZero();
+        assertThat(compacted.bookCount()).isEqualTo(1);
+        assertThat(search(compacted, "jav", 1)).containsExactly(Map.entry("java", 1));
+        assertThat(compacted.remove(2)).isTrue();
+        assertThat(search(compacted, "java", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무작위 단어 사전에서 전수 비교와 같은 단어/거리")
+    void matches_brute_force() {
+        Random random = new Random(42);
+        WordTrie trie = new WordTrie();
+        Set<String> dictionary = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            dictionary.add(word);
+            trie.add(i, List.of(word));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            for (int k = 0; k <= 2; k++) {
+                Map<String, Integer> expected = new TreeMap<>();
+                for (String word : dictionary) {
+                    int d = levenshtein(query, word);
+                    if (d <= k) {
+                        expected.put(word, d);
+                    }
+                }
+                Map<String, Integer> actual = new TreeMap<>();
+                trie.search(query, k, (word, distance, bookIds, count) -> actual.put(word, distance));
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        int length = 2 + random.nextInt(6);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(5)));
+        }
+        return sb.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,146 @@
+package com.ex.bookmanagement.service.hold;
+
+import com.ex.bookmanagement.config.HoldProperties;
+import com.ex.bookmanagement.domain.*;
+import com.ex.bookmanagement.repository.BookHoldRepository;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.repository.RentalRepository;
+import com.ex.bookmanagement.service.RentalService;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 동시성 테스트 클래스
+ * - 테스트 트랜잭션 없이 실행하고, 종료 후 데이터를 직접 정리한다.
+ * - 취소/만료를 첫 행 잠금 직후에 멈춰 두고, 배정된 예약자의 대여를 실행해 잠금 순서를 고정한다.
+ * 테스트 범위:
+ * - 배정된 예약 취소와 그 예약자의 대여가 엇갈려도 교착 없이 차례로 처리 (도서 행 → 예약 행 순서)
+ * - 수령 기한 만료 작업과 예약자의 대여가 엇갈려도 교착 없이 차례로 처리
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:hold-concurrency")
+@DisplayName("예약 동시성 테스트")
+@ActiveProfiles("test")
+@Import(HoldConcurrencyTest.LockPauser.class)
+class HoldConcurrencyTest {
+    @Autowired private HoldService holdService;
+    @Autowired private RentalService rentalService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private RentalRepository rentalRepository;
+    @Autowired private BookHoldRepository bookHoldRepository;
+    @Autowired private HoldProperties holdProperties;
+    @Autowired private LockPauser lockPauser;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private Book book;
+    private Long holdId;
+
+    @BeforeEach
+    void init() {
+        // 한 권뿐인 도서를 대여 → 예약 → 반납해 예약자 "이영희"에게 배정(READY)
+        Category category = categoryRepository.save(new Category("동시성"));
+        book = bookRepository.save(Book.createBook("한 권뿐인 책", "작가", List.of(category), BookStatus.AVAILABLE, 1));
+        Long rentalId = rentalService.rentBook(book.getId(), "김민철").getRentalId();
+        holdId = holdService.place(book.getId(), "이영희").getHoldId();
+        rentalService.returnBook(rentalId);
+        assertThat(bookHoldRepository.findById(holdId).orElseThrow().getHoldStatus()).isEqualTo(HoldStatus.READY);
+    }
+
+    @AfterEach
+    void cleanup() {
+        lockPauser.release.countDown();
+        executor.shutdownNow();
+        bookHoldRepository.deleteAll();
+        rentalRepository.deleteAll();
+        bookRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("배정된 예약 취소 중 예약자가 대여 - 대여는 취소가 끝날 때까지 기다린 뒤 되돌아온 재고로 대여")
+    void cancelWhileRenting_noDeadlock() throws Exception {
+        // given: 취소가 첫 잠금 직후 멈춤
+        lockPauser.arm();
+        Future<?> cancel = executor.submit(() -> holdService.cancel(holdId));
+        assertThat(lockPauser.paused.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        Future<?> rent = executor.submit(() -> rentalService.rentBook(book.getId(), "이영희"));
+        Thread.sleep(300);
+        boolean rentBlocked = !rent.isDone();
+        lockPauser.release.countDown();
+        cancel.get(10, TimeUnit.SECONDS);
+        rent.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(rentBlocked).isTrue();
+        assertThat(bookHoldRepository.findById(holdId).orElseThrow().getHoldStatus()).isEqualTo(HoldStatus.CANCELLED);
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStock()).isZero();
+        assertThat(rentalRepository.findAll()).extracting(Rental::getRentalStatus)
+                .containsExactlyInAnyOrder(RentalStatus.RETURNED, RentalStatus.RENTED);
+    }
+
+    @Test
+    @DisplayName("수령 기한 만료 작업 중 예약자가 대여 - 대여는 만료가 끝날 때까지 기다린 뒤 되돌아온 재고로 대여")
+    void expireWhileRenting_noDeadlock() throws Exception {
+        // given: 만료 작업이 첫 잠금 직후 멈춤
+        LocalDateTime later = LocalDateTime.now().plus(holdProperties.getPickupWindow()).plusMinutes(1);
+        lockPauser.arm();
+        Future<Integer> expire = executor.submit(() -> holdService.expireHolds(later));
+        assertThat(lockPauser.paused.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        Future<?> rent = executor.submit(() -> rentalService.rentBook(book.getId(), "이영희"));
+        Thread.sleep(300);
+        boolean rentBlocked = !rent.isDone();
+        lockPauser.release.countDown();
+        int expired = expire.get(10, TimeUnit.SECONDS);
+        rent.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(rentBlocked).isTrue();
+        assertThat(expired).isEqualTo(1);
+        assertThat(bookHoldRepository.findById(holdId).orElseThrow().getHoldStatus()).isEqualTo(HoldStatus.EXPIRED);
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    /** arm 이후 처음 행 잠금을 얻은 스레드를 release 까지 멈춘다 */
+    @Aspect
+    static class LockPauser {
+        private final AtomicBoolean armed = new AtomicBoolean();
+        volatile CountDownLatch paused = new CountDownLatch(1);
+        volatile CountDownLatch release = new CountDownLatch(1);
+
+        void arm() {
+            paused = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+            armed.set(true);
+        }
+
+        @AfterReturning("execution(* com.ex.bookmanagement.repository.BookRepository.findByIdForUpdate(..))"
+                + " || execution(* com.ex.bookmanagement.repository.BookHoldRepository.findByIdForUpdate(..))")
+        public void afterLock() throws InterruptedException {
+            if (armed.compareAndSet(true, false)) {
+                CountDownLatch waitFor = release;
+                paused.countDown();
+                waitFor.await(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
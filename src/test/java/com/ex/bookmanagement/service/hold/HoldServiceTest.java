@@ -0,0 +1,165 @@
+package com.ex.bookmanagement.service.hold;
+
+import com.ex.bookmanagement.domain.*;
+import com.ex.bookmanagement.dto.HoldResponse;
+import com.ex.bookmanagement.dto.RentResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import com.ex.bookmanagement.repository.BookHoldRepository;
+import com.ex.bookmanagement.repository.BookRepository;
+import com.ex.bookmanagement.repository.CategoryRepository;
+import com.ex.bookmanagement.service.RentalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * HoldService 테스트 클래스
+ * 테스트 범위:
+ * - 예약 등록 (대기 순번)
+ * - 예외: 재고 있음 / 중복 예약
+ * - 반납 시 대기열 맨 앞 예약에 배정
+ * - 배정된 예약자의 대여 전환
+ * - 수령 기한 만료 시 다음 대기자 배정 / 재고 복귀
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class HoldServiceTest {
+    @Autowired private HoldService holdService;
+    @Autowired private RentalService rentalService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private BookHoldRepository bookHoldRepository;
+
+    private Book book;
+    private RentResponse rental;
+
+    @BeforeEach
+    void init() {
+        Category 소설 = categoryRepository.save(new Category("소설"));
+        book = bookRepository.save(Book.createBook("파친코", "이민진", List.of(소설), BookStatus.AVAILABLE, 1));
+        rental = rentalService.rentBook(book.getId(), "김민철");
+    }
+
+    @Test
+    @DisplayName("예약 등록 성공 - 등록 순서대로 대기 순번 부여")
+    void place_success() {
+        // when
+        HoldResponse first = holdService.place(book.getId(), "이영희");
+        HoldResponse second = holdService.place(book.getId(), "박지민");
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(HoldStatus.WAITING);
+        assertThat(first.getPosition()).isZero();
+        assertThat(second.getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 등록 실패 - 재고가 있는 도서")
+    void place_fail_inStock() {
+        // given
+        rentalService.returnBook(rental.getRentalId());
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> holdService.place(book.getId(), "이영희"));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.HOLD_NOT_NEEDED);
+    }
+
+    @Test
+    @DisplayName("예약 등록 실패 - 같은 도서에 진행 중인 예약 존재")
+    void place_fail_duplicate() {
+        // given
+        holdService.place(book.getId(), "이영희");
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> holdService.place(book.getId(), "이영희"));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.HOLD_ALREADY_EXISTS);
+    }
+
+    @Test
+    @DisplayName("반납 시 대기열 맨 앞 예약에 배정되고 재고는 0 유지")
+    void return_allocatesFirstHold() {
+        // given
+        HoldResponse first = holdService.place(book.getId(), "이영희");
+        HoldResponse second = holdService.place(book.getId(), "박지민");
+
+        // when
+        rentalService.returnBook(rental.getRentalId());
+
+        // then
+        assertThat(holdService.find(first.getHoldId()).getStatus()).isEqualTo(HoldStatus.READY);
+        assertThat(holdService.find(first.getHoldId()).getExpiresAt()).isNotNull();
+        assertThat(holdService.find(second.getHoldId()).getPosition()).isZero();
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("배정된 예약자는 재고 차감 없이 대여, 다른 대여자는 재고 부족")
+    void rent_fulfillsReadyHold() {
+        // given
+        HoldResponse hold = holdService.place(book.getId(), "이영희");
+        rentalService.returnBook(rental.getRentalId());
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> rentalService.rentBook(book.getId(), "박지민"));
+        RentResponse res = rentalService.rentBook(book.getId(), "이영희");
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(res.getStatus()).isEqualTo(RentalStatus.RENTED);
+        assertThat(holdService.find(hold.getHoldId()).getStatus()).isEqualTo(HoldStatus.FULFILLED);
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("수령 기한 만료 - 다음 대기자에게 배정")
+    void expire_passesToNextHold() {
+        // given
+        HoldResponse first = holdService.place(book.getId(), "이영희");
+        HoldResponse second = holdService.place(book.getId(), "박지민");
+        rentalService.returnBook(rental.getRentalId());
+
+        // when
+        int expired = holdService.expireHolds(LocalDateTime.now().plusDays(30));
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(holdService.find(first.getHoldId()).getStatus()).isEqualTo(HoldStatus.EXPIRED);
+        assertThat(holdService.find(second.getHoldId()).getStatus()).isEqualTo(HoldStatus.READY);
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("배정된 예약 취소 - 대기자가 없으면 재고로 복귀")
+    void cancel_readyHold_returnsStock() {
+        // given
+        HoldResponse hold = holdService.place(book.getId(), "이영희");
+        rentalService.returnBook(rental.getRentalId());
+
+        // when
+        holdService.cancel(hold.getHoldId());
+
+        // then
+        assertThat(bookHoldRepository.findById(hold.getHoldId()).orElseThrow().getHoldStatus())
+                .isEqualTo(HoldStatus.CANCELLED);
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStock()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ex.bookmanagement.service.popular;
+
+import com.ex.bookmanagement.domain.PopularWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 도서 근사 구조 테스트 클래스
+ * 테스트 범위:
+ * - Count-Min Sketch 추정값 (과소 추정 없음)
+ * - Space-Saving 상위 항목 유지와 오차 범위
+ * - WindowedTopK 구간 이동과 순위
+ */
+@DisplayName("WindowedTopK 테스트")
+class WindowedTopKTest {
+    private final LocalDateTime start = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Test
+    @DisplayName("Count-Min Sketch 는 실제 빈도보다 작게 추정하지 않음")
+    void countMinSketch_neverUnderestimates() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(64, 4);
+
+        // when
+        for (long key = 1; key <= 500; key++) {
+            sketch.add(key, (int) (key % 7) + 1);
+        }
+
+        // then
+        for (long key = 1; key <= 500; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key % 7 + 1);
+        }
+        sketch.clear();
+        assertThat(sketch.estimate(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Space-Saving 은 용량을 넘겨도 빈번한 항목을 유지하고, 추정값 - 오차 <= 실제 <= 추정값")
+    void spaceSaving_keepsHeavyHitters() {
+        // given
+        SpaceSaving topK = new SpaceSaving(4);
+
+        // when: 1~3번은 자주, 나머지는 한 번씩
+        for (int round = 0; round < 20; round++) {
+            topK.increment(1L);
+            topK.increment(1L);
+            topK.increment(2L);
+            topK.increment(3L);
+            topK.increment(100L + round);
+        }
+
+        // then
+        List<SpaceSaving.Entry> entries = topK.entries();
+        assertThat(topK.size()).isEqualTo(4);
+        assertThat(entries.get(0).key()).isEqualTo(1L);
+        assertThat(entries.stream().map(SpaceSaving.Entry::key)).contains(1L, 2L, 3L);
+        SpaceSaving.Entry first = entries.get(0);
+        assertThat(first.count() - first.error()).isLessThanOrEqualTo(40L);
+        assertThat(first.count()).isGreaterThanOrEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("추정 대여 수 내림차순으로 상위 limit 개 반환")
+    void top_ordersByEstimatedCount() {
+        // given
+        WindowedTopK topK = new WindowedTopK(PopularWindow.HOUR, 256, 4, 16);
+        for (int i = 0; i < 5; i++) topK.record(10L, start.plusMinutes(i));
+        for (int i = 0; i < 3; i++) topK.record(20L, start.plusMinutes(20 + i));
+        topK.record(30L, start.plusMinutes(40));
+
+        // when
+        List<WindowedTopK.Estimate> top = topK.top(2, start.plusMinutes(45));
+
+        // then
+        assertThat(top).containsExactly(new WindowedTopK.Estimate(10L, 5), new WindowedTopK.Estimate(20L, 3));
+    }
+
+    @Test
+    @DisplayName("구간이 지나간 조각의 대여는 순위에서 빠짐")
+    void top_slidesWindow() {
+        // given
+        WindowedTopK topK = new WindowedTopK(PopularWindow.HOUR, 256, 4, 16);
+        for (int i = 0; i < 5; i++) topK.record(10L, start.plusMinutes(1));
+        topK.record(20L, start.plusMinutes(50));
+
+        // when
+        List<WindowedTopK.Estimate> withinHour = topK.top(10, start.plusMinutes(55));
+        List<WindowedTopK.Estimate> afterHour = topK.top(10, start.plusMinutes(70));
+
+        // then
+        assertThat(withinHour).extracting(WindowedTopK.Estimate::key).containsExactly(10L, 20L);
+        assertThat(afterHour).containsExactly(new WindowedTopK.Estimate(20L, 1));
+        assertThat(topK.windowStart(start.plusMinutes(70))).isEqualTo(start.plusMinutes(15));
+    }
+
+    @Test
+    @DisplayName("같은 자리의 조각을 새 시각으로 다시 쓰면 이전 기록을 비우고, 구간 밖의 늦은 기록은 무시")
+    void record_resetsReusedSlice() {
+        // given
+        WindowedTopK topK = new WindowedTopK(PopularWindow.HOUR, 256, 4, 16);
+        topK.record(10L, start);
+
+        // when: 1시간 뒤 같은 조각 자리에 기록, 이후 1시간 전 시각으로 늦은 기록
+        topK.record(20L, start.plusHours(1));
+        topK.record(10L, start.plusMinutes(2));
+
+        // then
+        assertThat(topK.top(10, start.plusHours(1))).containsExactly(new WindowedTopK.Estimate(20L, 1));
+    }
+}
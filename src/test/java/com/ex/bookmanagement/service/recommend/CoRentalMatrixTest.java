@@ -0,0 +1,109 @@
+package com.ex.bookmanagement.service.recommend;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 함께 대여된 도서 행렬 테스트 클래스
+ * 테스트 범위:
+ * - LongIntHashMap 증가/확장/상위 키/상위만 남기기
+ * - 대여 기록 시 양방향 칸 증가와 중복 대여 무시
+ * - 행 크기 상한
+ * - 병렬 구축 결과와 순차 기록 결과 일치
+ */
+@DisplayName("CoRentalMatrix 테스트")
+class CoRentalMatrixTest {
+
+    @Test
+    @DisplayName("LongIntHashMap - 확장 후에도 값 유지, 값 내림차순(같으면 키 오름차순) 상위 키")
+    void longIntHashMap() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(2);
+
+        // when
+        for (long key = 1; key <= 1000; key++) {
+            map.addTo(key, (int) (key % 10));
+        }
+        map.addTo(7L, 100);
+
+        // then
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.get(7L)).isEqualTo(107);
+        assertThat(map.get(5000L)).isZero();
+        assertThat(map.topKeys(3)).containsExactly(7L, 9L, 19L);
+
+        map.retainTop(2);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.containsKey(9L)).isTrue();
+        assertThat(map.containsKey(19L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대여 기록 - 같은 대여자의 이전 대여 도서와 양방향으로 증가, 재대여는 무시")
+    void record_incrementsBothRows() {
+        // given
+        CoRentalMatrix matrix = new CoRentalMatrix(10, 100);
+
+        // when
+        matrix.record("김민철", 1L);
+        matrix.record("김민철", 2L);
+        matrix.record("이영희", 1L);
+        matrix.record("이영희", 2L);
+        matrix.record("이영희", 3L);
+        boolean changed = matrix.record("이영희", 2L);
+
+        // then
+        assertThat(changed).isFalse();
+        assertThat(matrix.top(1L, 10)).containsExactly(new CoRentalMatrix.Pair(2L, 2), new CoRentalMatrix.Pair(3L, 1));
+        assertThat(matrix.top(3L, 10)).containsExactly(new CoRentalMatrix.Pair(1L, 1), new CoRentalMatrix.Pair(2L, 1));
+        assertThat(matrix.top(99L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("행 크기는 rowLimit 의 두 배를 넘지 않음")
+    void record_prunesRow() {
+        // given
+        CoRentalMatrix matrix = new CoRentalMatrix(3, 1000);
+
+        // when: 한 대여자가 1번과 100권을 대여
+        matrix.record("김민철", 1L);
+        for (long book = 2; book <= 101; book++) {
+            matrix.record("김민철", book);
+        }
+
+        // then
+        assertThat(matrix.top(1L, 100).size()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("병렬 구축 결과가 순차 기록 결과와 같음")
+    void build_matchesIncremental() {
+        // given
+        SplittableRandom random = new SplittableRandom(42);
+        Map<String, long[]> histories = new HashMap<>();
+        CoRentalMatrix incremental = new CoRentalMatrix(1000, 100);
+        for (int r = 0; r < 300; r++) {
+            long[] books = random.longs(1, 60).distinct().limit(1 + random.nextInt(8)).toArray();
+            histories.put("대여자" + r, books);
+            for (long book : books) {
+                incremental.record("대여자" + r, book);
+            }
+        }
+
+        // when
+        CoRentalMatrix built = CoRentalMatrix.build(histories, 1000, 100, 16, ForkJoinPool.commonPool());
+
+        // then
+        for (long book = 1; book < 60; book++) {
+            assertThat(built.top(book, 100)).isEqualTo(incremental.top(book, 100));
+        }
+        assertThat(built.renterCount()).isEqualTo(300);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ex.bookmanagement.service.search;
+
+import com.ex.bookmanagement.domain.BookSort;
+import com.ex.bookmanagement.domain.BookStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchPlanner 테스트 클래스
+ * 테스트 범위:
+ * - 추정 행 수가 작은 경로부터 후보 경로로 선택
+ * - 후보가 많은 경로는 마지막 조회 조건으로
+ * - 제목/저자는 항상 마지막 조회 조건
+ * - 모든 상태 선택은 조건 없음으로 취급
+ */
+@DisplayName("SearchPlanner 테스트")
+class SearchPlannerTest {
+    private final SearchPlanner planner = new SearchPlanner(1000);
+    private final SearchStatistics.Snapshot stats = new SearchStatistics.Snapshot(100_000,
+            Map.of(BookStatus.AVAILABLE, 98_000L, BookStatus.SUSPENDED_DAMAGED, 1_500L, BookStatus.SUSPENDED_LOST, 500L),
+            60_000, 0);
+
+    @Test
+    @DisplayName("선택적인 경로들은 추정 행 수 오름차순으로 교집합, 큰 경로와 텍스트는 마지막 조회 조건")
+    void plan_ordersBySelectivity() {
+        // given
+        SearchCondition condition = new SearchCondition("자바", null, Set.of(1L),
+                Set.of(BookStatus.SUSPENDED_LOST), true, BookSort.NEWEST);
+
+        // when
+        SearchPlan plan = planner.plan(condition, stats, 800);
+
+        // then
+        assertThat(plan.drivers()).extracting(SearchPlan.Estimate::path)
+                .containsExactly(AccessPath.STATUS, AccessPath.CATEGORY);
+        assertThat(plan.residualPaths()).extracting(SearchPlan.Estimate::path).containsExactly(AccessPath.IN_STOCK);
+        assertThat(plan.residualFilters()).containsExactly("title");
+        assertThat(plan.explain()).startsWith("STATUS(~500) ∩ CATEGORY(~800) → filter[title, IN_STOCK]");
+    }
+
+    @Test
+    @DisplayName("좁힐 경로가 없으면 DB 전체 조건 조회")
+    void plan_scanWhenNothingSelective() {
+        // given: 모든 상태 선택 + 재고 조건만
+        SearchCondition condition = new SearchCondition(null, "김", null,
+                Set.of(BookStatus.values()), true, BookSort.TITLE);
+
+        // when
+        SearchPlan plan = planner.plan(condition, stats, 0);
+
+        // then
+        assertThat(plan.usesCandidates()).isFalse();
+        assertThat(plan.residualPaths()).extracting(SearchPlan.Estimate::path).containsExactly(AccessPath.IN_STOCK);
+        assertThat(plan.explain()).startsWith("SCAN");
+    }
+}
@@ -0,0 +1,115 @@
+package com.ex.bookmanagement.service.stats;
+
+import com.ex.bookmanagement.domain.RentalStatus;
+import com.ex.bookmanagement.domain.StatDimension;
+import com.ex.bookmanagement.domain.StatGranularity;
+import com.ex.bookmanagement.domain.event.RentalChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RentalStatsAggregator 테스트 클래스
+ * 테스트 범위:
+ * - 대여/반납 증분 집계 (전체/카테고리/도서, 분/일)
+ * - 평균 대여 기간 계산용 기간 합계
+ * - flush 성공/실패 시 증분 처리
+ * - flush 세대 (반영 중 홀수, 끝나면 짝수)
+ * - 분 단위 링 버퍼 조회 범위
+ */
+@DisplayName("RentalStatsAggregator 테스트")
+class RentalStatsAggregatorTest {
+    private final LocalDateTime start = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private final RentalStatsAggregator aggregator = new RentalStatsAggregator(60, start);
+
+    private RentalChangedEvent event(long bookId, RentalStatus status, LocalDateTime rentedAt, LocalDateTime at) {
+        return new RentalChangedEvent(1L, bookId, "대여자", status, 0, rentedAt, at);
+    }
+
+    @Test
+    @DisplayName("대여/반납이 분·일 단위 전체, 카테고리, 도서 버킷에 더해짐")
+    void record_updatesAllBuckets() {
+        // given
+        LocalDateTime rentedAt = start.plusMinutes(5);
+        LocalDateTime returnedAt = rentedAt.plusMinutes(90);
+
+        // when
+        aggregator.record(event(10L, RentalStatus.RENTED, rentedAt, rentedAt), new long[]{1L, 2L});
+        aggregator.record(event(10L, RentalStatus.RETURNED, rentedAt, returnedAt), new long[]{1L, 2L});
+
+        // then
+        RollupCounts day = aggregator.unflushed(new RollupKey(StatGranularity.DAY, StatDimension.BOOK, 10L, start.toLocalDate().atStartOfDay()));
+        assertThat(day.getRentals()).isEqualTo(1);
+        assertThat(day.getReturns()).isEqualTo(1);
+        assertThat(day.getDurationSecondsSum()).isEqualTo(90 * 60);
+
+        RollupCounts minute = aggregator.unflushed(new RollupKey(StatGranularity.MINUTE, StatDimension.CATEGORY, 2L, rentedAt));
+        assertThat(minute.getRentals()).isEqualTo(1);
+        assertThat(minute.getReturns()).isZero();
+    }
+
+    @Test
+    @DisplayName("대여 중단(UNAVAILABLE)은 집계하지 않음")
+    void record_ignoresUnavailable() {
+        aggregator.record(event(10L, RentalStatus.UNAVAILABLE, start, start.plusMinutes(1)), new long[]{1L});
+
+        assertThat(aggregator.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 증분이 pending 으로 돌아가고, 성공 시 비워짐")
+    void flush_successAndFailure() {
+        // given
+        LocalDateTime at = start.plusMinutes(1);
+        aggregator.record(event(10L, RentalStatus.RENTED, at, at), new long[0]);
+        RollupKey key = new RollupKey(StatGranularity.DAY, StatDimension.TOTAL, 0, at.toLocalDate().atStartOfDay());
+
+        // when: 반영 중에도 조회 가능, 실패하면 되돌림
+        Map<RollupKey, RollupCounts> drained = aggregator.beginFlush();
+        assertThat(drained).containsKey(key);
+        assertThat(aggregator.unflushed(key).getRentals()).isEqualTo(1);
+        aggregator.endFlush(false);
+
+        // then
+        assertThat(aggregator.unflushed(key).getRentals()).isEqualTo(1);
+        aggregator.beginFlush();
+        aggregator.endFlush(true);
+        assertThat(aggregator.unflushed(key).getRentals()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 세대는 반영 중 홀수, 끝나면 짝수로 바뀜")
+    void flush_bumpsGeneration() {
+        // given
+        long before = aggregator.stableGeneration();
+
+        // when
+        aggregator.beginFlush();
+        long during = aggregator.generation();
+        aggregator.endFlush(true);
+
+        // then
+        assertThat(during % 2).isEqualTo(1);
+        assertThat(aggregator.stableGeneration()).isEqualTo(before + 2);
+    }
+
+    @Test
+    @DisplayName("링 버퍼는 기동 이후, 최근 N분만 조회 대상")
+    void ring_coversRecentMinutesOnly() {
+        // given
+        LocalDateTime at = start.plusMinutes(3);
+        aggregator.record(event(10L, RentalStatus.RENTED, at, at), new long[]{7L});
+        LocalDateTime now = start.plusMinutes(10);
+
+        // then
+        assertThat(aggregator.ringCovers(at, now)).isTrue();
+        assertThat(aggregator.ringCovers(start, now)).isFalse();                       // 기동한 분은 테이블에서 조회
+        assertThat(aggregator.ringCovers(at, now.plusMinutes(120))).isFalse();         // 링 범위 밖
+        assertThat(aggregator.fromRing(StatDimension.CATEGORY, 7L, at).getRentals()).isEqualTo(1);
+        assertThat(aggregator.fromRing(StatDimension.TOTAL, 0, at.plusMinutes(1)).getRentals()).isZero();
+    }
+}
@@ -0,0 +1,288 @@
+package com.ex.bookmanagement.service.stream;
+
+import com.ex.bookmanagement.config.AvailabilityStreamProperties;
+import com.ex.bookmanagement.domain.BookStatus;
+import com.ex.bookmanagement.domain.event.BookChangeType;
+import com.ex.bookmanagement.domain.event.BookChangedEvent;
+import com.ex.bookmanagement.dto.AvailabilityEventResponse;
+import com.ex.bookmanagement.exception.BusinessException;
+import com.ex.bookmanagement.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * AvailabilityBroadcaster 테스트 클래스
+ * 테스트 범위:
+ * - 도서별 변경 병합(coalescing) - 같은 도서는 마지막 값, 전송 내용
+ * - 재고/상태 외 변경 무시
+ * - 순서 없이 도착한 변경: 병합은 변경 버전이 큰 값, 이미 보낸 버전보다 오래된 변경은 버림
+ * - 느린 구독자: 대기열이 넘치면 밀린 배치를 버리고 resync 전송 후 연결 종료
+ * - 최대 구독자 수 제한 (동시 구독 포함)
+ */
+@DisplayName("AvailabilityBroadcaster 테스트")
+class AvailabilityBroadcasterTest {
+    private AvailabilityStreamProperties props;
+    private RecordingBroadcaster broadcaster;
+
+    @BeforeEach
+    void init() {
+        props = new AvailabilityStreamProperties();
+        props.setMaxSubscribers(1);
+        props.setHeartbeatInterval(Duration.ofMinutes(1));
+        broadcaster = new RecordingBroadcaster(props);
+    }
+
+    @Test
+    @DisplayName("같은 도서의 변경은 flush 전까지 하나로 병합되고 마지막 값이 전송됨")
+    void coalescesPerBook_lastValueWins() throws Exception {
+        // given
+        RecordingEmitter emitter = broadcaster.subscribeRecording();
+        broadcaster.onBookChanged(new BookChangedEvent(1L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 2));
+        broadcaster.onBookChanged(new BookChangedEvent(1L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 1));
+        broadcaster.onBookChanged(new BookChangedEvent(1L, BookChangeType.STATUS_CHANGED, BookStatus.SUSPENDED_LOST, 1));
+        broadcaster.onBookChanged(new BookChangedEvent(2L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 3));
+        broadcaster.onBookChanged(new BookChangedEvent(3L, BookChangeType.CATEGORIES_CHANGED, BookStatus.AVAILABLE, 5));
+        assertThat(broadcaster.pendingCount()).isEqualTo(2);
+
+        // when
+        broadcaster.flush();
+        await(() -> emitter.names().contains("availability"));
+
+        // then
+        assertThat(broadcaster.pendingCount()).isZero();
+        assertThat(emitter.names()).containsExactly("connected", "availability");
+        List<AvailabilityEventResponse> batch = emitter.batch(1);
+        assertThat(batch).hasSize(2);
+        AvailabilityEventResponse book1 = find(batch, 1L);
+        AvailabilityEventResponse book2 = find(batch, 2L);
+        assertThat(book1.getBookStatus()).isEqualTo(BookStatus.SUSPENDED_LOST);
+        assertThat(book1.getStock()).isEqualTo(1);
+        assertThat(book1.isAvailable()).isFalse();
+        assertThat(book2.getBookStatus()).isEqualTo(BookStatus.AVAILABLE);
+        assertThat(book2.getStock()).isEqualTo(3);
+        assertThat(book2.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("순서 없이 도착한 변경 - 큰 버전이 남고, 이미 보낸 버전보다 오래된 변경은 다음 배치로 나가지 않음")
+    void outOfOrder_keepsNewestVersion_dropsStale() throws Exception {
+        // given
+        RecordingEmitter emitter = broadcaster.subscribeRecording();
+
+        // when: 버전 13(재고 1)이 먼저, 버전 12(재고 2)가 나중에 도착
+        broadcaster.onBookChanged(new BookChangedEvent(1L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 1, 13));
+        broadcaster.onBookChanged(new BookChangedEvent(1L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 2, 12));
+        broadcaster.flush();
+        // 보낸 뒤 더 오래된 버전 11(재고 5)이 도착, 다른 도서의 새 변경과 함께 flush
+        broadcaster.onBookChanged(new BookChangedEvent(1L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 5, 11));
+        broadcaster.onBookChanged(new BookChangedEvent(2L, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 3, 14));
+        broadcaster.flush();
+        await(() -> emitter.names().size() == 3);
+
+        // then
+        assertThat(emitter.names()).containsExactly("connected", "availability", "availability");
+        assertThat(emitter.batch(1)).extracting(AvailabilityEventResponse::getStock).containsExactly(1);
+        assertThat(emitter.batch(2)).extracting(AvailabilityEventResponse::getBookId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("느린 구독자 - 대기열이 넘치면 밀린 배치를 버리고 resync 전송 후 연결 종료")
+    void slowSubscriber_overflow_resyncAndDrop() throws Exception {
+        // given: 대기열 2칸, 첫 배치 전송에서 멈춘 구독자
+        props.setSubscriberBuffer(2);
+        RecordingEmitter emitter = broadcaster.subscribeRecording();
+        emitter.blockAvailability();
+        publishAndFlush(1);
+        assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 전송 중 배치 + 대기열 2칸을 넘는 배치
+        publishAndFlush(2);
+        publishAndFlush(3);
+        assertThat(broadcaster.resyncCount()).isZero();
+        publishAndFlush(4);
+
+        // then: 넘친 즉시 구독자 목록에서 빠져 더는 배치를 받지 않음
+        assertThat(broadcaster.resyncCount()).isEqualTo(1);
+        assertThat(broadcaster.subscriberCount()).isZero();
+        publishAndFlush(5);
+
+        emitter.release.countDown();
+        await(() -> emitter.completed);
+        assertThat(emitter.names()).containsExactly("connected", "availability", "resync");
+        assertThat(emitter.batch(1)).extracting(AvailabilityEventResponse::getBookId).containsExactly(1L);
+        assertThat(emitter.payloads.get(2)).isEqualTo(Map.of("reason", "buffer-overflow"));
+
+        // 자리가 비었으므로 다시 구독 가능
+        broadcaster.subscribeRecording();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 구독자 수를 넘으면 SERVER_BUSY")
+    void rejectsOverMaxSubscribers() {
+        // given
+        broadcaster.subscribe();
+
+        // when
+        BusinessException ex = assertThrows(BusinessException.class, () -> broadcaster.subscribe());
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.SERVER_BUSY);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 구독해도 최대 구독자 수를 넘지 않음")
+    void concurrentSubscribe_respectsMax() throws Exception {
+        // given
+        props.setMaxSubscribers(5);
+        int attempts = 64;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>(attempts);
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        broadcaster.subscribe();
+                        return true;
+                    } catch (BusinessException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        // then
+        long accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                accepted++;
+            }
+        }
+        assertThat(accepted).isEqualTo(5);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(5);
+    }
+
+    private void publishAndFlush(long bookId) {
+        broadcaster.onBookChanged(new BookChangedEvent(bookId, BookChangeType.STOCK_CHANGED, BookStatus.AVAILABLE, 1));
+        broadcaster.flush();
+    }
+
+    private static AvailabilityEventResponse find(List<AvailabilityEventResponse> batch, long bookId) {
+        return batch.stream().filter(e -> e.getBookId() == bookId).findFirst().orElseThrow();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("전송 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /** 전송 내용을 기록하는 emitter 로 구독하는 브로드캐스터 */
+    static final class RecordingBroadcaster extends AvailabilityBroadcaster {
+        private RecordingEmitter next;
+
+        RecordingBroadcaster(AvailabilityStreamProperties props) {
+            super(props);
+        }
+
+        RecordingEmitter subscribeRecording() {
+            next = new RecordingEmitter();
+            RecordingEmitter emitter = next;
+            subscribe();
+            next = null;
+            return emitter;
+        }
+
+        @Override
+        SseEmitter createEmitter(long timeoutMillis) {
+            return next != null ? next : super.createEmitter(timeoutMillis);
+        }
+    }
+
+    /** 이벤트 이름/데이터를 기록하고, 필요하면 availability 전송에서 멈추는 emitter (heartbeat 는 기록하지 않음) */
+    static final class RecordingEmitter extends SseEmitter {
+        private static final Pattern EVENT_NAME = Pattern.compile("event:(\\S+)");
+
+        final List<String> names = new CopyOnWriteArrayList<>();
+        final List<Object> payloads = new CopyOnWriteArrayList<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean block;
+        volatile boolean completed;
+
+        void blockAvailability() {
+            block = true;
+        }
+
+        List<String> names() {
+            return List.copyOf(names);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<AvailabilityEventResponse> batch(int index) {
+            return (List<AvailabilityEventResponse>) payloads.get(index);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String name = null;
+            Object payload = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    Matcher m = EVENT_NAME.matcher(text);
+                    if (m.find()) {
+                        name = m.group(1);
+                    }
+                } else {
+                    payload = part.getData();
+                }
+            }
+            if (name == null) {
+                return;
+            }
+            if (block && name.equals("availability")) {
+                sending.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            names.add(name);
+            payloads.add(payload);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.ex.bookmanagement.workload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WorkloadCaptureFilter 테스트 클래스
+ * 테스트 범위:
+ * - 캡처 파일 한 줄 형식 (메서드/경로/쿼리/본문/상태/처리 시간, 대여 생성의 대여자/rentalId)
+ * - 요청 본문 캡처와 최대 저장 바이트, 응답 본문은 클라이언트에 그대로 전달
+ * - 샘플링 비율 0 / /api 이외 경로는 기록하지 않음
+ */
+@DisplayName("WorkloadCaptureFilter 테스트")
+class WorkloadCaptureFilterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private WorkloadCaptureProperties props;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void init() {
+        props = new WorkloadCaptureProperties();
+        props.setFile(dir.resolve("capture/workload.jsonl").toString());
+    }
+
+    /** 본문을 끝까지 읽고 status/응답 본문을 쓰는 핸들러 */
+    private static FilterChain handler(int status, String responseBody) {
+        return (req, res) -> {
+            req.getInputStream().readAllBytes();
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType("application/json");
+            res.getOutputStream().write(responseBody.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String query, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setQueryString(query);
+        if (body != null) {
+            request.setContentType("application/json");
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+
+    /** writer 스레드를 멈춰 대기열을 모두 기록한 뒤 줄 단위로 읽음 */
+    private List<JsonNode> lines(WorkloadCaptureFilter filter) throws Exception {
+        filter.destroy();
+        Path file = Path.of(props.getFile());
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(line, e);
+                    }
+                })
+                .toList();
+    }
+
+    @Test
+    @DisplayName("대여 생성 - 본문/대여자/rentalId 를 한 줄로 기록하고 응답 본문은 그대로 전달")
+    void capture_rent() throws Exception {
+        // given
+        WorkloadCaptureFilter filter = new WorkloadCaptureFilter(props, objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = "{\"bookId\":1,\"renterName\":\"홍길동\"}";
+
+        // when
+        filter.doFilter(request("POST", "/api/rentals", null, body), response, handler(200, "{\"rentalId\":7}"));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("{\"rentalId\":7}");
+        List<JsonNode> lines = lines(filter);
+        assertThat(lines).hasSize(1);
+        JsonNode line = lines.get(0);
+        assertThat(line.path("method").asText()).isEqualTo("POST");
+        assertThat(line.path("path").asText()).isEqualTo("/api/rentals");
+        assertThat(line.path("body").asText()).isEqualTo(body);
+        assertThat(line.path("status").asInt()).isEqualTo(200);
+        assertThat(line.path("renter").asText()).isEqualTo("홍길동");
+        assertThat(line.path("rentalId").asLong()).isEqualTo(7L);
+        assertThat(line.path("ts").asLong()).isPositive();
+        assertThat(line.has("durationMicros")).isTrue();
+        assertThat(line.has("query")).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 - 쿼리와 상태를 기록, 본문은 최대 저장 바이트까지만")
+    void capture_query_and_truncatedBody() throws Exception {
+        // given
+        props.setMaxBodyBytes(8);
+        WorkloadCaptureFilter filter = new WorkloadCaptureFilter(props, objectMapper);
+
+        // when
+        filter.doFilter(request("GET", "/api/books/search", "author=%ED%99%8D", null),
+                new MockHttpServletResponse(), handler(200, "[]"));
+        filter.doFilter(request("PUT", "/api/books/1/status", null, "{\"status\":\"SUSPENDED_LOST\"}"),
+                new MockHttpServletResponse(), handler(204, ""));
+
+        // then
+        List<JsonNode> lines = lines(filter);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).path("query").asText()).isEqualTo("author=%ED%99%8D");
+        assertThat(lines.get(0).has("body")).isFalse();
+        assertThat(lines.get(1).path("status").asInt()).isEqualTo(204);
+        assertThat(lines.get(1).path("body").asText()).isEqualTo("{\"status");
+        assertThat(lines.get(1).has("renter")).isFalse();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 이거나 /api 이외 경로면 기록하지 않음")
+    void sampling_and_scope() throws Exception {
+        // given
+        props.setSampleRate(0.0);
+        WorkloadCaptureFilter none = new WorkloadCaptureFilter(props, objectMapper);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            none.doFilter(request("GET", "/api/books", null, null), new MockHttpServletResponse(), handler(200, "[]"));
+        }
+
+        // then
+        assertThat(lines(none)).isEmpty();
+
+        // given
+        props.setSampleRate(1.0);
+        WorkloadCaptureFilter all = new WorkloadCaptureFilter(props, objectMapper);
+
+        // when
+        all.doFilter(request("GET", "/swagger-ui/index.html", null, null), new MockHttpServletResponse(), handler(200, ""));
+        all.doFilter(request("GET", "/api/books", null, null), new MockHttpServletResponse(), handler(200, "[]"));
+
+        // then
+        assertThat(lines(all)).extracting(line -> line.path("path").asText()).containsExactly("/api/books");
+        assertThat(all.droppedCount()).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ex.bookmanagement.workload;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WorkloadReplayer 테스트 클래스 (JDK HttpServer 를 재생 대상으로 사용)
+ * 테스트 범위:
+ * - 캡처 파일 파싱: 빈 줄 무시, 캡처 시각 순 정렬
+ * - 대여 생성 응답의 rentalId 로 반납 경로 치환, 같은 대여자 요청은 순서대로 실행
+ * - 리포트: 엔드포인트별(숫자 경로는 {id}) 건수/지연시간, 상태 코드 불일치
+ */
+@DisplayName("WorkloadReplayer 테스트")
+class WorkloadReplayerTest {
+    private HttpServer server;
+    private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void init() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String request = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+            received.add(request);
+            exchange.getRequestBody().readAllBytes();
+            byte[] body;
+            int status;
+            if (request.equals("POST /api/rentals")) {
+                status = 200;
+                body = "{\"rentalId\":500}".getBytes(StandardCharsets.UTF_8);
+            } else if (request.equals("PUT /api/rentals/500/return")) {
+                status = 200;
+                body = "{}".getBytes(StandardCharsets.UTF_8);
+            } else {
+                status = 404;
+                body = "{}".getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void close() {
+        server.stop(0);
+    }
+
+    private Path capture(String... lines) throws Exception {
+        Path file = dir.resolve("workload.jsonl");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    @DisplayName("캡처 파일 파싱 - 빈 줄은 무시하고 캡처 시각 순으로 정렬")
+    void load() throws Exception {
+        // given
+        Path file = capture(
+                "{\"ts\":300,\"method\":\"GET\",\"path\":\"/api/books\",\"status\":200,\"durationMicros\":10}",
+                "",
+                "{\"ts\":100,\"method\":\"POST\",\"path\":\"/api/rentals\",\"body\":\"{}\",\"status\":200,"
+                        + "\"durationMicros\":20,\"renter\":\"홍길동\",\"rentalId\":7}");
+        WorkloadReplayer replayer = new WorkloadReplayer(URI.create("http://127.0.0.1:1"), 0, 1);
+
+        // when
+        List<CapturedRequest> requests = replayer.load(file);
+
+        // then
+        assertThat(requests).extracting(CapturedRequest::getTs).containsExactly(100L, 300L);
+        assertThat(requests.get(0).getRenter()).isEqualTo("홍길동");
+        assertThat(requests.get(0).getRentalId()).isEqualTo(7L);
+        assertThat(requests.get(1).getQuery()).isNull();
+    }
+
+    @Test
+    @DisplayName("재생 - 반납 경로의 rentalId 를 재생 환경 id 로 치환하고, 리포트에 엔드포인트별 건수와 상태 불일치 출력")
+    void replay_and_report() throws Exception {
+        // given: 대여(캡처 id 7) → 반납, 그리고 재생 환경에서 404 가 되는 조회
+        Path file = capture(
+                "{\"ts\":100,\"method\":\"POST\",\"path\":\"/api/rentals\",\"body\":\"{\\\"bookId\\\":1,\\\"renterName\\\":\\\"홍길동\\\"}\","
+                        + "\"status\":200,\"durationMicros\":1500,\"renter\":\"홍길동\",\"rentalId\":7}",
+                "{\"ts\":101,\"method\":\"PUT\",\"path\":\"/api/rentals/7/return\",\"status\":200,\"durationMicros\":900}",
+                "{\"ts\":102,\"method\":\"GET\",\"path\":\"/api/books/3/availability\",\"status\":200,\"durationMicros\":300}");
+        URI target = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        WorkloadReplayer replayer = new WorkloadReplayer(target, 0, 4);
+
+        // when
+        replayer.replay(replayer.load(file));
+        String report = replayer.report();
+
+        // then
+        assertThat(received).contains("POST /api/rentals", "PUT /api/rentals/500/return", "GET /api/books/3/availability");
+        assertThat(received.indexOf("POST /api/rentals")).isLessThan(received.indexOf("PUT /api/rentals/500/return"));
+        assertThat(report).containsPattern("POST /api/rentals\\s+1\\s+1\\.50ms");
+        assertThat(report).containsPattern("PUT /api/rentals/\\{id}/return\\s+1\\s+0\\.90ms");
+        assertThat(report).contains("status mismatches:");
+        assertThat(report).containsPattern("GET /api/books/\\{id}/availability 200->404\\s+1");
+        assertThat(report).doesNotContain("/api/rentals/{id}/return 200->");
+    }
+}